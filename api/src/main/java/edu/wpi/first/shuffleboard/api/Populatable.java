@@ -3,6 +3,8 @@ package edu.wpi.first.shuffleboard.api;
 import edu.wpi.first.shuffleboard.api.sources.DataSource;
 import edu.wpi.first.shuffleboard.api.sources.SourceTypes;
 
+import java.util.Collection;
+
 /**
  * Common interface for items that support auto-population of UI components by the application.
  */
@@ -56,4 +58,18 @@ public interface Populatable {
     }
   }
 
+  /**
+   * Adds components for every source in a batch of source IDs, where possible. This is equivalent to calling
+   * {@link #addComponentIfPossible(SourceTypes, String)} for each source ID in order, but allows implementations to
+   * amortize expensive checks across the entire batch.
+   *
+   * @param sourceTypes the source type registry to use to create new sources to populate
+   * @param sourceIds   the IDs of the sources for the components to add
+   */
+  default void addComponentsIfPossible(SourceTypes sourceTypes, Collection<String> sourceIds) {
+    for (String sourceId : sourceIds) {
+      addComponentIfPossible(sourceTypes, sourceId);
+    }
+  }
+
 }
@@ -8,7 +8,9 @@ import org.fxmisc.easybind.EasyBind;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ObjectProperty;
@@ -34,6 +36,7 @@ public class FilterableTreeItem<T extends SourceEntry> extends TreeItem<T> {
   };
 
   private final ObservableList<TreeItem<T>> sourceList = FXCollections.observableArrayList();
+  private final Map<String, TreeItem<T>> childrenByName = new HashMap<>();
   private final List<TreeItem<T>> sourceCopy = new ArrayList<>();
   private final FilteredList<TreeItem<T>> filteredList = new FilteredList<>(sourceList);
   private final SortedList<TreeItem<T>> sortedList = new SortedList<>(filteredList, comparator);
@@ -44,6 +47,20 @@ public class FilterableTreeItem<T extends SourceEntry> extends TreeItem<T> {
   public FilterableTreeItem(T value) {
     super(value);
     EasyBind.listBind(sourceCopy, sourceList);
+    sourceList.addListener((ListChangeListener<TreeItem<T>>) c -> {
+      while (c.next()) {
+        if (c.wasRemoved()) {
+          for (TreeItem<T> removed : c.getRemoved()) {
+            childrenByName.remove(removed.getValue().getName(), removed);
+          }
+        }
+        if (c.wasAdded()) {
+          for (TreeItem<T> added : c.getAddedSubList()) {
+            childrenByName.put(added.getValue().getName(), added);
+          }
+        }
+      }
+    });
     sortedList.setComparator(comparator);
     filteredList.predicateProperty().bind(
         EasyBind.monadic(predicate)
@@ -70,6 +87,16 @@ public class FilterableTreeItem<T extends SourceEntry> extends TreeItem<T> {
     return sourceList;
   }
 
+  /**
+   * Gets the direct child of this item whose value has the given name, or {@code null} if there is no such child.
+   * This runs in constant time, regardless of the number of children.
+   *
+   * @param name the name of the child's source entry
+   */
+  public final TreeItem<T> getChild(String name) {
+    return childrenByName.get(name);
+  }
+
   public final TreeItemPredicate<T> getPredicate() {
     return predicate.get();
   }
@@ -86,14 +113,22 @@ public class FilterableTreeItem<T extends SourceEntry> extends TreeItem<T> {
    * Recursively sorts all children of this item. Children are sorted by branches first, then alphanumerically.
    */
   public void sortChildren() {
-    // Forces the list to re-sort
-    sortedList.setComparator(null);
-    sortedList.setComparator(comparator);
+    sortDirectChildren();
     sourceList.stream()
         .flatMap(TypeUtils.castStream(FilterableTreeItem.class))
         .forEach(FilterableTreeItem::sortChildren);
   }
 
+  /**
+   * Sorts the direct children of this item, without sorting any deeper descendants. Children are kept in order as they
+   * are added and removed, so this only needs to be called when a child changes from a leaf to a branch or vice versa.
+   */
+  public void sortDirectChildren() {
+    // Forces the list to re-sort
+    sortedList.setComparator(null);
+    sortedList.setComparator(comparator);
+  }
+
   protected Predicate<TreeItem<T>> createListFilter(TreeItemPredicate<T> predicate) {
     if (predicate == TreeItemPredicate.ALWAYS) {
       return always;
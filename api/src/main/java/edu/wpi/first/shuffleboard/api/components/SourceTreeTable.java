@@ -6,9 +6,13 @@ import edu.wpi.first.shuffleboard.api.sources.SourceType;
 import edu.wpi.first.shuffleboard.api.util.AlphanumComparator;
 import edu.wpi.first.shuffleboard.api.util.EqualityUtils;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import javafx.application.Platform;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.beans.property.ReadOnlyStringWrapper;
@@ -46,6 +50,12 @@ public class SourceTreeTable<S extends SourceEntry, V> extends TreeTableView<S>
   private final TreeTableColumn<S, String> keyColumn = new TreeTableColumn<>("Name");
   private final TreeTableColumn<S, V> valueColumn = new TreeTableColumn<>("Value");
 
+  /**
+   * Changes waiting to be applied to the tree, keyed by entry name.
+   */
+  private final Map<String, PendingChange<S>> pendingChanges = new LinkedHashMap<>();
+  private boolean flushScheduled = false; // guarded by pendingChanges
+
   /**
    * Creates a new source tree table. It comes pre-populated with a key and a value column.
    */
@@ -82,7 +92,56 @@ public class SourceTreeTable<S extends SourceEntry, V> extends TreeTableView<S>
   }
 
   /**
-   * Creates, updates, or deletes tree nodes in the network table view.
+   * Queues an update for a source entry. All queued changes are applied together in a single pass on a later JavaFX
+   * application thread pulse, rather than one pass per change. This is true even when called from the JavaFX thread, so
+   * a burst of changes from source listeners is coalesced. If the same entry is queued multiple times before the changes
+   * are applied, only the most recent change is applied. This method may be called from any thread.
+   *
+   * @param entry the entry to update
+   */
+  public void queueUpdate(S entry) {
+    queueChange(entry, false);
+  }
+
+  /**
+   * Queues the removal of a source entry. See {@link #queueUpdate(SourceEntry)} for details on how queued changes are
+   * applied. This method may be called from any thread.
+   *
+   * @param entry the entry to remove
+   */
+  public void queueRemoval(S entry) {
+    queueChange(entry, true);
+  }
+
+  private void queueChange(S entry, boolean deleted) {
+    synchronized (pendingChanges) {
+      // Remove first so that re-queued entries are applied in the order of their most recent change
+      pendingChanges.remove(entry.getName());
+      pendingChanges.put(entry.getName(), new PendingChange<>(entry, deleted));
+      if (flushScheduled) {
+        return;
+      }
+      flushScheduled = true;
+    }
+    // Always defer the flush, even on the FX thread, so changes queued by the rest of the current event are batched
+    Platform.runLater(this::applyPendingChanges);
+  }
+
+  private void applyPendingChanges() {
+    List<PendingChange<S>> changes;
+    synchronized (pendingChanges) {
+      changes = new ArrayList<>(pendingChanges.values());
+      pendingChanges.clear();
+      flushScheduled = false;
+    }
+    for (PendingChange<S> change : changes) {
+      makeBranches(change.entry, change.deleted);
+    }
+  }
+
+  /**
+   * Creates, updates, or deletes tree nodes in the network table view. Items are inserted into their sorted positions
+   * as they are added, so only the parent of an item that switched between being a leaf and a branch is re-sorted.
    *
    * @param entry   the entry that should be updated
    * @param deleted {@code true} if the entry was deleted, {@code false} otherwise
@@ -93,21 +152,18 @@ public class SourceTreeTable<S extends SourceEntry, V> extends TreeTableView<S>
     List<String> hierarchy = DataSourceUtils.getHierarchy(name);
     FilterableTreeItem<S> current = (FilterableTreeItem<S>) getRoot();
     FilterableTreeItem<S> parent = current;
-    boolean structureChanged = false;
+
+    // The first newly created branch, and the existing item it needs to be attached to
+    // New branches are only attached to the tree once they have children so they get inserted at the correct position
+    FilterableTreeItem<S> detachedBranch = null;
+    FilterableTreeItem<S> attachPoint = null;
 
     // Get the appropriate node for the value, creating branches as needed
     // Skip the first path in the hierarchy; it's always the root
     for (int i = 1; i < hierarchy.size(); i++) {
       String path = hierarchy.get(i);
       parent = current;
-      FilterableTreeItem<S> found = null;
-      for (TreeItem<S> item : current.getAllChildren()) {
-        if (item.getValue().getName().equals(path)) {
-          found = (FilterableTreeItem<S>) item;
-          break;
-        }
-      }
-      current = found;
+      current = detachedBranch == null ? (FilterableTreeItem<S>) current.getChild(path) : null;
       if (current == null && deleted) {
         // Done
         break;
@@ -116,8 +172,12 @@ public class SourceTreeTable<S extends SourceEntry, V> extends TreeTableView<S>
         S newEntry = (S) sourceType.createSourceEntryForUri(sourceType.toUri(path));
         current = new FilterableTreeItem<>(newEntry);
         current.setExpanded(true);
-        parent.getAllChildren().add(current);
-        structureChanged = true;
+        if (detachedBranch == null) {
+          detachedBranch = current;
+          attachPoint = parent;
+        } else {
+          parent.getAllChildren().add(current);
+        }
       }
     }
 
@@ -127,30 +187,39 @@ public class SourceTreeTable<S extends SourceEntry, V> extends TreeTableView<S>
         parent.getAllChildren().remove(current);
 
         // Remove empty subtrees
-        if (parent.getAllChildren().isEmpty()) {
-          FilterableTreeItem<S> item = (FilterableTreeItem<S>) parent.getParent();
-          while (item != null) {
-            item.getAllChildren().remove(parent);
-            parent = item;
-            item = (FilterableTreeItem<S>) item.getParent();
-          }
+        FilterableTreeItem<S> item = (FilterableTreeItem<S>) parent.getParent();
+        while (item != null && parent.getAllChildren().isEmpty()) {
+          item.getAllChildren().remove(parent);
+          parent = item;
+          item = (FilterableTreeItem<S>) item.getParent();
         }
-        structureChanged = true;
       }
     } else {
       if (current == null) {
         // Newly added value, create a tree item for it
         current = new FilterableTreeItem<>(entry);
         current.setExpanded(true);
-        parent.getAllChildren().add(current);
-        structureChanged = true;
+        if (detachedBranch == null) {
+          attachPoint = parent;
+        } else {
+          parent.getAllChildren().add(current);
+        }
+        boolean wasLeaf = attachPoint.getAllChildren().isEmpty();
+        attachPoint.getAllChildren().add(detachedBranch == null ? current : detachedBranch);
+        if (wasLeaf) {
+          // The item the new subtree was added to changed from a leaf to a branch
+          resortParentOf(attachPoint);
+        }
       } else if (EqualityUtils.isDifferent(current.getValue().getValue(), entry.getValue())) {
         // The value updated, so just update the existing node
         current.setValue(entry);
       }
     }
-    if (structureChanged) {
-      ((FilterableTreeItem<S>) getRoot()).sortChildren();
+  }
+
+  private static void resortParentOf(TreeItem<?> item) {
+    if (item.getParent() instanceof FilterableTreeItem) {
+      ((FilterableTreeItem<?>) item.getParent()).sortDirectChildren();
     }
   }
 
@@ -170,4 +239,14 @@ public class SourceTreeTable<S extends SourceEntry, V> extends TreeTableView<S>
     this.sourceType.set(sourceType);
   }
 
+  private static final class PendingChange<E> {
+    private final E entry;
+    private final boolean deleted;
+
+    PendingChange(E entry, boolean deleted) {
+      this.entry = entry;
+      this.deleted = deleted;
+    }
+  }
+
 }
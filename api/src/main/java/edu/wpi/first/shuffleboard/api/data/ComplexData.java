@@ -3,10 +3,12 @@ package edu.wpi.first.shuffleboard.api.data;
 import edu.wpi.first.shuffleboard.api.util.AlphanumComparator;
 import edu.wpi.first.shuffleboard.api.util.EqualityUtils;
 import edu.wpi.first.shuffleboard.api.util.Maps;
+import edu.wpi.first.shuffleboard.api.util.PersistentMap;
 import edu.wpi.first.shuffleboard.api.util.StringUtils;
 
 import java.util.Comparator;
 import java.util.Map;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 /**
@@ -42,20 +44,35 @@ public abstract class ComplexData<T extends ComplexData<T>> {
    * @param other the complex data to base the changes off of
    */
   public final Map<String, Object> changesFrom(T other) {
-    Map<String, Object> thisMap = asMap();
     if (other == null) {
-      return thisMap;
+      return asMap();
     }
+    Map<String, Object> thisMap = changeTrackingMap();
     Maps.MapBuilder<String, Object> builder = Maps.builder();
-    Map<String, Object> otherMap = other.asMap();
-    thisMap.forEach((key, value) -> {
+    Map<String, Object> otherMap = other.changeTrackingMap();
+    BiConsumer<String, Object> addIfChanged = (key, value) -> {
       if (EqualityUtils.isDifferent(value, otherMap.get(key))) {
         builder.put(key, value);
       }
-    });
+    };
+    if (thisMap instanceof PersistentMap && otherMap instanceof PersistentMap) {
+      // Only look at the parts of the maps that do not share structure
+      PersistentMap<String, Object> thisPersistentMap = (PersistentMap<String, Object>) thisMap;
+      thisPersistentMap.forEachChangeFrom((PersistentMap<String, Object>) otherMap, addIfChanged);
+    } else {
+      thisMap.forEach(addIfChanged);
+    }
     return builder.build();
   }
 
+  /**
+   * Gets the map used to compute {@link #changesFrom(ComplexData) changes}. This is {@link #asMap()} unless a subclass
+   * has a representation that is cheaper to compare, such as a {@link PersistentMap}.
+   */
+  Map<String, Object> changeTrackingMap() {
+    return asMap();
+  }
+
   /**
    * Generates a human-readable string representing this data. The default implementation simply maps each key-value
    * pair from {@link #asMap()} to the format {@code "key=value"} with a comma ({@code ','}) delimiting each pair.
@@ -28,6 +28,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -118,9 +120,16 @@ public class DataTypes extends Registry<DataType> {
       ByteArray
   );
 
+  private static final Comparator<DataType> BY_NAME = Comparator.comparing(DataType::getName);
+
   private final Map<String, DataType> dataTypes = new TreeMap<>();
 
-  private final Map<Class, Optional<DataType>> typeCache = new HashMap<>();
+  // Registered types keyed by their Java class. If several types share a class, the one with the first name is used
+  private final Map<Class<?>, DataType> typesByClass = new HashMap<>();
+  // Registered types keyed by every superclass of their Java class (excluding Object), for finding subclass matches
+  private final Map<Class<?>, Set<DataType>> typesBySuperclass = new HashMap<>();
+  // Resolved lookups; cleared whenever a type is registered or unregistered, since that can change the closest match
+  private final Map<Class, Optional<DataType>> typeCache = new ConcurrentHashMap<>();
 
   /**
    * Gets the default data type registry.
@@ -165,7 +174,8 @@ public class DataTypes extends Registry<DataType> {
       throw new IllegalArgumentException("Data type " + dataType + " has already been registered");
     }
     dataTypes.put(dataType.getName(), dataType);
-    typeCache.put(dataType.getJavaClass(), Optional.of(dataType));
+    indexClass(dataType.getJavaClass());
+    typeCache.clear();
     addItem(dataType);
   }
 
@@ -176,7 +186,8 @@ public class DataTypes extends Registry<DataType> {
       throw new IllegalArgumentException("A default data type cannot be unregistered: '" + dataType + "'");
     }
     dataTypes.remove(dataType.getName());
-    typeCache.remove(dataType.getJavaClass());
+    indexClass(dataType.getJavaClass());
+    typeCache.clear();
     removeItem(dataType);
   }
 
@@ -188,7 +199,13 @@ public class DataTypes extends Registry<DataType> {
   }
 
   /**
-   * Gets the data type most relevant to a Java class.
+   * Gets the data type most relevant to a Java class. This is the type for that exact class if one is registered;
+   * otherwise, it is the type for the closest superclass or subclass of it, as determined by {@link #closestTo}. Ties
+   * are broken by the names of the data types. Interfaces only match data types for that exact interface.
+   *
+   * @param type the Java class to get the data type for
+   *
+   * @return the data type for the class, or an empty optional if no registered type is related to the class
    */
   @SuppressWarnings("unchecked")
   public <T> Optional<DataType<T>> forJavaType(Class<T> type) {
@@ -199,23 +216,88 @@ public class DataTypes extends Registry<DataType> {
       if (DataType.class.isAssignableFrom(type)) {
         return forType((Class<DataType>) type);
       }
-      Optional<DataType> naive = dataTypes.values().stream()
-          .filter(t -> type.equals(t.getJavaClass()))
-          .findAny();
-      if (naive.isPresent()) {
-        return naive;
-      } else {
-        // Check Java class hierarchy
-        Comparator<Class<?>> classComparator = closestTo(type);
-        // This stream MUST be sequential to work correctly
-        return dataTypes.values().stream()
-            .filter(t -> t != All)
-            .sorted((t1, t2) -> classComparator.reversed().compare(t1.getJavaClass(), t2.getJavaClass()))
-            .findFirst();
+      DataType exact = typesByClass.get(type);
+      if (exact != null) {
+        return Optional.of(exact);
       }
+      return closestInHierarchy(type);
     });
   }
 
+  /**
+   * Updates the class indices for the data types with the given Java class.
+   */
+  private void indexClass(Class<?> javaClass) {
+    if (javaClass == null) {
+      return;
+    }
+    Optional<DataType> first = dataTypes.values().stream()
+        .filter(t -> javaClass.equals(t.getJavaClass()))
+        .findFirst();
+    if (first.isPresent()) {
+      typesByClass.put(javaClass, first.get());
+    } else {
+      typesByClass.remove(javaClass);
+    }
+    if (javaClass.isInterface() || All.getJavaClass().equals(javaClass)) {
+      return;
+    }
+    for (Class<?> superclass = javaClass.getSuperclass();
+         superclass != null && superclass != Object.class;
+         superclass = superclass.getSuperclass()) {
+      Set<DataType> subtypes = typesBySuperclass.computeIfAbsent(superclass, __ -> new TreeSet<>(BY_NAME));
+      subtypes.removeIf(t -> javaClass.equals(t.getJavaClass()));
+      first.ifPresent(subtypes::add);
+      if (subtypes.isEmpty()) {
+        typesBySuperclass.remove(superclass);
+      }
+    }
+  }
+
+  /**
+   * Finds the data type for the closest superclass or subclass of a class that does not have a data type of its own.
+   * {@link #All} is never matched this way.
+   */
+  private Optional<DataType> closestInHierarchy(Class<?> type) {
+    if (type.isInterface()) {
+      return Optional.empty();
+    }
+    DataType best = null;
+    int bestDistance = Integer.MAX_VALUE;
+
+    // The closest superclass with a data type
+    int distance = 1;
+    for (Class<?> superclass = type.getSuperclass();
+         superclass != null && superclass != Object.class;
+         superclass = superclass.getSuperclass(), distance++) {
+      DataType candidate = typesByClass.get(superclass);
+      if (candidate != null) {
+        best = candidate;
+        bestDistance = distance;
+        break;
+      }
+    }
+
+    // Subclasses with data types; these are already sorted by name, so the first one at a given distance wins ties
+    for (DataType candidate : typesBySuperclass.getOrDefault(type, Set.of())) {
+      int candidateDistance = depthBelow(candidate.getJavaClass(), type);
+      if (candidateDistance < bestDistance
+          || (candidateDistance == bestDistance && BY_NAME.compare(candidate, best) < 0)) {
+        best = candidate;
+        bestDistance = candidateDistance;
+      }
+    }
+    return Optional.ofNullable(best);
+  }
+
+  private static int depthBelow(Class<?> subclass, Class<?> superclass) {
+    int depth = 0;
+    for (Class<?> c = subclass; c != superclass; c = c.getSuperclass()) {
+      depth++;
+    }
+    return depth;
+  }
+
   /**
    * Gets a set of registered data types that can handle data of the supplied Java types.
    *
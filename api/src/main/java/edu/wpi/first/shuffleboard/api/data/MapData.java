@@ -1,20 +1,59 @@
 package edu.wpi.first.shuffleboard.api.data;
 
+import edu.wpi.first.shuffleboard.api.util.PersistentMap;
+
 import com.google.common.collect.ImmutableMap;
 
-import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * Complex data backed by an arbitrary map. The map is stored as a {@link PersistentMap}, so creating an updated copy
+ * with {@link #put(String, Object)} or {@link #remove(String)} shares most of its structure with the original instead
+ * of copying every entry, and {@link #changesFrom(ComplexData) changesFrom} only needs to look at the changed entries.
+ *
+ * <p>{@link #asMap()} iterates in the order of the map this was created with. Data created by {@code put} or
+ * {@code remove}, or from a {@code PersistentMap}, iterates in an unspecified order, just like the {@code HashMap} that
+ * {@code put} used to copy into.
+ */
 public class MapData extends ComplexData<MapData> {
 
-  private final ImmutableMap<String, Object> map;
+  private final PersistentMap<String, Object> map;
+  private volatile ImmutableMap<String, Object> immutableMap; // created on first use if not given an ordered map
 
+  /**
+   * Creates a new map data object. This does not copy the map if it is already a {@link PersistentMap}.
+   *
+   * @param map the map of data
+   */
   public MapData(Map<String, Object> map) {
-    this.map = ImmutableMap.copyOf(map);
+    this.map = PersistentMap.copyOf(map);
+    if (!(map instanceof PersistentMap)) {
+      // Keep the order of the original map
+      this.immutableMap = ImmutableMap.copyOf(map);
+    }
   }
 
   @Override
   public ImmutableMap<String, Object> asMap() {
+    ImmutableMap<String, Object> immutableMap = this.immutableMap;
+    if (immutableMap == null) {
+      immutableMap = ImmutableMap.copyOf(map);
+      this.immutableMap = immutableMap;
+    }
+    return immutableMap;
+  }
+
+  /**
+   * Gets the data as a persistent map. Unlike {@link #asMap()}, this never copies the data, and the returned map can
+   * be cheaply updated with {@link PersistentMap#plus(Object, Object) plus} and {@link PersistentMap#minus(Object)
+   * minus}.
+   */
+  public PersistentMap<String, Object> asPersistentMap() {
+    return map;
+  }
+
+  @Override
+  Map<String, Object> changeTrackingMap() {
     return map;
   }
 
@@ -43,9 +82,18 @@ public class MapData extends ComplexData<MapData> {
    * @return a new MapData instance containing the change
    */
   public MapData put(String key, Object value) {
-    HashMap<String, Object> map = new HashMap<>(this.map);
-    map.put(key, value);
-    return new MapData(map);
+    return new MapData(map.plus(key, value));
+  }
+
+  /**
+   * Creates a new MapData instance that is identical to this one, but without the given key.
+   *
+   * @param key the key to remove
+   *
+   * @return a new MapData instance containing the change
+   */
+  public MapData remove(String key) {
+    return new MapData(map.minus(key));
   }
 
   @Override
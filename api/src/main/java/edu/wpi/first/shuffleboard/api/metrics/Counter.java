@@ -0,0 +1,44 @@
+package edu.wpi.first.shuffleboard.api.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A metric that counts events, such as the number of value updates received by a source. Counters are safe to
+ * increment from any thread, and incrementing is a no-op while the registry is disabled.
+ */
+public final class Counter extends Metric {
+
+  private final LongAdder count = new LongAdder();
+
+  Counter(Metrics registry, String name) {
+    super(registry, name);
+  }
+
+  /**
+   * Increments the count by one.
+   */
+  public void increment() {
+    if (isEnabled()) {
+      count.increment();
+    }
+  }
+
+  /**
+   * Increments the count by the given amount.
+   *
+   * @param amount the amount to increment by
+   */
+  public void add(long amount) {
+    if (isEnabled()) {
+      count.add(amount);
+    }
+  }
+
+  /**
+   * Gets the total number of events counted while the registry was enabled.
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+}
@@ -0,0 +1,27 @@
+package edu.wpi.first.shuffleboard.api.metrics;
+
+import java.util.function.DoubleSupplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A metric whose value is read on demand, such as the size of a buffer. The value supplier is only called when the
+ * metric is viewed, so gauges have no cost to the code that publishes them.
+ */
+public final class Gauge extends Metric {
+
+  private final DoubleSupplier value;
+
+  Gauge(Metrics registry, String name, DoubleSupplier value) {
+    super(registry, name);
+    this.value = requireNonNull(value, "value");
+  }
+
+  /**
+   * Gets the current value of this gauge.
+   */
+  public double getValue() {
+    return value.getAsDouble();
+  }
+
+}
@@ -0,0 +1,38 @@
+package edu.wpi.first.shuffleboard.api.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A named metric in a {@link Metrics} registry. Names use slashes to group related metrics, for example
+ * {@code "Recorder/Flush"}; the first part of the name is usually the subsystem that publishes the metric.
+ */
+public abstract class Metric {
+
+  private final Metrics registry;
+  private final String name;
+
+  Metric(Metrics registry, String name) {
+    this.registry = requireNonNull(registry, "registry");
+    this.name = requireNonNull(name, "name");
+  }
+
+  /**
+   * Gets the name of this metric.
+   */
+  public final String getName() {
+    return name;
+  }
+
+  /**
+   * Checks if this metric should record new values. Always check this before doing any work to compute a value.
+   */
+  protected final boolean isEnabled() {
+    return registry.isEnabled();
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "(" + name + ")";
+  }
+
+}
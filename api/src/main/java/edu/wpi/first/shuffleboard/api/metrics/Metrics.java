@@ -0,0 +1,118 @@
+package edu.wpi.first.shuffleboard.api.metrics;
+
+import edu.wpi.first.shuffleboard.api.util.AlphanumComparator;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * A registry of performance metrics. The application and plugins register metrics with the
+ * {@link #getDefault() default registry}; metrics are looked up by name, so the same metric may be retrieved from
+ * several places without needing to pass it around.
+ *
+ * <p>A registry is disabled by default. Counters and timers ignore updates while their registry is disabled, which
+ * keeps the cost of instrumentation negligible unless someone is actually looking at the metrics.
+ */
+public final class Metrics {
+
+  private static final Metrics defaultInstance = new Metrics();
+
+  private final Map<String, Metric> metrics = new ConcurrentHashMap<>();
+  private volatile boolean enabled = false;
+
+  /**
+   * Gets the default metrics registry.
+   */
+  public static Metrics getDefault() {
+    return defaultInstance;
+  }
+
+  /**
+   * Checks if metrics in this registry are recording updates.
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Sets whether or not metrics in this registry should record updates. Counts and durations recorded while enabled
+   * are kept when the registry is disabled.
+   */
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Gets the counter with the given name, creating it if it does not exist.
+   *
+   * @param name the name of the counter
+   *
+   * @throws IllegalArgumentException if a metric with the given name exists and is not a counter
+   */
+  public Counter counter(String name) {
+    return getOrCreate(name, Counter.class, n -> new Counter(this, n));
+  }
+
+  /**
+   * Gets the timer with the given name, creating it if it does not exist.
+   *
+   * @param name the name of the timer
+   *
+   * @throws IllegalArgumentException if a metric with the given name exists and is not a timer
+   */
+  public Timer timer(String name) {
+    return getOrCreate(name, Timer.class, n -> new Timer(this, n));
+  }
+
+  /**
+   * Registers a gauge. This replaces any gauge previously registered with the same name.
+   *
+   * @param name  the name of the gauge
+   * @param value a function to read the current value of the gauge. This may be called from any thread
+   *
+   * @throws IllegalArgumentException if a metric with the given name exists and is not a gauge
+   */
+  public Gauge gauge(String name, DoubleSupplier value) {
+    Gauge gauge = new Gauge(this, name, value);
+    metrics.compute(name, (n, existing) -> {
+      if (existing != null && !(existing instanceof Gauge)) {
+        throw new IllegalArgumentException("Metric '" + name + "' is not a Gauge: " + existing);
+      }
+      return gauge;
+    });
+    return gauge;
+  }
+
+  /**
+   * Removes a metric from this registry. This should be called when the object the metric describes is discarded,
+   * such as when a data source is closed. Does nothing if the metric is not in this registry.
+   *
+   * @param metric the metric to remove
+   */
+  public void remove(Metric metric) {
+    metrics.remove(metric.getName(), metric);
+  }
+
+  /**
+   * Gets all the metrics in this registry, sorted by name.
+   */
+  public List<Metric> getMetrics() {
+    return metrics.values().stream()
+        .sorted(Comparator.comparing(Metric::getName, AlphanumComparator.INSTANCE))
+        .collect(Collectors.toList());
+  }
+
+  private <M extends Metric> M getOrCreate(String name, Class<M> type, Function<String, M> factory) {
+    Metric metric = metrics.computeIfAbsent(name, factory);
+    if (!type.isInstance(metric)) {
+      throw new IllegalArgumentException("Metric '" + name + "' is not a " + type.getSimpleName() + ": " + metric);
+    }
+    return type.cast(metric);
+  }
+
+}
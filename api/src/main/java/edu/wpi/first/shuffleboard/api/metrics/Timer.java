@@ -0,0 +1,89 @@
+package edu.wpi.first.shuffleboard.api.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A metric that records the durations of a repeated operation. Timers are safe to use from any thread. Timing an
+ * operation looks like:
+ *
+ * <pre>{@code
+ * long start = timer.start();
+ * doWork();
+ * timer.stop(start);
+ * }</pre>
+ *
+ * <p>While the registry is disabled, {@link #start()} does not read the system clock and {@link #stop(long)} does
+ * nothing, so timed code pays no cost for being timed.
+ */
+public final class Timer extends Metric {
+
+  /**
+   * The value returned by {@link #start()} when the registry is disabled.
+   */
+  public static final long NOT_STARTED = Long.MIN_VALUE;
+
+  private final LongAdder count = new LongAdder();
+  private final LongAdder totalNanos = new LongAdder();
+  private final AtomicLong maxNanos = new AtomicLong();
+
+  Timer(Metrics registry, String name) {
+    super(registry, name);
+  }
+
+  /**
+   * Starts timing an operation.
+   *
+   * @return the time the operation started, to pass to {@link #stop(long)}
+   */
+  public long start() {
+    return isEnabled() ? System.nanoTime() : NOT_STARTED;
+  }
+
+  /**
+   * Stops timing an operation and records its duration.
+   *
+   * @param start the start time returned by {@link #start()}
+   */
+  public void stop(long start) {
+    if (start != NOT_STARTED) {
+      record(System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Records the duration of an operation that was timed elsewhere.
+   *
+   * @param nanos the duration of the operation, in nanoseconds
+   */
+  public void record(long nanos) {
+    if (isEnabled()) {
+      count.increment();
+      totalNanos.add(nanos);
+      maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+  }
+
+  /**
+   * Gets the number of operations that have been recorded.
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * Gets the total duration of all recorded operations, in nanoseconds.
+   */
+  public long getTotalNanos() {
+    return totalNanos.sum();
+  }
+
+  /**
+   * Gets the longest duration recorded since the last call to this method, in nanoseconds, and resets it. This lets a
+   * viewer show the worst case over each of its refresh periods.
+   */
+  public long getAndResetMaxNanos() {
+    return maxNanos.getAndSet(0);
+  }
+
+}
@@ -0,0 +1,7 @@
+/**
+ * A lightweight registry of performance counters, timers, and gauges. Shuffleboard and plugins publish metrics to the
+ * {@link edu.wpi.first.shuffleboard.api.metrics.Metrics#getDefault() default registry}, which are shown in the
+ * diagnostics pane of the application. Recording is disabled unless the diagnostics pane is open, and disabled
+ * metrics cost only a single volatile read to update.
+ */
+package edu.wpi.first.shuffleboard.api.metrics;
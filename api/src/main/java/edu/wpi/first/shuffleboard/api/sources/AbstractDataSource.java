@@ -3,6 +3,7 @@ package edu.wpi.first.shuffleboard.api.sources;
 import edu.wpi.first.shuffleboard.api.data.DataType;
 import edu.wpi.first.shuffleboard.api.properties.AsyncProperty;
 import edu.wpi.first.shuffleboard.api.properties.AtomicBooleanProperty;
+import edu.wpi.first.shuffleboard.api.util.Time;
 import edu.wpi.first.shuffleboard.api.widget.Sourced;
 
 import java.util.Collections;
@@ -14,12 +15,13 @@ import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.Property;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
+import javafx.beans.value.ObservableValue;
 
 import static java.util.Objects.requireNonNull;
 
 /**
  * Abstract implementation of DataSource that defines properties for {@link #nameProperty()},
- * {@link #activeProperty()}, and {@link #dataProperty()} for subclasses.
+ * {@link #activeProperty()}, {@link #dataProperty()}, and {@link #timestampedDataProperty()} for subclasses.
  *
  * @param <T> the type of data this source provides
  */
@@ -31,10 +33,20 @@ public abstract class AbstractDataSource<T> implements DataSource<T> {
   protected final Property<T> data = new AsyncProperty<>(this, "data", null);
   protected final BooleanProperty connected = new AtomicBooleanProperty(this, "connected", false);
   protected final DataType<T> dataType;
+  private final AsyncProperty<TimestampedValue<T>> timestampedData;
 
   protected AbstractDataSource(DataType<T> dataType) {
     this.dataType = requireNonNull(dataType, "dataType");
     this.data.setValue(dataType.getDefaultValue());
+    this.timestampedData = new AsyncProperty<>(this, "timestampedData",
+        new TimestampedValue<>(dataType.getDefaultValue(), Time.now()));
+    // Data set without a timestamp, such as by a binding or a widget writing to the data property directly, was
+    // produced now. Data set with a timestamp has already been published by setData(T, long)
+    ((AsyncProperty<T>) this.data).addImmediateListener((__, prev, value) -> {
+      if (value != timestampedData.get().getValue()) {
+        timestampedData.set(new TimestampedValue<>(value, Time.now()));
+      }
+    });
   }
 
   @Override
@@ -52,6 +64,32 @@ public abstract class AbstractDataSource<T> implements DataSource<T> {
     return data;
   }
 
+  @Override
+  public void setData(T newValue) {
+    setData(newValue, Time.now());
+  }
+
+  /**
+   * Sets the data of this source along with the time it was produced at its origin.
+   *
+   * @param newValue  the new data
+   * @param timestamp the time the data was produced, in epoch milliseconds
+   */
+  public void setData(T newValue, long timestamp) {
+    timestampedData.set(new TimestampedValue<>(newValue, timestamp));
+    data.setValue(newValue);
+  }
+
+  @Override
+  public long getTimestamp() {
+    return timestampedData.get().getTimestamp();
+  }
+
+  @Override
+  public ObservableValue<TimestampedValue<T>> timestampedDataProperty() {
+    return timestampedData;
+  }
+
   protected void setName(String name) {
     this.name.setValue(name);
   }
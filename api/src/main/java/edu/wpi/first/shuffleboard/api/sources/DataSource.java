@@ -1,11 +1,14 @@
 package edu.wpi.first.shuffleboard.api.sources;
 
 import edu.wpi.first.shuffleboard.api.data.DataType;
+import edu.wpi.first.shuffleboard.api.util.Time;
 import edu.wpi.first.shuffleboard.api.widget.Sourced;
 
+import javafx.beans.binding.Bindings;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.Property;
 import javafx.beans.property.StringProperty;
+import javafx.beans.value.ObservableValue;
 
 /**
  * A data source provides some kind of data that widgets can display and manipulate. It can be
@@ -101,6 +104,27 @@ public interface DataSource<T> {
     dataProperty().setValue(newValue);
   }
 
+  /**
+   * Gets the time the current data was produced at its origin, in epoch milliseconds. For live data this is the time
+   * the data was published, and for recorded data it is the time it was recorded, so data from different sources can
+   * be plotted on a single time base. Sources that cannot tell when their data was produced return the current time.
+   */
+  default long getTimestamp() {
+    return Time.now();
+  }
+
+  /**
+   * Gets an observable view of the data of this source along with the time each value was produced. Unlike reading
+   * {@link #getTimestamp()} from a listener on {@link #dataProperty()}, every change seen by a listener on this value
+   * carries its own timestamp, even if the source has been updated again before the listener is run.
+   *
+   * <p>The default implementation creates a new binding on every call and reads the timestamp when the binding is
+   * evaluated. Sources that know when their data was produced should override this.
+   */
+  default ObservableValue<TimestampedValue<T>> timestampedDataProperty() {
+    return Bindings.createObjectBinding(() -> new TimestampedValue<>(getData(), getTimestamp()), dataProperty());
+  }
+
   /**
    * Gets the type of data that this source is providing.
    */
@@ -9,9 +9,12 @@ import edu.wpi.first.shuffleboard.api.util.Registry;
 import org.fxmisc.easybind.EasyBind;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javafx.beans.InvalidationListener;
 import javafx.collections.FXCollections;
@@ -22,7 +25,19 @@ public final class SourceTypes extends Registry<SourceType> {
   // TODO replace with DI eg Guice
   private static SourceTypes defaultInstance = null;
 
+  /**
+   * The maximum number of resolved URIs to cache. The cache is cleared if it grows past this size.
+   */
+  private static final int MAX_CACHED_URIS = 16384;
+
+  private static final String PROTOCOL_SEPARATOR = "://";
+
   private final Map<String, SourceType> types = new HashMap<>();
+  // Types with protocols of the form "scheme://", keyed by protocol, for lookups without scanning every type
+  private final Map<String, SourceType> typesByProtocol = new ConcurrentHashMap<>();
+  // Types with any other non-empty protocol. These have to be checked with startsWith()
+  private final List<SourceType> irregularProtocolTypes = new CopyOnWriteArrayList<>();
+  private final Map<String, SourceUri> resolvedUris = new ConcurrentHashMap<>();
   private final ObservableList<String> typeNames = FXCollections.observableArrayList();
   private final ObservableList<String> allUris = FXCollections.observableArrayList();
 
@@ -82,6 +97,12 @@ public final class SourceTypes extends Registry<SourceType> {
       throw new IllegalArgumentException("A source type has already been registered with protocol '" + protocol + "'");
     }
     types.put(name, sourceType);
+    if (isSchemeProtocol(protocol)) {
+      typesByProtocol.put(protocol, sourceType);
+    } else if (!protocol.isEmpty()) {
+      irregularProtocolTypes.add(sourceType);
+    }
+    resolvedUris.clear();
     typeNames.add(name);
     addItem(sourceType);
   }
@@ -98,6 +119,9 @@ public final class SourceTypes extends Registry<SourceType> {
     }
     typeNames.remove(sourceType.getName());
     types.remove(sourceType.getName());
+    typesByProtocol.remove(sourceType.getProtocol(), sourceType);
+    irregularProtocolTypes.remove(sourceType);
+    resolvedUris.clear();
     removeItem(sourceType);
   }
 
@@ -108,7 +132,7 @@ public final class SourceTypes extends Registry<SourceType> {
    * @param uri the URI to create a source for
    */
   public DataSource<?> forUri(String uri) {
-    return typeForUri(uri).forUri(uri);
+    return resolve(uri).getType().forUri(uri);
   }
 
   /**
@@ -124,12 +148,7 @@ public final class SourceTypes extends Registry<SourceType> {
    * Gets the source type associated with the given URI, or {@link #None} if the protocol is not recognized.
    */
   public SourceType typeForUri(String uri) {
-    for (SourceType type : types.values()) {
-      if (!type.getProtocol().isEmpty() && uri.startsWith(type.getProtocol())) {
-        return type;
-      }
-    }
-    return None;
+    return resolve(uri).getType();
   }
 
   /**
@@ -138,7 +157,48 @@ public final class SourceTypes extends Registry<SourceType> {
    * @param uri the uri to strip the protocol from
    */
   public String stripProtocol(String uri) {
-    return typeForUri(uri).removeProtocol(uri);
+    return resolve(uri).getPath();
+  }
+
+  /**
+   * Resolves a source URI to its source type and protocol-less path. Resolved URIs are cached until a source type is
+   * registered or unregistered, so resolving the same URI again is a single map lookup.
+   *
+   * @param uri the URI to resolve
+   *
+   * @return the resolved URI. Its type will be {@link #None} if the protocol is not recognized
+   */
+  public SourceUri resolve(String uri) {
+    SourceUri resolved = resolvedUris.get(uri);
+    if (resolved == null) {
+      resolved = new SourceUri(uri, findType(uri));
+      if (resolvedUris.size() >= MAX_CACHED_URIS) {
+        resolvedUris.clear();
+      }
+      resolvedUris.put(uri, resolved);
+    }
+    return resolved;
+  }
+
+  private SourceType findType(String uri) {
+    int separator = uri.indexOf(PROTOCOL_SEPARATOR);
+    if (separator >= 0) {
+      SourceType type = typesByProtocol.get(uri.substring(0, separator + PROTOCOL_SEPARATOR.length()));
+      if (type != null) {
+        return type;
+      }
+    }
+    for (SourceType type : irregularProtocolTypes) {
+      if (uri.startsWith(type.getProtocol())) {
+        return type;
+      }
+    }
+    return None;
+  }
+
+  private static boolean isSchemeProtocol(String protocol) {
+    return protocol.endsWith(PROTOCOL_SEPARATOR)
+        && protocol.indexOf(PROTOCOL_SEPARATOR) == protocol.length() - PROTOCOL_SEPARATOR.length();
   }
 
   /**
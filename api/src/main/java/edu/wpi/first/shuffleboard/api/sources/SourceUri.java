@@ -0,0 +1,66 @@
+package edu.wpi.first.shuffleboard.api.sources;
+
+import java.util.Objects;
+
+/**
+ * A source URI that has been resolved to its source type. Instances are created and cached by
+ * {@link SourceTypes#resolve(String)}, so code that repeatedly looks up the type or path of the same URI does not need
+ * to parse it every time.
+ */
+public final class SourceUri {
+
+  private final String uri;
+  private final SourceType type;
+  private final String path;
+
+  SourceUri(String uri, SourceType type) {
+    this.uri = Objects.requireNonNull(uri, "uri");
+    this.type = Objects.requireNonNull(type, "type");
+    this.path = type.removeProtocol(uri);
+  }
+
+  /**
+   * Gets the full URI, including the protocol.
+   */
+  public String getUri() {
+    return uri;
+  }
+
+  /**
+   * Gets the type of the source, or {@link SourceTypes#None} if the protocol was not recognized.
+   */
+  public SourceType getType() {
+    return type;
+  }
+
+  /**
+   * Gets the URI with its protocol removed. This is the same as the full URI if the protocol was not recognized.
+   */
+  public String getPath() {
+    return path;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    SourceUri that = (SourceUri) obj;
+    return this.uri.equals(that.uri)
+        && this.type.equals(that.type);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(uri, type);
+  }
+
+  @Override
+  public String toString() {
+    return uri;
+  }
+
+}
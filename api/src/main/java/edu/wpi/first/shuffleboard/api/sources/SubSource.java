@@ -5,6 +5,10 @@ import edu.wpi.first.shuffleboard.api.util.PropertyUtils;
 
 import java.util.function.Function;
 
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
+
 /**
  * A type of source that provides a view of a subset of the data of another source, as well as propagating data changes
  * to the original source. This is especially helpful for widgets that delegate some behaviour to another, embedded
@@ -14,6 +18,8 @@ import java.util.function.Function;
 public final class SubSource<T> extends AbstractDataSource<T> {
 
   private final SourceType sourceType;
+  private final ObservableValue<? extends TimestampedValue<?>> backingTimestampedData;
+  private final ObjectProperty<TimestampedValue<T>> timestampedData;
 
   /**
    * Creates a new sub source.
@@ -32,6 +38,14 @@ public final class SubSource<T> extends AbstractDataSource<T> {
     super(type);
     this.sourceType = source.getType();
 
+    ObservableValue<TimestampedValue<U>> backing = source.timestampedDataProperty();
+    this.backingTimestampedData = backing;
+    Function<U, T> extract = value -> value == null ? null : extractData.apply(value);
+    this.timestampedData = new SimpleObjectProperty<>(this, "timestampedData",
+        new TimestampedValue<>(extract.apply(source.getData()), source.getTimestamp()));
+    backing.addListener((__, prev, value) ->
+        timestampedData.set(new TimestampedValue<>(extract.apply(value.getValue()), value.getTimestamp())));
+
     PropertyUtils.bindBidirectionalWithConverter(
         this.dataProperty(),
         source.dataProperty(),
@@ -51,4 +65,14 @@ public final class SubSource<T> extends AbstractDataSource<T> {
     return sourceType;
   }
 
+  @Override
+  public long getTimestamp() {
+    return backingTimestampedData.getValue().getTimestamp();
+  }
+
+  @Override
+  public ObservableValue<TimestampedValue<T>> timestampedDataProperty() {
+    return timestampedData;
+  }
+
 }
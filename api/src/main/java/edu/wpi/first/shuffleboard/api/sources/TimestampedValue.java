@@ -0,0 +1,44 @@
+package edu.wpi.first.shuffleboard.api.sources;
+
+/**
+ * A value of a data source along with the time it was produced at its origin. Data sources publish these so listeners
+ * always see a value together with its own timestamp, even when several values arrive before the listeners are run.
+ *
+ * <p>This class intentionally does not override {@code equals}, so every published value is seen as a change, even if
+ * it is equal to the previous one.
+ *
+ * @param <T> the type of the value
+ */
+public final class TimestampedValue<T> {
+
+  private final T value;
+  private final long timestamp;
+
+  /**
+   * Creates a new timestamped value.
+   *
+   * @param value     the value
+   * @param timestamp the time the value was produced, in epoch milliseconds
+   */
+  public TimestampedValue(T value, long timestamp) {
+    this.value = value;
+    this.timestamp = timestamp;
+  }
+
+  public T getValue() {
+    return value;
+  }
+
+  /**
+   * Gets the time the value was produced, in epoch milliseconds.
+   */
+  public long getTimestamp() {
+    return timestamp;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("TimestampedValue(value=%s, timestamp=%d)", value, timestamp);
+  }
+
+}
@@ -3,6 +3,8 @@ package edu.wpi.first.shuffleboard.api.sources.recording;
 import edu.wpi.first.shuffleboard.api.DashboardMode;
 import edu.wpi.first.shuffleboard.api.data.DataType;
 import edu.wpi.first.shuffleboard.api.data.DataTypes;
+import edu.wpi.first.shuffleboard.api.metrics.Metrics;
+import edu.wpi.first.shuffleboard.api.metrics.Timer;
 import edu.wpi.first.shuffleboard.api.properties.AtomicBooleanProperty;
 import edu.wpi.first.shuffleboard.api.sources.DataSource;
 import edu.wpi.first.shuffleboard.api.sources.SourceType;
@@ -37,6 +39,7 @@ public final class Recorder {
   private static final Logger log = Logger.getLogger(Recorder.class.getName());
 
   public static final String DEFAULT_RECORDING_FILE_NAME_FORMAT = "recording-${time}";
+  private static final Timer flushTimer = Metrics.getDefault().timer("Recorder/Flush");
   private static final Recorder instance = new Recorder();
 
   private final BooleanProperty running = new AtomicBooleanProperty(this, "running", false);
@@ -73,6 +76,10 @@ public final class Recorder {
 
     // Save the recording every 2 seconds
     if (enableDiskWrites) {
+      Metrics.getDefault().gauge("Recorder/Buffered data points", () -> {
+        Recording current = recording;
+        return current == null ? 0 : current.getDataCount();
+      });
       Executors.newSingleThreadScheduledExecutor(ThreadUtils::makeDaemonThread)
           .scheduleAtFixedRate(
               () -> {
@@ -101,6 +108,7 @@ public final class Recorder {
     if (recordingFile == null) {
       recordingFile = file.toFile();
     }
+    long flushStart = flushTimer.start();
     synchronized (startStopLock) {
       if (firstSave) {
         Serialization.saveRecording(recording, file);
@@ -110,6 +118,7 @@ public final class Recorder {
       }
       Serializers.getAdapters().forEach(Serializer::flush);
     }
+    flushTimer.stop(flushStart);
     log.fine("Saved recording to " + file);
   }
 
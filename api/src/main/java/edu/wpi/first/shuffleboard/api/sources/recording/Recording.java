@@ -104,6 +104,14 @@ public class Recording {
     });
   }
 
+  /**
+   * Gets the number of data points in this recording. This is cheaper than {@code getData().size()}, since it does not
+   * need to copy the data.
+   */
+  public int getDataCount() {
+    return lock.reading(data::size);
+  }
+
   @SuppressWarnings("JavadocMethod")
   public List<String> getSourceIds() {
     return lock.reading(() -> ImmutableList.copyOf(sourceIds));
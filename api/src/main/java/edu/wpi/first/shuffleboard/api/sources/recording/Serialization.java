@@ -22,10 +22,14 @@ import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -147,10 +151,109 @@ public final class Serialization {
         .stream()
         .sorted()
         .collect(ImmutableList.toImmutableList());
-    final var markers = snapshot.getMarkers();
-    final byte[] header = header(dataCopy);
+    byte[] all = serialize(dataCopy, snapshot.getMarkers(), data -> encode(data.getData(), data.getDataType()));
+    writeRecordingFile(file, all);
+  }
+
+  /**
+   * Saves the part of a recording in a range of time as a new recording. The clip starts with the most recent value of
+   * every source before the start of the range, so playing it back shows the same state as the full recording does at
+   * that time. Type adapters that save data in separate files, such as the video files for camera streams, copy only
+   * the parts of those files used by the clip.
+   *
+   * <p>The recording must be sorted by timestamp, as recordings loaded with {@link #loadRecording(Path)} are. Only the
+   * values in the clip are serialized, so the time taken depends on the length of the clip rather than the length of
+   * the recording.
+   *
+   * @param recording     the recording to save a clip of
+   * @param recordingFile the file the recording was loaded from
+   * @param clipFile      the file to save the clip to
+   * @param startTime     the start of the clip, in milliseconds since the start of the recording
+   * @param endTime       the end of the clip, inclusive, in milliseconds since the start of the recording
+   *
+   * @throws IOException if the clip could not be saved
+   */
+  public static void saveClip(Recording recording, Path recordingFile, Path clipFile, long startTime, long endTime)
+      throws IOException {
+    if (endTime < startTime) {
+      throw new IllegalArgumentException("Clip end " + endTime + " is before its start " + startTime);
+    }
+    final List<TimestampedData> data = recording.getData();
+    final int start = indexOfFirstAtOrAfter(data, startTime);
+    final int end = indexOfFirstAtOrAfter(data, endTime + 1);
+
+    // Rebuild the state of each source at the start of the clip from the last value it had before the clip
+    Set<String> remainingSources = new HashSet<>(recording.getSourceIds());
+    List<TimestampedData> initialState = new ArrayList<>();
+    for (int i = start - 1; i >= 0 && !remainingSources.isEmpty(); i--) {
+      TimestampedData point = data.get(i);
+      if (remainingSources.remove(point.getSourceId())) {
+        initialState.add(point);
+      }
+    }
+    // Keep the initial values in the order they were recorded, since adapters see clip values in order
+    Collections.reverse(initialState);
+    List<TimestampedData> clipData = new ArrayList<>(initialState.size() + end - start);
+    for (TimestampedData point : initialState) {
+      clipData.add(new TimestampedData(point.getSourceId(), point.getDataType(), point.getData(), startTime));
+    }
+    clipData.addAll(data.subList(start, end));
+    List<Marker> markers = recording.getMarkers().stream()
+        .filter(m -> m.getTimestamp() >= startTime && m.getTimestamp() <= endTime)
+        .collect(Collectors.toList());
+
+    Serializers.getAdapters().forEach(a -> a.setCurrentFile(recordingFile.toFile()));
+    final File clip = clipFile.toFile();
+    byte[] all = serialize(clipData, markers, point -> encodeForClip(point, clip));
+    // Adapters may save their own files next to the clip, so the directory needs to exist before they finish
+    Path saveDir = clipFile.getParent();
+    if (saveDir != null) {
+      Files.createDirectories(saveDir);
+    }
+    for (TypeAdapter<?> adapter : Serializers.getAdapters()) {
+      adapter.finishClip(clip);
+    }
+    writeRecordingFile(clipFile, all);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static byte[] encodeForClip(TimestampedData data, File clipFile) {
+    return Serializers.getOptional((DataType<Object>) data.getDataType())
+        .map(s -> s.serializeForClip(data.getData(), clipFile))
+        .orElseThrow(() -> new NoSuchElementException("No serializer for " + data.getDataType()));
+  }
+
+  /**
+   * Finds the index of the first data point at or after the given time, or the size of the list if every data point is
+   * before it.
+   */
+  private static int indexOfFirstAtOrAfter(List<TimestampedData> data, long timestamp) {
+    int low = 0;
+    int high = data.size();
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (data.get(mid).getTimestamp() < timestamp) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Serializes data and markers in the recording file format.
+   *
+   * @param data    the data to serialize, sorted by timestamp
+   * @param markers the markers to serialize
+   * @param encoder the function to use to encode the value of each data point
+   */
+  private static byte[] serialize(List<TimestampedData> data,
+                                  List<Marker> markers,
+                                  Function<TimestampedData, byte[]> encoder) {
+    final byte[] header = header(data);
     put(header, toByteArray(0), Offsets.DATA_POSITION_OFFSET);
-    final List<String> constantPool = generateConstantPool(dataCopy);
+    final List<String> constantPool = generateConstantPool(data);
     List<byte[]> segments = new ArrayList<>();
     segments.add(header);
 
@@ -166,29 +269,29 @@ public final class Serialization {
 
     // Data
     put(header, toByteArray(segments.stream().mapToInt(b -> b.length).sum()), Offsets.DATA_POSITION_OFFSET);
-    for (TimestampedData data : dataCopy) {
-      final DataType type = data.getDataType();
-      final Object value = data.getData();
-
-      final byte[] timestamp = toByteArray(data.getTimestamp());
+    for (TimestampedData point : data) {
+      final byte[] timestamp = toByteArray(point.getTimestamp());
       // use int16 instead of int32 -- 32,767 sources should be enough
-      final byte[] sourceIdIndex = toByteArray((short) constantPool.indexOf(data.getSourceId()));
-      final byte[] dataType = toByteArray((short) constantPool.indexOf(data.getDataType().getName()));
-      final byte[] dataBytes = encode(value, type);
+      final byte[] sourceIdIndex = toByteArray((short) constantPool.indexOf(point.getSourceId()));
+      final byte[] dataType = toByteArray((short) constantPool.indexOf(point.getDataType().getName()));
+      final byte[] dataBytes = encoder.apply(point);
 
       segments.add(timestamp);
       segments.add(sourceIdIndex);
       segments.add(dataType);
       segments.add(dataBytes);
     }
-    byte[] all = segments
+    return segments
         .stream()
         .reduce(new byte[0], Bytes::concat);
+  }
+
+  private static void writeRecordingFile(Path file, byte[] contents) throws IOException {
     Path saveDir = file.getParent();
     if (saveDir != null) {
       Files.createDirectories(saveDir);
     }
-    Files.write(file, all);
+    Files.write(file, contents);
   }
 
   /**
@@ -3,6 +3,7 @@ package edu.wpi.first.shuffleboard.api.sources.recording.serialization;
 import edu.wpi.first.shuffleboard.api.data.DataType;
 
 import java.io.File;
+import java.io.IOException;
 
 /**
  * A TypeAdapter combines {@link Serializer} and {@link Deserializer} in one class for ease of use.
@@ -35,6 +36,43 @@ public abstract class TypeAdapter<T> implements Serializer<T>, Deserializer<T> {
     // Default to NOP
   }
 
+  /**
+   * Serializes a value for a clip of the {@link #getCurrentFile() current recording file}. This is called for each
+   * value in the clip in the order they were recorded, followed by a single call to {@link #finishClip(File)}.
+   *
+   * <p>Adapters that save data in separate files should override this and {@code finishClip} to copy only the parts of
+   * those files the clip needs, and to point the serialized values at the copies. The default implementation simply
+   * serializes the value.
+   *
+   * @param value    the value to serialize
+   * @param clipFile the recording file the clip is being saved to
+   */
+  public byte[] serializeForClip(T value, File clipFile) {
+    return serialize(value);
+  }
+
+  /**
+   * Finishes saving a clip of the current recording file, after all the values in the clip have been serialized with
+   * {@link #serializeForClip(Object, File)}. The default implementation does nothing.
+   *
+   * @param clipFile the recording file the clip is being saved to
+   *
+   * @throws IOException if any extra files for the clip could not be written
+   */
+  public void finishClip(File clipFile) throws IOException { //NOPMD empty method body
+    // Default to NOP
+  }
+
+  /**
+   * Checks if this adapter reads data from files other than the recording file, such as the video files a camera
+   * stream saves alongside it. Deserialized values from these adapters may read from the
+   * {@link #getCurrentFile() current recording file} at any time, so they can only be used for one recording at a time.
+   * The default implementation returns {@code false}.
+   */
+  public boolean readsSeparateFiles() {
+    return false;
+  }
+
   /**
    * Gets the current recording file being loaded. This is useful for adapters that record extra data in separate files
    * (e.g. a camera stream may save a video file alongside the .sbr recording file).
@@ -2,19 +2,18 @@ package edu.wpi.first.shuffleboard.api.util;
 
 import java.time.Duration;
 import java.util.Objects;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 
 /**
  * A simple class for debouncing method calls. Debouncing is used to prevent an expensive method from being called
  * in rapid succession, only allowing it to run after a certain amount of time has passed without it being called
  * again.
+ *
+ * <p>Debouncers do not have threads of their own. The target is run on a {@link SharedTimer} thread, so it should
+ * return quickly and hand off any real work, eg with {@link FxUtils#runOnFxThread(Runnable)}.
  */
 public class Debouncer implements Runnable {
 
-  private ScheduledFuture<?> future = null;
-  private final ScheduledExecutorService executorService;
+  private final SharedTimer timer;
 
   private final Runnable target;
   private final Duration debounceDelay;
@@ -26,17 +25,25 @@ public class Debouncer implements Runnable {
    * @param debounceDelay the maximum time delta between calls that should be allowed
    */
   public Debouncer(Runnable target, Duration debounceDelay) {
+    this(target, debounceDelay, SharedTimer.getDefault());
+  }
+
+  /**
+   * Creates a new debouncer that runs on a specific timer.
+   *
+   * @param target        the target function that should be debounced
+   * @param debounceDelay the maximum time delta between calls that should be allowed
+   * @param timer         the timer to run the target on
+   */
+  public Debouncer(Runnable target, Duration debounceDelay, SharedTimer timer) {
     this.target = Objects.requireNonNull(target, "target");
     this.debounceDelay = Objects.requireNonNull(debounceDelay, "debounceDelay");
-    executorService = ThreadUtils.newDaemonScheduledExecutorService();
+    this.timer = Objects.requireNonNull(timer, "timer");
   }
 
   @Override
   public void run() {
-    if (future != null && !future.isDone()) {
-      future.cancel(false);
-    }
-    future = executorService.schedule(target, debounceDelay.toMillis(), TimeUnit.MILLISECONDS);
+    timer.schedule(this, target, debounceDelay);
   }
 
   /**
@@ -50,9 +57,14 @@ public class Debouncer implements Runnable {
    * Cancels the debouncer. The target will not run unless {@link #run()} is called later.
    */
   public void cancel() {
-    if (future != null) {
-      future.cancel(true);
-    }
+    timer.cancel(this);
+  }
+
+  /**
+   * Checks if the target is waiting to run.
+   */
+  public boolean isPending() {
+    return timer.isPending(this);
   }
 
 }
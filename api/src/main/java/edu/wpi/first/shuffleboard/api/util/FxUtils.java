@@ -1,5 +1,7 @@
 package edu.wpi.first.shuffleboard.api.util;
 
+import edu.wpi.first.shuffleboard.api.metrics.Metrics;
+import edu.wpi.first.shuffleboard.api.metrics.Timer;
 import edu.wpi.first.shuffleboard.api.sources.DataSource;
 import edu.wpi.first.shuffleboard.api.widget.ParametrizedController;
 
@@ -7,6 +9,7 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import javafx.application.Platform;
@@ -23,9 +26,11 @@ import javafx.event.EventHandler;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.AccessibleAttribute;
 import javafx.scene.Node;
+import javafx.scene.Scene;
 import javafx.scene.control.Label;
 import javafx.scene.control.MenuItem;
 import javafx.scene.paint.Color;
+import javafx.stage.Stage;
 import javafx.stage.Window;
 import javafx.stage.WindowEvent;
 
@@ -38,6 +43,15 @@ public final class FxUtils {
 
   private static final Object FX_CONTROLLER_KEY = new Object();
 
+  // Only tasks submitted while metrics are enabled are counted, so tasks that were already queued when metrics were
+  // enabled are not included
+  private static final AtomicInteger pendingTasks = new AtomicInteger();
+  private static final Timer taskLatency = Metrics.getDefault().timer("JavaFX/Task latency");
+
+  static {
+    Metrics.getDefault().gauge("JavaFX/Pending tasks", pendingTasks::get);
+  }
+
   private FxUtils() {
     throw new UnsupportedOperationException("This is a utility class!");
   }
@@ -59,6 +73,15 @@ public final class FxUtils {
     if (Platform.isFxApplicationThread()) {
       task.run();
       future.complete(true);
+    } else if (Metrics.getDefault().isEnabled()) {
+      pendingTasks.incrementAndGet();
+      long submitted = taskLatency.start();
+      Platform.runLater(() -> {
+        pendingTasks.decrementAndGet();
+        taskLatency.stop(submitted);
+        task.run();
+        future.complete(true);
+      });
     } else {
       Platform.runLater(() -> {
         task.run();
@@ -225,6 +248,32 @@ public final class FxUtils {
     return FXMLLoader.load(controllerClass.getResource(annotation.value()));
   }
 
+  /**
+   * Checks if a node is actually being shown to the user. Unlike checking if the node is in a scene, this takes into
+   * account nodes that are hidden by an invisible ancestor, such as the contents of a tab that is not selected, and
+   * nodes in windows that are hidden or minimized.
+   *
+   * @param node the node to check
+   *
+   * @return true if the node and all its ancestors are visible, and it is in a window that is showing
+   */
+  public static boolean isShowing(Node node) {
+    Scene scene = node.getScene();
+    if (scene == null) {
+      return false;
+    }
+    Window window = scene.getWindow();
+    if (window == null || !window.isShowing() || (window instanceof Stage && ((Stage) window).isIconified())) {
+      return false;
+    }
+    for (Node n = node; n != null; n = n.getParent()) {
+      if (!n.isVisible()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   /**
    * Fires a close request on a window. This is useful to call on the main application window to allow shutdown
    * listeners to run, since they are not run when <code>System.exit()</code> or <code>Platform.exit()</code> is called.
@@ -0,0 +1,593 @@
+package edu.wpi.first.shuffleboard.api.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * An immutable map that shares structure with the maps it was derived from. The map is stored as a hash array mapped
+ * trie, so {@link #plus(Object, Object) adding} or {@link #minus(Object) removing} a single entry only copies the
+ * nodes on the path to that entry, which takes O(log n) time instead of copying the entire map.
+ *
+ * <p>Because unchanged parts of the trie are shared between versions, the differences between a map and an earlier
+ * version of it can be found with {@link #forEachChangeFrom(PersistentMap, BiConsumer)} by only visiting the parts of
+ * the trie that were modified.
+ *
+ * <p>Null keys are not permitted. Null values are permitted.
+ *
+ * @param <K> the type of the keys in the map
+ * @param <V> the type of the values in the map
+ */
+public final class PersistentMap<K, V> extends AbstractMap<K, V> {
+
+  private static final int BITS = 5;
+  private static final int MASK = (1 << BITS) - 1;
+
+  /**
+   * The maximum depth of the trie: seven bitmap node levels to consume a 32-bit hash, plus a collision node.
+   */
+  private static final int MAX_DEPTH = 8;
+
+  private static final PersistentMap<?, ?> EMPTY = new PersistentMap<>(BitmapNode.EMPTY, 0);
+
+  private final Node root;
+  private final int size;
+  private Set<Entry<K, V>> entrySet;
+
+  private PersistentMap(Node root, int size) {
+    this.root = root;
+    this.size = size;
+  }
+
+  /**
+   * Gets an empty map.
+   */
+  @SuppressWarnings("unchecked")
+  public static <K, V> PersistentMap<K, V> empty() {
+    return (PersistentMap<K, V>) EMPTY;
+  }
+
+  /**
+   * Creates a persistent map with the same entries as the given map. If the given map is already a persistent map, it
+   * is returned as-is.
+   *
+   * @param map the map to copy
+   */
+  @SuppressWarnings("unchecked")
+  public static <K, V> PersistentMap<K, V> copyOf(Map<? extends K, ? extends V> map) {
+    if (map instanceof PersistentMap) {
+      return (PersistentMap<K, V>) map;
+    }
+    return PersistentMap.<K, V>empty().plusAll(map);
+  }
+
+  /**
+   * Creates a new map with the same entries as this one, plus a mapping of the given key to the given value. If the
+   * key is already mapped to an equal value, as determined by {@link EqualityUtils#isEqual(Object, Object)}, this map
+   * is returned.
+   *
+   * @param key   the key to add
+   * @param value the value to map the key to
+   */
+  public PersistentMap<K, V> plus(K key, V value) {
+    Objects.requireNonNull(key, "key");
+    boolean[] added = {false};
+    Node newRoot = root.put(new Leaf(hash(key), key, value), 0, added);
+    if (newRoot == root) {
+      return this;
+    }
+    return new PersistentMap<>(newRoot, added[0] ? size + 1 : size);
+  }
+
+  /**
+   * Creates a new map with the same entries as this one, plus all the entries in the given map.
+   *
+   * @param map the entries to add
+   */
+  public PersistentMap<K, V> plusAll(Map<? extends K, ? extends V> map) {
+    PersistentMap<K, V> result = this;
+    for (Entry<? extends K, ? extends V> entry : map.entrySet()) {
+      result = result.plus(entry.getKey(), entry.getValue());
+    }
+    return result;
+  }
+
+  /**
+   * Creates a new map with the same entries as this one, except for the entry for the given key. If the key is not in
+   * this map, this map is returned.
+   *
+   * @param key the key to remove
+   */
+  public PersistentMap<K, V> minus(Object key) {
+    if (key == null) {
+      return this;
+    }
+    Node newRoot = root.remove(hash(key), key, 0);
+    if (newRoot == root) {
+      return this;
+    }
+    return size == 1 ? empty() : new PersistentMap<>(newRoot, size - 1);
+  }
+
+  /**
+   * Calls an action for every entry in this map that may differ from an earlier version of it. This is every entry
+   * whose key is not in the other map, or whose value is not the same object as the value in the other map. Parts of
+   * the two maps that share structure are skipped entirely, so if this map was derived from {@code other} with a few
+   * calls to {@link #plus(Object, Object) plus}, this only takes time proportional to the number of changes.
+   *
+   * <p>Entries that were removed from the other map are not reported.
+   *
+   * @param other  the map to compare against
+   * @param action the action to call for each changed entry
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public void forEachChangeFrom(PersistentMap<? extends K, ? extends V> other,
+                                BiConsumer<? super K, ? super V> action) {
+    diff(root, other.root, 0, (BiConsumer) action);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V get(Object key) {
+    if (key == null) {
+      return null;
+    }
+    Leaf leaf = root.find(hash(key), key, 0);
+    return leaf == null ? null : (V) leaf.value;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return key != null && root.find(hash(key), key, 0) != null;
+  }
+
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    if (entrySet == null) {
+      entrySet = new AbstractSet<>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public Iterator<Entry<K, V>> iterator() {
+          return (Iterator) new LeafIterator(root);
+        }
+
+        @Override
+        public int size() {
+          return size;
+        }
+      };
+    }
+    return entrySet;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj instanceof PersistentMap && ((PersistentMap<?, ?>) obj).root == root) {
+      return true;
+    }
+    return super.equals(obj);
+  }
+
+  @Override
+  public int hashCode() {
+    return super.hashCode();
+  }
+
+  private static int hash(Object key) {
+    int hash = key.hashCode();
+    return hash ^ (hash >>> 16);
+  }
+
+  private static int fragment(int hash, int shift) {
+    return (hash >>> shift) & MASK;
+  }
+
+  /**
+   * Creates a node containing an existing slot and a new leaf with a different hash.
+   *
+   * @param existing     the existing slot. This is either a leaf or a collision node
+   * @param existingHash the hash of the keys in the existing slot
+   * @param leaf         the new leaf
+   * @param shift        the shift of the level the new node will be placed at
+   */
+  private static Node branch(Object existing, int existingHash, Leaf leaf, int shift) {
+    if (existingHash == leaf.hash) {
+      // Only possible when the existing slot is a single leaf
+      return new CollisionNode(leaf.hash, new Leaf[]{(Leaf) existing, leaf});
+    }
+    int existingFragment = fragment(existingHash, shift);
+    int newFragment = fragment(leaf.hash, shift);
+    if (existingFragment == newFragment) {
+      return new BitmapNode(1 << newFragment, new Object[]{branch(existing, existingHash, leaf, shift + BITS)});
+    }
+    int bitmap = (1 << existingFragment) | (1 << newFragment);
+    return existingFragment < newFragment
+        ? new BitmapNode(bitmap, new Object[]{existing, leaf})
+        : new BitmapNode(bitmap, new Object[]{leaf, existing});
+  }
+
+  private static Leaf find(Object slot, int hash, Object key, int shift) {
+    if (slot instanceof Leaf) {
+      Leaf leaf = (Leaf) slot;
+      return leaf.matches(hash, key) ? leaf : null;
+    }
+    return ((Node) slot).find(hash, key, shift);
+  }
+
+  private static void diff(Object slot, Object otherSlot, int shift, BiConsumer<Object, Object> action) {
+    if (slot == otherSlot) {
+      // Shared structure, nothing changed
+      return;
+    }
+    if (slot instanceof Leaf) {
+      Leaf leaf = (Leaf) slot;
+      Leaf other = otherSlot == null ? null : find(otherSlot, leaf.hash, leaf.key, shift);
+      if (other == null || other.value != leaf.value) {
+        action.accept(leaf.key, leaf.value);
+      }
+      return;
+    }
+    if (slot instanceof BitmapNode && otherSlot instanceof BitmapNode) {
+      BitmapNode node = (BitmapNode) slot;
+      BitmapNode other = (BitmapNode) otherSlot;
+      int i = 0;
+      for (int remaining = node.bitmap; remaining != 0; remaining &= remaining - 1) {
+        int bit = remaining & -remaining;
+        Object otherChild = (other.bitmap & bit) == 0 ? null : other.slots[other.index(bit)];
+        diff(node.slots[i], otherChild, shift + BITS, action);
+        i++;
+      }
+      return;
+    }
+    // Differently shaped subtrees; look up each entry individually
+    LeafIterator leaves = new LeafIterator((Node) slot);
+    while (leaves.hasNext()) {
+      diff(leaves.next(), otherSlot, shift, action);
+    }
+  }
+
+  /**
+   * A single entry in the map.
+   */
+  private static final class Leaf implements Entry<Object, Object> {
+
+    private final int hash;
+    private final Object key;
+    private final Object value;
+
+    Leaf(int hash, Object key, Object value) {
+      this.hash = hash;
+      this.key = key;
+      this.value = value;
+    }
+
+    boolean matches(int hash, Object key) {
+      return this.hash == hash && this.key.equals(key);
+    }
+
+    @Override
+    public Object getKey() {
+      return key;
+    }
+
+    @Override
+    public Object getValue() {
+      return value;
+    }
+
+    @Override
+    public Object setValue(Object value) {
+      throw new UnsupportedOperationException("Persistent maps cannot be modified");
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (!(obj instanceof Entry)) {
+        return false;
+      }
+      Entry<?, ?> that = (Entry<?, ?>) obj;
+      return key.equals(that.getKey()) && Objects.equals(value, that.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+      return key.hashCode() ^ Objects.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+      return key + "=" + value;
+    }
+  }
+
+  private abstract static class Node {
+
+    /**
+     * Finds the leaf for a key, or null if the key is not in this node.
+     */
+    abstract Leaf find(int hash, Object key, int shift);
+
+    /**
+     * Creates a node with the given leaf added or replaced, or returns this node if nothing would change.
+     */
+    abstract Node put(Leaf leaf, int shift, boolean[] added);
+
+    /**
+     * Creates a node without the leaf for the given key, or returns this node if it does not contain the key.
+     */
+    abstract Node remove(int hash, Object key, int shift);
+
+    /**
+     * Gets the contents of this node. Each element is either a leaf or a node.
+     */
+    abstract Object[] slots();
+
+    /**
+     * Gets the slot that should take the place of this node in its parent: this node, a leaf if this node only
+     * contains a single leaf, or null if this node is empty.
+     */
+    Object collapse() {
+      Object[] slots = slots();
+      if (slots.length == 0) {
+        return null;
+      } else if (slots.length == 1 && slots[0] instanceof Leaf) {
+        return slots[0];
+      } else {
+        return this;
+      }
+    }
+  }
+
+  private static final class BitmapNode extends Node {
+
+    static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+    private final int bitmap;
+    private final Object[] slots;
+
+    BitmapNode(int bitmap, Object[] slots) {
+      this.bitmap = bitmap;
+      this.slots = slots;
+    }
+
+    int index(int bit) {
+      return Integer.bitCount(bitmap & (bit - 1));
+    }
+
+    @Override
+    Leaf find(int hash, Object key, int shift) {
+      int bit = 1 << fragment(hash, shift);
+      if ((bitmap & bit) == 0) {
+        return null;
+      }
+      return PersistentMap.find(slots[index(bit)], hash, key, shift + BITS);
+    }
+
+    @Override
+    Node put(Leaf leaf, int shift, boolean[] added) {
+      int bit = 1 << fragment(leaf.hash, shift);
+      int index = index(bit);
+      if ((bitmap & bit) == 0) {
+        added[0] = true;
+        Object[] newSlots = new Object[slots.length + 1];
+        System.arraycopy(slots, 0, newSlots, 0, index);
+        newSlots[index] = leaf;
+        System.arraycopy(slots, index, newSlots, index + 1, slots.length - index);
+        return new BitmapNode(bitmap | bit, newSlots);
+      }
+      Object slot = slots[index];
+      Object newSlot;
+      if (slot instanceof Leaf) {
+        Leaf existing = (Leaf) slot;
+        if (existing.matches(leaf.hash, leaf.key)) {
+          if (EqualityUtils.isEqual(existing.value, leaf.value)) {
+            return this;
+          }
+          newSlot = leaf;
+        } else {
+          added[0] = true;
+          newSlot = branch(existing, existing.hash, leaf, shift + BITS);
+        }
+      } else {
+        Node child = (Node) slot;
+        Node newChild = child.put(leaf, shift + BITS, added);
+        if (newChild == child) {
+          return this;
+        }
+        newSlot = newChild;
+      }
+      Object[] newSlots = slots.clone();
+      newSlots[index] = newSlot;
+      return new BitmapNode(bitmap, newSlots);
+    }
+
+    @Override
+    Node remove(int hash, Object key, int shift) {
+      int bit = 1 << fragment(hash, shift);
+      if ((bitmap & bit) == 0) {
+        return this;
+      }
+      int index = index(bit);
+      Object slot = slots[index];
+      Object newSlot;
+      if (slot instanceof Leaf) {
+        if (!((Leaf) slot).matches(hash, key)) {
+          return this;
+        }
+        newSlot = null;
+      } else {
+        Node child = (Node) slot;
+        Node newChild = child.remove(hash, key, shift + BITS);
+        if (newChild == child) {
+          return this;
+        }
+        newSlot = newChild.collapse();
+      }
+      if (newSlot != null) {
+        Object[] newSlots = slots.clone();
+        newSlots[index] = newSlot;
+        return new BitmapNode(bitmap, newSlots);
+      }
+      if (slots.length == 1) {
+        return EMPTY;
+      }
+      Object[] newSlots = new Object[slots.length - 1];
+      System.arraycopy(slots, 0, newSlots, 0, index);
+      System.arraycopy(slots, index + 1, newSlots, index, slots.length - index - 1);
+      return new BitmapNode(bitmap ^ bit, newSlots);
+    }
+
+    @Override
+    Object[] slots() {
+      return slots;
+    }
+  }
+
+  /**
+   * A node containing leaves whose keys all have the same hash.
+   */
+  private static final class CollisionNode extends Node {
+
+    private final int hash;
+    private final Leaf[] leaves;
+
+    CollisionNode(int hash, Leaf[] leaves) {
+      this.hash = hash;
+      this.leaves = leaves;
+    }
+
+    private int indexOf(Object key) {
+      for (int i = 0; i < leaves.length; i++) {
+        if (leaves[i].key.equals(key)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    @Override
+    Leaf find(int hash, Object key, int shift) {
+      if (hash != this.hash) {
+        return null;
+      }
+      int index = indexOf(key);
+      return index < 0 ? null : leaves[index];
+    }
+
+    @Override
+    Node put(Leaf leaf, int shift, boolean[] added) {
+      if (leaf.hash != hash) {
+        added[0] = true;
+        return branch(this, hash, leaf, shift);
+      }
+      int index = indexOf(leaf.key);
+      Leaf[] newLeaves;
+      if (index < 0) {
+        added[0] = true;
+        newLeaves = new Leaf[leaves.length + 1];
+        System.arraycopy(leaves, 0, newLeaves, 0, leaves.length);
+        newLeaves[leaves.length] = leaf;
+      } else {
+        if (EqualityUtils.isEqual(leaves[index].value, leaf.value)) {
+          return this;
+        }
+        newLeaves = leaves.clone();
+        newLeaves[index] = leaf;
+      }
+      return new CollisionNode(hash, newLeaves);
+    }
+
+    @Override
+    Node remove(int hash, Object key, int shift) {
+      int index = hash == this.hash ? indexOf(key) : -1;
+      if (index < 0) {
+        return this;
+      }
+      if (leaves.length == 1) {
+        return BitmapNode.EMPTY;
+      }
+      Leaf[] newLeaves = new Leaf[leaves.length - 1];
+      System.arraycopy(leaves, 0, newLeaves, 0, index);
+      System.arraycopy(leaves, index + 1, newLeaves, index, leaves.length - index - 1);
+      return new CollisionNode(hash, newLeaves);
+    }
+
+    @Override
+    Object[] slots() {
+      return leaves;
+    }
+  }
+
+  /**
+   * Iterates over the leaves of a trie in depth-first order.
+   */
+  private static final class LeafIterator implements Iterator<Leaf> {
+
+    private final Object[][] slotStack = new Object[MAX_DEPTH][];
+    private final int[] indexStack = new int[MAX_DEPTH];
+    private int depth = 0;
+    private Leaf next;
+
+    LeafIterator(Node root) {
+      push(root);
+      advance();
+    }
+
+    private void push(Node node) {
+      slotStack[depth] = node.slots();
+      indexStack[depth] = 0;
+      depth++;
+    }
+
+    private void advance() {
+      next = null;
+      while (depth > 0) {
+        Object[] slots = slotStack[depth - 1];
+        int index = indexStack[depth - 1];
+        if (index == slots.length) {
+          slotStack[depth - 1] = null;
+          depth--;
+          continue;
+        }
+        indexStack[depth - 1] = index + 1;
+        Object slot = slots[index];
+        if (slot instanceof Leaf) {
+          next = (Leaf) slot;
+          return;
+        }
+        push((Node) slot);
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next != null;
+    }
+
+    @Override
+    public Leaf next() {
+      if (next == null) {
+        throw new NoSuchElementException();
+      }
+      Leaf leaf = next;
+      advance();
+      return leaf;
+    }
+  }
+
+}
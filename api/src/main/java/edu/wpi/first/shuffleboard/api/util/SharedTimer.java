@@ -0,0 +1,162 @@
+package edu.wpi.first.shuffleboard.api.util;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A timer service backed by a single daemon thread, shared by everything in the application that needs to run small
+ * tasks after a delay or periodically. This keeps the number of threads constant no matter how many tabs, widgets, or
+ * other components schedule timed work; previously, each of them would create its own scheduler thread.
+ *
+ * <p>Tasks are run on the timer thread and must finish quickly, since a slow task delays every other task. Any real
+ * work should be handed off to another thread, eg with {@link FxUtils#runOnFxThread(Runnable)}.
+ *
+ * <p>Tasks can be scheduled with a <i>key</i>. Scheduling a task with a key that already has a pending task cancels
+ * the pending task, so at most one task is pending per key. This is how {@link Debouncer} coalesces calls.
+ */
+public final class SharedTimer {
+
+  private static final Logger log = Logger.getLogger(SharedTimer.class.getName());
+
+  private static final class DefaultHolder {
+    static final SharedTimer INSTANCE = new SharedTimer("Shuffleboard Timer");
+  }
+
+  private final ScheduledThreadPoolExecutor executor;
+  private final Map<Object, KeyedTask> keyedTasks = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new timer with its own thread. Most code should use the {@link #getDefault() default timer} instead.
+   *
+   * @param threadName the name of the timer thread
+   */
+  public SharedTimer(String threadName) {
+    executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+      Thread thread = ThreadUtils.makeDaemonThread(runnable);
+      thread.setName(threadName);
+      return thread;
+    });
+    // Cancelled tasks would otherwise stay in the queue until their delay elapses. Debouncers cancel constantly
+    executor.setRemoveOnCancelPolicy(true);
+  }
+
+  /**
+   * Gets the timer shared by the entire application.
+   */
+  public static SharedTimer getDefault() {
+    return DefaultHolder.INSTANCE;
+  }
+
+  /**
+   * Runs a task once after a delay.
+   *
+   * @param task  the task to run
+   * @param delay the time to wait before running the task
+   *
+   * @return a future that can be used to cancel the task
+   */
+  public ScheduledFuture<?> schedule(Runnable task, Duration delay) {
+    Objects.requireNonNull(task, "task");
+    return executor.schedule(logErrors(task), delay.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Runs a task once after a delay, replacing any pending task previously scheduled with the same key. The replaced
+   * task is cancelled if it has not started running yet.
+   *
+   * @param key   the key to coalesce tasks by. Keys are compared with {@code equals()}
+   * @param task  the task to run
+   * @param delay the time to wait before running the task
+   */
+  public void schedule(Object key, Runnable task, Duration delay) {
+    Objects.requireNonNull(key, "key");
+    Objects.requireNonNull(task, "task");
+    KeyedTask keyedTask = new KeyedTask(key, task);
+    // Hold the map entry while scheduling so a concurrent call for the same key cannot be lost
+    keyedTasks.compute(key, (k, previous) -> {
+      if (previous != null) {
+        previous.future.cancel(false);
+      }
+      keyedTask.future = executor.schedule(logErrors(keyedTask), delay.toNanos(), TimeUnit.NANOSECONDS);
+      return keyedTask;
+    });
+  }
+
+  /**
+   * Runs a task periodically. If an execution throws an exception, the exception is logged and later executions still
+   * run.
+   *
+   * @param task         the task to run
+   * @param initialDelay the time to wait before the first execution
+   * @param period       the time between the starts of successive executions
+   *
+   * @return a future that can be used to stop running the task
+   */
+  public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Duration initialDelay, Duration period) {
+    Objects.requireNonNull(task, "task");
+    return executor.scheduleAtFixedRate(
+        logErrors(task), initialDelay.toNanos(), period.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Cancels the pending task for a key, if there is one.
+   *
+   * @param key the key of the task to cancel
+   *
+   * @return true if a pending task was cancelled, false if there was no pending task for the key
+   */
+  public boolean cancel(Object key) {
+    KeyedTask task = keyedTasks.remove(key);
+    return task != null && task.future.cancel(false);
+  }
+
+  /**
+   * Checks if there is a pending task for a key.
+   */
+  public boolean isPending(Object key) {
+    return keyedTasks.containsKey(key);
+  }
+
+  /**
+   * Gets the number of tasks waiting to run, including periodic tasks.
+   */
+  public int getPendingTaskCount() {
+    return executor.getQueue().size();
+  }
+
+  private static Runnable logErrors(Runnable task) {
+    return () -> {
+      try {
+        task.run();
+      } catch (RuntimeException e) {
+        log.log(Level.WARNING, "Exception in scheduled task", e);
+      }
+    };
+  }
+
+  private final class KeyedTask implements Runnable {
+    private final Object key;
+    private final Runnable task;
+    private volatile ScheduledFuture<?> future;
+
+    KeyedTask(Object key, Runnable task) {
+      this.key = key;
+      this.task = task;
+    }
+
+    @Override
+    public void run() {
+      // Only remove this task's entry; it may have been replaced by a newer task for the same key
+      keyedTasks.remove(key, this);
+      task.run();
+    }
+  }
+
+}
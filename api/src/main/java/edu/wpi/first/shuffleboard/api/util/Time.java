@@ -39,4 +39,15 @@ public final class Time {
     Time.startTime.set(startTime);
   }
 
+  /**
+   * Converts a time in a recording, in milliseconds since the recording started, to epoch milliseconds. Recorded data
+   * is placed as if the recording started when the application did, so the time since the start of the application
+   * matches the time in the recording.
+   *
+   * @param recordingTime the time in the recording
+   */
+  public static long fromRecordingTime(long recordingTime) {
+    return getStartTime() + recordingTime;
+  }
+
 }
\ No newline at end of file
@@ -4,25 +4,28 @@ import edu.wpi.first.shuffleboard.api.data.DataType;
 import edu.wpi.first.shuffleboard.api.data.DataTypes;
 import edu.wpi.first.shuffleboard.api.data.IncompatibleSourceException;
 import edu.wpi.first.shuffleboard.api.sources.DataSource;
+import edu.wpi.first.shuffleboard.api.util.ListUtils;
 import edu.wpi.first.shuffleboard.api.util.Registry;
 import edu.wpi.first.shuffleboard.api.util.TestUtils;
 import edu.wpi.first.shuffleboard.api.util.TypeUtils;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.ImmutableMap;
 
 import java.io.IOException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Type;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.TreeMap;
 import java.util.UUID;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -42,8 +45,15 @@ public class Components extends Registry<ComponentType> {
 
   private final Map<String, ComponentType<?>> components = new TreeMap<>();
   private final Map<DataType, ComponentType<?>> defaultComponents = new HashMap<>();
+  // Names of the components compatible with each data type, sorted alphabetically. Built on demand and cleared whenever
+  // a component is registered or unregistered
+  private final Map<DataType, List<String>> compatibleComponentNames = new ConcurrentHashMap<>();
   private final WeakHashMap<Widget, Widget> activeWidgets = new WeakHashMap<>();
   private final Map<Component, UUID> allActiveComponents = new WeakHashMap<>();
+  // The reverse of allActiveComponents. Components are only weakly referenced, and entries for components that have
+  // been garbage collected are removed the next time the map is accessed
+  private final Map<UUID, ComponentReference> componentsByUuid = new HashMap<>();
+  private final ReferenceQueue<Component> collectedComponents = new ReferenceQueue<>();
 
   /**
    * Gets the default widget registry.
@@ -69,6 +79,7 @@ public class Components extends Registry<ComponentType> {
       throw new IllegalArgumentException("Component class " + type.getClass().getName() + " is already registered");
     }
     components.put(type.getName(), type);
+    compatibleComponentNames.clear();
     addItem(type);
   }
 
@@ -110,6 +121,7 @@ public class Components extends Registry<ComponentType> {
         .map(Map.Entry::getKey)
         .collect(Collectors.toList());
     defaultComponentsToRemove.forEach(defaultComponents::remove);
+    compatibleComponentNames.clear();
     removeItem(type);
   }
 
@@ -230,12 +242,9 @@ public class Components extends Registry<ComponentType> {
    * @return an optional of the component with the UUID
    */
   public Optional<Component> getByUuid(UUID uuid) {
-    return ImmutableMap.copyOf(allActiveComponents)
-        .entrySet()
-        .stream()
-        .filter(e -> e.getValue().equals(uuid))
-        .map(Map.Entry::getKey)
-        .findFirst();
+    expungeCollectedComponents();
+    ComponentReference reference = componentsByUuid.get(uuid);
+    return reference == null ? Optional.empty() : Optional.ofNullable(reference.get());
   }
 
   /**
@@ -244,7 +253,22 @@ public class Components extends Registry<ComponentType> {
    * @param component the component to set
    */
   private void setId(Component component) {
-    allActiveComponents.putIfAbsent(component, UUID.randomUUID());
+    expungeCollectedComponents();
+    if (!allActiveComponents.containsKey(component)) {
+      UUID uuid = UUID.randomUUID();
+      allActiveComponents.put(component, uuid);
+      componentsByUuid.put(uuid, new ComponentReference(component, uuid, collectedComponents));
+    }
+  }
+
+  /**
+   * Removes the reverse lookup entries for components that have been garbage collected.
+   */
+  private void expungeCollectedComponents() {
+    Reference<? extends Component> reference;
+    while ((reference = collectedComponents.poll()) != null) {
+      componentsByUuid.remove(((ComponentReference) reference).uuid);
+    }
   }
 
   public Optional<Type> javaTypeFor(String name) {
@@ -273,27 +297,28 @@ public class Components extends Registry<ComponentType> {
     return Optional.ofNullable(components.get(name));
   }
 
-  private Set<ComponentType<?>> getComponentsForType(DataType type) {
-    return allComponents()
-        .filter(d -> DataTypes.isCompatible(type, d.getDataTypes()))
-        .collect(Collectors.toSet());
-  }
-
   /**
    * Gets the names of all the possible components that can display the given type, sorted alphabetically. A component
    * can be created for these with {@link #createWidget(String, DataSource) createWidget}.
    *
+   * <p>The results are cached until the next time a component is registered or unregistered, so repeated lookups for
+   * the same type do not need to check every registered component.
+   *
    * @param type the type of data to get possible widgets for.
    *
-   * @return an alphabetically sorted list containing the names of all known widgets that can display data of the
-   *         given type
+   * @return an unmodifiable, alphabetically sorted list containing the names of all known widgets that can display data
+   *         of the given type
    */
   public List<String> componentNamesForType(DataType type) {
-    return getComponentsForType(type)
-        .stream()
+    return compatibleComponentNames.computeIfAbsent(type, this::findComponentNamesForType);
+  }
+
+  private List<String> findComponentNamesForType(DataType type) {
+    // Components are stored in a TreeMap keyed by name, so they are already in alphabetical order
+    return allComponents()
+        .filter(c -> DataTypes.isCompatible(type, c.getDataTypes()))
         .map(ComponentType::getName)
-        .sorted()
-        .collect(Collectors.toList());
+        .collect(ListUtils.toImmutableList());
   }
 
   /**
@@ -359,4 +384,17 @@ public class Components extends Registry<ComponentType> {
 
     return Optional.empty();
   }
+
+  /**
+   * A weak reference to a component that remembers the component's UUID, so it can be removed from the reverse lookup
+   * map once the component has been garbage collected.
+   */
+  private static final class ComponentReference extends WeakReference<Component> {
+    private final UUID uuid;
+
+    ComponentReference(Component component, UUID uuid, ReferenceQueue<Component> queue) {
+      super(component, queue);
+      this.uuid = uuid;
+    }
+  }
 }
@@ -4,7 +4,6 @@ import edu.wpi.first.shuffleboard.api.components.ActionList;
 import edu.wpi.first.shuffleboard.api.components.EditableLabel;
 import edu.wpi.first.shuffleboard.api.dnd.DataFormats;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
@@ -16,6 +15,8 @@ import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.scene.Node;
 import javafx.scene.SnapshotParameters;
 import javafx.scene.control.Label;
@@ -32,7 +33,7 @@ import org.controlsfx.glyphfont.FontAwesome;
  */
 public abstract class LayoutBase implements Layout {
 
-  private final List<Component> children = new ArrayList<>();
+  private final ObservableList<Component> children = FXCollections.observableArrayList();
   private final StringProperty title = new SimpleStringProperty(this, "title", getName());
   private final Property<FontAwesome.Glyph> glyph = new SimpleObjectProperty<>(this, "glyph", FontAwesome.Glyph.CUBES);
   private final BooleanProperty showGlyph = new SimpleBooleanProperty(this, "showGlyph", false);
@@ -61,8 +62,13 @@ public abstract class LayoutBase implements Layout {
    */
   protected abstract void replaceInPlace(Component existing, Component replacement);
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The returned list is observable, so changes to the children of this layout can be listened to.
+   */
   @Override
-  public List<Component> getChildren() {
+  public ObservableList<Component> getChildren() {
     return children;
   }
 
@@ -11,6 +11,10 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.testfx.framework.junit5.ApplicationTest;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.scene.Scene;
 import javafx.scene.control.TreeItem;
@@ -19,6 +23,9 @@ import javafx.stage.Stage;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.testfx.util.WaitForAsyncUtils.waitForFxEvents;
 
 @Tag("UI")
 public class SourceTreeTableTest extends ApplicationTest {
@@ -49,6 +56,89 @@ public class SourceTreeTableTest extends ApplicationTest {
     });
   }
 
+  @Test
+  public void testBranchesSortedFirst() {
+    tree.updateEntry(sourceType.createSourceEntryForUri("/c"));
+    tree.updateEntry(sourceType.createSourceEntryForUri("/b/entry"));
+    tree.updateEntry(sourceType.createSourceEntryForUri("/a"));
+    ObservableList<TreeItem<SourceEntry>> children = root.getChildren();
+    assertAll(
+        () -> assertEquals(3, children.size(), "Should be 3 children"),
+        () -> assertEquals("/b", children.get(0).getValue().getName()),
+        () -> assertEquals("/a", children.get(1).getValue().getName()),
+        () -> assertEquals("/c", children.get(2).getValue().getName()),
+        () -> assertEquals(1, children.get(0).getChildren().size(), "Branch should have 1 child")
+    );
+  }
+
+  @Test
+  public void testLeafBecomesBranch() {
+    tree.updateEntry(sourceType.createSourceEntryForUri("/a"));
+    tree.updateEntry(sourceType.createSourceEntryForUri("/b"));
+    tree.updateEntry(sourceType.createSourceEntryForUri("/b/entry"));
+    ObservableList<TreeItem<SourceEntry>> children = root.getChildren();
+    assertAll(
+        () -> assertEquals(2, children.size(), "Should be 2 children"),
+        () -> assertEquals("/b", children.get(0).getValue().getName()),
+        () -> assertEquals("/a", children.get(1).getValue().getName())
+    );
+  }
+
+  @Test
+  public void testRemoveOnlyRemovesEmptyParents() {
+    tree.updateEntry(sourceType.createSourceEntryForUri("/a/b/c"));
+    tree.updateEntry(sourceType.createSourceEntryForUri("/a/d"));
+    tree.removeEntry(sourceType.createSourceEntryForUri("/a/b/c"));
+    ObservableList<TreeItem<SourceEntry>> children = root.getChildren();
+    assertEquals(1, children.size(), "Non-empty parent should not have been removed");
+    TreeItem<SourceEntry> branch = children.get(0);
+    assertAll(
+        () -> assertEquals("/a", branch.getValue().getName()),
+        () -> assertEquals(1, branch.getChildren().size(), "Empty branch should have been removed"),
+        () -> assertEquals("/a/d", branch.getChildren().get(0).getValue().getName())
+    );
+  }
+
+  @Test
+  public void testQueuedChanges() {
+    for (int i = 0; i < 100; i++) {
+      tree.queueUpdate(sourceType.createSourceEntryForUri("/table/entry" + i));
+    }
+    tree.queueRemoval(sourceType.createSourceEntryForUri("/table/entry0"));
+    waitForFxEvents();
+    ObservableList<TreeItem<SourceEntry>> children = root.getChildren();
+    assertEquals(1, children.size(), "Should be 1 child");
+    ObservableList<TreeItem<SourceEntry>> entries = children.get(0).getChildren();
+    assertAll(
+        () -> assertEquals(99, entries.size()),
+        () -> assertEquals("/table/entry1", entries.get(0).getValue().getName()),
+        () -> assertEquals("/table/entry99", entries.get(98).getValue().getName())
+    );
+  }
+
+  @Test
+  public void testQueuedChangesAreBatched() {
+    List<String> added = new ArrayList<>();
+    root.getChildren().addListener((ListChangeListener<TreeItem<SourceEntry>>) c -> {
+      while (c.next()) {
+        c.getAddedSubList().forEach(item -> added.add(item.getValue().getName()));
+      }
+    });
+    interact(() -> {
+      for (int i = 0; i < 100; i++) {
+        tree.queueUpdate(sourceType.createSourceEntryForUri("/entry" + i));
+      }
+      tree.queueUpdate(sourceType.createSourceEntryForUri("/removed"));
+      tree.queueRemoval(sourceType.createSourceEntryForUri("/removed"));
+      assertTrue(root.getChildren().isEmpty(), "Changes queued on the FX thread should not be applied immediately");
+    });
+    waitForFxEvents();
+    assertAll(
+        () -> assertEquals(100, root.getChildren().size()),
+        () -> assertFalse(added.contains("/removed"), "An entry removed before the flush should never be added")
+    );
+  }
+
   private static class MockSourceType extends SourceType {
 
     public MockSourceType() {
@@ -62,7 +152,7 @@ public class SourceTreeTableTest extends ApplicationTest {
 
     @Override
     public SourceEntry createSourceEntryForUri(String uri) {
-      return new MockSourceEntry(uri);
+      return new MockSourceEntry(removeProtocol(uri));
     }
 
   }
@@ -5,6 +5,7 @@ import com.google.common.collect.Lists;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Optional;
 
 import static edu.wpi.first.shuffleboard.api.data.DataTypes.closestTo;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -30,4 +31,80 @@ class DataTypesTest {
     assertEquals(Lists.newArrayList(A.class, B.class, C.class, D.class), classes);
   }
 
+  @Test
+  public void testForJavaTypeExactMatch() {
+    DataTypes dataTypes = new DataTypes();
+    MockType b = new MockType("B", B.class);
+    dataTypes.register(b);
+
+    assertEquals(Optional.of(b), dataTypes.forJavaType(B.class));
+    assertEquals(Optional.of(DataTypes.Number), dataTypes.forJavaType(Number.class));
+  }
+
+  @Test
+  public void testForJavaTypeUsesClosestClass() {
+    DataTypes dataTypes = new DataTypes();
+    MockType a = new MockType("A", A.class);
+    MockType d = new MockType("D", D.class);
+    dataTypes.registerAll(a, d);
+
+    // Superclass is closer
+    assertEquals(Optional.of(a), dataTypes.forJavaType(B.class));
+    // Subclass is closer
+    assertEquals(Optional.of(d), dataTypes.forJavaType(C.class));
+  }
+
+  @Test
+  public void testForJavaTypeBreaksTiesByName() {
+    DataTypes dataTypes = new DataTypes();
+    MockType b = new MockType("Z", B.class);
+    MockType d = new MockType("Y", D.class);
+    dataTypes.registerAll(b, d);
+
+    assertEquals(Optional.of(d), dataTypes.forJavaType(C.class));
+  }
+
+  @Test
+  public void testForJavaTypeUnrelatedClass() {
+    DataTypes dataTypes = new DataTypes();
+    dataTypes.register(new MockType("B", B.class));
+
+    assertEquals(Optional.empty(), dataTypes.forJavaType(Thread.class));
+    assertEquals(Optional.empty(), dataTypes.forJavaType(Runnable.class));
+  }
+
+  @Test
+  public void testRegisteringMoreSpecificTypeUpdatesLookup() {
+    DataTypes dataTypes = new DataTypes();
+    MockType a = new MockType("A", A.class);
+    dataTypes.register(a);
+    assertEquals(Optional.of(a), dataTypes.forJavaType(C.class));
+
+    MockType c = new MockType("C", C.class);
+    dataTypes.register(c);
+    assertEquals(Optional.of(c), dataTypes.forJavaType(C.class));
+    assertEquals(Optional.of(c), dataTypes.forJavaType(D.class));
+
+    dataTypes.unregister(c);
+    assertEquals(Optional.of(a), dataTypes.forJavaType(C.class));
+    assertEquals(Optional.of(a), dataTypes.forJavaType(D.class));
+  }
+
+  private static final class MockType<T> extends DataType<T> {
+
+    MockType(String name, Class<T> javaClass) {
+      super(name, javaClass);
+    }
+
+    @Override
+    public T getDefaultValue() {
+      return null;
+    }
+
+    @Override
+    public boolean isComplex() {
+      return false;
+    }
+  }
+
 }
@@ -0,0 +1,58 @@
+package edu.wpi.first.shuffleboard.api.data;
+
+import edu.wpi.first.shuffleboard.api.util.PersistentMap;
+
+import com.google.common.collect.ImmutableMap;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class MapDataTest {
+
+  @Test
+  public void testAsMapKeepsOrderOfOriginalMap() {
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put("c", 1);
+    map.put("a", 2);
+    map.put("b", 3);
+    ImmutableMap<String, Object> asMap = new MapData(map).asMap();
+    assertEquals(List.of("c", "a", "b"), List.copyOf(asMap.keySet()));
+  }
+
+  @Test
+  public void testAsMapAfterPut() {
+    MapData data = new MapData(ImmutableMap.of("a", 1)).put("b", 2).put("a", 3);
+    assertEquals(ImmutableMap.of("a", 3, "b", 2), data.asMap());
+  }
+
+  @Test
+  public void testAsMapAfterRemove() {
+    MapData data = new MapData(ImmutableMap.of("a", 1, "b", 2)).remove("a");
+    assertEquals(ImmutableMap.of("b", 2), data.asMap());
+  }
+
+  @Test
+  public void testPersistentMapIsNotCopied() {
+    PersistentMap<String, Object> map = PersistentMap.<String, Object>empty().plus("a", 1);
+    assertSame(map, new MapData(map).asPersistentMap());
+  }
+
+  @Test
+  public void testChangesFrom() {
+    MapData original = new MapData(ImmutableMap.of("a", 1, "b", 2, "c", 3));
+    MapData changed = original.put("b", 20).put("d", 4);
+    Map<String, Object> changes = changed.changesFrom(original);
+    assertAll(
+        () -> assertEquals(ImmutableMap.of("b", 20, "d", 4), changes),
+        () -> assertEquals(original.asMap(), original.changesFrom(null))
+    );
+  }
+
+}
@@ -0,0 +1,131 @@
+package edu.wpi.first.shuffleboard.api.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MetricsTest {
+
+  private Metrics metrics;
+
+  @BeforeEach
+  public void setup() {
+    metrics = new Metrics();
+    metrics.setEnabled(true);
+  }
+
+  @Test
+  public void testCounterIsSharedByName() {
+    assertSame(metrics.counter("Test/Counter"), metrics.counter("Test/Counter"));
+  }
+
+  @Test
+  public void testCounterCounts() {
+    Counter counter = metrics.counter("Test/Counter");
+    counter.increment();
+    counter.add(4);
+    assertEquals(5, counter.getCount());
+  }
+
+  @Test
+  public void testDisabledCounterIgnoresUpdates() {
+    Counter counter = metrics.counter("Test/Counter");
+    counter.increment();
+    metrics.setEnabled(false);
+    counter.increment();
+    counter.add(10);
+    assertEquals(1, counter.getCount());
+  }
+
+  @Test
+  public void testTimerRecordsDurations() {
+    Timer timer = metrics.timer("Test/Timer");
+    timer.record(10);
+    timer.record(30);
+    assertAll(
+        () -> assertEquals(2, timer.getCount(), "Wrong count"),
+        () -> assertEquals(40, timer.getTotalNanos(), "Wrong total"),
+        () -> assertEquals(30, timer.getAndResetMaxNanos(), "Wrong max"),
+        () -> assertEquals(0, timer.getAndResetMaxNanos(), "Max was not reset")
+    );
+  }
+
+  @Test
+  public void testTimerStartStop() {
+    Timer timer = metrics.timer("Test/Timer");
+    timer.stop(timer.start());
+    assertEquals(1, timer.getCount());
+    assertTrue(timer.getTotalNanos() >= 0);
+  }
+
+  @Test
+  public void testDisabledTimerDoesNotStart() {
+    Timer timer = metrics.timer("Test/Timer");
+    metrics.setEnabled(false);
+    long start = timer.start();
+    metrics.setEnabled(true);
+    timer.stop(start);
+    assertEquals(Timer.NOT_STARTED, start);
+    assertEquals(0, timer.getCount());
+  }
+
+  @Test
+  public void testGaugeReadsSupplier() {
+    int[] value = {1};
+    Gauge gauge = metrics.gauge("Test/Gauge", () -> value[0]);
+    value[0] = 2;
+    assertEquals(2, gauge.getValue());
+  }
+
+  @Test
+  public void testGaugeIsReplaced() {
+    metrics.gauge("Test/Gauge", () -> 1);
+    Gauge replacement = metrics.gauge("Test/Gauge", () -> 2);
+    assertEquals(List.of(replacement), metrics.getMetrics());
+  }
+
+  @Test
+  public void testNameConflict() {
+    metrics.counter("Test/Metric");
+    assertAll(
+        () -> assertThrows(IllegalArgumentException.class, () -> metrics.timer("Test/Metric")),
+        () -> assertThrows(IllegalArgumentException.class, () -> metrics.gauge("Test/Metric", () -> 0))
+    );
+    assertEquals(Counter.class, metrics.getMetrics().get(0).getClass());
+  }
+
+  @Test
+  public void testRemove() {
+    Counter counter = metrics.counter("Test/Counter");
+    metrics.remove(counter);
+    assertTrue(metrics.getMetrics().isEmpty());
+  }
+
+  @Test
+  public void testRemoveStaleMetricDoesNotRemoveReplacement() {
+    Gauge old = metrics.gauge("Test/Gauge", () -> 1);
+    Gauge replacement = metrics.gauge("Test/Gauge", () -> 2);
+    metrics.remove(old);
+    assertEquals(List.of(replacement), metrics.getMetrics());
+  }
+
+  @Test
+  public void testMetricsAreSortedByName() {
+    metrics.counter("B/Counter 10");
+    metrics.timer("A/Timer");
+    metrics.counter("B/Counter 9");
+    List<String> names = metrics.getMetrics().stream()
+        .map(Metric::getName)
+        .collect(Collectors.toList());
+    assertEquals(List.of("A/Timer", "B/Counter 9", "B/Counter 10"), names);
+  }
+
+}
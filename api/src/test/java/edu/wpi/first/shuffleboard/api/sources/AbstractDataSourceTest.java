@@ -0,0 +1,88 @@
+package edu.wpi.first.shuffleboard.api.sources;
+
+import edu.wpi.first.shuffleboard.api.data.DataTypes;
+import edu.wpi.first.shuffleboard.api.util.AsyncUtils;
+import edu.wpi.first.shuffleboard.api.util.FxUtils;
+import edu.wpi.first.shuffleboard.api.util.Time;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AbstractDataSourceTest {
+
+  @AfterEach
+  public void tearDown() {
+    AsyncUtils.setAsyncRunner(FxUtils::runOnFxThread);
+  }
+
+  @Test
+  public void testSetDataWithTimestamp() {
+    DummySource<Number> source = new DummySource<>(DataTypes.Number, 0.0);
+    source.setData(1.0, 12345L);
+    assertAll(
+        () -> assertEquals(1.0, source.getData()),
+        () -> assertEquals(12345L, source.getTimestamp())
+    );
+  }
+
+  @Test
+  public void testSetDataWithoutTimestampUsesCurrentTime() {
+    DummySource<Number> source = new DummySource<>(DataTypes.Number, 0.0);
+    source.setData(1.0, 12345L);
+    long before = Time.now();
+    source.setData(2.0);
+    assertTrue(source.getTimestamp() >= before, "Timestamp should be the time the data was set");
+  }
+
+  @Test
+  public void testSubSourceUsesBackingTimestamp() {
+    DummySource<Number> source = new DummySource<>(DataTypes.Number, 0.0);
+    SubSource<Number> subSource = new SubSource<>(DataTypes.Number, source, Function.identity(), Function.identity());
+    source.setData(1.0, 12345L);
+    assertEquals(12345L, subSource.getTimestamp());
+  }
+
+  @Test
+  public void testTimestampsAreKeptForQueuedChanges() {
+    // Hold listener calls until both values are set, like a burst of data arriving before the FX thread can run
+    List<Runnable> queue = new ArrayList<>();
+    AsyncUtils.setAsyncRunner(queue::add);
+    DummySource<Number> source = new DummySource<>(DataTypes.Number, 0.0);
+    List<TimestampedValue<Number>> seen = new ArrayList<>();
+    source.timestampedDataProperty().addListener((__, prev, value) -> seen.add(value));
+
+    source.setData(1.0, 100L);
+    source.setData(2.0, 200L);
+    queue.forEach(Runnable::run);
+
+    assertAll(
+        () -> assertEquals(2, seen.size()),
+        () -> assertEquals(1.0, seen.get(0).getValue()),
+        () -> assertEquals(100L, seen.get(0).getTimestamp()),
+        () -> assertEquals(2.0, seen.get(1).getValue()),
+        () -> assertEquals(200L, seen.get(1).getTimestamp())
+    );
+  }
+
+  @Test
+  public void testDirectDataChangeIsTimestamped() {
+    DummySource<Number> source = new DummySource<>(DataTypes.Number, 0.0);
+    source.setData(1.0, 12345L);
+    long before = Time.now();
+    source.dataProperty().setValue(2.0);
+    TimestampedValue<Number> value = source.timestampedDataProperty().getValue();
+    assertAll(
+        () -> assertEquals(2.0, value.getValue()),
+        () -> assertTrue(value.getTimestamp() >= before, "Timestamp should be the time the data was set")
+    );
+  }
+
+}
@@ -0,0 +1,82 @@
+package edu.wpi.first.shuffleboard.api.sources;
+
+import edu.wpi.first.shuffleboard.api.data.DataType;
+import edu.wpi.first.shuffleboard.api.data.DataTypes;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class SourceTypesTest {
+
+  private SourceTypes sourceTypes;
+
+  @BeforeEach
+  public void setup() {
+    sourceTypes = new SourceTypes();
+  }
+
+  @Test
+  public void testResolveSchemeProtocol() {
+    SourceType type = new MockSourceType("Mock", "mock://");
+    sourceTypes.register(type);
+
+    SourceUri uri = sourceTypes.resolve("mock://foo/bar");
+    assertSame(type, uri.getType());
+    assertEquals("foo/bar", uri.getPath());
+    assertEquals("mock://foo/bar", uri.getUri());
+    assertSame(type, sourceTypes.typeForUri("mock://foo/bar"));
+    assertEquals("foo/bar", sourceTypes.stripProtocol("mock://foo/bar"));
+  }
+
+  @Test
+  public void testResolveIrregularProtocol() {
+    SourceType type = new MockSourceType("Mock", "mock:");
+    sourceTypes.register(type);
+
+    SourceUri uri = sourceTypes.resolve("mock:foo");
+    assertSame(type, uri.getType());
+    assertEquals("foo", uri.getPath());
+  }
+
+  @Test
+  public void testResolveUnknownProtocol() {
+    SourceUri uri = sourceTypes.resolve("unknown://foo");
+    assertSame(SourceTypes.None, uri.getType());
+    assertEquals("unknown://foo", uri.getPath());
+  }
+
+  @Test
+  public void testResolvedUrisAreCached() {
+    sourceTypes.register(new MockSourceType("Mock", "mock://"));
+
+    assertSame(sourceTypes.resolve("mock://foo"), sourceTypes.resolve("mock://foo"));
+  }
+
+  @Test
+  public void testRegisterInvalidatesCache() {
+    assertSame(SourceTypes.None, sourceTypes.typeForUri("mock://foo"));
+
+    SourceType type = new MockSourceType("Mock", "mock://");
+    sourceTypes.register(type);
+    assertSame(type, sourceTypes.typeForUri("mock://foo"));
+
+    sourceTypes.unregister(type);
+    assertSame(SourceTypes.None, sourceTypes.typeForUri("mock://foo"));
+  }
+
+  private static final class MockSourceType extends SourceType {
+
+    MockSourceType(String name, String protocol) {
+      super(name, false, protocol, __ -> DataSource.none());
+    }
+
+    @Override
+    public DataType<?> dataTypeForSource(DataTypes registry, String sourceUri) {
+      return DataTypes.Unknown;
+    }
+  }
+
+}
@@ -64,6 +64,32 @@ public class SerializationTest {
     assertArrayEquals(new byte[]{0}, Serialization.toByteArray(false));
   }
 
+  @Test
+  @ExtendWith(TempDirectory.class)
+  public void testSaveClip(@TempDir Path dir) throws IOException {
+    final Path file = dir.resolve("testSaveClip.sbr");
+    final Path clipFile = dir.resolve("testSaveClip-clip.sbr");
+    final Recording recording = new Recording();
+    recording.append(new TimestampedData("foo", DataTypes.Number, 0.0, 0));
+    recording.append(new TimestampedData("bar", DataTypes.String, "a", 5));
+    recording.append(new TimestampedData("foo", DataTypes.Number, 10.0, 10));
+    recording.append(new TimestampedData("foo", DataTypes.Number, 20.0, 20));
+    recording.append(new TimestampedData("foo", DataTypes.Number, 30.0, 30));
+    recording.addMarker(new Marker("In clip", MarkerImportance.NORMAL, 15));
+    recording.addMarker(new Marker("After clip", MarkerImportance.NORMAL, 40));
+
+    Serialization.saveClip(recording, file, clipFile, 12, 25);
+    final Recording clip = Serialization.loadRecording(clipFile);
+    assertAll(
+        () -> assertEquals(List.of(
+            new TimestampedData("bar", DataTypes.String, "a", 12),
+            new TimestampedData("foo", DataTypes.Number, 10.0, 12),
+            new TimestampedData("foo", DataTypes.Number, 20.0, 20)
+        ), clip.getData(), "Clip should start with the state of each source at the start time"),
+        () -> assertEquals(List.of(new Marker("In clip", MarkerImportance.NORMAL, 15)), clip.getMarkers())
+    );
+  }
+
   @Test
   @ExtendWith(TempDirectory.class)
   public void testSimpleEncodeRecode(@TempDir Path dir) throws IOException {
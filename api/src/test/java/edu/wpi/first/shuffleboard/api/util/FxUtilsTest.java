@@ -1,7 +1,10 @@
 package edu.wpi.first.shuffleboard.api.util;
 
 import javafx.application.Platform;
+import javafx.scene.Scene;
 import javafx.scene.control.MenuItem;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
 import javafx.stage.Stage;
 import org.junit.jupiter.api.Nested;
@@ -20,6 +23,7 @@ import java.util.concurrent.TimeoutException;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -50,6 +54,23 @@ public class FxUtilsTest extends UtilityClassTest<FxUtils> {
       assertTrue(isOnFxThread.get(5, TimeUnit.SECONDS));
     }
 
+    @Test
+    public void isShowingTest() {
+      Pane node = new Pane();
+      Pane parent = new StackPane(node);
+      assertFalse(FxUtils.isShowing(node), "A node without a scene is not showing");
+      interact(() -> {
+        Stage stage = new Stage();
+        stage.setScene(new Scene(parent));
+        assertFalse(FxUtils.isShowing(node), "A node in a hidden window is not showing");
+        stage.show();
+        assertTrue(FxUtils.isShowing(node), "A visible node in a shown window should be showing");
+        parent.setVisible(false);
+        assertFalse(FxUtils.isShowing(node), "A node with an invisible parent is not showing");
+        stage.hide();
+      });
+    }
+
   }
 
   @Test
@@ -0,0 +1,137 @@
+package edu.wpi.first.shuffleboard.api.util;
+
+import com.google.common.collect.ImmutableMap;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PersistentMapTest {
+
+  @Test
+  public void testPlusDoesNotModifyOriginal() {
+    PersistentMap<String, Object> original = PersistentMap.<String, Object>empty().plus("a", 1);
+    PersistentMap<String, Object> updated = original.plus("b", 2);
+
+    assertEquals(ImmutableMap.of("a", 1), original);
+    assertEquals(ImmutableMap.of("a", 1, "b", 2), updated);
+  }
+
+  @Test
+  public void testPlusSameValueReturnsSameMap() {
+    PersistentMap<String, Object> map = PersistentMap.<String, Object>empty().plus("a", new double[]{1, 2});
+
+    assertSame(map, map.plus("a", new double[]{1, 2}));
+  }
+
+  @Test
+  public void testMinus() {
+    PersistentMap<String, Object> map = PersistentMap.copyOf(ImmutableMap.of("a", 1, "b", 2));
+
+    assertEquals(ImmutableMap.of("b", 2), map.minus("a"));
+    assertSame(map, map.minus("c"));
+    assertTrue(map.minus("a").minus("b").isEmpty());
+  }
+
+  @Test
+  public void testCopyOfPersistentMapDoesNotCopy() {
+    PersistentMap<String, Object> map = PersistentMap.copyOf(ImmutableMap.of("a", 1));
+
+    assertSame(map, PersistentMap.copyOf(map));
+  }
+
+  @Test
+  public void testHashCollisions() {
+    CollidingKey first = new CollidingKey("first");
+    CollidingKey second = new CollidingKey("second");
+    CollidingKey third = new CollidingKey("third");
+    PersistentMap<CollidingKey, String> map = PersistentMap.<CollidingKey, String>empty()
+        .plus(first, "1")
+        .plus(second, "2")
+        .plus(third, "3");
+
+    assertEquals(3, map.size());
+    assertEquals("2", map.get(second));
+    PersistentMap<CollidingKey, String> removed = map.minus(second);
+    assertEquals(2, removed.size());
+    assertNull(removed.get(second));
+    assertEquals("3", removed.get(third));
+  }
+
+  @Test
+  public void testMatchesHashMap() {
+    Random random = new Random(1234);
+    Map<Integer, Integer> expected = new HashMap<>();
+    PersistentMap<Integer, Integer> actual = PersistentMap.empty();
+    for (int i = 0; i < 20_000; i++) {
+      int key = random.nextInt(5000);
+      if (random.nextInt(4) == 0) {
+        expected.remove(key);
+        actual = actual.minus(key);
+      } else {
+        expected.put(key, i);
+        actual = actual.plus(key, i);
+      }
+    }
+
+    assertEquals(expected.size(), actual.size());
+    assertEquals(expected, actual);
+    assertEquals(actual, expected);
+    assertEquals(expected.hashCode(), actual.hashCode());
+  }
+
+  @Test
+  public void testForEachChangeFrom() {
+    PersistentMap<String, Object> original = PersistentMap.empty();
+    for (int i = 0; i < 1000; i++) {
+      original = original.plus("key" + i, i);
+    }
+    PersistentMap<String, Object> updated = original
+        .plus("key5", -5)
+        .plus("key500", 500) // same value, not a change
+        .plus("new", "value")
+        .minus("key10");
+
+    Map<String, Object> changes = new HashMap<>();
+    updated.forEachChangeFrom(original, changes::put);
+
+    assertEquals(ImmutableMap.of("key5", -5, "new", "value"), changes);
+  }
+
+  @Test
+  public void testForEachChangeFromUnrelatedMaps() {
+    PersistentMap<String, Object> first = PersistentMap.copyOf(ImmutableMap.of("a", 1, "b", 2));
+    PersistentMap<String, Object> second = PersistentMap.copyOf(ImmutableMap.of("a", 1, "b", 3, "c", 4));
+
+    Map<String, Object> changes = new HashMap<>();
+    second.forEachChangeFrom(first, changes::put);
+
+    assertEquals(ImmutableMap.of("b", 3, "c", 4), changes);
+  }
+
+  private static final class CollidingKey {
+    private final String name;
+
+    CollidingKey(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof CollidingKey && ((CollidingKey) obj).name.equals(name);
+    }
+
+    @Override
+    public int hashCode() {
+      return 42;
+    }
+  }
+
+}
@@ -0,0 +1,96 @@
+package edu.wpi.first.shuffleboard.api.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SharedTimerTest {
+
+  private SharedTimer timer;
+  private CountDownLatch block;
+
+  @BeforeEach
+  public void setup() {
+    timer = new SharedTimer("Test Timer");
+    block = new CountDownLatch(1);
+  }
+
+  @AfterEach
+  public void unblock() {
+    block.countDown();
+  }
+
+  @Test
+  public void testKeyedTasksAreCoalesced() throws InterruptedException {
+    AtomicInteger runs = new AtomicInteger();
+    CountDownLatch done = new CountDownLatch(1);
+    Object key = new Object();
+
+    for (int i = 0; i < 10; i++) {
+      timer.schedule(key, runs::incrementAndGet, Duration.ofMillis(50));
+    }
+    assertTrue(timer.isPending(key));
+    assertEquals(1, timer.getPendingTaskCount());
+
+    timer.schedule(done::countDown, Duration.ofMillis(100));
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    assertEquals(1, runs.get());
+    assertFalse(timer.isPending(key));
+  }
+
+  @Test
+  public void testCancelKey() {
+    Object key = new Object();
+    timer.schedule(key, () -> {}, Duration.ofSeconds(10));
+
+    assertTrue(timer.cancel(key));
+    assertFalse(timer.isPending(key));
+    assertEquals(0, timer.getPendingTaskCount());
+    assertFalse(timer.cancel(key));
+  }
+
+  @Test
+  public void testExceptionsDoNotStopPeriodicTasks() throws InterruptedException {
+    CountDownLatch runs = new CountDownLatch(3);
+    timer.scheduleAtFixedRate(() -> {
+      runs.countDown();
+      throw new IllegalStateException("Expected");
+    }, Duration.ZERO, Duration.ofMillis(5));
+
+    assertTrue(runs.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testDebouncersShareTimer() {
+    // Keep the timer thread busy so no debounced task can run before the assertions
+    timer.schedule(() -> {
+      try {
+        block.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }, Duration.ZERO);
+    Debouncer first = new Debouncer(() -> {}, Duration.ofMillis(10), timer);
+    Debouncer second = new Debouncer(() -> {}, Duration.ofMillis(10), timer);
+
+    first.run();
+    first.run();
+    second.run();
+    assertTrue(first.isPending());
+    assertTrue(second.isPending());
+
+    first.cancel();
+    assertFalse(first.isPending());
+    assertTrue(second.isPending());
+  }
+
+}
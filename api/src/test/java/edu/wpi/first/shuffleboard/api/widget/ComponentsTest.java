@@ -0,0 +1,201 @@
+package edu.wpi.first.shuffleboard.api.widget;
+
+import edu.wpi.first.shuffleboard.api.data.DataType;
+import edu.wpi.first.shuffleboard.api.data.DataTypes;
+import edu.wpi.first.shuffleboard.api.prefs.Group;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
+import org.controlsfx.glyphfont.FontAwesome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.Property;
+import javafx.scene.layout.Pane;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class ComponentsTest {
+
+  private Components components;
+
+  @BeforeEach
+  public void setup() {
+    components = new Components();
+  }
+
+  @Test
+  public void testComponentNamesForTypeAreSorted() {
+    components.register(new MockComponentType("Slider", DataTypes.Number));
+    components.register(new MockComponentType("Dial", DataTypes.Number));
+    components.register(new MockComponentType("Text", DataTypes.String));
+    components.register(new MockComponentType("Anything", DataTypes.All));
+
+    assertEquals(ImmutableList.of("Anything", "Dial", "Slider"), components.componentNamesForType(DataTypes.Number));
+    assertEquals(ImmutableList.of("Anything", "Text"), components.componentNamesForType(DataTypes.String));
+  }
+
+  @Test
+  public void testComponentNamesForTypeIsCached() {
+    components.register(new MockComponentType("Dial", DataTypes.Number));
+
+    List<String> first = components.componentNamesForType(DataTypes.Number);
+    assertSame(first, components.componentNamesForType(DataTypes.Number));
+    assertThrows(UnsupportedOperationException.class, () -> first.add("Other"));
+  }
+
+  @Test
+  public void testRegisterInvalidatesCache() {
+    components.register(new MockComponentType("Dial", DataTypes.Number));
+    assertEquals(ImmutableList.of("Dial"), components.componentNamesForType(DataTypes.Number));
+
+    components.register(new MockComponentType("Bar", DataTypes.Number));
+    assertEquals(ImmutableList.of("Bar", "Dial"), components.componentNamesForType(DataTypes.Number));
+    assertEquals(Optional.of("Bar"), components.pickComponentNameFor(DataTypes.Number));
+  }
+
+  @Test
+  public void testUnregisterInvalidatesCache() {
+    MockComponentType dial = new MockComponentType("Dial", DataTypes.Number);
+    components.register(dial);
+    components.register(new MockComponentType("Slider", DataTypes.Number));
+    assertEquals(ImmutableList.of("Dial", "Slider"), components.componentNamesForType(DataTypes.Number));
+
+    components.unregister(dial);
+    assertEquals(ImmutableList.of("Slider"), components.componentNamesForType(DataTypes.Number));
+    assertEquals(Optional.of("Slider"), components.pickComponentNameFor(DataTypes.Number));
+  }
+
+  @Test
+  public void testPickComponentPrefersDefault() {
+    MockComponentType slider = new MockComponentType("Slider", DataTypes.Number);
+    components.register(new MockComponentType("Dial", DataTypes.Number));
+    components.register(slider);
+    components.setDefaultComponent(DataTypes.Number, slider);
+
+    assertEquals(Optional.of("Slider"), components.pickComponentNameFor(DataTypes.Number));
+  }
+
+  @Test
+  public void testNoCompatibleComponents() {
+    components.register(new MockComponentType("Text", DataTypes.String));
+
+    assertEquals(ImmutableList.of(), components.componentNamesForType(DataTypes.Boolean));
+    assertEquals(Optional.empty(), components.pickComponentNameFor(DataTypes.Boolean));
+  }
+
+  @Test
+  public void testGetByUuid() {
+    components.register(new MockComponentType("Mock", DataTypes.All));
+    Component first = components.createComponent("Mock").get();
+    Component second = components.createComponent("Mock").get();
+
+    assertSame(first, components.getByUuid(components.uuidForComponent(first)).get());
+    assertSame(second, components.getByUuid(components.uuidForComponent(second)).get());
+    assertEquals(Optional.empty(), components.getByUuid(UUID.randomUUID()));
+  }
+
+  @Test
+  public void testGetByUuidDoesNotRetainComponents() throws InterruptedException {
+    components.register(new MockComponentType("Mock", DataTypes.All));
+    Component component = components.createComponent("Mock").get();
+    UUID uuid = components.uuidForComponent(component);
+    WeakReference<Component> reference = new WeakReference<>(component);
+    component = null; // NOPMD - drop the only strong reference
+
+    for (int i = 0; i < 50 && reference.get() != null; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+    assumeTrue(reference.get() == null, "The component was not garbage collected");
+    assertEquals(Optional.empty(), components.getByUuid(uuid));
+  }
+
+  private static final class MockComponentType implements ComponentType<Component> {
+
+    private final String name;
+    private final Set<DataType> dataTypes;
+
+    MockComponentType(String name, DataType... dataTypes) {
+      this.name = name;
+      this.dataTypes = ImmutableSet.copyOf(dataTypes);
+    }
+
+    @Override
+    public Class<Component> getType() {
+      return Component.class;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    @Override
+    public Set<DataType> getDataTypes() {
+      return dataTypes;
+    }
+
+    @Override
+    public Component get() {
+      return new MockComponent(name);
+    }
+  }
+
+  private static final class MockComponent implements Component {
+
+    private final String name;
+
+    MockComponent(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public Pane getView() {
+      return null;
+    }
+
+    @Override
+    public Property<String> titleProperty() {
+      return null;
+    }
+
+    @Override
+    public Property<FontAwesome.Glyph> glyphProperty() {
+      return null;
+    }
+
+    @Override
+    public BooleanProperty showGlyphProperty() {
+      return null;
+    }
+
+    @Override
+    public Stream<Component> allComponents() {
+      return Stream.of(this);
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    @Override
+    public List<Group> getSettings() {
+      return ImmutableList.of();
+    }
+  }
+
+}
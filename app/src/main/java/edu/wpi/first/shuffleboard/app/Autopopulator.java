@@ -40,16 +40,21 @@ public class Autopopulator {
   }
 
   private void onChange(ListChangeListener.Change<? extends String> change) {
+    // Collect every added source first so targets can check the entire batch at once
+    List<String> added = new ArrayList<>();
     while (change.next()) {
       if (change.wasAdded()) {
-        // Use a copy of the target list because addComponentIfPossible may add new targets,
-        // causing a ConcurrentModificationException
-        // Since addTarget also populates the target, we don't need to worry about responding to those changes here
-        List<Populatable> currentTargets = new ArrayList<>(targets);
-        change.getAddedSubList().forEach(id ->
-            currentTargets.forEach(target -> target.addComponentIfPossible(SourceTypes.getDefault(), id)));
+        added.addAll(change.getAddedSubList());
       }
     }
+    if (added.isEmpty()) {
+      return;
+    }
+    // Use a copy of the target list because addComponentsIfPossible may add new targets,
+    // causing a ConcurrentModificationException
+    // Since addTarget also populates the target, we don't need to worry about responding to those changes here
+    List<Populatable> currentTargets = new ArrayList<>(targets);
+    currentTargets.forEach(target -> target.addComponentsIfPossible(SourceTypes.getDefault(), added));
   }
 
   /**
@@ -58,7 +63,7 @@ public class Autopopulator {
    * @param target the target to populate
    */
   public void populate(Populatable target) {
-    sourceTypes.allAvailableSourceUris().forEach(uri -> target.addComponentIfPossible(SourceTypes.getDefault(), uri));
+    target.addComponentsIfPossible(SourceTypes.getDefault(), new ArrayList<>(sourceTypes.allAvailableSourceUris()));
   }
 
   /**
@@ -0,0 +1,178 @@
+package edu.wpi.first.shuffleboard.app;
+
+import edu.wpi.first.shuffleboard.api.metrics.Counter;
+import edu.wpi.first.shuffleboard.api.metrics.Gauge;
+import edu.wpi.first.shuffleboard.api.metrics.Metric;
+import edu.wpi.first.shuffleboard.api.metrics.Metrics;
+import edu.wpi.first.shuffleboard.api.metrics.Timer;
+import edu.wpi.first.shuffleboard.api.widget.ParametrizedController;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javafx.animation.AnimationTimer;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.fxml.FXML;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.Pane;
+
+/**
+ * Controller for the diagnostics pane, which shows the metrics published to the default metrics registry. Metrics are
+ * only recorded while the pane is running; see {@link #start()} and {@link #stop()}.
+ */
+@ParametrizedController("DiagnosticsPane.fxml")
+public class DiagnosticsPaneController {
+
+  private static final long REFRESH_PERIOD = TimeUnit.SECONDS.toNanos(1);
+  private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+  private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+  private static final double BYTES_PER_MEGABYTE = 1024 * 1024;
+
+  @FXML
+  private Pane root;
+  @FXML
+  private TableView<MetricRow> metricsTable;
+  @FXML
+  private TableColumn<MetricRow, String> nameColumn;
+  @FXML
+  private TableColumn<MetricRow, String> valueColumn;
+
+  private final Timer pulseTimer = Metrics.getDefault().timer("JavaFX/Pulse interval");
+  private final Map<Metric, MetricRow> rows = new HashMap<>();
+  private long lastPulse = 0;
+  private long lastRefresh = 0;
+
+  // Pulses are only requested while the pane is running, so an open diagnostics pane is the only time this adds any
+  // work to the FX thread
+  private final AnimationTimer refresher = new AnimationTimer() {
+    @Override
+    public void handle(long now) {
+      if (lastPulse != 0) {
+        pulseTimer.record(now - lastPulse);
+      }
+      lastPulse = now;
+      if (now - lastRefresh >= REFRESH_PERIOD) {
+        refresh(now);
+      }
+    }
+  };
+
+  @FXML
+  private void initialize() {
+    registerJvmMetrics();
+    root.addEventHandler(KeyEvent.KEY_PRESSED, e -> {
+      if (e.getCode() == KeyCode.ESCAPE) {
+        root.getScene().getWindow().hide();
+      }
+    });
+    nameColumn.setCellValueFactory(data -> data.getValue().name.getReadOnlyProperty());
+    valueColumn.setCellValueFactory(data -> data.getValue().value.getReadOnlyProperty());
+  }
+
+  private static void registerJvmMetrics() {
+    Metrics metrics = Metrics.getDefault();
+    MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    metrics.gauge("JVM/Heap used (MB)", () -> memory.getHeapMemoryUsage().getUsed() / BYTES_PER_MEGABYTE);
+    metrics.gauge("JVM/Heap committed (MB)", () -> memory.getHeapMemoryUsage().getCommitted() / BYTES_PER_MEGABYTE);
+    metrics.gauge("JVM/Heap max (MB)", () -> memory.getHeapMemoryUsage().getMax() / BYTES_PER_MEGABYTE);
+    for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+      metrics.gauge("JVM/GC collections: " + gc.getName(), gc::getCollectionCount);
+      metrics.gauge("JVM/GC time (ms): " + gc.getName(), gc::getCollectionTime);
+    }
+  }
+
+  /**
+   * Starts recording metrics and periodically refreshing the displayed values.
+   */
+  public void start() {
+    Metrics.getDefault().setEnabled(true);
+    lastPulse = 0;
+    lastRefresh = 0;
+    refresher.start();
+  }
+
+  /**
+   * Stops recording metrics and refreshing the displayed values.
+   */
+  public void stop() {
+    refresher.stop();
+    Metrics.getDefault().setEnabled(false);
+  }
+
+  private void refresh(long now) {
+    double elapsedSeconds = lastRefresh == 0 ? 0 : (now - lastRefresh) / NANOS_PER_SECOND;
+    lastRefresh = now;
+    List<Metric> metrics = Metrics.getDefault().getMetrics();
+    rows.keySet().retainAll(new HashSet<>(metrics));
+    List<MetricRow> currentRows = metrics.stream()
+        .map(metric -> rows.computeIfAbsent(metric, MetricRow::new))
+        .collect(Collectors.toList());
+    currentRows.forEach(row -> row.update(elapsedSeconds));
+    if (!metricsTable.getItems().equals(currentRows)) {
+      metricsTable.getItems().setAll(currentRows);
+    }
+  }
+
+  /**
+   * A row in the metrics table. Counters and timers are shown as rates over the last refresh period.
+   */
+  private static final class MetricRow {
+
+    private final Metric metric;
+    private final ReadOnlyStringWrapper name;
+    private final ReadOnlyStringWrapper value = new ReadOnlyStringWrapper(this, "value", "");
+    private long lastCount = 0;
+    private long lastTotalNanos = 0;
+
+    MetricRow(Metric metric) {
+      this.metric = metric;
+      this.name = new ReadOnlyStringWrapper(this, "name", metric.getName());
+      if (metric instanceof Counter) {
+        lastCount = ((Counter) metric).getCount();
+      } else if (metric instanceof Timer) {
+        lastCount = ((Timer) metric).getCount();
+        lastTotalNanos = ((Timer) metric).getTotalNanos();
+      }
+    }
+
+    void update(double elapsedSeconds) {
+      if (metric instanceof Counter) {
+        long count = ((Counter) metric).getCount();
+        value.set(String.format("%.1f/s (%,d total)", rate(count - lastCount, elapsedSeconds), count));
+        lastCount = count;
+      } else if (metric instanceof Timer) {
+        Timer timer = (Timer) metric;
+        long count = timer.getCount();
+        long totalNanos = timer.getTotalNanos();
+        long periodCount = count - lastCount;
+        double meanMillis = periodCount == 0 ? 0 : (totalNanos - lastTotalNanos) / NANOS_PER_MILLI / periodCount;
+        double maxMillis = timer.getAndResetMaxNanos() / NANOS_PER_MILLI;
+        value.set(String.format("%.1f/s, mean %.2f ms, max %.2f ms",
+            rate(periodCount, elapsedSeconds), meanMillis, maxMillis));
+        lastCount = count;
+        lastTotalNanos = totalNanos;
+      } else if (metric instanceof Gauge) {
+        double gaugeValue = ((Gauge) metric).getValue();
+        value.set(gaugeValue == Math.rint(gaugeValue)
+            ? String.format("%,.0f", gaugeValue)
+            : String.format("%,.2f", gaugeValue));
+      }
+    }
+
+    private static double rate(long count, double elapsedSeconds) {
+      return elapsedSeconds == 0 ? 0 : count / elapsedSeconds;
+    }
+
+  }
+
+}
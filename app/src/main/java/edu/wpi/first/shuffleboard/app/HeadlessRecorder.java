@@ -0,0 +1,122 @@
+package edu.wpi.first.shuffleboard.app;
+
+import edu.wpi.first.shuffleboard.api.sources.recording.Recorder;
+import edu.wpi.first.shuffleboard.api.util.AsyncUtils;
+import edu.wpi.first.shuffleboard.api.util.ShutdownHooks;
+import edu.wpi.first.shuffleboard.api.util.Storage;
+import edu.wpi.first.shuffleboard.app.plugin.PluginLoader;
+import edu.wpi.first.shuffleboard.plugin.base.BasePlugin;
+import edu.wpi.first.shuffleboard.plugin.networktables.NetworkTablesPlugin;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Records NetworkTables data without a user interface. The JavaFX toolkit is never started and no widgets are created;
+ * only the plugins needed to record data are loaded. Recordings are started and stopped by the robot program through
+ * the same NetworkTables entries used to control a running dashboard, and markers published by the robot program are
+ * added to recordings as usual. Recordings are saved as {@code .sbr} files in the normal recordings directory.
+ *
+ * <p>The recorder is started by running shuffleboard with the {@value #FLAG} flag. Other supported arguments are:
+ * <ul>
+ *   <li>{@code --server=<server>} the team number, IP address, or mDNS URL of the server to connect to. Defaults to the
+ *   server set in the dashboard preferences</li>
+ *   <li>{@code --record} starts recording immediately, instead of waiting for the robot program to start it</li>
+ *   <li>{@code --plugins} also loads custom plugins from the plugins directory. Plugins that create UI components when
+ *   loaded are not supported</li>
+ * </ul>
+ *
+ * <p>Buffered data is written to disk every two seconds, so memory use stays flat over long recordings. The recorder
+ * runs the whole time the process is alive; stopping the process saves any remaining data.
+ */
+public final class HeadlessRecorder {
+
+  private static final Logger log = Logger.getLogger(HeadlessRecorder.class.getName());
+
+  /**
+   * The command line flag used to run the headless recorder instead of the application.
+   */
+  public static final String FLAG = "--headless-recorder";
+
+  private static final String SERVER_PREFIX = "--server=";
+  private static final String RECORD_FLAG = "--record";
+  private static final String PLUGINS_FLAG = "--plugins";
+
+  private String server = null;
+  private boolean recordImmediately = false;
+  private boolean loadCustomPlugins = false;
+
+  private HeadlessRecorder(String... args) {
+    for (String arg : args) {
+      if (arg.startsWith(SERVER_PREFIX)) {
+        server = arg.substring(SERVER_PREFIX.length());
+      } else if (arg.equals(RECORD_FLAG)) {
+        recordImmediately = true;
+      } else if (arg.equals(PLUGINS_FLAG)) {
+        loadCustomPlugins = true;
+      } else if (!arg.equals(FLAG)) {
+        throw new IllegalArgumentException("Unknown argument: " + arg);
+      }
+    }
+  }
+
+  /**
+   * Checks if the headless recorder should be run for the given command line arguments.
+   *
+   * @param args the command line arguments
+   */
+  public static boolean isRequested(String... args) {
+    return Arrays.asList(args).contains(FLAG);
+  }
+
+  /**
+   * Runs the headless recorder. This blocks until the process is shut down.
+   *
+   * @param args the command line arguments
+   *
+   * @throws IllegalArgumentException if an unknown argument is given
+   * @throws IOException              if the log files could not be set up
+   * @throws InterruptedException     if interrupted while waiting for the process to be shut down
+   */
+  public static void run(String... args) throws IOException, InterruptedException {
+    new HeadlessRecorder(args).run();
+  }
+
+  private void run() throws IOException, InterruptedException {
+    Loggers.setupLoggers();
+
+    // There is no JavaFX application thread, so tasks that would be run on it are run immediately on the calling
+    // thread instead. This also keeps work from queueing up if data arrives faster than it can be handled
+    AsyncUtils.setAsyncRunner(Runnable::run);
+
+    // The CameraServer plugin is not loaded. Camera streams are only recorded while a widget is displaying them, and
+    // loading OpenCV would greatly increase memory use for no benefit
+    PluginLoader.getDefault().load(new BasePlugin());
+    NetworkTablesPlugin networkTablesPlugin = new NetworkTablesPlugin();
+    PluginLoader.getDefault().load(networkTablesPlugin);
+    if (loadCustomPlugins) {
+      PluginLoader.getDefault().loadAllJarsFromDir(Storage.getPluginPath());
+    }
+    if (server != null) {
+      networkTablesPlugin.overrideServerId(server);
+    }
+
+    CountDownLatch shutdown = new CountDownLatch(1);
+    Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+      log.info("Running shutdown hooks");
+      ShutdownHooks.runAllHooks();
+      shutdown.countDown();
+    }, "HeadlessRecorderShutdown"));
+
+    if (recordImmediately) {
+      Recorder.getInstance().start();
+    }
+    log.log(Level.INFO, "Headless recorder connecting to {0}; recordings will be saved in {1}",
+        new Object[]{networkTablesPlugin.getServerId(), Storage.getRecordingDir()});
+    shutdown.await();
+  }
+
+}
@@ -20,7 +20,7 @@ public final class Main {
   private static final Logger logger = Logger.getLogger(Main.class.getName());
 
   @SuppressWarnings("JavadocMethod")
-  public static void main(String[] args) throws IOException {
+  public static void main(String[] args) throws IOException, InterruptedException {
     WPIUtilJNI.Helper.setExtractOnStaticLoad(false);
     CombinedRuntimeLoader.loadLibraries(Main.class, "wpiutiljni");
 
@@ -36,6 +36,10 @@ public final class Main {
               throwable
           );
         });
+    if (HeadlessRecorder.isRequested(args)) {
+      HeadlessRecorder.run(args);
+      return;
+    }
     LauncherImpl.launchApplication(Shuffleboard.class, ShuffleboardPreloader.class, args);
   }
 }
@@ -12,6 +12,7 @@ import edu.wpi.first.shuffleboard.app.components.AdderTab;
 import edu.wpi.first.shuffleboard.app.components.DashboardTab;
 import edu.wpi.first.shuffleboard.app.components.DashboardTabPane;
 import edu.wpi.first.shuffleboard.app.dialogs.AboutDialog;
+import edu.wpi.first.shuffleboard.app.dialogs.DiagnosticsDialog;
 import edu.wpi.first.shuffleboard.app.dialogs.ExportRecordingDialog;
 import edu.wpi.first.shuffleboard.app.dialogs.PluginDialog;
 import edu.wpi.first.shuffleboard.app.dialogs.PrefsDialog;
@@ -65,6 +66,7 @@ public class MainWindowController {
 
   private final PluginDialog pluginDialog = new PluginDialog();
   private final AboutDialog aboutDialog = new AboutDialog();
+  private final DiagnosticsDialog diagnosticsDialog = new DiagnosticsDialog();
   private final ExportRecordingDialog exportRecordingDialog = new ExportRecordingDialog();
   private final PrefsDialog prefsDialog = new PrefsDialog();
 
@@ -320,6 +322,11 @@ public class MainWindowController {
     aboutDialog.show();
   }
 
+  @FXML
+  private void showDiagnostics() {
+    diagnosticsDialog.show();
+  }
+
   @FXML
   private void openDocsInBrowser() {
     if (Desktop.getDesktop().isSupported(Desktop.Action.BROWSE)) {
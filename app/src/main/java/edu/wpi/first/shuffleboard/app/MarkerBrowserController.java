@@ -0,0 +1,162 @@
+package edu.wpi.first.shuffleboard.app;
+
+import edu.wpi.first.shuffleboard.api.sources.recording.Marker;
+import edu.wpi.first.shuffleboard.api.sources.recording.MarkerImportance;
+import edu.wpi.first.shuffleboard.api.sources.recording.TimestampedData;
+import edu.wpi.first.shuffleboard.api.util.FxUtils;
+import edu.wpi.first.shuffleboard.app.components.MarkerColors;
+import edu.wpi.first.shuffleboard.app.sources.recording.MarkerIndex;
+import edu.wpi.first.shuffleboard.app.sources.recording.Playback;
+
+import org.controlsfx.control.CheckComboBox;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.fxml.FXML;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.TextField;
+import javafx.scene.control.Tooltip;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.MouseButton;
+import javafx.scene.layout.Pane;
+import javafx.scene.shape.Circle;
+import javafx.util.StringConverter;
+
+/**
+ * Controller for the marker browser, which lists the markers in the recording being played back. Markers can be
+ * searched and filtered by importance, and clicking a marker moves playback to it.
+ */
+public final class MarkerBrowserController {
+
+  @FXML
+  private Pane root;
+  @FXML
+  private TextField searchField;
+  @FXML
+  private ComboBox<MarkerIndex.Match> matchDropdown;
+  @FXML
+  private CheckComboBox<MarkerImportance> importanceFilter;
+  @FXML
+  private ListView<Marker> markerList;
+  @FXML
+  private Label countLabel;
+
+  private final ObjectProperty<MarkerIndex> index = new SimpleObjectProperty<>(this, "index", MarkerIndex.EMPTY);
+
+  @FXML
+  private void initialize() {
+    matchDropdown.getItems().setAll(MarkerIndex.Match.values());
+    matchDropdown.setValue(MarkerIndex.Match.SUBSTRING);
+    matchDropdown.setConverter(new StringConverter<>() {
+      @Override
+      public String toString(MarkerIndex.Match match) {
+        return match == MarkerIndex.Match.PREFIX ? "Name starts with" : "Contains";
+      }
+
+      @Override
+      public MarkerIndex.Match fromString(String string) {
+        throw new UnsupportedOperationException();
+      }
+    });
+    importanceFilter.getItems().setAll(MarkerImportance.values());
+    importanceFilter.getCheckModel().checkAll();
+    markerList.setCellFactory(__ -> new MarkerCell());
+
+    InvalidationListener search = __ -> search();
+    searchField.textProperty().addListener(search);
+    matchDropdown.valueProperty().addListener(search);
+    importanceFilter.getCheckModel().getCheckedItems().addListener(search);
+    index.addListener(search);
+
+    markerList.setOnMouseClicked(e -> {
+      if (e.getButton() == MouseButton.PRIMARY) {
+        seekToSelected();
+      }
+    });
+    markerList.setOnKeyPressed(e -> {
+      if (e.getCode() == KeyCode.ENTER) {
+        seekToSelected();
+      }
+    });
+
+    Playback.currentPlaybackProperty().addListener((__, old, playback) -> showMarkers(playback));
+    showMarkers(Playback.getCurrentPlayback().orElse(null));
+    search();
+  }
+
+  private void showMarkers(Playback playback) {
+    FxUtils.runOnFxThread(() -> index.set(MarkerIndex.EMPTY));
+    if (playback != null) {
+      playback.getMarkerIndex().thenAccept(markerIndex -> FxUtils.runOnFxThread(() -> {
+        // Ignore the index if a different recording was loaded while it was being built
+        if (Playback.getCurrentPlayback().orElse(null) == playback) {
+          index.set(markerIndex);
+        }
+      }));
+    }
+  }
+
+  private void search() {
+    Set<MarkerImportance> importances = EnumSet.noneOf(MarkerImportance.class);
+    importances.addAll(importanceFilter.getCheckModel().getCheckedItems());
+    MarkerIndex markerIndex = index.get();
+    List<Marker> results = markerIndex.search(searchField.getText(), matchDropdown.getValue(), importances);
+    markerList.getItems().setAll(results);
+    countLabel.setText(results.size() + " of " + markerIndex.size() + " markers");
+  }
+
+  private void seekToSelected() {
+    Marker marker = markerList.getSelectionModel().getSelectedItem();
+    if (marker != null) {
+      Playback.getCurrentPlayback().ifPresent(playback -> playback.seek(marker.getTimestamp()));
+    }
+  }
+
+  /**
+   * Formats the time of a marker relative to the first data point in the recording, to match the playback controls.
+   */
+  private static String formatTime(long timestamp) {
+    long first = Playback.getCurrentPlayback()
+        .map(playback -> playback.getRecording().getFirst())
+        .map(TimestampedData::getTimestamp)
+        .orElse(0L);
+    long ms = Math.max(0, timestamp - first);
+    long seconds = ms / 1000L;
+    return String.format("%d:%02d.%03d", seconds / 60, seconds % 60, ms % 1000);
+  }
+
+  private static final class MarkerCell extends ListCell<Marker> {
+
+    private final Circle importance = new Circle(4);
+    private final Tooltip description = new Tooltip();
+
+    @Override
+    protected void updateItem(Marker marker, boolean empty) {
+      super.updateItem(marker, empty);
+      if (empty || marker == null) {
+        setText(null);
+        setGraphic(null);
+        setTooltip(null);
+      } else {
+        setText(formatTime(marker.getTimestamp()) + "  " + marker.getName());
+        importance.setFill(MarkerColors.forImportance(marker.getImportance()));
+        setGraphic(importance);
+        if (marker.getDescription().isEmpty()) {
+          setTooltip(null);
+        } else {
+          description.setText(marker.getDescription());
+          setTooltip(description);
+        }
+      }
+    }
+  }
+
+}
@@ -2,27 +2,54 @@ package edu.wpi.first.shuffleboard.app;
 
 import edu.wpi.first.shuffleboard.app.components.Scrubber;
 import edu.wpi.first.shuffleboard.app.sources.recording.Playback;
+import edu.wpi.first.shuffleboard.app.sources.recording.PlaybackComparison;
 import edu.wpi.first.shuffleboard.api.sources.recording.Recorder;
 import edu.wpi.first.shuffleboard.api.sources.recording.TimestampedData;
 import edu.wpi.first.shuffleboard.api.util.FxUtils;
+import edu.wpi.first.shuffleboard.api.util.Storage;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import org.controlsfx.control.ToggleSwitch;
 import org.fxmisc.easybind.EasyBind;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+import javafx.beans.binding.Bindings;
 import javafx.beans.property.Property;
 import javafx.fxml.FXML;
+import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.Dialog;
 import javafx.scene.control.Label;
+import javafx.scene.control.Spinner;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.GridPane;
 import javafx.scene.layout.Pane;
+import javafx.stage.FileChooser;
 
 public class PlaybackController {
 
+  private static final Logger log = Logger.getLogger(PlaybackController.class.getName());
+
+  // Clips default to this many seconds either side of the current frame
+  private static final double DEFAULT_CLIP_PADDING = 15;
+
+  private static final String ALIGN_RECORDING_START = "Recording start";
+  private static final String ALIGN_MATCH_START = "Match start";
+  private static final String ALIGN_MARKER = "Marker";
+
   @FXML
   private Pane root;
   @FXML
@@ -37,6 +64,8 @@ public class PlaybackController {
   private ToggleSwitch loopingSwitch;
   @FXML
   private Label progressLabel;
+  @FXML
+  private Button compareButton;
 
   private final ImageView recordIcon = new ImageView("/edu/wpi/first/shuffleboard/app/icons/icons8-Record-16.png");
   private final ImageView stopIcon = new ImageView("/edu/wpi/first/shuffleboard/app/icons/icons8-Stop-16.png");
@@ -72,6 +101,17 @@ public class PlaybackController {
     });
 
     progressScrubber.setBlockIncrement(1);
+    Playback.currentPlaybackProperty().addListener((__, old, playback) -> {
+      FxUtils.runOnFxThread(() -> progressScrubber.setOverview(null));
+      if (playback != null) {
+        playback.getOverview().thenAccept(overview -> FxUtils.runOnFxThread(() -> {
+          // Ignore the overview if a different recording was loaded while it was being computed
+          if (Playback.getCurrentPlayback().orElse(null) == playback) {
+            progressScrubber.setOverview(overview);
+          }
+        }));
+      }
+    });
 
     playPauseButton.graphicProperty().bind(
         EasyBind.map(pausedProperty, paused -> paused == null || paused ? playIcon : pauseIcon));
@@ -89,13 +129,29 @@ public class PlaybackController {
           } else {
             String time = msToMinSec(current.getTimestamp() - first.getTimestamp());
             String length = msToMinSec(playback.getRecording().getLength());
-            progressLabel.setText(time + " / " + length);
+            progressLabel.setText(time + " / " + length + comparisonProgress());
           }
         }
       });
     });
 
     loopingSwitch.selectedProperty().bindBidirectional(loopingProperty);
+    compareButton.textProperty().bind(
+        EasyBind.map(PlaybackComparison.currentComparisonProperty(), c -> c == null ? "Compare..." : "Stop comparing"));
+  }
+
+  /**
+   * Gets the text describing the time in the compared recording, or an empty string if there is no comparison.
+   */
+  private static String comparisonProgress() {
+    return PlaybackComparison.getCurrentComparison()
+        .filter(comparison -> comparison.getRecording().getFirst() != null)
+        .map(comparison -> {
+          // Not using getData(), which copies the entire recording, since this is called for every frame
+          long first = comparison.getRecording().getFirst().getTimestamp();
+          return "  (comparison " + msToMinSec(comparison.getComparisonTime() - first) + ")";
+        })
+        .orElse("");
   }
 
   private static String msToMinSec(long ms) {
@@ -125,6 +181,163 @@ public class PlaybackController {
     Playback.getCurrentPlayback().ifPresent(Playback::stop);
   }
 
+  @FXML
+  private void saveClip() throws IOException {
+    Playback playback = Playback.getCurrentPlayback().orElse(null);
+    if (playback == null || playback.getCurrentFrame() == null) {
+      return;
+    }
+    playback.pause();
+    // Times in the dialog are in seconds since the start of the recording, the same as the progress label
+    final long first = playback.getRecording().getFirst().getTimestamp();
+    final double length = playback.getRecording().getLength() / 1000.0;
+    final double current = (playback.getCurrentFrame().getTimestamp() - first) / 1000.0;
+    Spinner<Double> start = new Spinner<>(0, length, Math.max(0, current - DEFAULT_CLIP_PADDING), 1);
+    Spinner<Double> end = new Spinner<>(0, length, Math.min(length, current + DEFAULT_CLIP_PADDING), 1);
+    start.setEditable(true);
+    end.setEditable(true);
+    GridPane grid = new GridPane();
+    grid.setHgap(8);
+    grid.setVgap(8);
+    grid.addRow(0, new Label("Start (seconds)"), start);
+    grid.addRow(1, new Label("End (seconds)"), end);
+
+    Dialog<ButtonType> dialog = new Dialog<>();
+    dialog.initOwner(root.getScene().getWindow());
+    dialog.setTitle("Save Clip");
+    dialog.setHeaderText("Save part of the recording as a new recording");
+    dialog.getDialogPane().setContent(grid);
+    dialog.getDialogPane().getButtonTypes().setAll(ButtonType.OK, ButtonType.CANCEL);
+    dialog.getDialogPane().lookupButton(ButtonType.OK).disableProperty()
+        .bind(Bindings.createBooleanBinding(
+            () -> start.getValue() > end.getValue(), start.valueProperty(), end.valueProperty()));
+    if (dialog.showAndWait().filter(ButtonType.OK::equals).isEmpty()) {
+      return;
+    }
+
+    FileChooser chooser = new FileChooser();
+    chooser.setInitialDirectory(Storage.getRecordingDir());
+    chooser.setInitialFileName(playback.getRecordingFile().getFileName().toString()
+        .replace(".sbr", String.format("-%.0f-%.0f.sbr", start.getValue(), end.getValue())));
+    chooser.getExtensionFilters().setAll(
+        new FileChooser.ExtensionFilter("Shuffleboard Data Recording", "*.sbr"));
+    final File selected = chooser.showSaveDialog(root.getScene().getWindow());
+    if (selected == null) {
+      return;
+    }
+    final long startTime = first + (long) (start.getValue() * 1000);
+    final long endTime = first + (long) (end.getValue() * 1000);
+    CompletableFuture.runAsync(() -> {
+      try {
+        playback.saveClip(selected.toPath(), startTime, endTime);
+      } catch (IOException | RuntimeException e) {
+        log.log(Level.WARNING, "Could not save clip to " + selected, e);
+        FxUtils.runOnFxThread(() -> {
+          Alert alert = new Alert(Alert.AlertType.ERROR, null, ButtonType.OK);
+          alert.setTitle("Could not save clip");
+          alert.setHeaderText("The clip could not be saved to " + selected.getName());
+          alert.setContentText("Error message:\n\n    " + e.getMessage());
+          alert.showAndWait();
+        });
+      }
+    });
+  }
+
+  @FXML
+  private void toggleComparison() throws IOException {
+    if (PlaybackComparison.getCurrentComparison().isPresent()) {
+      PlaybackComparison.getCurrentComparison().ifPresent(PlaybackComparison::stop);
+      return;
+    }
+    Playback playback = Playback.getCurrentPlayback().orElse(null);
+    if (playback == null) {
+      return;
+    }
+    FileChooser chooser = new FileChooser();
+    chooser.setInitialDirectory(Storage.getRecordingDir());
+    chooser.getExtensionFilters().setAll(
+        new FileChooser.ExtensionFilter("Shuffleboard Data Recording", "*.sbr"));
+    final File selected = chooser.showOpenDialog(root.getScene().getWindow());
+    if (selected == null) {
+      return;
+    }
+    PlaybackComparison comparison = PlaybackComparison.load(playback, selected.toPath());
+    OptionalLong offset = showAlignmentDialog(playback, comparison);
+    if (offset.isPresent()) {
+      comparison.setOffset(offset.getAsLong());
+      comparison.start();
+    }
+  }
+
+  /**
+   * Asks how to line up a compared recording with the one being played back.
+   *
+   * @return the alignment offset, or an empty optional if the comparison was cancelled
+   */
+  private OptionalLong showAlignmentDialog(Playback playback, PlaybackComparison comparison) {
+    List<String> markers = List.copyOf(
+        PlaybackComparison.commonMarkerNames(playback.getRecording(), comparison.getRecording()));
+    ComboBox<String> alignment = new ComboBox<>();
+    alignment.getItems().setAll(ALIGN_RECORDING_START, ALIGN_MATCH_START, ALIGN_MARKER);
+    boolean hasMatchStart = baseOffset(playback, comparison, ALIGN_MATCH_START, null).isPresent();
+    alignment.setValue(hasMatchStart ? ALIGN_MATCH_START : ALIGN_RECORDING_START);
+    ComboBox<String> marker = new ComboBox<>();
+    marker.getItems().setAll(markers);
+    marker.disableProperty().bind(alignment.valueProperty().isNotEqualTo(ALIGN_MARKER));
+    if (!markers.isEmpty()) {
+      marker.setValue(markers.get(0));
+    }
+    // Manual adjustment on top of the chosen alignment, for recordings with no common reference point
+    Spinner<Double> adjustment = new Spinner<>(-3600.0, 3600.0, 0.0, 0.1);
+    adjustment.setEditable(true);
+    Label status = new Label();
+    GridPane grid = new GridPane();
+    grid.setHgap(8);
+    grid.setVgap(8);
+    grid.addRow(0, new Label("Align on"), alignment);
+    grid.addRow(1, new Label("Marker"), marker);
+    grid.addRow(2, new Label("Adjust (seconds)"), adjustment);
+    grid.add(status, 0, 3, 2, 1);
+
+    Dialog<ButtonType> dialog = new Dialog<>();
+    dialog.initOwner(root.getScene().getWindow());
+    dialog.setTitle("Compare Recordings");
+    dialog.setHeaderText("Compare with " + comparison.getRecordingFile().getFileName());
+    dialog.getDialogPane().setContent(grid);
+    dialog.getDialogPane().getButtonTypes().setAll(ButtonType.OK, ButtonType.CANCEL);
+    dialog.getDialogPane().lookupButton(ButtonType.OK).disableProperty()
+        .bind(Bindings.createBooleanBinding(
+            () -> baseOffset(playback, comparison, alignment.getValue(), marker.getValue()).isEmpty(),
+            alignment.valueProperty(), marker.valueProperty()));
+    status.textProperty().bind(Bindings.createStringBinding(
+        () -> baseOffset(playback, comparison, alignment.getValue(), marker.getValue()).isPresent()
+            ? ""
+            : "The recordings have no common " + alignment.getValue().toLowerCase(Locale.ROOT),
+        alignment.valueProperty(), marker.valueProperty()));
+
+    if (dialog.showAndWait().filter(ButtonType.OK::equals).isEmpty()) {
+      return OptionalLong.empty();
+    }
+    OptionalLong base = baseOffset(playback, comparison, alignment.getValue(), marker.getValue());
+    return base.isPresent()
+        ? OptionalLong.of(base.getAsLong() + Math.round(adjustment.getValue() * 1000))
+        : OptionalLong.empty();
+  }
+
+  private static OptionalLong baseOffset(Playback playback, PlaybackComparison comparison,
+                                         String alignment, String markerName) {
+    if (ALIGN_MATCH_START.equals(alignment)) {
+      return PlaybackComparison.matchStartOffset(playback.getRecording(), comparison.getRecording());
+    } else if (ALIGN_MARKER.equals(alignment)) {
+      return markerName == null
+          ? OptionalLong.empty()
+          : PlaybackComparison.markerOffset(playback.getRecording(), comparison.getRecording(), markerName);
+    } else {
+      return OptionalLong.of(
+          PlaybackComparison.recordingStartOffset(playback.getRecording(), comparison.getRecording()));
+    }
+  }
+
   @FXML
   private void toggleRecord() {
     Recorder recorder = Recorder.getInstance();
@@ -2,12 +2,15 @@ package edu.wpi.first.shuffleboard.app;
 
 import edu.wpi.first.shuffleboard.api.components.ActionList;
 import edu.wpi.first.shuffleboard.api.data.DataType;
+import edu.wpi.first.shuffleboard.api.data.IncompatibleSourceException;
 import edu.wpi.first.shuffleboard.api.dnd.DataFormats;
 import edu.wpi.first.shuffleboard.api.prefs.Category;
 import edu.wpi.first.shuffleboard.api.prefs.Group;
 import edu.wpi.first.shuffleboard.api.prefs.Setting;
 import edu.wpi.first.shuffleboard.api.sources.DataSource;
 import edu.wpi.first.shuffleboard.api.sources.SourceTypes;
+import edu.wpi.first.shuffleboard.api.sources.recording.serialization.Serializers;
+import edu.wpi.first.shuffleboard.api.sources.recording.serialization.TypeAdapter;
 import edu.wpi.first.shuffleboard.api.util.FxUtils;
 import edu.wpi.first.shuffleboard.api.util.GridPoint;
 import edu.wpi.first.shuffleboard.api.util.RoundingMode;
@@ -30,6 +33,8 @@ import edu.wpi.first.shuffleboard.app.json.SourcedRestorer;
 import edu.wpi.first.shuffleboard.app.prefs.AppPreferences;
 import edu.wpi.first.shuffleboard.app.prefs.SettingsDialog;
 import edu.wpi.first.shuffleboard.app.sources.DestroyedSource;
+import edu.wpi.first.shuffleboard.app.sources.recording.ComparisonSourceType;
+import edu.wpi.first.shuffleboard.app.sources.recording.PlaybackComparison;
 
 import javafx.scene.control.Alert;
 import javafx.scene.control.ButtonBar;
@@ -362,6 +367,9 @@ public class WidgetPaneController {
         if (changeMenus.hasItems()) {
           widgetPaneActions.addNested(changeMenus);
         }
+        if (PlaybackComparison.getCurrentComparison().isPresent() && canShowComparison(widgetTile.getContent())) {
+          widgetPaneActions.addAction("Show comparison", () -> showComparison(widgetTile.getContent()));
+        }
       }
       widgetPaneActions.addAction("Edit Properties",
           () -> {
@@ -593,6 +601,47 @@ public class WidgetPaneController {
     return list;
   }
 
+  /**
+   * Checks if a comparison of a widget can be shown. Only widgets that show recorded data have comparisons. Data read
+   * from files other than the recording file, such as camera streams, is always read from the file being played back,
+   * so widgets showing it have no comparison.
+   */
+  private static boolean canShowComparison(Widget widget) {
+    return !widget.getSources().isEmpty()
+        && widget.getSources().stream()
+            .allMatch(source -> source.getType().isRecordable()
+                && source.getType() != ComparisonSourceType.INSTANCE
+                && !readsSeparateFiles(source.getDataType()));
+  }
+
+  private static boolean readsSeparateFiles(DataType<?> dataType) {
+    return Serializers.getOptional(dataType)
+        .map(TypeAdapter::readsSeparateFiles)
+        .orElse(false);
+  }
+
+  /**
+   * Adds a copy of a widget that shows the same sources from the recording being compared to the current playback.
+   *
+   * @param widget the widget to show the comparison of
+   */
+  private void showComparison(Widget widget) {
+    List<DataSource> sources = widget.getSources().stream()
+        .map(source -> ComparisonSourceType.INSTANCE.forUri(PlaybackComparison.uriFor(source.getId())))
+        .collect(Collectors.toList());
+    try {
+      Components.getDefault()
+          .createWidget(widget.getName(), sources)
+          .ifPresent(comparison -> {
+            comparison.setTitle(widget.getTitle() + " (comparison)");
+            pane.addComponent(comparison);
+          });
+    } catch (IncompatibleSourceException e) {
+      // The compared recording has no data, or different data, for the widget's sources
+      log.log(Level.WARNING, "Could not show comparison of " + widget.getTitle(), e);
+    }
+  }
+
   /**
    * Creates and displays a dialog for editing settings.
    *
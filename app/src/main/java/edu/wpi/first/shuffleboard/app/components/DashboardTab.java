@@ -16,10 +16,8 @@ import edu.wpi.first.shuffleboard.api.util.Debouncer;
 import edu.wpi.first.shuffleboard.api.util.FxUtils;
 import edu.wpi.first.shuffleboard.api.util.TypeUtils;
 import edu.wpi.first.shuffleboard.api.widget.Component;
-import edu.wpi.first.shuffleboard.api.widget.ComponentContainer;
 import edu.wpi.first.shuffleboard.api.widget.Components;
 import edu.wpi.first.shuffleboard.api.widget.SettingsHolder;
-import edu.wpi.first.shuffleboard.api.widget.Sourced;
 import edu.wpi.first.shuffleboard.app.Autopopulator;
 import edu.wpi.first.shuffleboard.app.prefs.AppPreferences;
 import edu.wpi.first.shuffleboard.app.prefs.SettingsDialog;
@@ -29,10 +27,12 @@ import edu.wpi.first.networktables.NetworkTable;
 import org.fxmisc.easybind.EasyBind;
 
 import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import javafx.beans.InvalidationListener;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.Property;
@@ -75,9 +75,27 @@ public class DashboardTab extends Tab implements HandledTab, Populatable, Settin
   private final Debouncer populateDebouncer =
       new Debouncer(() -> FxUtils.runOnFxThread(this::populate), Duration.ofMillis(50));
 
+  /**
+   * Reverse index of source IDs to the components in this tab bound to them. This lets population checks run in
+   * constant time per source instead of walking every component in the tab.
+   */
+  private final SourceComponentIndex componentIndex =
+      new SourceComponentIndex(() -> getWidgetPane().allComponents());
+
+  // Replacing the content of a tile (eg changing the type of a widget) may change the sources it shows
+  private final InvalidationListener tileContentListener = __ -> componentIndex.invalidate();
+
   private final ListChangeListener<Tile> tileListChangeListener = c -> {
     while (c.next()) {
+      if (c.wasRemoved()) {
+        componentIndex.invalidate();
+        c.getRemoved().forEach(tile -> tile.contentProperty().removeListener(tileContentListener));
+      }
       if (c.wasAdded()) {
+        c.getAddedSubList().forEach(tile -> tile.contentProperty().addListener(tileContentListener));
+        c.getAddedSubList().stream()
+            .map(Tile::getContent)
+            .forEach(componentIndex::add);
         c.getAddedSubList().stream()
             .map(Tile::getContent)
             .flatMap(TypeUtils.castStream(Populatable.class))
@@ -104,11 +122,14 @@ public class DashboardTab extends Tab implements HandledTab, Populatable, Settin
     setGraphic(new TabHandle(this));
 
     widgetPane.addListener((__, prev, cur) -> {
+      componentIndex.invalidate();
       if (prev != null) {
         prev.getTiles().removeListener(tileListChangeListener);
+        prev.getTiles().forEach(tile -> tile.contentProperty().removeListener(tileContentListener));
       }
       if (cur != null) {
         cur.getTiles().addListener(tileListChangeListener);
+        cur.getTiles().forEach(tile -> tile.contentProperty().addListener(tileContentListener));
       }
     });
 
@@ -368,39 +389,42 @@ public class DashboardTab extends Tab implements HandledTab, Populatable, Settin
 
   @Override
   public boolean supports(String sourceId) {
-    SourceType type = SourceTypes.getDefault().typeForUri(sourceId);
-    String name = NetworkTable.normalizeKey(type.removeProtocol(sourceId), false);
-    return !deferPopulation
-        && isAutoPopulate()
-        && !getSourcePrefix().isEmpty()
-        && type.dataTypeForSource(DataTypes.getDefault(), sourceId) != DataTypes.Map
-        && DataSourceUtils.isNotMetadata(sourceId)
-        && (name.startsWith(getSourcePrefix()) || sourceId.startsWith(getSourcePrefix()));
+    return createSupportsFilter().test(sourceId);
+  }
+
+  /**
+   * Creates a predicate that checks if a source is supported by this tab. The tab's state and the source prefix are
+   * only resolved once, which avoids repeating that work for every source in a population batch.
+   */
+  private Predicate<String> createSupportsFilter() {
+    String prefix = getSourcePrefix();
+    if (deferPopulation || !isAutoPopulate() || prefix.isEmpty()) {
+      return __ -> false;
+    }
+    SourceTypes sourceTypes = SourceTypes.getDefault();
+    return sourceId -> {
+      SourceType type = sourceTypes.typeForUri(sourceId);
+      String name = NetworkTable.normalizeKey(type.removeProtocol(sourceId), false);
+      return (name.startsWith(prefix) || sourceId.startsWith(prefix))
+          && DataSourceUtils.isNotMetadata(sourceId)
+          && type.dataTypeForSource(DataTypes.getDefault(), sourceId) != DataTypes.Map;
+    };
   }
 
   @Override
   @SuppressWarnings("PMD.LinguisticNaming") // Predicates prefixed with "is" makes PMD mad
   public boolean hasComponentFor(String sourceId) {
-    List<Component> topLevelComponents = getWidgetPane().getTiles().stream()
-        .map(t -> (Tile<?>) t)
-        .map(Tile::getContent)
-        .collect(Collectors.toList());
-    Predicate<Sourced> isSameSource = s -> s.getSources().stream()
-        .map(DataSource::getId)
-        .anyMatch(sourceId::equals);
-    Predicate<Sourced> isSubSource = s -> s.getSources().stream()
-        .map(i -> i.getId() + "/")
-        .anyMatch(sourceId::startsWith);
-    Predicate<Sourced> isNotContainer = s -> !(s instanceof ComponentContainer);
-    Predicate<Sourced> hasComponent = isSameSource.or(isSubSource.and(isNotContainer));
-    return topLevelComponents.stream()
-        .flatMap(TypeUtils.castStream(Sourced.class))
-        .anyMatch(hasComponent)
-        || topLevelComponents.stream()
-        .flatMap(TypeUtils.castStream(ComponentContainer.class))
-        .flatMap(ComponentContainer::allComponents)
-        .flatMap(TypeUtils.castStream(Sourced.class))
-        .anyMatch(hasComponent);
+    return componentIndex.hasComponentFor(sourceId);
+  }
+
+  @Override
+  public void addComponentsIfPossible(SourceTypes sourceTypes, Collection<String> sourceIds) {
+    Predicate<String> supportsFilter = createSupportsFilter();
+    for (String sourceId : sourceIds) {
+      if (supportsFilter.test(sourceId) && !componentIndex.hasComponentFor(sourceId)) {
+        addComponentFor(sourceTypes.forUri(sourceId));
+      }
+    }
   }
 
   @Override
@@ -434,7 +458,13 @@ public class DashboardTab extends Tab implements HandledTab, Populatable, Settin
           });
     } else {
       // Add a component everywhere possible
-      targets.forEach(t -> t.addComponentIfPossible(source));
+      targets.forEach(t -> {
+        t.addComponentIfPossible(source);
+        if (t instanceof Component) {
+          // Containers without observable children don't notify the index of new children, so re-index them here
+          componentIndex.add((Component) t);
+        }
+      });
     }
   }
 }
@@ -88,10 +88,11 @@ public final class InteractiveSourceTree extends SourceTreeTable<SourceEntry, Ob
     sourceType.getAvailableSources().addListener((MapChangeListener<String, Object>) change -> {
       SourceEntry entry = sourceType.createSourceEntryForUri(change.getKey());
       if (DataSourceUtils.isNotMetadata(entry.getName())) {
+        // Queue changes instead of applying them immediately so a flood of new sources is applied in a single pass
         if (change.wasAdded()) {
-          updateEntry(entry);
+          queueUpdate(entry);
         } else if (change.wasRemoved()) {
-          removeEntry(entry);
+          queueRemoval(entry);
         }
       }
     });
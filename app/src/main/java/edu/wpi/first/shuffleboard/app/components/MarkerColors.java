@@ -0,0 +1,34 @@
+package edu.wpi.first.shuffleboard.app.components;
+
+import edu.wpi.first.shuffleboard.api.sources.recording.MarkerImportance;
+
+import javafx.scene.paint.Color;
+
+/**
+ * The colors used to show markers of each importance level.
+ */
+public final class MarkerColors {
+
+  private MarkerColors() {
+    throw new UnsupportedOperationException("This is a utility class!");
+  }
+
+  /**
+   * Gets the color to show a marker of the given importance in.
+   *
+   * @param importance the importance of the marker
+   */
+  public static Color forImportance(MarkerImportance importance) {
+    switch (importance) {
+      case CRITICAL:
+        return Color.RED;
+      case HIGH:
+        return Color.ORANGE;
+      case NORMAL:
+        return Color.DODGERBLUE;
+      default:
+        return Color.GRAY;
+    }
+  }
+
+}
@@ -1,24 +1,49 @@
 package edu.wpi.first.shuffleboard.app.components;
 
+import edu.wpi.first.shuffleboard.api.sources.recording.MarkerImportance;
 import edu.wpi.first.shuffleboard.api.util.FxUtils;
+import edu.wpi.first.shuffleboard.app.sources.recording.PlaybackOverview;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.Property;
 import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ChangeListener;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.Slider;
+import javafx.scene.control.Tooltip;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.paint.Color;
 
 /**
  * A special subclass of slider used for scrubbing a progress value. A scrubber has a default range of (0, 1) and will
  * only set the progress value when it is being controlled by a user; otherwise, it remains in a view-only mode to
  * prevent recursion.
+ *
+ * <p>A scrubber can show an {@link PlaybackOverview overview} of the recording behind its track: bars showing how
+ * densely data was recorded, and ticks for markers, colored by importance. Hovering near a marker tick shows the names
+ * of the markers there. The overview is precomputed and downsampled, so drawing it does not get slower for longer
+ * recordings, and it is only redrawn when the overview or the size of the scrubber changes.
  */
 public class Scrubber extends Slider {
 
+  private static final Color DENSITY_COLOR = Color.gray(0.5, 0.35);
+  // Markers within this many pixels of the cursor are shown in the hover preview
+  private static final double MARKER_HOVER_DISTANCE = 4;
+  private static final int MAX_PREVIEWED_MARKERS = 5;
+
   private final BooleanProperty viewMode = new SimpleBooleanProperty(this, "viewMode", true);
+  private final ObjectProperty<PlaybackOverview> overview = new SimpleObjectProperty<>(this, "overview", null);
+  private final Canvas overviewCanvas = new Canvas();
+  private final Tooltip markerPreview = new Tooltip();
 
   private Property<Number> progressProperty = null;
   private final ChangeListener<Number> progressListener = (__, oldProgress, newProgress) -> {
@@ -43,6 +68,85 @@ public class Scrubber extends Slider {
     setOnKeyReleased(e -> setViewMode(true));
     setOnMousePressed(e -> setViewMode(false));
     setOnMouseReleased(e -> setViewMode(true));
+
+    overviewCanvas.setManaged(false);
+    overviewCanvas.setMouseTransparent(true);
+    overview.addListener(__ -> drawOverview());
+    addEventHandler(MouseEvent.MOUSE_MOVED, this::previewMarkers);
+    addEventHandler(MouseEvent.MOUSE_EXITED, e -> markerPreview.hide());
+  }
+
+  @Override
+  protected void layoutChildren() {
+    super.layoutChildren();
+    // The skin may replace its children, so make sure the overview stays behind the track
+    if (!getChildren().contains(overviewCanvas)) {
+      getChildren().add(0, overviewCanvas);
+    }
+    // Line the overview up with the range of thumb positions, so a position in the overview lines up with the thumb
+    // when it is at that position
+    Node thumb = lookup(".thumb");
+    double thumbWidth = thumb == null ? 0 : thumb.getLayoutBounds().getWidth();
+    double width = Math.max(0, getWidth() - snappedLeftInset() - snappedRightInset() - thumbWidth);
+    double height = Math.max(0, getHeight() - snappedTopInset() - snappedBottomInset());
+    overviewCanvas.relocate(snappedLeftInset() + thumbWidth / 2, snappedTopInset());
+    if (overviewCanvas.getWidth() != width || overviewCanvas.getHeight() != height) {
+      overviewCanvas.setWidth(width);
+      overviewCanvas.setHeight(height);
+      drawOverview();
+    }
+  }
+
+  private void drawOverview() {
+    final double width = overviewCanvas.getWidth();
+    final double height = overviewCanvas.getHeight();
+    GraphicsContext gc = overviewCanvas.getGraphicsContext2D();
+    gc.clearRect(0, 0, width, height);
+    PlaybackOverview overview = getOverview();
+    if (overview == null || overview.getBucketCount() == 0) {
+      return;
+    }
+    final int buckets = overview.getBucketCount();
+    final double bucketWidth = width / buckets;
+    gc.setFill(DENSITY_COLOR);
+    for (int i = 0; i < buckets; i++) {
+      double barHeight = overview.getDensity(i) * height;
+      gc.fillRect(i * bucketWidth, height - barHeight, bucketWidth, barHeight);
+    }
+    gc.setLineWidth(2);
+    for (int i = 0; i < buckets; i++) {
+      MarkerImportance importance = overview.getMarkerImportance(i);
+      if (importance != null) {
+        double x = (i + 0.5) * bucketWidth;
+        gc.setStroke(MarkerColors.forImportance(importance));
+        gc.strokeLine(x, 0, x, height);
+      }
+    }
+  }
+
+  private void previewMarkers(MouseEvent event) {
+    PlaybackOverview overview = getOverview();
+    double width = overviewCanvas.getWidth();
+    if (overview == null || width <= 0) {
+      markerPreview.hide();
+      return;
+    }
+    double position = (event.getX() - overviewCanvas.getLayoutX()) / width;
+    List<PlaybackOverview.PositionedMarker> markers =
+        overview.getMarkersNear(position, MARKER_HOVER_DISTANCE / width);
+    if (markers.isEmpty()) {
+      markerPreview.hide();
+      return;
+    }
+    String text = markers.stream()
+        .limit(MAX_PREVIEWED_MARKERS)
+        .map(m -> m.getMarker().getName())
+        .collect(Collectors.joining("\n"));
+    if (markers.size() > MAX_PREVIEWED_MARKERS) {
+      text += "\n...and " + (markers.size() - MAX_PREVIEWED_MARKERS) + " more";
+    }
+    markerPreview.setText(text);
+    markerPreview.show(this, event.getScreenX() + 12, event.getScreenY() + 12);
   }
 
   /**
@@ -69,4 +173,19 @@ public class Scrubber extends Slider {
     this.viewMode.set(viewMode);
   }
 
+  public final PlaybackOverview getOverview() {
+    return overview.get();
+  }
+
+  public final ObjectProperty<PlaybackOverview> overviewProperty() {
+    return overview;
+  }
+
+  /**
+   * Sets the overview to show behind the track, or {@code null} to show no overview.
+   */
+  public final void setOverview(PlaybackOverview overview) {
+    this.overview.set(overview);
+  }
+
 }
@@ -0,0 +1,135 @@
+package edu.wpi.first.shuffleboard.app.components;
+
+import edu.wpi.first.shuffleboard.api.sources.DataSource;
+import edu.wpi.first.shuffleboard.api.widget.Component;
+import edu.wpi.first.shuffleboard.api.widget.ComponentContainer;
+import edu.wpi.first.shuffleboard.api.widget.Layout;
+import edu.wpi.first.shuffleboard.api.widget.Sourced;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A reverse index from source IDs to the components bound to them. This is used by {@link DashboardTab} to check if a
+ * source already has a component without needing to walk every tile and nested component for each source ID.
+ *
+ * <p>The index keeps itself up to date as components change their sources and as layouts with observable children
+ * (such as any {@link edu.wpi.first.shuffleboard.api.widget.LayoutBase LayoutBase}) gain or lose children, and the
+ * owning tab adds components to it as tiles are added. Changes that cannot be applied incrementally, like removing a
+ * tile or a layout child or replacing the content of a tile, {@link #invalidate() invalidate} the index so it is
+ * rebuilt the next time it is queried. Queries never rebuild an index that has not been invalidated.
+ */
+final class SourceComponentIndex {
+
+  private final Supplier<Stream<Component>> components;
+  private final Map<String, Set<Sourced>> sourcedById = new HashMap<>();
+  // The source lists of components and the child lists of layouts that are being watched for changes
+  private final Set<ObservableList<?>> watchedSources = Collections.newSetFromMap(new IdentityHashMap<>());
+  private final Set<ObservableList<Component>> watchedChildren = Collections.newSetFromMap(new IdentityHashMap<>());
+  private final InvalidationListener sourcesChanged = __ -> invalidate();
+  private final ListChangeListener<Component> childrenChanged = c -> {
+    while (c.next()) {
+      if (c.wasRemoved()) {
+        invalidate();
+        return;
+      }
+      c.getAddedSubList().forEach(this::add);
+    }
+  };
+  private boolean dirty = true;
+
+  /**
+   * Creates a new index.
+   *
+   * @param components a supplier for all the components that should be indexed, including nested components
+   */
+  SourceComponentIndex(Supplier<Stream<Component>> components) {
+    this.components = components;
+  }
+
+  /**
+   * Marks this index as dirty. The index will be rebuilt the next time it is queried.
+   */
+  void invalidate() {
+    dirty = true;
+  }
+
+  /**
+   * Adds a component, and all components nested inside it, to the index. This has no effect if the index is dirty,
+   * since the component will be picked up by the next rebuild.
+   *
+   * @param component the component to add
+   */
+  void add(Component component) {
+    if (dirty) {
+      return;
+    }
+    index(component);
+    if (component instanceof ComponentContainer) {
+      ((ComponentContainer) component).allComponents().forEach(this::index);
+    }
+  }
+
+  /**
+   * Checks if there is a component for the given source ID. A component is present for a source if it is bound to that
+   * source directly, or if it is a non-container component bound to a parent of that source.
+   *
+   * @param sourceId the ID of the source to check
+   */
+  boolean hasComponentFor(String sourceId) {
+    if (dirty) {
+      rebuild();
+    }
+    if (sourcedById.containsKey(sourceId)) {
+      return true;
+    }
+    for (int i = sourceId.lastIndexOf('/'); i >= 0; i = sourceId.lastIndexOf('/', i - 1)) {
+      Set<Sourced> parents = sourcedById.get(sourceId.substring(0, i));
+      if (parents != null && parents.stream().anyMatch(s -> !(s instanceof ComponentContainer))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void rebuild() {
+    watchedSources.forEach(sources -> sources.removeListener(sourcesChanged));
+    watchedSources.clear();
+    watchedChildren.forEach(children -> children.removeListener(childrenChanged));
+    watchedChildren.clear();
+    watched.clear();
+    sourcedById.clear();
+    components.get().forEach(this::index);
+    dirty = false;
+  }
+
+  @SuppressWarnings("unchecked")
+  private void index(Component component) {
+    if (component instanceof Layout && ((Layout) component).getChildren() instanceof ObservableList) {
+      ObservableList<Component> children = (ObservableList<Component>) ((Layout) component).getChildren();
+      if (watchedChildren.add(children)) {
+        children.addListener(childrenChanged);
+      }
+    }
+    if (component instanceof Sourced) {
+      Sourced sourced = (Sourced) component;
+      if (watchedSources.add(sourced.getSources())) {
+        sourced.getSources().addListener(sourcesChanged);
+      }
+      for (DataSource<?> source : sourced.getSources()) {
+        sourcedById.computeIfAbsent(source.getId(), __ -> new HashSet<>()).add(sourced);
+      }
+    }
+  }
+
+}
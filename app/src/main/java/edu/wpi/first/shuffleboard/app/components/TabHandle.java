@@ -2,7 +2,7 @@ package edu.wpi.first.shuffleboard.app.components;
 
 import edu.wpi.first.shuffleboard.api.components.EditableLabel;
 import edu.wpi.first.shuffleboard.api.util.FxUtils;
-import edu.wpi.first.shuffleboard.api.util.ThreadUtils;
+import edu.wpi.first.shuffleboard.api.util.SharedTimer;
 import javafx.beans.property.Property;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.event.Event;
@@ -14,9 +14,8 @@ import javafx.scene.input.DragEvent;
 import javafx.scene.layout.StackPane;
 import org.fxmisc.easybind.EasyBind;
 
+import java.time.Duration;
 import java.util.concurrent.Future;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
 /**
  * This is a class that is designed to be used as a Tab graphic,
@@ -24,8 +23,7 @@ import java.util.concurrent.TimeUnit;
  */
 public class TabHandle extends StackPane {
 
-  private static final int DRAG_FOCUS_DELAY = 500;
-  private final ScheduledExecutorService delayedDragService = ThreadUtils.newDaemonScheduledExecutorService();
+  private static final Duration DRAG_FOCUS_DELAY = Duration.ofMillis(500);
   private final HandledTab tab;
 
   private final Property<Node> tabHeaderContainer = new SimpleObjectProperty<>(this, "tabHeaderContainer");
@@ -69,9 +67,9 @@ public class TabHandle extends StackPane {
 
   @SuppressWarnings("PMD.UnusedFormalParameter")
   private void startDelayedDrag(DragEvent dragEvent) {
-    Future<?> task = delayedDragService.schedule(
+    Future<?> task = SharedTimer.getDefault().schedule(
         () -> FxUtils.runOnFxThread(tab::onDragOver),
-        DRAG_FOCUS_DELAY, TimeUnit.MILLISECONDS);
+        DRAG_FOCUS_DELAY);
 
     setOnDragExited(__ -> task.cancel(false));
   }
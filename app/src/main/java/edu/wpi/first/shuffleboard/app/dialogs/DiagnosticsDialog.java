@@ -0,0 +1,54 @@
+package edu.wpi.first.shuffleboard.app.dialogs;
+
+import edu.wpi.first.shuffleboard.api.util.LazyInit;
+import edu.wpi.first.shuffleboard.app.DiagnosticsPaneController;
+import edu.wpi.first.shuffleboard.app.prefs.AppPreferences;
+
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Scene;
+import javafx.scene.layout.Pane;
+import javafx.stage.Stage;
+import javafx.stage.WindowEvent;
+
+/**
+ * Dialog for live performance metrics. The dialog is not modal, so it can be left open while using the dashboard.
+ */
+public final class DiagnosticsDialog {
+
+  private boolean initialized = false;
+
+  // Lazy init to avoid unnecessary loading if the dialog is never used
+  private final LazyInit<FXMLLoader> loader = LazyInit.of(() -> {
+    FXMLLoader fxmlLoader = new FXMLLoader(DiagnosticsPaneController.class.getResource("DiagnosticsPane.fxml"));
+    fxmlLoader.load();
+    return fxmlLoader;
+  });
+  private Stage stage;
+
+  private void setup() {
+    initialized = true;
+    Pane pane = loader.get().getRoot();
+    DiagnosticsPaneController controller = loader.get().getController();
+    stage = new Stage();
+    stage.addEventHandler(WindowEvent.WINDOW_SHOWN, __ -> controller.start());
+    stage.addEventHandler(WindowEvent.WINDOW_HIDDEN, __ -> controller.stop());
+    stage.setScene(new Scene(pane));
+    stage.sizeToScene();
+    stage.setMinWidth(520);
+    stage.setMinHeight(300);
+    stage.setTitle("Diagnostics");
+    pane.getStylesheets().setAll(AppPreferences.getInstance().getTheme().getStyleSheets());
+  }
+
+  /**
+   * Shows the diagnostics dialog.
+   */
+  public void show() {
+    if (!initialized) {
+      setup();
+    }
+    stage.show();
+    stage.toFront();
+  }
+
+}
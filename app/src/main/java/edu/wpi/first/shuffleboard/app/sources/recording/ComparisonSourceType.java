@@ -0,0 +1,134 @@
+package edu.wpi.first.shuffleboard.app.sources.recording;
+
+import edu.wpi.first.shuffleboard.api.data.DataType;
+import edu.wpi.first.shuffleboard.api.data.DataTypes;
+import edu.wpi.first.shuffleboard.api.sources.AbstractDataSource;
+import edu.wpi.first.shuffleboard.api.sources.DataSource;
+import edu.wpi.first.shuffleboard.api.sources.SourceType;
+import edu.wpi.first.shuffleboard.api.sources.Sources;
+import edu.wpi.first.shuffleboard.api.sources.UiHints;
+import edu.wpi.first.shuffleboard.api.sources.recording.TimestampedData;
+import edu.wpi.first.shuffleboard.api.util.FxUtils;
+import edu.wpi.first.shuffleboard.api.util.Time;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+
+/**
+ * The type of the sources that replay a recording being compared to the main playback. Comparison sources mirror the
+ * sources in the main recording: the comparison source for a source URI is named by that URI, so
+ * {@code network_table:///SmartDashboard/x} in the comparison recording is shown by
+ * {@code comparison://network_table:///SmartDashboard/x}.
+ */
+@UiHints(showConnectionIndicator = false)
+public final class ComparisonSourceType extends SourceType {
+
+  public static final ComparisonSourceType INSTANCE = new ComparisonSourceType();
+
+  private final Map<String, ComparisonSource<?>> sources = new ConcurrentHashMap<>();
+  // Comparison source URI -> the type of the data recorded for it
+  private final Map<String, DataType<?>> dataTypes = new ConcurrentHashMap<>();
+  private final ObservableList<String> availableUris = FXCollections.observableArrayList();
+  private final ObservableMap<String, Object> availableSources = FXCollections.observableHashMap();
+
+  private ComparisonSourceType() {
+    super("Comparison", false, "comparison://", ComparisonSourceType::forName);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static DataSource<?> forName(String name) {
+    return INSTANCE.sources.computeIfAbsent(name, __ -> {
+      DataType type = INSTANCE.dataTypes.getOrDefault(INSTANCE.toUri(name), DataTypes.Unknown);
+      return new ComparisonSource<>(type, name);
+    });
+  }
+
+  /**
+   * Prepares for a new comparison by replacing the types of the data for all comparison sources. Sources that are not
+   * in the new comparison, or whose data has a different type in it, are discarded so they are recreated with the right
+   * type the next time they are requested. Sources whose type is unchanged are kept, so widgets already showing them
+   * continue to be updated.
+   *
+   * @param newDataTypes the types of the data recorded for each comparison source URI
+   */
+  void reset(Map<String, DataType<?>> newDataTypes) {
+    dataTypes.clear();
+    dataTypes.putAll(newDataTypes);
+    sources.entrySet().removeIf(entry -> {
+      ComparisonSource<?> source = entry.getValue();
+      if (source.getDataType().equals(dataTypes.get(toUri(entry.getKey())))) {
+        return false;
+      }
+      source.close();
+      return true;
+    });
+    clearAvailableSources();
+  }
+
+  /**
+   * Removes all comparison sources from the available sources. This does not affect existing sources.
+   */
+  void clearAvailableSources() {
+    FxUtils.runOnFxThread(() -> {
+      availableUris.clear();
+      availableSources.clear();
+    });
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void read(TimestampedData recordedData) {
+    // Not using super.read(), which would add the URI to the available URIs again for every data point
+    final String uri = recordedData.getSourceId();
+    FxUtils.runOnFxThread(() -> {
+      if (!availableSources.containsKey(uri)) {
+        availableUris.add(uri);
+      }
+      availableSources.put(uri, recordedData.getData());
+    });
+    ((ComparisonSource<Object>) forUri(uri))
+        .setData(recordedData.getData(), Time.fromRecordingTime(recordedData.getTimestamp()));
+  }
+
+  @Override
+  public DataType<?> dataTypeForSource(DataTypes registry, String sourceUri) {
+    return dataTypes.getOrDefault(sourceUri, DataTypes.Unknown);
+  }
+
+  @Override
+  public ObservableList<String> getAvailableSourceUris() {
+    return availableUris;
+  }
+
+  @Override
+  public ObservableMap<String, Object> getAvailableSources() {
+    return availableSources;
+  }
+
+  private static final class ComparisonSource<T> extends AbstractDataSource<T> {
+
+    ComparisonSource(DataType<T> dataType, String name) {
+      super(dataType);
+      setName(name);
+      setActive(true);
+      Sources.getDefault().register(this);
+    }
+
+    @Override
+    public SourceType getType() {
+      return INSTANCE;
+    }
+
+    @Override
+    public void close() {
+      setActive(false);
+      Sources.getDefault().unregister(this);
+    }
+
+  }
+
+}
@@ -0,0 +1,217 @@
+package edu.wpi.first.shuffleboard.app.sources.recording;
+
+import edu.wpi.first.shuffleboard.api.sources.recording.Marker;
+import edu.wpi.first.shuffleboard.api.sources.recording.MarkerImportance;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * A searchable index of the markers in a recording. Markers can be searched by a prefix of their names, or by a
+ * substring of their names or descriptions, and filtered by importance. Searches are case-insensitive, and results are
+ * always sorted by timestamp.
+ *
+ * <p>Prefix searches use binary search over the sorted marker names. Substring searches look up the three-character
+ * sequences (trigrams) in the search text and only check the markers that contain the rarest of them, so the cost of a
+ * search depends on the number of plausible matches rather than the total number of markers.
+ */
+public final class MarkerIndex {
+
+  /**
+   * An empty index, for recordings with no markers.
+   */
+  public static final MarkerIndex EMPTY = new MarkerIndex(List.of());
+
+  private static final int GRAM_LENGTH = 3;
+  private static final int[] NO_MARKERS = new int[0];
+
+  /**
+   * How search text is matched against markers.
+   */
+  public enum Match {
+    /**
+     * Matches markers with names that start with the search text.
+     */
+    PREFIX,
+    /**
+     * Matches markers with names or descriptions that contain the search text.
+     */
+    SUBSTRING
+  }
+
+  // Markers sorted by timestamp. All other arrays refer to markers by their index in this array
+  private final Marker[] markers;
+  // Lower-case names and descriptions, separated by a newline, for substring searches
+  private final String[] searchText;
+  // Marker indices sorted by lower-case name, and the names in the same order, for prefix searches
+  private final int[] byName;
+  private final String[] sortedNames;
+  // Trigram -> indices of the markers whose search text contains it, in ascending order
+  private final Map<Long, int[]> grams;
+
+  /**
+   * Creates a new index of the given markers.
+   *
+   * @param markers the markers to index
+   */
+  public MarkerIndex(List<Marker> markers) {
+    this.markers = markers.stream()
+        .sorted(Comparator.comparingLong(Marker::getTimestamp))
+        .toArray(Marker[]::new);
+    final int count = this.markers.length;
+    searchText = new String[count];
+    String[] names = new String[count];
+    for (int i = 0; i < count; i++) {
+      names[i] = normalize(this.markers[i].getName());
+      searchText[i] = names[i] + '\n' + normalize(this.markers[i].getDescription());
+    }
+    byName = IntStream.range(0, count)
+        .boxed()
+        .sorted(Comparator.comparing(i -> names[i]))
+        .mapToInt(Integer::intValue)
+        .toArray();
+    sortedNames = new String[count];
+    for (int i = 0; i < count; i++) {
+      sortedNames[i] = names[byName[i]];
+    }
+    grams = indexGrams(searchText);
+  }
+
+  private static Map<Long, int[]> indexGrams(String[] searchText) {
+    Map<Long, List<Integer>> postings = new HashMap<>();
+    Set<Long> seen = new HashSet<>();
+    for (int i = 0; i < searchText.length; i++) {
+      seen.clear();
+      String text = searchText[i];
+      for (int c = 0; c + GRAM_LENGTH <= text.length(); c++) {
+        long gram = gram(text, c);
+        if (seen.add(gram)) {
+          postings.computeIfAbsent(gram, __ -> new ArrayList<>()).add(i);
+        }
+      }
+    }
+    Map<Long, int[]> grams = new HashMap<>(postings.size() * 2);
+    postings.forEach((gram, indices) -> grams.put(gram, indices.stream().mapToInt(Integer::intValue).toArray()));
+    return grams;
+  }
+
+  private static long gram(String text, int start) {
+    return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+  }
+
+  private static String normalize(String text) {
+    return text.toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Gets the number of markers in this index.
+   */
+  public int size() {
+    return markers.length;
+  }
+
+  /**
+   * Gets all the markers in this index, sorted by timestamp.
+   */
+  public List<Marker> getMarkers() {
+    return List.of(markers);
+  }
+
+  /**
+   * Searches for markers.
+   *
+   * @param text        the text to search for. An empty string matches all markers
+   * @param match       how to match the text against markers
+   * @param importances the importance levels of the markers to include
+   *
+   * @return the matching markers, sorted by timestamp
+   */
+  public List<Marker> search(String text, Match match, Set<MarkerImportance> importances) {
+    final String query = normalize(text);
+    final int[] candidates;
+    if (query.isEmpty()) {
+      candidates = null;
+    } else if (match == Match.PREFIX) {
+      candidates = prefixMatches(query);
+    } else {
+      candidates = substringCandidates(query);
+    }
+
+    List<Marker> results = new ArrayList<>();
+    if (candidates == null) {
+      for (Marker marker : markers) {
+        if (importances.contains(marker.getImportance())) {
+          results.add(marker);
+        }
+      }
+      return results;
+    }
+    for (int index : candidates) {
+      Marker marker = markers[index];
+      if (importances.contains(marker.getImportance())
+          && (match == Match.PREFIX || searchText[index].contains(query))) {
+        results.add(marker);
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Finds the indices of the markers with names starting with the given prefix, in ascending order.
+   */
+  private int[] prefixMatches(String prefix) {
+    int start = firstNameAtOrAfter(prefix);
+    int end = start;
+    while (end < sortedNames.length && sortedNames[end].startsWith(prefix)) {
+      end++;
+    }
+    int[] matches = Arrays.copyOfRange(byName, start, end);
+    Arrays.sort(matches);
+    return matches;
+  }
+
+  private int firstNameAtOrAfter(String name) {
+    int low = 0;
+    int high = sortedNames.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (sortedNames[mid].compareTo(name) < 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Finds the indices of the markers that may contain the given text, in ascending order. Every marker that contains
+   * the text is included, but not every included marker necessarily contains it.
+   */
+  private int[] substringCandidates(String query) {
+    if (query.length() < GRAM_LENGTH) {
+      // Too short to look up; every marker is a candidate
+      return IntStream.range(0, markers.length).toArray();
+    }
+    int[] rarest = null;
+    for (int c = 0; c + GRAM_LENGTH <= query.length(); c++) {
+      int[] postings = grams.getOrDefault(gram(query, c), NO_MARKERS);
+      if (rarest == null || postings.length < rarest.length) {
+        rarest = postings;
+      }
+      if (rarest.length == 0) {
+        break;
+      }
+    }
+    return rarest;
+  }
+
+}
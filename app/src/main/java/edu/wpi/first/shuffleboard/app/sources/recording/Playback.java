@@ -14,11 +14,11 @@ import edu.wpi.first.shuffleboard.api.util.ThreadUtils;
 import com.google.common.util.concurrent.Futures;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -39,10 +39,14 @@ import javafx.beans.property.SimpleObjectProperty;
 @SuppressWarnings("PMD.GodClass") // Seriously? It's not _that_ complicated
 public final class Playback {
 
+  private final Path recordingFile;
   private final Recording recording;
   private final List<TimestampedData> data;
   private final int numFrames;
   private final int maxFrameNum;
+  private final CompletableFuture<PlaybackOverview> overview;
+  private final CompletableFuture<MarkerIndex> markerIndex;
+  private final SeekIndex seekIndex;
   private volatile boolean started = false;
 
   // Using atomic properties because they get updated from the executor thread
@@ -85,13 +89,18 @@ public final class Playback {
    * @throws IOException if the recording file could not be read
    */
   private Playback(String logFile) throws IOException {
-    recording = Serialization.loadRecording(Paths.get(logFile));
+    recordingFile = Paths.get(logFile);
+    recording = Serialization.loadRecording(recordingFile);
     data = recording.getData();
     numFrames = data.size();
     maxFrameNum = numFrames - 1;
     if (numFrames > 0) {
       currentFrame = data.get(0);
     }
+    seekIndex = new SeekIndex(data);
+    overview = CompletableFuture.supplyAsync(() ->
+        PlaybackOverview.compute(data, recording.getMarkers(), PlaybackOverview.DEFAULT_BUCKET_COUNT));
+    markerIndex = CompletableFuture.supplyAsync(() -> new MarkerIndex(recording.getMarkers()));
     frame.addListener((__, prev, cur) -> {
       if (cur.intValue() < 0 || cur.intValue() > maxFrameNum) {
         throw new IllegalArgumentException(
@@ -129,25 +138,15 @@ public final class Playback {
   }
 
   private void forward(int lastFrame, int newFrame) {
-    Set<String> remainingSources = new HashSet<>(recording.getSourceIds());
-    for (int i = newFrame; i >= lastFrame && !remainingSources.isEmpty(); i--) {
-      final TimestampedData data = this.data.get(i);
-      if (remainingSources.contains(data.getSourceId())) {
-        set(data);
-        remainingSources.remove(data.getSourceId());
-      }
+    if (newFrame == lastFrame + 1) {
+      set(data.get(newFrame));
+    } else {
+      seekIndex.forEachChange(lastFrame, newFrame, this::set);
     }
   }
 
   private void backward(int lastFrame, int newFrame) {
-    Set<String> remainingSources = new HashSet<>(recording.getSourceIds());
-    for (int i = newFrame; i <= lastFrame && !remainingSources.isEmpty(); i++) {
-      final TimestampedData data = this.data.get(i);
-      if (remainingSources.contains(data.getSourceId())) {
-        set(data);
-        remainingSources.remove(data.getSourceId());
-      }
-    }
+    seekIndex.forEachChange(lastFrame, newFrame, this::set);
   }
 
   /**
@@ -248,6 +247,67 @@ public final class Playback {
     return currentFrame;
   }
 
+  /**
+   * Gets the overview of the recording. The overview is computed in the background when the recording is loaded, so
+   * the returned future may not be complete yet.
+   */
+  public CompletableFuture<PlaybackOverview> getOverview() {
+    return overview;
+  }
+
+  /**
+   * Gets the index of the markers in the recording. The index is built in the background when the recording is loaded,
+   * so the returned future may not be complete yet.
+   */
+  public CompletableFuture<MarkerIndex> getMarkerIndex() {
+    return markerIndex;
+  }
+
+  /**
+   * Moves playback to the first frame at or after the given time, or the last frame if the time is after the end of the
+   * recording. This pauses the auto-runner.
+   *
+   * @param timestamp the time to move to, in milliseconds since the start of the recording
+   */
+  public void seek(long timestamp) {
+    if (data.isEmpty()) {
+      return;
+    }
+    pause();
+    int low = 0;
+    int high = maxFrameNum;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (data.get(mid).getTimestamp() < timestamp) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    setFrame(low);
+  }
+
+  /**
+   * Saves the part of the recording between two times as a new recording file. Times are in milliseconds since the
+   * start of the recording.
+   *
+   * @param clipFile  the file to save the clip to
+   * @param startTime the start of the clip
+   * @param endTime   the end of the clip
+   *
+   * @throws IOException if the clip could not be saved
+   */
+  public void saveClip(Path clipFile, long startTime, long endTime) throws IOException {
+    Serialization.saveClip(recording, recordingFile, clipFile, startTime, endTime);
+  }
+
+  /**
+   * Gets the file the recording being played back was loaded from.
+   */
+  public Path getRecordingFile() {
+    return recordingFile;
+  }
+
   /**
    * Gets the recording being played back.
    */
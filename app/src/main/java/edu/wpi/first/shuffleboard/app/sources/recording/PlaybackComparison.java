@@ -0,0 +1,321 @@
+package edu.wpi.first.shuffleboard.app.sources.recording;
+
+import edu.wpi.first.shuffleboard.api.data.DataType;
+import edu.wpi.first.shuffleboard.api.sources.SourceTypes;
+import edu.wpi.first.shuffleboard.api.sources.recording.Marker;
+import edu.wpi.first.shuffleboard.api.sources.recording.Recording;
+import edu.wpi.first.shuffleboard.api.sources.recording.Serialization;
+import edu.wpi.first.shuffleboard.api.sources.recording.TimestampedData;
+import edu.wpi.first.shuffleboard.api.sources.recording.serialization.Serializers;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ChangeListener;
+
+/**
+ * Replays a second recording alongside the current {@link Playback}, so the two can be compared side by side. The
+ * comparison follows the playback cursor: whenever the playback moves to a new frame, the comparison moves to the state
+ * of its recording at the same time plus an alignment offset. Data from the comparison recording is shown by
+ * {@link ComparisonSourceType comparison sources}.
+ *
+ * <p>A comparison is stopped automatically when its playback stops.
+ */
+public final class PlaybackComparison {
+
+  /**
+   * The name of the NetworkTables entry for the FMS control word, which is used to find the start of a match.
+   */
+  private static final String FMS_CONTROL_DATA = "/FMSInfo/FMSControlData";
+  private static final int ENABLED_FLAG = 0x01;
+
+  private static final Property<PlaybackComparison> currentComparison =
+      new SimpleObjectProperty<>(PlaybackComparison.class, "current", null);
+
+  private final Playback playback;
+  private final Path recordingFile;
+  private final Recording recording;
+  private final List<TimestampedData> data;
+  private final SeekIndex seekIndex;
+  private volatile long offset;
+  private int comparisonFrame = -1; // guarded by 'this'
+
+  private final ChangeListener<Number> frameListener = (__, prev, cur) -> follow();
+  private final ChangeListener<Playback> playbackListener = (__, prev, cur) -> {
+    if (cur != getPlayback()) {
+      stop();
+    }
+  };
+
+  /**
+   * Loads a recording file to compare to the given playback. This stops the current comparison, if there is one.
+   *
+   * @param playback      the playback to compare to
+   * @param recordingFile the recording file to compare
+   *
+   * @return the loaded comparison. It will not follow the playback until it is {@link #start() started}
+   *
+   * @throws IOException if the recording file could not be read
+   */
+  public static PlaybackComparison load(Playback playback, Path recordingFile) throws IOException {
+    Recording recording = Serialization.loadRecording(recordingFile);
+    // Loading points the serializers at the comparison file. Point them back so lazily-loaded playback data, such as
+    // camera frames, still comes from the file being played back
+    Serializers.getAdapters().forEach(a -> a.setCurrentFile(playback.getRecordingFile().toFile()));
+    getCurrentComparison().ifPresent(PlaybackComparison::stop);
+    return new PlaybackComparison(playback, recordingFile, recording);
+  }
+
+  /**
+   * Gets the current comparison.
+   */
+  public static Optional<PlaybackComparison> getCurrentComparison() {
+    return Optional.ofNullable(currentComparison.getValue());
+  }
+
+  public static ReadOnlyProperty<PlaybackComparison> currentComparisonProperty() {
+    return currentComparison;
+  }
+
+  private PlaybackComparison(Playback playback, Path recordingFile, Recording recording) {
+    this.playback = playback;
+    this.recordingFile = recordingFile;
+    this.recording = recording;
+    this.data = recording.getData();
+    this.seekIndex = new SeekIndex(data);
+    Map<String, DataType<?>> dataTypes = new HashMap<>();
+    for (TimestampedData point : data) {
+      dataTypes.put(uriFor(point.getSourceId()), point.getDataType());
+    }
+    // Sources left over from an earlier comparison may have a different type of data in this one
+    ComparisonSourceType.INSTANCE.reset(dataTypes);
+  }
+
+  /**
+   * Gets the URI of the comparison source that shows the data recorded for a source.
+   *
+   * @param sourceUri the URI of the source in the recording
+   */
+  public static String uriFor(String sourceUri) {
+    return ComparisonSourceType.INSTANCE.toUri(sourceUri);
+  }
+
+  /**
+   * Starts following the playback cursor and makes this the current comparison.
+   */
+  public void start() {
+    if (!SourceTypes.getDefault().isRegistered(ComparisonSourceType.INSTANCE)) {
+      SourceTypes.getDefault().register(ComparisonSourceType.INSTANCE);
+    }
+    playback.frameProperty().addListener(frameListener);
+    Playback.currentPlaybackProperty().addListener(playbackListener);
+    currentComparison.setValue(this);
+    follow();
+  }
+
+  /**
+   * Stops following the playback cursor. Comparison sources keep the last values they were given, but are no longer
+   * listed as available sources.
+   */
+  public void stop() {
+    playback.frameProperty().removeListener(frameListener);
+    Playback.currentPlaybackProperty().removeListener(playbackListener);
+    if (currentComparison.getValue() == this) {
+      currentComparison.setValue(null);
+      ComparisonSourceType.INSTANCE.clearAvailableSources();
+    }
+  }
+
+  /**
+   * Moves the comparison to the time of the current playback frame.
+   */
+  private void follow() {
+    TimestampedData current = playback.getCurrentFrame();
+    if (current == null) {
+      return;
+    }
+    int target = seekIndex.frameAtOrBefore(current.getTimestamp() + offset);
+    synchronized (this) {
+      if (target == comparisonFrame) {
+        return;
+      }
+      if (target == comparisonFrame + 1) {
+        // Normal playback; only a single data point has changed
+        read(data.get(target));
+      } else {
+        seekIndex.forEachChange(comparisonFrame, target, this::read);
+      }
+      comparisonFrame = target;
+    }
+  }
+
+  private void read(TimestampedData point) {
+    // Shift timestamps onto the playback's timeline, so compared data lines up with the data it is compared to
+    ComparisonSourceType.INSTANCE.read(new TimestampedData(
+        uriFor(point.getSourceId()),
+        point.getDataType(),
+        point.getData(),
+        point.getTimestamp() - offset
+    ));
+  }
+
+  /**
+   * Gets the playback this comparison follows.
+   */
+  public Playback getPlayback() {
+    return playback;
+  }
+
+  /**
+   * Gets the file the compared recording was loaded from.
+   */
+  public Path getRecordingFile() {
+    return recordingFile;
+  }
+
+  /**
+   * Gets the compared recording.
+   */
+  public Recording getRecording() {
+    return recording;
+  }
+
+  /**
+   * Gets the alignment offset. A playback time of {@code t} is shown as the comparison state at {@code t + offset}.
+   */
+  public long getOffset() {
+    return offset;
+  }
+
+  /**
+   * Sets the alignment offset and moves the comparison to match.
+   *
+   * @param offset the new offset, in milliseconds
+   */
+  public void setOffset(long offset) {
+    this.offset = offset;
+    follow();
+  }
+
+  /**
+   * Gets the time in the compared recording that corresponds to the current playback frame, or the time of the first
+   * data point in the compared recording if the playback is before it.
+   */
+  public long getComparisonTime() {
+    TimestampedData current = playback.getCurrentFrame();
+    long time = current == null ? 0 : current.getTimestamp() + offset;
+    return data.isEmpty() ? time : Math.max(time, data.get(0).getTimestamp());
+  }
+
+  /**
+   * Gets the names of the markers that appear in both recordings, in the order they first appear in the first one.
+   *
+   * @param first  the first recording
+   * @param second the second recording
+   */
+  public static Set<String> commonMarkerNames(Recording first, Recording second) {
+    Set<String> names = new LinkedHashSet<>();
+    for (Marker marker : sortedMarkers(first)) {
+      names.add(marker.getName());
+    }
+    Set<String> secondNames = new LinkedHashSet<>();
+    for (Marker marker : second.getMarkers()) {
+      secondNames.add(marker.getName());
+    }
+    names.retainAll(secondNames);
+    return names;
+  }
+
+  /**
+   * Computes the offset that aligns the first marker with the given name in each recording.
+   *
+   * @param primary    the recording being played back
+   * @param comparison the recording being compared to it
+   * @param markerName the name of the marker to align on
+   *
+   * @return the offset, or an empty optional if either recording has no marker with the given name
+   */
+  public static OptionalLong markerOffset(Recording primary, Recording comparison, String markerName) {
+    OptionalLong primaryTime = firstMarker(primary, markerName);
+    OptionalLong comparisonTime = firstMarker(comparison, markerName);
+    if (primaryTime.isEmpty() || comparisonTime.isEmpty()) {
+      return OptionalLong.empty();
+    }
+    return OptionalLong.of(comparisonTime.getAsLong() - primaryTime.getAsLong());
+  }
+
+  /**
+   * Computes the offset that aligns the start of the match in each recording. The start of a match is the first time
+   * the FMS control word reports the robot as enabled.
+   *
+   * @param primary    the recording being played back
+   * @param comparison the recording being compared to it
+   *
+   * @return the offset, or an empty optional if the start of a match could not be found in either recording
+   */
+  public static OptionalLong matchStartOffset(Recording primary, Recording comparison) {
+    OptionalLong primaryTime = matchStart(primary);
+    OptionalLong comparisonTime = matchStart(comparison);
+    if (primaryTime.isEmpty() || comparisonTime.isEmpty()) {
+      return OptionalLong.empty();
+    }
+    return OptionalLong.of(comparisonTime.getAsLong() - primaryTime.getAsLong());
+  }
+
+  /**
+   * Computes the offset that aligns the first data point in each recording.
+   *
+   * @param primary    the recording being played back
+   * @param comparison the recording being compared to it
+   */
+  public static long recordingStartOffset(Recording primary, Recording comparison) {
+    if (primary.getData().isEmpty() || comparison.getData().isEmpty()) {
+      return 0;
+    }
+    return comparison.getFirst().getTimestamp() - primary.getFirst().getTimestamp();
+  }
+
+  /**
+   * Finds the start of the match in a recording.
+   *
+   * @param recording the recording to search
+   *
+   * @return the time the robot was first enabled by the FMS, or an empty optional if it never was
+   */
+  static OptionalLong matchStart(Recording recording) {
+    for (TimestampedData point : recording.getData()) {
+      if (point.getSourceId().endsWith(FMS_CONTROL_DATA)
+          && point.getData() instanceof Number
+          && (((Number) point.getData()).intValue() & ENABLED_FLAG) != 0) {
+        return OptionalLong.of(point.getTimestamp());
+      }
+    }
+    return OptionalLong.empty();
+  }
+
+  private static OptionalLong firstMarker(Recording recording, String name) {
+    return sortedMarkers(recording).stream()
+        .filter(marker -> marker.getName().equals(name))
+        .mapToLong(Marker::getTimestamp)
+        .findFirst();
+  }
+
+  private static List<Marker> sortedMarkers(Recording recording) {
+    return recording.getMarkers().stream()
+        .sorted(Comparator.comparingLong(Marker::getTimestamp))
+        .collect(Collectors.toList());
+  }
+
+}
@@ -0,0 +1,200 @@
+package edu.wpi.first.shuffleboard.app.sources.recording;
+
+import edu.wpi.first.shuffleboard.api.sources.recording.Marker;
+import edu.wpi.first.shuffleboard.api.sources.recording.MarkerImportance;
+import edu.wpi.first.shuffleboard.api.sources.recording.TimestampedData;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A downsampled overview of a recording, for display alongside the playback scrubber. The overview divides the
+ * recording's frames into a fixed number of buckets, so drawing it costs the same regardless of the length of the
+ * recording.
+ *
+ * <p>Positions in an overview are fractions of the frame range, from 0 (the first frame) to 1 (the last frame), to
+ * match the scrubber, which moves through frames rather than time.
+ */
+public final class PlaybackOverview {
+
+  /**
+   * The default number of buckets. This is more than the width of the scrubber in pixels on most screens.
+   */
+  public static final int DEFAULT_BUCKET_COUNT = 1024;
+
+  /**
+   * An empty overview, for recordings with no data.
+   */
+  public static final PlaybackOverview EMPTY = new PlaybackOverview(new double[0], new MarkerImportance[0],
+      ImmutableList.of());
+
+  private final double[] density;
+  private final MarkerImportance[] markerImportance;
+  private final ImmutableList<PositionedMarker> markers;
+
+  private PlaybackOverview(double[] density, MarkerImportance[] markerImportance,
+                           ImmutableList<PositionedMarker> markers) {
+    this.density = density;
+    this.markerImportance = markerImportance;
+    this.markers = markers;
+  }
+
+  /**
+   * Computes the overview of a recording. This takes time proportional to the length of the recording, and should not
+   * be called from the JavaFX application thread.
+   *
+   * @param data        the data in the recording, sorted by timestamp
+   * @param markers     the markers in the recording
+   * @param bucketCount the maximum number of buckets to divide the recording into
+   */
+  public static PlaybackOverview compute(List<TimestampedData> data, List<Marker> markers, int bucketCount) {
+    final int frames = data.size();
+    if (frames == 0) {
+      return EMPTY;
+    }
+    final int buckets = Math.min(bucketCount, frames);
+
+    // Density is the rate of data points in each bucket, relative to the bucket with the highest rate
+    double[] density = new double[buckets];
+    double maxRate = 0;
+    for (int i = 0; i < buckets; i++) {
+      int start = bucketStart(i, buckets, frames);
+      int end = bucketStart(i + 1, buckets, frames);
+      long span = data.get(end - 1).getTimestamp() - data.get(start).getTimestamp();
+      // Treat anything that happened within a millisecond as taking a millisecond; timestamps are in milliseconds
+      double rate = (end - start) / (double) Math.max(span, 1);
+      density[i] = rate;
+      maxRate = Math.max(maxRate, rate);
+    }
+    for (int i = 0; i < buckets; i++) {
+      density[i] /= maxRate;
+    }
+
+    MarkerImportance[] markerImportance = new MarkerImportance[buckets];
+    List<PositionedMarker> positioned = new ArrayList<>(markers.size());
+    for (Marker marker : markers) {
+      int frame = frameAt(data, marker.getTimestamp());
+      double position = frames == 1 ? 0 : (double) frame / (frames - 1);
+      positioned.add(new PositionedMarker(marker, position));
+      int bucket = bucketOf(position, buckets);
+      MarkerImportance current = markerImportance[bucket];
+      if (current == null || marker.getImportance().compareTo(current) > 0) {
+        markerImportance[bucket] = marker.getImportance();
+      }
+    }
+    positioned.sort(Comparator.comparingDouble(PositionedMarker::getPosition));
+    return new PlaybackOverview(density, markerImportance, ImmutableList.copyOf(positioned));
+  }
+
+  private static int bucketStart(int bucket, int buckets, int frames) {
+    return (int) ((long) bucket * frames / buckets);
+  }
+
+  private static int bucketOf(double position, int buckets) {
+    return Math.min(buckets - 1, (int) (position * buckets));
+  }
+
+  /**
+   * Finds the index of the first frame at or after the given time, or the last frame if all data is before it.
+   */
+  private static int frameAt(List<TimestampedData> data, long timestamp) {
+    int low = 0;
+    int high = data.size() - 1;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (data.get(mid).getTimestamp() < timestamp) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Gets the number of buckets in this overview.
+   */
+  public int getBucketCount() {
+    return density.length;
+  }
+
+  /**
+   * Gets the data density of a bucket, from 0 to 1. The densest bucket has a density of 1.
+   *
+   * @param bucket the index of the bucket
+   */
+  public double getDensity(int bucket) {
+    return density[bucket];
+  }
+
+  /**
+   * Gets the importance of the most important marker in a bucket, or {@code null} if the bucket has no markers.
+   *
+   * @param bucket the index of the bucket
+   */
+  public MarkerImportance getMarkerImportance(int bucket) {
+    return markerImportance[bucket];
+  }
+
+  /**
+   * Gets all the markers in the recording, sorted by position.
+   */
+  public ImmutableList<PositionedMarker> getMarkers() {
+    return markers;
+  }
+
+  /**
+   * Gets the markers within a distance of a position.
+   *
+   * @param position  the position to search around, from 0 to 1
+   * @param tolerance the maximum distance from the position, as a fraction of the frame range
+   */
+  public List<PositionedMarker> getMarkersNear(double position, double tolerance) {
+    // Binary search for the first marker in range; markers are sorted by position
+    int low = 0;
+    int high = markers.size();
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (markers.get(mid).getPosition() < position - tolerance) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    List<PositionedMarker> near = new ArrayList<>();
+    for (int i = low; i < markers.size() && markers.get(i).getPosition() <= position + tolerance; i++) {
+      near.add(markers.get(i));
+    }
+    return near;
+  }
+
+  /**
+   * A marker and its position in the overview.
+   */
+  public static final class PositionedMarker {
+
+    private final Marker marker;
+    private final double position;
+
+    PositionedMarker(Marker marker, double position) {
+      this.marker = marker;
+      this.position = position;
+    }
+
+    public Marker getMarker() {
+      return marker;
+    }
+
+    /**
+     * Gets the position of the marker, from 0 (the first frame) to 1 (the last frame).
+     */
+    public double getPosition() {
+      return position;
+    }
+
+  }
+
+}
@@ -0,0 +1,110 @@
+package edu.wpi.first.shuffleboard.app.sources.recording;
+
+import edu.wpi.first.shuffleboard.api.sources.recording.TimestampedData;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * An index of the frames at which each source in a recording was updated. This lets playback move between any two
+ * frames by looking up the value of each source at the new frame, rather than scanning all the data between the two
+ * frames. A lookup takes {@code O(S log N)} time for {@code S} sources and {@code N} frames, no matter how far apart
+ * the frames are.
+ */
+final class SeekIndex {
+
+  private final List<TimestampedData> data;
+  // The frames at which each source was updated, in ascending order. Sources are numbered by first appearance
+  private final int[][] updates;
+
+  /**
+   * Creates an index of the given data.
+   *
+   * @param data the data in a recording, sorted by timestamp
+   */
+  SeekIndex(List<TimestampedData> data) {
+    this.data = data;
+    Map<String, Integer> sources = new HashMap<>();
+    int[] sourceOfFrame = new int[data.size()];
+    int[] counts = new int[16];
+    for (int frame = 0; frame < data.size(); frame++) {
+      int source = sources.computeIfAbsent(data.get(frame).getSourceId(), __ -> sources.size());
+      if (source == counts.length) {
+        counts = Arrays.copyOf(counts, counts.length * 2);
+      }
+      counts[source]++;
+      sourceOfFrame[frame] = source;
+    }
+    updates = new int[sources.size()][];
+    for (int source = 0; source < updates.length; source++) {
+      updates[source] = new int[counts[source]];
+    }
+    int[] filled = new int[updates.length];
+    for (int frame = 0; frame < sourceOfFrame.length; frame++) {
+      int source = sourceOfFrame[frame];
+      updates[source][filled[source]++] = frame;
+    }
+  }
+
+  /**
+   * Gets the number of sources in the indexed data.
+   */
+  int getSourceCount() {
+    return updates.length;
+  }
+
+  /**
+   * Gets the last frame at or before the given time, or -1 if all the data is after it.
+   *
+   * @param timestamp the time to look up
+   */
+  int frameAtOrBefore(long timestamp) {
+    int low = 0;
+    int high = data.size();
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (data.get(mid).getTimestamp() <= timestamp) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low - 1;
+  }
+
+  /**
+   * Finds the sources with different values at two frames, and passes the value each of them has at the second frame
+   * to the given action. Sources that have no value yet at the second frame are skipped.
+   *
+   * @param from   the frame to compare to. This may be -1 to pass the value of every source with a value at {@code to}
+   * @param to     the frame to get the values at
+   * @param action the action to pass the changed values to
+   */
+  void forEachChange(int from, int to, Consumer<TimestampedData> action) {
+    for (int[] frames : updates) {
+      int current = latestUpdate(frames, to);
+      if (current >= 0 && current != latestUpdate(frames, from)) {
+        action.accept(data.get(current));
+      }
+    }
+  }
+
+  /**
+   * Finds the last frame at or before {@code frame} in a sorted array of update frames, or -1 if there is none.
+   */
+  private static int latestUpdate(int[] frames, int frame) {
+    if (frame < 0) {
+      return -1;
+    }
+    int index = Arrays.binarySearch(frames, frame);
+    if (index >= 0) {
+      return frames[index];
+    }
+    int insertionPoint = -index - 1;
+    return insertionPoint == 0 ? -1 : frames[insertionPoint - 1];
+  }
+
+}
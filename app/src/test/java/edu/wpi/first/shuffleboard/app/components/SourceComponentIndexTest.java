@@ -0,0 +1,230 @@
+package edu.wpi.first.shuffleboard.app.components;
+
+import edu.wpi.first.shuffleboard.api.data.DataTypes;
+import edu.wpi.first.shuffleboard.api.prefs.Group;
+import edu.wpi.first.shuffleboard.api.sources.DataSource;
+import edu.wpi.first.shuffleboard.api.sources.DummySource;
+import edu.wpi.first.shuffleboard.api.widget.AbstractWidget;
+import edu.wpi.first.shuffleboard.api.widget.Component;
+import edu.wpi.first.shuffleboard.api.widget.LayoutBase;
+import edu.wpi.first.shuffleboard.api.widget.Sourced;
+import edu.wpi.first.shuffleboard.app.MockLayout;
+
+import com.google.common.collect.ImmutableList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testfx.framework.junit5.ApplicationTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.layout.Pane;
+import javafx.stage.Stage;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("UI")
+public class SourceComponentIndexTest extends ApplicationTest {
+
+  private List<Component> components;
+  private SourceComponentIndex index;
+
+  @Override
+  public void start(Stage stage) {
+    // Just here so we can run on the FX thread
+  }
+
+  @BeforeEach
+  public void setup() {
+    components = new ArrayList<>();
+    index = new SourceComponentIndex(() -> components.stream().flatMap(Component::allComponents));
+  }
+
+  @Test
+  public void testEmpty() {
+    assertFalse(index.hasComponentFor(source("foo").getId()));
+  }
+
+  @Test
+  public void testExactSource() {
+    components.add(widget(source("foo")));
+    assertTrue(index.hasComponentFor(source("foo").getId()));
+    assertFalse(index.hasComponentFor(source("bar").getId()));
+  }
+
+  @Test
+  public void testSubSourceOfWidget() {
+    components.add(widget(source("foo")));
+    assertTrue(index.hasComponentFor(source("foo/bar").getId()));
+    assertFalse(index.hasComponentFor(source("foobar").getId()), "Sibling with a common prefix should not match");
+  }
+
+  @Test
+  public void testSubSourceOfContainerDoesNotMatch() {
+    SourcedLayout layout = new SourcedLayout();
+    layout.getSources().add(source("foo"));
+    components.add(layout);
+    assertTrue(index.hasComponentFor(source("foo").getId()));
+    assertFalse(index.hasComponentFor(source("foo/bar").getId()));
+  }
+
+  @Test
+  public void testNestedComponents() {
+    MockLayout layout = new MockLayout();
+    layout.addChild(widget(source("foo")));
+    components.add(layout);
+    assertTrue(index.hasComponentFor(source("foo").getId()));
+  }
+
+  @Test
+  public void testIncrementalAdd() {
+    assertFalse(index.hasComponentFor(source("foo").getId()));
+    TestWidget widget = widget(source("foo"));
+    components.add(widget);
+    index.add(widget);
+    assertTrue(index.hasComponentFor(source("foo").getId()));
+  }
+
+  @Test
+  public void testInvalidate() {
+    TestWidget widget = widget(source("foo"));
+    components.add(widget);
+    assertTrue(index.hasComponentFor(source("foo").getId()));
+    components.remove(widget);
+    index.invalidate();
+    assertFalse(index.hasComponentFor(source("foo").getId()));
+  }
+
+  @Test
+  public void testSourceChangeUpdatesIndex() {
+    TestWidget widget = widget(source("foo"));
+    components.add(widget);
+    assertTrue(index.hasComponentFor(source("foo").getId()));
+    widget.getSources().setAll(source("bar"));
+    assertFalse(index.hasComponentFor(source("foo").getId()));
+    assertTrue(index.hasComponentFor(source("bar").getId()));
+  }
+
+  @Test
+  public void testIncrementallyAddedSourceChangeUpdatesIndex() {
+    assertFalse(index.hasComponentFor(source("foo").getId()));
+    TestWidget widget = widget(source("foo"));
+    components.add(widget);
+    index.add(widget);
+    widget.getSources().setAll(source("bar"));
+    assertFalse(index.hasComponentFor(source("foo").getId()));
+    assertTrue(index.hasComponentFor(source("bar").getId()));
+  }
+
+  @Test
+  public void testChildAddedToLayoutUpdatesIndex() {
+    SourcedLayout layout = new SourcedLayout();
+    components.add(layout);
+    assertFalse(index.hasComponentFor(source("foo").getId()));
+    layout.addChild(widget(source("foo")));
+    assertTrue(index.hasComponentFor(source("foo").getId()));
+  }
+
+  @Test
+  public void testChildRemovedFromLayoutUpdatesIndex() {
+    SourcedLayout layout = new SourcedLayout();
+    TestWidget widget = widget(source("foo"));
+    layout.addChild(widget);
+    components.add(layout);
+    assertTrue(index.hasComponentFor(source("foo").getId()));
+    layout.removeChild(widget);
+    assertFalse(index.hasComponentFor(source("foo").getId()));
+  }
+
+  @Test
+  public void testChildOfIncrementallyAddedLayoutUpdatesIndex() {
+    assertFalse(index.hasComponentFor(source("foo").getId()));
+    SourcedLayout layout = new SourcedLayout();
+    components.add(layout);
+    index.add(layout);
+    layout.addChild(widget(source("foo")));
+    assertTrue(index.hasComponentFor(source("foo").getId()));
+  }
+
+  private static DataSource<String> source(String name) {
+    return new NamedSource(name);
+  }
+
+  private static TestWidget widget(DataSource<?> source) {
+    TestWidget widget = new TestWidget();
+    widget.getSources().add(source);
+    return widget;
+  }
+
+  private static final class NamedSource extends DummySource<String> {
+    NamedSource(String name) {
+      super(DataTypes.String, "");
+      setName(name);
+    }
+  }
+
+  private static final class TestWidget extends AbstractWidget {
+    private final Pane view = new Pane();
+
+    @Override
+    public Pane getView() {
+      return view;
+    }
+
+    @Override
+    public String getName() {
+      return "Test Widget";
+    }
+  }
+
+  private static final class SourcedLayout extends LayoutBase implements Sourced {
+    private final Pane view = new Pane();
+    private final ObservableList<DataSource> sources = FXCollections.observableArrayList();
+
+    @Override
+    protected void addComponentToView(Component component) {
+      // NOP
+    }
+
+    @Override
+    protected void removeComponentFromView(Component component) {
+      // NOP
+    }
+
+    @Override
+    protected void replaceInPlace(Component existing, Component replacement) {
+      // NOP
+    }
+
+    @Override
+    public void addSource(DataSource source) {
+      sources.add(source);
+    }
+
+    @Override
+    public ObservableList<DataSource> getSources() {
+      return sources;
+    }
+
+    @Override
+    public Pane getView() {
+      return view;
+    }
+
+    @Override
+    public List<Group> getSettings() {
+      return ImmutableList.of();
+    }
+
+    @Override
+    public String getName() {
+      return "Sourced Layout";
+    }
+  }
+
+}
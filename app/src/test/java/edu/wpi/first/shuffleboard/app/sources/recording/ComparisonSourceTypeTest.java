@@ -0,0 +1,86 @@
+package edu.wpi.first.shuffleboard.app.sources.recording;
+
+import edu.wpi.first.shuffleboard.api.data.DataTypes;
+import edu.wpi.first.shuffleboard.api.sources.DataSource;
+import edu.wpi.first.shuffleboard.api.sources.recording.TimestampedData;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testfx.framework.junit5.ApplicationTest;
+
+import java.util.List;
+import java.util.Map;
+
+import javafx.stage.Stage;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.testfx.util.WaitForAsyncUtils.waitForFxEvents;
+
+@Tag("UI")
+public class ComparisonSourceTypeTest extends ApplicationTest {
+
+  private static final String SOURCE_URI = "test://foo";
+  private final ComparisonSourceType type = ComparisonSourceType.INSTANCE;
+  private final String uri = type.toUri(SOURCE_URI);
+
+  @Override
+  public void start(Stage stage) {
+    // Just here so we can run on the FX thread
+  }
+
+  @AfterEach
+  public void tearDown() {
+    type.reset(Map.of());
+    waitForFxEvents();
+  }
+
+  @Test
+  public void testAvailableUrisAreNotDuplicated() {
+    type.reset(Map.of(uri, DataTypes.Number));
+    type.read(new TimestampedData(uri, DataTypes.Number, 1.0, 0));
+    type.read(new TimestampedData(uri, DataTypes.Number, 2.0, 10));
+    waitForFxEvents();
+    assertAll(
+        () -> assertEquals(List.of(uri), type.getAvailableSourceUris()),
+        () -> assertEquals(2.0, type.getAvailableSources().get(uri))
+    );
+  }
+
+  @Test
+  public void testResetReplacesSourcesWithDifferentType() {
+    type.reset(Map.of(uri, DataTypes.Number));
+    DataSource<?> numberSource = type.forUri(uri);
+    type.reset(Map.of(uri, DataTypes.String));
+    DataSource<?> stringSource = type.forUri(uri);
+    assertAll(
+        () -> assertNotSame(numberSource, stringSource),
+        () -> assertEquals(DataTypes.String, stringSource.getDataType())
+    );
+  }
+
+  @Test
+  public void testResetKeepsSourcesWithSameType() {
+    type.reset(Map.of(uri, DataTypes.Number));
+    DataSource<?> source = type.forUri(uri);
+    type.reset(Map.of(uri, DataTypes.Number));
+    assertSame(source, type.forUri(uri));
+  }
+
+  @Test
+  public void testResetClearsAvailableSources() {
+    type.reset(Map.of(uri, DataTypes.Number));
+    type.read(new TimestampedData(uri, DataTypes.Number, 1.0, 0));
+    waitForFxEvents();
+    type.reset(Map.of(uri, DataTypes.Number));
+    waitForFxEvents();
+    assertAll(
+        () -> assertEquals(List.of(), type.getAvailableSourceUris()),
+        () -> assertEquals(Map.of(), type.getAvailableSources())
+    );
+  }
+
+}
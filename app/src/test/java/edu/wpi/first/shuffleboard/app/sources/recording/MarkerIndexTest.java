@@ -0,0 +1,75 @@
+package edu.wpi.first.shuffleboard.app.sources.recording;
+
+import edu.wpi.first.shuffleboard.api.sources.recording.Marker;
+import edu.wpi.first.shuffleboard.api.sources.recording.MarkerImportance;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MarkerIndexTest {
+
+  private static final Set<MarkerImportance> ALL = EnumSet.allOf(MarkerImportance.class);
+
+  private final MarkerIndex index = new MarkerIndex(List.of(
+      new Marker("Score attempt", "Left goal", MarkerImportance.NORMAL, 3000),
+      new Marker("Auto start", MarkerImportance.HIGH, 0),
+      new Marker("Brownout", "Battery voltage dropped below 7V", MarkerImportance.CRITICAL, 5000),
+      new Marker("score attempt", "Right goal", MarkerImportance.LOW, 1000)
+  ));
+
+  @Test
+  public void testEmptySearchMatchesAllInTimeOrder() {
+    assertEquals(List.of("Auto start", "score attempt", "Score attempt", "Brownout"),
+        names(index.search("", MarkerIndex.Match.SUBSTRING, ALL)));
+  }
+
+  @Test
+  public void testPrefixSearch() {
+    assertAll(
+        () -> assertEquals(List.of("score attempt", "Score attempt"),
+            names(index.search("SCO", MarkerIndex.Match.PREFIX, ALL))),
+        () -> assertEquals(List.of(), names(index.search("attempt", MarkerIndex.Match.PREFIX, ALL)))
+    );
+  }
+
+  @Test
+  public void testSubstringSearch() {
+    assertAll(
+        () -> assertEquals(List.of("score attempt", "Score attempt"),
+            names(index.search("attempt", MarkerIndex.Match.SUBSTRING, ALL))),
+        () -> assertEquals(List.of("Brownout"), names(index.search("voltage", MarkerIndex.Match.SUBSTRING, ALL))),
+        () -> assertEquals(List.of("score attempt"), names(index.search("right", MarkerIndex.Match.SUBSTRING, ALL))),
+        () -> assertEquals(List.of(), names(index.search("missing", MarkerIndex.Match.SUBSTRING, ALL)))
+    );
+  }
+
+  @Test
+  public void testShortSubstringSearch() {
+    assertEquals(List.of("score attempt", "Score attempt"),
+        names(index.search("go", MarkerIndex.Match.SUBSTRING, ALL)));
+  }
+
+  @Test
+  public void testImportanceFilter() {
+    Set<MarkerImportance> important = EnumSet.of(MarkerImportance.HIGH, MarkerImportance.CRITICAL);
+    assertAll(
+        () -> assertEquals(List.of("Auto start", "Brownout"),
+            names(index.search("", MarkerIndex.Match.SUBSTRING, important))),
+        () -> assertEquals(List.of(), names(index.search("score", MarkerIndex.Match.PREFIX, important)))
+    );
+  }
+
+  private static List<String> names(List<Marker> markers) {
+    return markers.stream()
+        .map(Marker::getName)
+        .collect(Collectors.toList());
+  }
+
+}
@@ -0,0 +1,123 @@
+package edu.wpi.first.shuffleboard.app.sources.recording;
+
+import edu.wpi.first.shuffleboard.api.data.DataTypes;
+import edu.wpi.first.shuffleboard.api.sources.recording.Marker;
+import edu.wpi.first.shuffleboard.api.sources.recording.MarkerImportance;
+import edu.wpi.first.shuffleboard.api.sources.recording.TimestampedData;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class PlaybackOverviewTest {
+
+  @Test
+  public void testEmptyRecording() {
+    PlaybackOverview overview = PlaybackOverview.compute(List.of(), List.of(), 16);
+    assertSame(PlaybackOverview.EMPTY, overview);
+    assertEquals(0, overview.getBucketCount());
+  }
+
+  @Test
+  public void testBucketCountLimitedByFrames() {
+    PlaybackOverview overview = PlaybackOverview.compute(data(0, 10, 20), List.of(), 16);
+    assertEquals(3, overview.getBucketCount());
+  }
+
+  @Test
+  public void testDensityIsRelativeToDensestBucket() {
+    // Data every 10ms for the first half, then every 40ms for the second half
+    List<TimestampedData> data = new ArrayList<>();
+    for (long t = 0; t < 100; t += 10) {
+      data.add(point(t));
+    }
+    for (long t = 100; t < 500; t += 40) {
+      data.add(point(t));
+    }
+    PlaybackOverview overview = PlaybackOverview.compute(data, List.of(), 2);
+    assertAll(
+        () -> assertEquals(1, overview.getDensity(0)),
+        () -> assertEquals(0.25, overview.getDensity(1), 0.05)
+    );
+  }
+
+  @Test
+  public void testMostImportantMarkerInBucket() {
+    List<Marker> markers = List.of(
+        new Marker("Low", MarkerImportance.LOW, 10),
+        new Marker("Critical", MarkerImportance.CRITICAL, 20),
+        new Marker("Normal", MarkerImportance.NORMAL, 90)
+    );
+    PlaybackOverview overview = PlaybackOverview.compute(data(0, 10, 20, 30, 40, 50, 60, 70, 80, 90), markers, 2);
+    assertAll(
+        () -> assertEquals(MarkerImportance.CRITICAL, overview.getMarkerImportance(0)),
+        () -> assertEquals(MarkerImportance.NORMAL, overview.getMarkerImportance(1))
+    );
+  }
+
+  @Test
+  public void testBucketWithoutMarkers() {
+    List<Marker> markers = List.of(new Marker("Start", MarkerImportance.NORMAL, 0));
+    PlaybackOverview overview = PlaybackOverview.compute(data(0, 10, 20, 30), markers, 2);
+    assertNull(overview.getMarkerImportance(1));
+  }
+
+  @Test
+  public void testMarkerPositionsAreInFrameSpace() {
+    // A marker between two frames is placed at the next frame
+    List<Marker> markers = List.of(
+        new Marker("B", MarkerImportance.NORMAL, 1000),
+        new Marker("A", MarkerImportance.NORMAL, 15)
+    );
+    PlaybackOverview overview = PlaybackOverview.compute(data(0, 10, 20, 30, 1000), markers, 4);
+    List<String> names = overview.getMarkers().stream()
+        .map(m -> m.getMarker().getName())
+        .collect(Collectors.toList());
+    assertAll(
+        () -> assertEquals(List.of("A", "B"), names),
+        () -> assertEquals(0.5, overview.getMarkers().get(0).getPosition()),
+        () -> assertEquals(1, overview.getMarkers().get(1).getPosition())
+    );
+  }
+
+  @Test
+  public void testMarkersNear() {
+    List<Marker> markers = List.of(
+        new Marker("First", MarkerImportance.NORMAL, 0),
+        new Marker("Second", MarkerImportance.NORMAL, 10),
+        new Marker("Last", MarkerImportance.NORMAL, 100)
+    );
+    PlaybackOverview overview = PlaybackOverview.compute(data(0, 10, 20, 30, 40, 50, 60, 70, 80, 90, 100), markers, 8);
+    assertAll(
+        () -> assertEquals(List.of("First", "Second"), names(overview.getMarkersNear(0.05, 0.06))),
+        () -> assertEquals(List.of("Last"), names(overview.getMarkersNear(0.98, 0.05))),
+        () -> assertEquals(List.of(), names(overview.getMarkersNear(0.5, 0.1)))
+    );
+  }
+
+  private static List<String> names(List<PlaybackOverview.PositionedMarker> markers) {
+    return markers.stream()
+        .map(m -> m.getMarker().getName())
+        .collect(Collectors.toList());
+  }
+
+  private static List<TimestampedData> data(long... timestamps) {
+    List<TimestampedData> data = new ArrayList<>();
+    for (long timestamp : timestamps) {
+      data.add(point(timestamp));
+    }
+    return data;
+  }
+
+  private static TimestampedData point(long timestamp) {
+    return new TimestampedData("test", DataTypes.Number, 0.0, timestamp);
+  }
+
+}
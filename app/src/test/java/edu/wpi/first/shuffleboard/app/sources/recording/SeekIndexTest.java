@@ -0,0 +1,74 @@
+package edu.wpi.first.shuffleboard.app.sources.recording;
+
+import edu.wpi.first.shuffleboard.api.data.DataTypes;
+import edu.wpi.first.shuffleboard.api.sources.recording.TimestampedData;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SeekIndexTest {
+
+  private final List<TimestampedData> data = List.of(
+      point("a", 1, 0),     // 0
+      point("b", 10, 5),    // 1
+      point("a", 2, 10),    // 2
+      point("a", 3, 20),    // 3
+      point("c", 100, 30),  // 4
+      point("b", 11, 30)    // 5
+  );
+  private final SeekIndex index = new SeekIndex(data);
+
+  @Test
+  public void testSourceCount() {
+    assertEquals(3, index.getSourceCount());
+  }
+
+  @Test
+  public void testFrameAtOrBefore() {
+    assertAll(
+        () -> assertEquals(-1, index.frameAtOrBefore(-1)),
+        () -> assertEquals(0, index.frameAtOrBefore(0)),
+        () -> assertEquals(1, index.frameAtOrBefore(9)),
+        () -> assertEquals(2, index.frameAtOrBefore(10)),
+        () -> assertEquals(5, index.frameAtOrBefore(30)),
+        () -> assertEquals(5, index.frameAtOrBefore(1000))
+    );
+  }
+
+  @Test
+  public void testChangesFromStart() {
+    assertEquals(List.of(3, 10), changes(-1, 3));
+  }
+
+  @Test
+  public void testChangesForward() {
+    assertEquals(List.of(3, 11, 100), changes(1, 5));
+  }
+
+  @Test
+  public void testChangesBackward() {
+    // Going back from the end should restore the values at the earlier frame, and nothing newer
+    assertEquals(List.of(2, 10), changes(5, 2));
+  }
+
+  @Test
+  public void testNoChanges() {
+    assertEquals(List.of(), changes(3, 3));
+  }
+
+  private List<Object> changes(int from, int to) {
+    List<Object> values = new ArrayList<>();
+    index.forEachChange(from, to, point -> values.add(point.getData()));
+    return values;
+  }
+
+  private static TimestampedData point(String name, int value, long timestamp) {
+    return new TimestampedData(name, DataTypes.Number, value, timestamp);
+  }
+
+}
@@ -0,0 +1,40 @@
+package edu.wpi.first.shuffleboard.benchmarks;
+
+import edu.wpi.first.shuffleboard.api.sources.recording.Recording;
+import edu.wpi.first.shuffleboard.app.sources.recording.CsvConverter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks converting a recording to CSV text with the default converter settings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CsvConverterBenchmark {
+
+  @Param({"15", "150"})
+  public int seconds;
+
+  private Recording recording;
+
+  @Setup
+  public void setup() {
+    recording = TelemetryGenerator.generateRecording(seconds, 2018);
+  }
+
+  @Benchmark
+  public String convertToCsv() {
+    return CsvConverter.Instance.convertToCsv(recording);
+  }
+
+}
@@ -0,0 +1,121 @@
+package edu.wpi.first.shuffleboard.benchmarks;
+
+import edu.wpi.first.shuffleboard.api.data.DataType;
+import edu.wpi.first.shuffleboard.api.data.DataTypes;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.AbstractCollection;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSequentialList;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Stack;
+import java.util.TreeMap;
+import java.util.Vector;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Benchmarks looking up data types by Java class with {@link DataTypes#forJavaType(Class)}. The looked up classes do
+ * not have data types of their own, so they have to be resolved through the class hierarchy. Cold lookups are the
+ * first lookups in a new registry; warm lookups are answered from the registry's cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DataTypesBenchmark {
+
+  /**
+   * Classes with registered data types, spread over a few class hierarchies.
+   */
+  private static final List<Class<?>> REGISTERED = List.of(
+      Integer.class, Long.class, Double.class, Float.class, Short.class, Byte.class, AtomicInteger.class,
+      AbstractCollection.class, AbstractList.class, AbstractSequentialList.class, ArrayList.class, Vector.class,
+      AbstractMap.class, HashMap.class, TreeMap.class,
+      Throwable.class, Exception.class, RuntimeException.class, IllegalArgumentException.class,
+      IllegalStateException.class, ConcurrentModificationException.class
+  );
+
+  /**
+   * Classes without data types of their own, which have to be resolved through the class hierarchy.
+   */
+  private static final List<Class<?>> LOOKUPS = List.of(
+      Stack.class, LinkedList.class, LinkedHashMap.class, AtomicLong.class, NumberFormatException.class,
+      ArrayIndexOutOfBoundsException.class, Error.class, UnsupportedOperationException.class
+  );
+
+  private DataTypes coldRegistry;
+  private DataTypes warmRegistry;
+
+  @Setup
+  public void setupWarmRegistry() {
+    warmRegistry = newRegistry();
+    LOOKUPS.forEach(warmRegistry::forJavaType);
+  }
+
+  @Setup(Level.Invocation)
+  public void setupColdRegistry() {
+    coldRegistry = newRegistry();
+  }
+
+  /**
+   * Looks up every class in a registry that has not looked up any of them before.
+   */
+  @Benchmark
+  public void coldLookups(Blackhole blackhole) {
+    for (Class<?> type : LOOKUPS) {
+      blackhole.consume(coldRegistry.forJavaType(type));
+    }
+  }
+
+  /**
+   * Looks up every class in a registry that has already looked up all of them.
+   */
+  @Benchmark
+  public void warmLookups(Blackhole blackhole) {
+    for (Class<?> type : LOOKUPS) {
+      blackhole.consume(warmRegistry.forJavaType(type));
+    }
+  }
+
+  private static DataTypes newRegistry() {
+    DataTypes registry = new DataTypes();
+    for (Class<?> type : REGISTERED) {
+      registry.register(new MockType<>(type.getSimpleName(), type));
+    }
+    return registry;
+  }
+
+  private static final class MockType<T> extends DataType<T> {
+
+    MockType(String name, Class<T> javaClass) {
+      super(name, javaClass);
+    }
+
+    @Override
+    public T getDefaultValue() {
+      return null;
+    }
+
+    @Override
+    public boolean isComplex() {
+      return false;
+    }
+  }
+
+}
@@ -0,0 +1,62 @@
+package edu.wpi.first.shuffleboard.benchmarks;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javafx.application.Platform;
+
+/**
+ * Starts the JavaFX platform for benchmarks that use classes requiring it. The benchmark JVMs are configured by the
+ * build to use the headless Monocle platform, so no display is needed.
+ */
+public final class HeadlessFx {
+
+  private static boolean started = false;
+
+  private HeadlessFx() {
+    throw new UnsupportedOperationException("This is a utility class!");
+  }
+
+  /**
+   * Starts the JavaFX platform, if it has not already been started.
+   */
+  public static synchronized void start() throws InterruptedException {
+    if (started) {
+      return;
+    }
+    CountDownLatch latch = new CountDownLatch(1);
+    Platform.setImplicitExit(false);
+    Platform.startup(latch::countDown);
+    if (!latch.await(10, TimeUnit.SECONDS)) {
+      throw new IllegalStateException("JavaFX platform did not start");
+    }
+    started = true;
+  }
+
+  /**
+   * Blocks until all tasks currently queued to run on the JavaFX application thread have completed.
+   */
+  public static void waitForFxEvents() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(1);
+    Platform.runLater(latch::countDown);
+    latch.await();
+  }
+
+  /**
+   * Runs a task on the JavaFX application thread and blocks until it has completed.
+   *
+   * @param task the task to run
+   */
+  public static void runAndWait(Runnable task) throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(1);
+    Platform.runLater(() -> {
+      try {
+        task.run();
+      } finally {
+        latch.countDown();
+      }
+    });
+    latch.await();
+  }
+
+}
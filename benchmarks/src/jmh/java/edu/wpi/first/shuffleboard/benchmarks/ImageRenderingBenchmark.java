@@ -0,0 +1,92 @@
+package edu.wpi.first.shuffleboard.benchmarks;
+
+import edu.wpi.first.shuffleboard.plugin.cameraserver.recording.serialization.DirectImageRenderer;
+import edu.wpi.first.shuffleboard.plugin.cameraserver.recording.serialization.ImageConverter;
+
+import org.bytedeco.javacpp.Loader;
+import org.bytedeco.opencv.opencv_java;
+import org.opencv.core.Core;
+import org.opencv.core.CvType;
+import org.opencv.core.Mat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+import javafx.scene.image.Image;
+
+/**
+ * Benchmarks displaying a 720p camera frame with {@link ImageConverter}, which does all of its work on the JavaFX
+ * application thread, and with {@link DirectImageRenderer}, which converts frames on the thread that produces them and
+ * only copies pixels on the JavaFX application thread. The time the JavaFX application thread spends on a frame with
+ * the direct renderer is the difference between {@link #renderAndPublish()} and {@link #render()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ImageRenderingBenchmark {
+
+  private static final int WIDTH = 1280;
+  private static final int HEIGHT = 720;
+
+  private Mat frame;
+  private Mat displayMat;
+  private ImageConverter converter;
+  private DirectImageRenderer renderer;
+
+  @Setup
+  public void setup() throws InterruptedException {
+    HeadlessFx.start();
+    Loader.load(opencv_java.class);
+    frame = new Mat(HEIGHT, WIDTH, CvType.CV_8UC3);
+    Core.randu(frame, 0, 256);
+    displayMat = new Mat();
+    converter = new ImageConverter();
+    renderer = new DirectImageRenderer();
+  }
+
+  @TearDown
+  public void tearDown() {
+    frame.release();
+    displayMat.release();
+  }
+
+  /**
+   * Copies and converts a frame on the JavaFX application thread, the way the camera widget does without the direct
+   * renderer.
+   */
+  @Benchmark
+  public Image convertOnFxThread() throws InterruptedException {
+    Image[] image = new Image[1];
+    HeadlessFx.runAndWait(() -> {
+      frame.copyTo(displayMat);
+      image[0] = converter.convert(displayMat);
+    });
+    return image[0];
+  }
+
+  /**
+   * Renders a frame on the calling thread without displaying it.
+   */
+  @Benchmark
+  public boolean render() {
+    return renderer.render(frame);
+  }
+
+  /**
+   * Renders a frame on the calling thread and displays it on the JavaFX application thread.
+   */
+  @Benchmark
+  public Image renderAndPublish() throws InterruptedException {
+    renderer.render(frame);
+    HeadlessFx.runAndWait(renderer::publish);
+    return renderer.getImage();
+  }
+
+}
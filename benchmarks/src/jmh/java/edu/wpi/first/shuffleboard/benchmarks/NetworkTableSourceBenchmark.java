@@ -0,0 +1,100 @@
+package edu.wpi.first.shuffleboard.benchmarks;
+
+import edu.wpi.first.shuffleboard.api.data.DataTypes;
+import edu.wpi.first.shuffleboard.api.data.MapData;
+import edu.wpi.first.shuffleboard.api.util.AsyncUtils;
+import edu.wpi.first.shuffleboard.api.util.FxUtils;
+import edu.wpi.first.shuffleboard.plugin.networktables.NetworkTablesPlugin;
+import edu.wpi.first.shuffleboard.plugin.networktables.sources.CompositeNetworkTableSource;
+import edu.wpi.first.shuffleboard.plugin.networktables.sources.SingleKeyNetworkTableSource;
+import edu.wpi.first.shuffleboard.plugin.networktables.util.NetworkTableUtils;
+
+import edu.wpi.first.networktables.DoublePublisher;
+import edu.wpi.first.networktables.NetworkTable;
+import edu.wpi.first.networktables.NetworkTableInstance;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks delivering NetworkTables value changes to sources: the time from publishing new values until every
+ * listener has run and the sources hold the new data. Values are published locally on the default instance; the
+ * NetworkTables client is stopped, so nothing is sent over the network.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NetworkTableSourceBenchmark {
+
+  private static final String TABLE = "/Benchmark";
+
+  /**
+   * The number of entries in the table backing the composite source.
+   */
+  @Param({"8", "64"})
+  public int entries;
+
+  private final NetworkTableInstance inst = NetworkTableInstance.getDefault();
+  private DoublePublisher[] publishers;
+  private CompositeNetworkTableSource<MapData> compositeSource;
+  private SingleKeyNetworkTableSource<Number> singleKeySource;
+  private double value = 0;
+
+  @Setup
+  public void setup() throws InterruptedException {
+    HeadlessFx.start();
+    AsyncUtils.setAsyncRunner(Runnable::run);
+    new NetworkTablesPlugin(inst);
+    NetworkTableUtils.shutdown(inst);
+
+    NetworkTable table = inst.getTable(TABLE);
+    publishers = new DoublePublisher[entries];
+    for (int i = 0; i < entries; i++) {
+      publishers[i] = table.getDoubleTopic("Value" + i).publish();
+      publishers[i].set(0);
+    }
+    compositeSource = new CompositeNetworkTableSource<>(TABLE, DataTypes.Map);
+    singleKeySource =
+        new SingleKeyNetworkTableSource<>(NetworkTableUtils.rootTable, "Benchmark/Value0", DataTypes.Number);
+    inst.waitForListenerQueue(1.0);
+  }
+
+  @TearDown
+  public void tearDown() {
+    compositeSource.close();
+    singleKeySource.close();
+    for (DoublePublisher publisher : publishers) {
+      publisher.close();
+    }
+    inst.waitForListenerQueue(1.0);
+    AsyncUtils.setAsyncRunner(FxUtils::runOnFxThread);
+  }
+
+  @Benchmark
+  public MapData updateAllEntries() {
+    value++;
+    for (DoublePublisher publisher : publishers) {
+      publisher.set(value);
+    }
+    inst.waitForListenerQueue(1.0);
+    return compositeSource.getData();
+  }
+
+  @Benchmark
+  public MapData updateOneEntry() {
+    value++;
+    publishers[0].set(value);
+    inst.waitForListenerQueue(1.0);
+    return compositeSource.getData();
+  }
+
+}
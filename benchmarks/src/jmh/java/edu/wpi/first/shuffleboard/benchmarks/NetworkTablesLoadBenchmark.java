@@ -0,0 +1,91 @@
+package edu.wpi.first.shuffleboard.benchmarks;
+
+import edu.wpi.first.shuffleboard.api.data.DataTypes;
+import edu.wpi.first.shuffleboard.api.util.AsyncUtils;
+import edu.wpi.first.shuffleboard.api.util.FxUtils;
+import edu.wpi.first.shuffleboard.nt.testutil.LoadGenerator;
+import edu.wpi.first.shuffleboard.nt.testutil.LoadServer;
+import edu.wpi.first.shuffleboard.nt.testutil.Workload;
+import edu.wpi.first.shuffleboard.plugin.networktables.NetworkTablesPlugin;
+import edu.wpi.first.shuffleboard.plugin.networktables.sources.NetworkTableSourceType;
+import edu.wpi.first.shuffleboard.plugin.networktables.sources.SingleKeyNetworkTableSource;
+import edu.wpi.first.shuffleboard.plugin.networktables.util.NetworkTableUtils;
+
+import edu.wpi.first.networktables.NetworkTableInstance;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Benchmarks the latency from a robot publishing a tick of an event-day workload to a source receiving it. The
+ * workload is published by an in-process NetworkTables server, and the default instance is connected to it as a client
+ * over loopback, the same way shuffleboard connects to a robot. Sample mode reports latency percentiles.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NetworkTablesLoadBenchmark {
+
+  private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+  private static final long RECEIVE_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+  private final NetworkTableInstance client = NetworkTableInstance.getDefault();
+  private final AtomicLong receivedSequence = new AtomicLong(-1);
+  private LoadServer server;
+  private LoadGenerator generator;
+  private SingleKeyNetworkTableSource<Number> source;
+
+  @Setup
+  public void setup() throws InterruptedException {
+    AsyncUtils.setAsyncRunner(Runnable::run);
+    server = new LoadServer();
+    NetworkTableSourceType.setInstance(new NetworkTableSourceType(new NetworkTablesPlugin(client)));
+    server.connect(client, "shuffleboard");
+    if (!server.waitForConnection(client, CONNECT_TIMEOUT)) {
+      throw new IllegalStateException("Client did not connect to the load server");
+    }
+    generator = new LoadGenerator(server.getInstance(), Workload.EVENT_DAY);
+    source = new SingleKeyNetworkTableSource<>(
+        NetworkTableUtils.rootTable, LoadGenerator.SEQUENCE_TOPIC.substring(1), DataTypes.Number);
+    source.dataProperty().addListener((__, old, sequence) -> receivedSequence.set(sequence.longValue()));
+  }
+
+  @TearDown
+  public void tearDown() {
+    source.close();
+    generator.close();
+    NetworkTableSourceType.getInstance().close();
+    NetworkTableUtils.shutdown(client);
+    server.close();
+    AsyncUtils.setAsyncRunner(FxUtils::runOnFxThread);
+  }
+
+  /**
+   * Publishes a single tick of the workload and waits for its sequence number to reach the source. Ticks are published
+   * back to back rather than at the workload's update rate, so this is the latency with the connection saturated.
+   */
+  @Benchmark
+  public long publishToSource() {
+    generator.step();
+    final long sequence = generator.getSequence();
+    final long deadline = System.nanoTime() + RECEIVE_TIMEOUT_NANOS;
+    while (receivedSequence.get() < sequence) {
+      if (System.nanoTime() > deadline) {
+        throw new IllegalStateException("Tick " + sequence + " was never received");
+      }
+      Thread.onSpinWait();
+    }
+    return sequence;
+  }
+
+}
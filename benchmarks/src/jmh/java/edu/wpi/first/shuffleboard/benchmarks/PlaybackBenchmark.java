@@ -0,0 +1,102 @@
+package edu.wpi.first.shuffleboard.benchmarks;
+
+import edu.wpi.first.shuffleboard.api.data.DataType;
+import edu.wpi.first.shuffleboard.api.data.DataTypes;
+import edu.wpi.first.shuffleboard.api.sources.DataSource;
+import edu.wpi.first.shuffleboard.api.sources.SourceType;
+import edu.wpi.first.shuffleboard.api.sources.SourceTypes;
+import edu.wpi.first.shuffleboard.api.sources.recording.Serialization;
+import edu.wpi.first.shuffleboard.api.sources.recording.TimestampedData;
+import edu.wpi.first.shuffleboard.app.sources.recording.Playback;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks moving the playhead of a playback, which replays the most recent value of every source at the new frame.
+ * Replayed values go to a source type that discards them, so only the playback itself is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PlaybackBenchmark {
+
+  @Param({"15", "150"})
+  public int seconds;
+
+  private final DiscardingSourceType sourceType = new DiscardingSourceType();
+  private Path recordingFile;
+  private Playback playback;
+  private int[] seekTargets;
+  private int seekIndex;
+
+  @Setup
+  public void setup() throws IOException {
+    SourceTypes.getDefault().register(sourceType);
+    recordingFile = Files.createTempFile("shuffleboard-benchmark", ".sbr");
+    Serialization.saveRecording(TelemetryGenerator.generateRecording(seconds, 2018), recordingFile);
+    playback = Playback.load(recordingFile.toString());
+
+    Random random = new Random(2018);
+    seekTargets = new int[1024];
+    for (int i = 0; i < seekTargets.length; i++) {
+      seekTargets[i] = random.nextInt(playback.getNumFrames());
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    SourceTypes.getDefault().unregister(sourceType);
+    Files.deleteIfExists(recordingFile);
+  }
+
+  @Benchmark
+  public int seek() {
+    int target = seekTargets[seekIndex++ % seekTargets.length];
+    playback.setFrame(target);
+    return sourceType.replayed;
+  }
+
+  @Benchmark
+  public int step() {
+    if (playback.getFrame() == playback.getMaxFrameNum()) {
+      playback.setFrame(0);
+    } else {
+      playback.nextFrame();
+    }
+    return sourceType.replayed;
+  }
+
+  private static final class DiscardingSourceType extends SourceType {
+
+    private int replayed = 0;
+
+    DiscardingSourceType() {
+      super("Benchmark", true, TelemetryGenerator.PROTOCOL, __ -> DataSource.none());
+    }
+
+    @Override
+    public DataType<?> dataTypeForSource(DataTypes registry, String sourceUri) {
+      return DataTypes.Unknown;
+    }
+
+    @Override
+    public void read(TimestampedData recordedData) {
+      replayed++;
+    }
+  }
+
+}
@@ -0,0 +1,186 @@
+package edu.wpi.first.shuffleboard.benchmarks;
+
+import edu.wpi.first.shuffleboard.api.json.PropertySaver;
+import edu.wpi.first.shuffleboard.api.prefs.Group;
+import edu.wpi.first.shuffleboard.api.prefs.Setting;
+import edu.wpi.first.shuffleboard.api.properties.SavePropertyFrom;
+import edu.wpi.first.shuffleboard.api.properties.SaveThisProperty;
+import edu.wpi.first.shuffleboard.api.widget.Component;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonDeserializationContext;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonSerializationContext;
+
+import org.controlsfx.glyphfont.FontAwesome;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.scene.layout.Pane;
+
+/**
+ * Benchmarks saving and loading the properties of a component, as done for every widget and layout when a dashboard
+ * is saved or opened. The component has the mix of exported settings and annotated fields a typical widget has.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PropertySaverBenchmark {
+
+  private final PropertySaver propertySaver = new PropertySaver();
+  private final GsonContext context = new GsonContext();
+  private final BenchmarkComponent component = new BenchmarkComponent();
+  private JsonObject savedProperties;
+
+  @Setup
+  public void setup() {
+    savedProperties = new JsonObject();
+    propertySaver.saveAllProperties(component, context, savedProperties);
+  }
+
+  @Benchmark
+  public JsonObject saveAllProperties() {
+    JsonObject json = new JsonObject();
+    propertySaver.saveAllProperties(component, context, json);
+    return json;
+  }
+
+  @Benchmark
+  public BenchmarkComponent readAllProperties() {
+    propertySaver.readAllProperties(component, context, savedProperties);
+    return component;
+  }
+
+  private static final class GsonContext implements JsonSerializationContext, JsonDeserializationContext {
+
+    private final Gson gson = new Gson();
+
+    @Override
+    public JsonElement serialize(Object src) {
+      return gson.toJsonTree(src);
+    }
+
+    @Override
+    public JsonElement serialize(Object src, Type typeOfSrc) {
+      return gson.toJsonTree(src, typeOfSrc);
+    }
+
+    @Override
+    public <T> T deserialize(JsonElement json, Type typeOfT) {
+      return gson.fromJson(json, typeOfT);
+    }
+  }
+
+  /**
+   * A range with bean-style accessors, saved through {@link SavePropertyFrom @SavePropertyFrom}.
+   */
+  public static final class Range {
+
+    private double min = -1;
+    private double max = 1;
+
+    public double getMin() {
+      return min;
+    }
+
+    public void setMin(double min) {
+      this.min = min;
+    }
+
+    public double getMax() {
+      return max;
+    }
+
+    public void setMax(double max) {
+      this.max = max;
+    }
+  }
+
+  /**
+   * A component that is never shown. It has no view.
+   */
+  public static final class BenchmarkComponent implements Component {
+
+    private final StringProperty title = new SimpleStringProperty(this, "title", "Benchmark");
+    private final Property<FontAwesome.Glyph> glyph = new SimpleObjectProperty<>(this, "glyph", FontAwesome.Glyph.CAR);
+    private final BooleanProperty showGlyph = new SimpleBooleanProperty(this, "showGlyph", false);
+
+    private final DoubleProperty blockIncrement = new SimpleDoubleProperty(this, "blockIncrement", 0.0625);
+    private final BooleanProperty showTickMarks = new SimpleBooleanProperty(this, "showTickMarks", true);
+    private final StringProperty units = new SimpleStringProperty(this, "units", "m/s");
+    private final DoubleProperty warningLevel = new SimpleDoubleProperty(this, "warningLevel", 0.8);
+
+    @SaveThisProperty
+    private final DoubleProperty period = new SimpleDoubleProperty(this, "period", 0.02);
+    @SaveThisProperty(name = "visible range")
+    private final DoubleProperty visibleRange = new SimpleDoubleProperty(this, "visibleRange", 30);
+
+    @SavePropertyFrom(propertyName = "min", savedName = "minimum")
+    @SavePropertyFrom(propertyName = "max", savedName = "maximum")
+    private final Range range = new Range();
+
+    @Override
+    public Pane getView() {
+      return null;
+    }
+
+    @Override
+    public Property<String> titleProperty() {
+      return title;
+    }
+
+    @Override
+    public Property<FontAwesome.Glyph> glyphProperty() {
+      return glyph;
+    }
+
+    @Override
+    public BooleanProperty showGlyphProperty() {
+      return showGlyph;
+    }
+
+    @Override
+    public Stream<Component> allComponents() {
+      return Stream.of(this);
+    }
+
+    @Override
+    public String getName() {
+      return "Benchmark";
+    }
+
+    @Override
+    public List<Group> getSettings() {
+      return List.of(
+          Group.of("Behavior",
+              Setting.of("Block increment", blockIncrement, Double.class),
+              Setting.of("Show tick marks", showTickMarks, Boolean.class)
+          ),
+          Group.of("Visuals",
+              Setting.of("Units", units, String.class),
+              Setting.of("Warning level", warningLevel, Double.class)
+          )
+      );
+    }
+  }
+
+}
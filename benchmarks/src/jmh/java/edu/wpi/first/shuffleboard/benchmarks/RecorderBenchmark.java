@@ -0,0 +1,62 @@
+package edu.wpi.first.shuffleboard.benchmarks;
+
+import edu.wpi.first.shuffleboard.api.sources.recording.Recorder;
+import edu.wpi.first.shuffleboard.api.sources.recording.TimestampedData;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks recording data points as they arrive from sources. Each invocation records one second of telemetry. The
+ * recording is restarted after every 150 seconds of data (the length of a match) so it does not grow without bound
+ * over an iteration. The recorder does not write to disk.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecorderBenchmark {
+
+  private static final int SECONDS_PER_RECORDING = 150;
+
+  private final Recorder recorder = Recorder.createDummyInstance();
+  private List<TimestampedData> oneSecond;
+  private int secondsRecorded;
+
+  @Setup
+  public void setup() {
+    oneSecond = TelemetryGenerator.generateSamples(1, 2018);
+  }
+
+  @Setup(Level.Iteration)
+  public void startRecording() {
+    recorder.start();
+    secondsRecorded = 0;
+  }
+
+  @TearDown(Level.Iteration)
+  public void stopRecording() {
+    recorder.stop();
+  }
+
+  @Benchmark
+  public void recordOneSecond() {
+    if (secondsRecorded++ == SECONDS_PER_RECORDING) {
+      recorder.start();
+      secondsRecorded = 0;
+    }
+    for (TimestampedData sample : oneSecond) {
+      recorder.record(sample.getSourceId(), sample.getDataType(), sample.getData());
+    }
+  }
+
+}
@@ -0,0 +1,97 @@
+package edu.wpi.first.shuffleboard.benchmarks;
+
+import edu.wpi.first.shuffleboard.api.data.DataTypes;
+import edu.wpi.first.shuffleboard.api.sources.recording.Recording;
+import edu.wpi.first.shuffleboard.api.sources.recording.Serialization;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks encoding and decoding single values, and saving and loading whole recording files.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+
+  /**
+   * The length of the recording, in seconds. 150 seconds is the length of a full match.
+   */
+  @Param({"15", "150"})
+  public int seconds;
+
+  private Recording recording;
+  private Path savedFile;
+  private Path scratchFile;
+
+  private final double[] pose = {1.5, -2.25, 137.0};
+  private final String[] faults = {"Brownout", "CanTimeout"};
+  private byte[] encodedPose;
+  private byte[] encodedFaults;
+
+  @Setup
+  public void setup() throws IOException {
+    recording = TelemetryGenerator.generateRecording(seconds, 2018);
+    savedFile = Files.createTempFile("shuffleboard-benchmark", ".sbr");
+    scratchFile = Files.createTempFile("shuffleboard-benchmark-scratch", ".sbr");
+    Serialization.saveRecording(recording, savedFile);
+    encodedPose = Serialization.encode(pose, DataTypes.NumberArray);
+    encodedFaults = Serialization.encode(faults, DataTypes.StringArray);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(savedFile);
+    Files.deleteIfExists(scratchFile);
+  }
+
+  @Benchmark
+  public byte[] encodeNumber() {
+    return Serialization.encode(12.345, DataTypes.Number);
+  }
+
+  @Benchmark
+  public byte[] encodeNumberArray() {
+    return Serialization.encode(pose, DataTypes.NumberArray);
+  }
+
+  @Benchmark
+  public byte[] encodeStringArray() {
+    return Serialization.encode(faults, DataTypes.StringArray);
+  }
+
+  @Benchmark
+  public double[] decodeNumberArray() {
+    return Serialization.decode(encodedPose, 0, DataTypes.NumberArray);
+  }
+
+  @Benchmark
+  public String[] decodeStringArray() {
+    return Serialization.decode(encodedFaults, 0, DataTypes.StringArray);
+  }
+
+  @Benchmark
+  public Path saveRecording() throws IOException {
+    Serialization.saveRecording(recording, scratchFile);
+    return scratchFile;
+  }
+
+  @Benchmark
+  public Recording loadRecording() throws IOException {
+    return Serialization.loadRecording(savedFile);
+  }
+
+}
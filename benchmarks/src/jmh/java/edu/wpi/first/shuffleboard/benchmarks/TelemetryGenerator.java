@@ -0,0 +1,104 @@
+package edu.wpi.first.shuffleboard.benchmarks;
+
+import edu.wpi.first.shuffleboard.api.data.DataType;
+import edu.wpi.first.shuffleboard.api.data.DataTypes;
+import edu.wpi.first.shuffleboard.api.sources.recording.Marker;
+import edu.wpi.first.shuffleboard.api.sources.recording.MarkerImportance;
+import edu.wpi.first.shuffleboard.api.sources.recording.Recording;
+import edu.wpi.first.shuffleboard.api.sources.recording.TimestampedData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates synthetic robot telemetry with the shape of a typical match log: a few dozen numeric channels updated by
+ * the robot's main loop, a pose array, and booleans, strings, and string arrays that change only occasionally. Output
+ * is deterministic for a given seed, so runs on different commits operate on identical data.
+ */
+public final class TelemetryGenerator {
+
+  /**
+   * The protocol used for the IDs of all generated sources.
+   */
+  public static final String PROTOCOL = "benchmark://";
+
+  // The period of the robot's main loop, in milliseconds
+  private static final int LOOP_PERIOD_MS = 20;
+
+  private static final String[] SUBSYSTEMS = {"Drivetrain", "Elevator", "Arm", "Intake", "Shooter", "Climber"};
+  private static final String[] MOTOR_CHANNELS = {"Velocity", "Position", "Current", "Temperature", "Output"};
+  private static final String[] AUTO_STATES = {"Idle", "DriveToTarget", "Align", "Score", "Retreat", "Balance"};
+  private static final String[] FAULTS = {"Brownout", "CanTimeout", "Overcurrent", "SensorDisconnected"};
+
+  private TelemetryGenerator() {
+    throw new UnsupportedOperationException("This is a utility class!");
+  }
+
+  /**
+   * Generates a recording of telemetry.
+   *
+   * @param seconds the length of the recording, in seconds
+   * @param seed    the seed for the random noise in the data
+   */
+  public static Recording generateRecording(int seconds, long seed) {
+    Recording recording = new Recording();
+    generateSamples(seconds, seed).forEach(recording::append);
+    for (long time = 5000; time < seconds * 1000L; time += 5000) {
+      recording.addMarker(new Marker("Marker " + time, "Generated marker", MarkerImportance.NORMAL, time));
+    }
+    return recording;
+  }
+
+  /**
+   * Generates telemetry samples, sorted by timestamp.
+   *
+   * @param seconds the length of time to generate samples for, in seconds
+   * @param seed    the seed for the random noise in the data
+   */
+  public static List<TimestampedData> generateSamples(int seconds, long seed) {
+    Random random = new Random(seed);
+    List<TimestampedData> samples = new ArrayList<>();
+    for (long time = 0; time < seconds * 1000L; time += LOOP_PERIOD_MS) {
+      double t = time / 1000.0;
+
+      // Motor telemetry is sent every loop
+      for (int s = 0; s < SUBSYSTEMS.length; s++) {
+        for (int c = 0; c < MOTOR_CHANNELS.length; c++) {
+          double value = Math.sin(t * (s + 1) + c) * 100 + random.nextGaussian();
+          samples.add(sample(SUBSYSTEMS[s] + "/" + MOTOR_CHANNELS[c], DataTypes.Number, value, time));
+        }
+      }
+      samples.add(sample("Robot/BatteryVoltage", DataTypes.Number, 12.5 - t / 60 + random.nextGaussian() * 0.1, time));
+      samples.add(sample("Robot/Pose", DataTypes.NumberArray,
+          new double[]{Math.cos(t) * 4, Math.sin(t) * 2, (t * 45) % 360}, time));
+
+      // Digital inputs and state change much less often
+      if (time % 500 == 0) {
+        for (int s = 0; s < SUBSYSTEMS.length; s++) {
+          samples.add(sample(SUBSYSTEMS[s] + "/LimitSwitch", DataTypes.Boolean, random.nextInt(4) == 0, time));
+        }
+        samples.add(sample("Auto/State", DataTypes.String, AUTO_STATES[random.nextInt(AUTO_STATES.length)], time));
+      }
+      if (time % 3000 == 0) {
+        samples.add(sample("Robot/Faults", DataTypes.StringArray, randomFaults(random), time));
+      }
+    }
+    return samples;
+  }
+
+  private static String[] randomFaults(Random random) {
+    List<String> faults = new ArrayList<>();
+    for (String fault : FAULTS) {
+      if (random.nextInt(3) == 0) {
+        faults.add(fault);
+      }
+    }
+    return faults.toArray(new String[0]);
+  }
+
+  private static TimestampedData sample(String name, DataType<?> type, Object value, long time) {
+    return new TimestampedData(PROTOCOL + name, type, value, time);
+  }
+
+}
@@ -0,0 +1,85 @@
+package edu.wpi.first.shuffleboard.benchmarks;
+
+import edu.wpi.first.shuffleboard.api.util.GridPoint;
+import edu.wpi.first.shuffleboard.api.widget.TileSize;
+import edu.wpi.first.shuffleboard.app.components.TilePane;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Pane;
+
+/**
+ * Benchmarks finding space for new tiles in a tile pane. The panes are never shown, so no layout or rendering passes
+ * are included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TilePaneBenchmark {
+
+  private static final TileSize[] TILE_SIZES = {
+      new TileSize(1, 1), new TileSize(2, 1), new TileSize(1, 2), new TileSize(2, 2), new TileSize(3, 2)
+  };
+
+  /**
+   * The number of columns in the pane. Panes always have half as many rows as columns.
+   */
+  @Param({"16", "48"})
+  public int columns;
+
+  private TilePane mostlyFullPane;
+  private final TileSize largeTile = new TileSize(4, 3);
+
+  @Setup
+  public void setup() throws InterruptedException {
+    HeadlessFx.start();
+    mostlyFullPane = new TilePane(columns, columns / 2);
+    fill(mostlyFullPane, new Random(2018));
+    // Free up a spot in the bottom-right corner for the large tile to be placed in
+    mostlyFullPane.getChildren().removeIf(node -> {
+      int col = GridPane.getColumnIndex(node);
+      int row = GridPane.getRowIndex(node);
+      return col + GridPane.getColumnSpan(node) > columns - largeTile.getWidth()
+          && row + GridPane.getRowSpan(node) > columns / 2 - largeTile.getHeight();
+    });
+  }
+
+  /**
+   * Finds space for a large tile in a pane where the only space is at the very end.
+   */
+  @Benchmark
+  public GridPoint firstPoint() {
+    return mostlyFullPane.firstPoint(largeTile);
+  }
+
+  /**
+   * Fills an empty pane with tiles of varying sizes, the way a tab is filled by autopopulation.
+   */
+  @Benchmark
+  public TilePane fillPane() {
+    TilePane pane = new TilePane(columns, columns / 2);
+    fill(pane, new Random(2018));
+    return pane;
+  }
+
+  private static void fill(TilePane pane, Random random) {
+    TileSize smallest = TILE_SIZES[0];
+    while (pane.firstPoint(smallest) != null) {
+      if (pane.addTile(new Pane(), TILE_SIZES[random.nextInt(TILE_SIZES.length)]) == null) {
+        pane.addTile(new Pane(), smallest);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,331 @@
+package edu.wpi.first.shuffleboard.nt.testutil;
+
+import edu.wpi.first.networktables.BooleanPublisher;
+import edu.wpi.first.networktables.DoubleArrayPublisher;
+import edu.wpi.first.networktables.DoublePublisher;
+import edu.wpi.first.networktables.IntegerPublisher;
+import edu.wpi.first.networktables.NetworkTable;
+import edu.wpi.first.networktables.NetworkTableInstance;
+import edu.wpi.first.networktables.PubSubOption;
+import edu.wpi.first.networktables.Publisher;
+import edu.wpi.first.networktables.StringPublisher;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Publishes a synthetic robot {@link Workload} to a NetworkTables instance, usually the instance of a
+ * {@link LoadServer}. All topics are published under {@value #ROOT_TABLE}.
+ *
+ * <p>Each tick publishes its sequence number to {@value #SEQUENCE_TOPIC} after all other values for the tick, and
+ * records the time it was published. A test subscribing to the sequence topic can use
+ * {@link #getPublishTimeNanos(long)} to measure the latency from publishing a value to the value being received, or
+ * to a widget being updated with it.
+ *
+ * <p>Ticks run at the workload's update rate on a background thread after {@link #start()} is called. Tests that need
+ * exact control over timing can call {@link #step()} instead.
+ */
+public final class LoadGenerator implements AutoCloseable {
+
+  /**
+   * The table under which all generated topics are published.
+   */
+  public static final String ROOT_TABLE = "/LoadGenerator";
+
+  /**
+   * The topic containing the sequence number of the latest tick.
+   */
+  public static final String SEQUENCE_TOPIC = ROOT_TABLE + "/Sequence";
+
+  private static final int TOPICS_PER_SUBSYSTEM = 25;
+  private static final int CHURN_TABLE_TOPICS = 4;
+  // Must be a power of two to keep the index of the sequence number non-negative when it wraps
+  private static final int PUBLISH_TIME_HISTORY = 4096;
+
+  private final NetworkTableInstance instance;
+  private final Workload workload;
+  private final PubSubOption[] options;
+  private final Random random;
+  private final ScheduledExecutorService executor;
+
+  private final List<DoublePublisher> numbers = new ArrayList<>();
+  private final List<BooleanPublisher> booleans = new ArrayList<>();
+  private final List<StringPublisher> strings = new ArrayList<>();
+  private final List<Field> fields = new ArrayList<>();
+  private final Deque<ChurnTable> churnTables = new ArrayDeque<>();
+  private final IntegerPublisher sequencePublisher;
+
+  private final long ticksPerSecond;
+  private final long ticksPerChurn;
+  private int churnTablesCreated = 0;
+
+  private final AtomicLong sequence = new AtomicLong(-1);
+  private final AtomicLong updateCount = new AtomicLong();
+  private final AtomicLongArray publishTimes = new AtomicLongArray(PUBLISH_TIME_HISTORY);
+  private ScheduledFuture<?> ticker;
+
+  /**
+   * Creates a new load generator. All topics in the workload are published immediately, but values are only updated
+   * once the generator is started or stepped.
+   *
+   * @param instance the instance to publish to
+   * @param workload the workload to publish
+   */
+  public LoadGenerator(NetworkTableInstance instance, Workload workload) {
+    this.instance = instance;
+    this.workload = workload;
+    this.random = new Random(workload.getSeed());
+    this.options = new PubSubOption[]{
+        PubSubOption.periodic(workload.getUpdatePeriod().toNanos() / 1e9)
+    };
+    this.ticksPerSecond = Math.max(1, Math.round(workload.getUpdateRate()));
+    this.ticksPerChurn = workload.getChurnPeriod().isZero()
+        ? 0
+        : Math.max(1, workload.getChurnPeriod().toNanos() / workload.getUpdatePeriod().toNanos());
+    this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "NetworkTables Load Generator");
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    for (int i = 0; i < workload.getTopicCount(); i++) {
+      NetworkTable subsystem = instance.getTable(ROOT_TABLE + "/Subsystem" + (i / TOPICS_PER_SUBSYSTEM));
+      // Most robot telemetry is numeric; the remainder is a mix of flags and state names
+      switch (i % 10) {
+        case 7:
+        case 8:
+          BooleanPublisher flag = subsystem.getBooleanTopic("Flag" + i).publish(options);
+          flag.set(false);
+          booleans.add(flag);
+          break;
+        case 9:
+          StringPublisher state = subsystem.getStringTopic("State" + i).publish(options);
+          state.set("Idle");
+          strings.add(state);
+          break;
+        default:
+          DoublePublisher number = subsystem.getDoubleTopic("Value" + i).publish(options);
+          number.set(0);
+          numbers.add(number);
+          break;
+      }
+    }
+    for (int i = 0; i < workload.getFieldCount(); i++) {
+      fields.add(new Field(instance.getTable(ROOT_TABLE + "/Field" + i)));
+    }
+    sequencePublisher = instance.getIntegerTopic(SEQUENCE_TOPIC)
+        .publish(PubSubOption.periodic(workload.getUpdatePeriod().toNanos() / 1e9), PubSubOption.sendAll(true));
+  }
+
+  public Workload getWorkload() {
+    return workload;
+  }
+
+  /**
+   * Starts publishing ticks at the workload's update rate. Does nothing if the generator is already running.
+   */
+  public synchronized void start() {
+    if (ticker == null) {
+      long period = workload.getUpdatePeriod().toNanos();
+      ticker = executor.scheduleAtFixedRate(this::step, 0, period, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * Stops publishing ticks. The generator may be started again later.
+   */
+  public synchronized void stop() {
+    if (ticker != null) {
+      ticker.cancel(false);
+      ticker = null;
+    }
+  }
+
+  /**
+   * Publishes a single tick. This must not be called while the generator is running.
+   */
+  public void step() {
+    final long tick = sequence.get() + 1;
+    final double time = (double) tick / workload.getUpdateRate();
+    long updates = 0;
+
+    for (int i = 0; i < numbers.size(); i++) {
+      numbers.get(i).set(Math.sin(time + i) * 100 + random.nextGaussian());
+    }
+    updates += numbers.size();
+
+    // Flags and states change a couple of times a second
+    if (tick % Math.max(1, ticksPerSecond / 2) == 0) {
+      for (BooleanPublisher flag : booleans) {
+        flag.set(random.nextInt(4) == 0);
+      }
+      for (StringPublisher state : strings) {
+        state.set("State" + random.nextInt(8));
+      }
+      updates += booleans.size() + strings.size();
+    }
+
+    for (Field field : fields) {
+      updates += field.update(tick, time);
+    }
+
+    if (ticksPerChurn > 0 && tick % ticksPerChurn == 0) {
+      churn();
+    }
+    for (ChurnTable table : churnTables) {
+      updates += table.update(time);
+    }
+
+    publishTimes.set((int) (tick & (PUBLISH_TIME_HISTORY - 1)), System.nanoTime());
+    sequencePublisher.set(tick);
+    sequence.set(tick);
+    updateCount.addAndGet(updates + 1);
+  }
+
+  private void churn() {
+    churnTables.addLast(new ChurnTable(churnTablesCreated++));
+    while (churnTables.size() > workload.getMaxChurnTables()) {
+      churnTables.removeFirst().close();
+    }
+  }
+
+  /**
+   * Gets the sequence number of the latest tick, or -1 if no ticks have been published.
+   */
+  public long getSequence() {
+    return sequence.get();
+  }
+
+  /**
+   * Gets the time at which the tick with the given sequence number was published, as given by
+   * {@link System#nanoTime()}. Only the publish times of the most recent ticks are kept.
+   *
+   * @param sequence the sequence number of the tick
+   *
+   * @return the time the tick was published, or -1 if the tick has not been published or is too old
+   */
+  public long getPublishTimeNanos(long sequence) {
+    final long latest = this.sequence.get();
+    if (sequence < 0 || sequence > latest || latest - sequence >= PUBLISH_TIME_HISTORY) {
+      return -1;
+    }
+    return publishTimes.get((int) (sequence & (PUBLISH_TIME_HISTORY - 1)));
+  }
+
+  /**
+   * Gets the total number of values published, including sequence numbers.
+   */
+  public long getUpdateCount() {
+    return updateCount.get();
+  }
+
+  @Override
+  public void close() {
+    stop();
+    executor.shutdown();
+    try {
+      executor.awaitTermination(1, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    numbers.forEach(Publisher::close);
+    booleans.forEach(Publisher::close);
+    strings.forEach(Publisher::close);
+    fields.forEach(Field::close);
+    churnTables.forEach(ChurnTable::close);
+    churnTables.clear();
+    sequencePublisher.close();
+  }
+
+  /**
+   * A Field2d table, as published by WPILib.
+   */
+  private final class Field {
+
+    private final StringPublisher type;
+    private final DoubleArrayPublisher robot;
+    private final DoubleArrayPublisher trajectory;
+    private final double[] pose = new double[3];
+    private final double[] poses = new double[workload.getTrajectoryLength() * 3];
+
+    Field(NetworkTable table) {
+      type = table.getStringTopic(".type").publish();
+      type.set("Field2d");
+      robot = table.getDoubleArrayTopic("Robot").publish(options);
+      robot.set(pose);
+      trajectory = table.getDoubleArrayTopic("Trajectory").publish(options);
+      trajectory.set(poses);
+    }
+
+    int update(long tick, double time) {
+      pose[0] = 8 + Math.cos(time / 4) * 6;
+      pose[1] = 4 + Math.sin(time / 4) * 3;
+      pose[2] = Math.toDegrees(time / 4) % 360;
+      robot.set(pose);
+      if (tick % ticksPerSecond != 0) {
+        return 1;
+      }
+      // Plan a new trajectory once a second
+      for (int i = 0; i < poses.length; i += 3) {
+        poses[i] = random.nextDouble() * 16;
+        poses[i + 1] = random.nextDouble() * 8;
+        poses[i + 2] = random.nextDouble() * 360;
+      }
+      trajectory.set(poses);
+      return 2;
+    }
+
+    void close() {
+      type.close();
+      robot.close();
+      trajectory.close();
+    }
+  }
+
+  /**
+   * A short-lived subtable. Every other table is a complex type, so churn also exercises data type changes.
+   */
+  private final class ChurnTable {
+
+    private final StringPublisher type;
+    private final List<DoublePublisher> values = new ArrayList<>();
+
+    ChurnTable(int index) {
+      NetworkTable table = instance.getTable(ROOT_TABLE + "/Churn/Table" + index);
+      if (index % 2 == 0) {
+        type = table.getStringTopic(".type").publish();
+        type.set("Gyro");
+        values.add(table.getDoubleTopic("Value").publish(options));
+      } else {
+        type = null;
+        for (int i = 0; i < CHURN_TABLE_TOPICS; i++) {
+          values.add(table.getDoubleTopic("Value" + i).publish(options));
+        }
+      }
+    }
+
+    int update(double time) {
+      for (DoublePublisher value : values) {
+        value.set(time + random.nextGaussian());
+      }
+      return values.size();
+    }
+
+    void close() {
+      if (type != null) {
+        type.close();
+      }
+      values.forEach(Publisher::close);
+    }
+  }
+
+}
@@ -0,0 +1,111 @@
+package edu.wpi.first.shuffleboard.nt.testutil;
+
+import edu.wpi.first.networktables.NetworkTableInstance;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * A NetworkTables server running in the current process, listening only on the loopback interface. Clients in the
+ * same process (such as the default instance used by shuffleboard) connect to it with {@link #connect}.
+ *
+ * <p>The NetworkTables native libraries must be loaded before a server is created.
+ */
+public final class LoadServer implements AutoCloseable {
+
+  /**
+   * The default port for the server. This is different from the standard NetworkTables port, so a load server does
+   * not conflict with a real server running on the same machine.
+   */
+  public static final int DEFAULT_PORT = 5820;
+
+  private static final String LOOPBACK_ADDRESS = "127.0.0.1";
+
+  private final NetworkTableInstance instance;
+  private final int port;
+  private final Path persistentFile;
+
+  /**
+   * Starts a server on the {@link #DEFAULT_PORT default port}.
+   */
+  public LoadServer() {
+    this(DEFAULT_PORT);
+  }
+
+  /**
+   * Starts a server on the given port.
+   *
+   * @param port the port to listen on
+   */
+  public LoadServer(int port) {
+    this.port = port;
+    try {
+      // Servers always save persistent topics; keep the file out of the working directory
+      persistentFile = Files.createTempFile("nt-load-server", ".json");
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not create the persistent storage file for the server", e);
+    }
+    instance = NetworkTableInstance.create();
+    instance.startServer(persistentFile.toString(), LOOPBACK_ADDRESS, 0, port);
+  }
+
+  /**
+   * Gets the instance running the server. Values published to this instance are sent to all connected clients, the
+   * same as values published by a robot program.
+   */
+  public NetworkTableInstance getInstance() {
+    return instance;
+  }
+
+  public int getPort() {
+    return port;
+  }
+
+  /**
+   * Connects a client instance to this server. Any existing client connection of the instance is stopped first.
+   *
+   * @param client   the instance to connect
+   * @param identity the identity of the client, shown in the server's connection list
+   */
+  public void connect(NetworkTableInstance client, String identity) {
+    client.stopClient();
+    client.setServer(LOOPBACK_ADDRESS, port);
+    client.startClient4(identity);
+  }
+
+  /**
+   * Waits for a client to finish connecting to this server.
+   *
+   * @param client  the client to wait for
+   * @param timeout the maximum time to wait
+   *
+   * @return true if the client connected, false if the timeout expired first
+   *
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public boolean waitForConnection(NetworkTableInstance client, Duration timeout) throws InterruptedException {
+    final long deadline = System.nanoTime() + timeout.toNanos();
+    while (!client.isConnected()) {
+      if (System.nanoTime() - deadline >= 0) {
+        return false;
+      }
+      Thread.sleep(10);
+    }
+    return true;
+  }
+
+  @Override
+  public void close() {
+    instance.stopServer();
+    instance.close();
+    try {
+      Files.deleteIfExists(persistentFile);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not delete the persistent storage file for the server", e);
+    }
+  }
+
+}
@@ -0,0 +1,181 @@
+package edu.wpi.first.shuffleboard.nt.testutil;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Describes the data published by a {@link LoadGenerator}. Workloads are immutable; use the {@code with} methods to
+ * derive a workload from one of the presets.
+ *
+ * <p>A workload has:
+ * <ul>
+ *   <li>Plain topics, grouped into subtables like a robot program's subsystems. Most are numbers updated on every
+ *   tick; the rest are booleans and strings that change occasionally</li>
+ *   <li>Field2d tables, marked with {@code .type} metadata, with a robot pose updated on every tick and a trajectory
+ *   array updated once per second</li>
+ *   <li>Structure churn: new subtables are created periodically and the oldest ones are removed, the way subtables
+ *   come and go as commands are scheduled and finished</li>
+ * </ul>
+ */
+public final class Workload {
+
+  /**
+   * A small workload, useful for quick checks: 100 topics updated at 10 Hz, one field, and no churn.
+   */
+  public static final Workload LIGHT = new Workload(100, 10, 1, 20, Duration.ZERO, 0, 0);
+
+  /**
+   * A workload resembling a busy robot at an event: 2000 topics updated at 50 Hz, four fields with long trajectories,
+   * and a new subtable every half second.
+   */
+  public static final Workload EVENT_DAY = new Workload(2000, 50, 4, 200, Duration.ofMillis(500), 40, 0);
+
+  private final int topicCount;
+  private final double updateRate;
+  private final int fieldCount;
+  private final int trajectoryLength;
+  private final Duration churnPeriod;
+  private final int maxChurnTables;
+  private final long seed;
+
+  private Workload(int topicCount,
+                   double updateRate,
+                   int fieldCount,
+                   int trajectoryLength,
+                   Duration churnPeriod,
+                   int maxChurnTables,
+                   long seed) {
+    if (topicCount < 0 || fieldCount < 0 || trajectoryLength < 0 || maxChurnTables < 0) {
+      throw new IllegalArgumentException("Counts cannot be negative");
+    }
+    if (!(updateRate > 0)) {
+      throw new IllegalArgumentException("Update rate must be positive: " + updateRate);
+    }
+    if (churnPeriod.isNegative()) {
+      throw new IllegalArgumentException("Churn period cannot be negative: " + churnPeriod);
+    }
+    this.topicCount = topicCount;
+    this.updateRate = updateRate;
+    this.fieldCount = fieldCount;
+    this.trajectoryLength = trajectoryLength;
+    this.churnPeriod = churnPeriod;
+    this.maxChurnTables = maxChurnTables;
+    this.seed = seed;
+  }
+
+  /**
+   * Gets the number of plain topics, not counting field or churn tables.
+   */
+  public int getTopicCount() {
+    return topicCount;
+  }
+
+  public Workload withTopicCount(int topicCount) {
+    return new Workload(topicCount, updateRate, fieldCount, trajectoryLength, churnPeriod, maxChurnTables, seed);
+  }
+
+  /**
+   * Gets the number of ticks per second. Numbers, robot poses, and churn tables are updated on every tick.
+   */
+  public double getUpdateRate() {
+    return updateRate;
+  }
+
+  public Workload withUpdateRate(double updateRate) {
+    return new Workload(topicCount, updateRate, fieldCount, trajectoryLength, churnPeriod, maxChurnTables, seed);
+  }
+
+  /**
+   * Gets the time between ticks.
+   */
+  public Duration getUpdatePeriod() {
+    return Duration.ofNanos(Math.round(1e9 / updateRate));
+  }
+
+  public int getFieldCount() {
+    return fieldCount;
+  }
+
+  public Workload withFieldCount(int fieldCount) {
+    return new Workload(topicCount, updateRate, fieldCount, trajectoryLength, churnPeriod, maxChurnTables, seed);
+  }
+
+  /**
+   * Gets the number of poses in the trajectory of each field.
+   */
+  public int getTrajectoryLength() {
+    return trajectoryLength;
+  }
+
+  public Workload withTrajectoryLength(int trajectoryLength) {
+    return new Workload(topicCount, updateRate, fieldCount, trajectoryLength, churnPeriod, maxChurnTables, seed);
+  }
+
+  /**
+   * Gets the time between new churn tables being created. A period of zero disables churn.
+   */
+  public Duration getChurnPeriod() {
+    return churnPeriod;
+  }
+
+  /**
+   * Gets the maximum number of churn tables that exist at once. When a new table would exceed this, the oldest table
+   * is removed.
+   */
+  public int getMaxChurnTables() {
+    return maxChurnTables;
+  }
+
+  /**
+   * Sets the structure churn of the workload.
+   *
+   * @param churnPeriod    the time between new tables being created, or zero to disable churn
+   * @param maxChurnTables the maximum number of churn tables that exist at once
+   */
+  public Workload withChurn(Duration churnPeriod, int maxChurnTables) {
+    return new Workload(topicCount, updateRate, fieldCount, trajectoryLength, churnPeriod, maxChurnTables, seed);
+  }
+
+  /**
+   * Gets the seed for the random noise in published values. Workloads with the same seed publish the same values.
+   */
+  public long getSeed() {
+    return seed;
+  }
+
+  public Workload withSeed(long seed) {
+    return new Workload(topicCount, updateRate, fieldCount, trajectoryLength, churnPeriod, maxChurnTables, seed);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    Workload that = (Workload) obj;
+    return this.topicCount == that.topicCount
+        && Double.compare(this.updateRate, that.updateRate) == 0
+        && this.fieldCount == that.fieldCount
+        && this.trajectoryLength == that.trajectoryLength
+        && this.churnPeriod.equals(that.churnPeriod)
+        && this.maxChurnTables == that.maxChurnTables
+        && this.seed == that.seed;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(topicCount, updateRate, fieldCount, trajectoryLength, churnPeriod, maxChurnTables, seed);
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "Workload(topicCount=%d, updateRate=%s, fieldCount=%d, trajectoryLength=%d, churnPeriod=%s, "
+            + "maxChurnTables=%d, seed=%d)",
+        topicCount, updateRate, fieldCount, trajectoryLength, churnPeriod, maxChurnTables, seed);
+  }
+
+}
@@ -0,0 +1,194 @@
+package edu.wpi.first.shuffleboard.nt.testutil;
+
+import edu.wpi.first.networktables.NetworkTableInstance;
+import edu.wpi.first.networktables.Topic;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LoadGeneratorTest {
+
+  private static final String CHURN_PREFIX = LoadGenerator.ROOT_TABLE + "/Churn/";
+
+  private NetworkTableInstance instance;
+
+  @BeforeEach
+  public void setup() {
+    instance = NetworkTableInstance.create();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    instance.close();
+  }
+
+  @Test
+  public void testPublishesAllTopics() {
+    try (LoadGenerator generator = new LoadGenerator(instance, Workload.LIGHT)) {
+      Map<String, Long> types = Arrays.stream(instance.getTopics(LoadGenerator.ROOT_TABLE + "/Subsystem"))
+          .collect(Collectors.groupingBy(Topic::getTypeString, Collectors.counting()));
+      assertAll(
+          () -> assertEquals(70, types.get("double").longValue()),
+          () -> assertEquals(20, types.get("boolean").longValue()),
+          () -> assertEquals(10, types.get("string").longValue()),
+          // Plain topics, the field's type, pose and trajectory, and the sequence number
+          () -> assertEquals(104, instance.getTopics(LoadGenerator.ROOT_TABLE).length)
+      );
+    }
+  }
+
+  @Test
+  public void testFieldsHaveTypeMetadata() {
+    Workload workload = Workload.LIGHT.withFieldCount(2).withTrajectoryLength(7);
+    try (LoadGenerator generator = new LoadGenerator(instance, workload)) {
+      for (int i = 0; i < workload.getFieldCount(); i++) {
+        String table = LoadGenerator.ROOT_TABLE + "/Field" + i;
+        assertAll(
+            () -> assertEquals("Field2d", instance.getEntry(table + "/.type").getString(null)),
+            () -> assertEquals(3, instance.getEntry(table + "/Robot").getDoubleArray(new double[0]).length),
+            () -> assertEquals(21, instance.getEntry(table + "/Trajectory").getDoubleArray(new double[0]).length)
+        );
+      }
+    }
+  }
+
+  @Test
+  public void testUpdateCountPerSecond() {
+    // 70 numbers every tick, 30 flags and states every half second, and a field pose every tick with a trajectory
+    // once a second
+    try (LoadGenerator generator = new LoadGenerator(instance, Workload.LIGHT)) {
+      for (int i = 0; i < Workload.LIGHT.getUpdateRate(); i++) {
+        generator.step();
+      }
+      assertAll(
+          () -> assertEquals(9, generator.getSequence()),
+          () -> assertEquals(9, instance.getEntry(LoadGenerator.SEQUENCE_TOPIC).getInteger(-1)),
+          () -> assertEquals(700 + 60 + 11 + 10, generator.getUpdateCount())
+      );
+    }
+  }
+
+  @Test
+  public void testRunsAtUpdateRate() throws InterruptedException {
+    Workload workload = Workload.LIGHT.withUpdateRate(50);
+    try (LoadGenerator generator = new LoadGenerator(instance, workload)) {
+      generator.start();
+      Thread.sleep(1000);
+      generator.stop();
+      // Let a tick that was already running finish
+      Thread.sleep(100);
+      final long ticks = generator.getSequence() + 1;
+      assertTrue(ticks >= 25 && ticks <= 75, "Expected about 50 ticks in one second, but there were " + ticks);
+
+      Thread.sleep(100);
+      assertEquals(ticks, generator.getSequence() + 1, "Ticks should not be published after stopping");
+    }
+  }
+
+  @Test
+  public void testChurnIsBounded() {
+    Workload workload = Workload.LIGHT
+        .withTopicCount(0)
+        .withFieldCount(0)
+        .withChurn(Duration.ofMillis(200), 3);
+    try (LoadGenerator generator = new LoadGenerator(instance, workload)) {
+      // A new table every other tick
+      for (int i = 0; i < 20; i++) {
+        generator.step();
+        assertTrue(churnTables().size() <= workload.getMaxChurnTables(), "Too many churn tables after tick " + i);
+      }
+      assertAll(
+          () -> assertEquals(Set.of("Table7", "Table8", "Table9"), churnTables()),
+          () -> assertEquals("Gyro", instance.getEntry(CHURN_PREFIX + "Table8/.type").getString(null)),
+          () -> assertEquals(1, instance.getTopics(CHURN_PREFIX + "Table8/Value").length),
+          () -> assertEquals(4, instance.getTopics(CHURN_PREFIX + "Table9/Value").length),
+          () -> assertEquals(0, instance.getTopics(CHURN_PREFIX + "Table9/.type").length)
+      );
+    }
+  }
+
+  @Test
+  public void testNoChurnWhenDisabled() {
+    try (LoadGenerator generator = new LoadGenerator(instance, Workload.LIGHT)) {
+      for (int i = 0; i < 20; i++) {
+        generator.step();
+      }
+      assertEquals(Set.of(), churnTables());
+    }
+  }
+
+  @Test
+  public void testPublishTimes() {
+    Workload workload = Workload.LIGHT.withTopicCount(0).withFieldCount(0);
+    try (LoadGenerator generator = new LoadGenerator(instance, workload)) {
+      assertEquals(-1, generator.getPublishTimeNanos(0), "No ticks have been published");
+      final long before = System.nanoTime();
+      generator.step();
+      assertAll(
+          () -> assertTrue(generator.getPublishTimeNanos(0) >= before),
+          () -> assertEquals(-1, generator.getPublishTimeNanos(1), "Tick 1 has not been published"),
+          () -> assertEquals(-1, generator.getPublishTimeNanos(-1))
+      );
+
+      for (int i = 0; i < 4096; i++) {
+        generator.step();
+      }
+      assertAll(
+          () -> assertEquals(-1, generator.getPublishTimeNanos(0), "Tick 0 should have been forgotten"),
+          () -> assertTrue(generator.getPublishTimeNanos(1) >= before)
+      );
+    }
+  }
+
+  @Test
+  public void testSameSeedPublishesSameValues() {
+    NetworkTableInstance other = NetworkTableInstance.create();
+    NetworkTableInstance differentSeed = NetworkTableInstance.create();
+    try (LoadGenerator first = new LoadGenerator(instance, Workload.LIGHT);
+         LoadGenerator second = new LoadGenerator(other, Workload.LIGHT);
+         LoadGenerator third = new LoadGenerator(differentSeed, Workload.LIGHT.withSeed(1))) {
+      first.step();
+      second.step();
+      third.step();
+      Function<NetworkTableInstance, Double> value = inst ->
+          inst.getEntry(LoadGenerator.ROOT_TABLE + "/Subsystem0/Value0").getDouble(Double.NaN);
+      assertAll(
+          () -> assertEquals(value.apply(instance), value.apply(other)),
+          () -> assertNotEquals(value.apply(instance), value.apply(differentSeed))
+      );
+    } finally {
+      other.close();
+      differentSeed.close();
+    }
+  }
+
+  @Test
+  public void testCloseRemovesTopics() {
+    Workload workload = Workload.LIGHT.withChurn(Duration.ofMillis(100), 2);
+    try (LoadGenerator generator = new LoadGenerator(instance, workload)) {
+      generator.step();
+      generator.step();
+    }
+    assertEquals(0, instance.getTopics(LoadGenerator.ROOT_TABLE).length);
+  }
+
+  private Set<String> churnTables() {
+    return Arrays.stream(instance.getTopics(CHURN_PREFIX))
+        .map(topic -> topic.getName().substring(CHURN_PREFIX.length()).split("/")[0])
+        .collect(Collectors.toSet());
+  }
+
+}
@@ -0,0 +1,59 @@
+package edu.wpi.first.shuffleboard.nt.testutil;
+
+import edu.wpi.first.networktables.IntegerPublisher;
+import edu.wpi.first.networktables.IntegerSubscriber;
+import edu.wpi.first.networktables.NetworkTableInstance;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LoadServerTest {
+
+  private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+
+  private LoadServer server;
+  private NetworkTableInstance client;
+
+  @BeforeEach
+  public void setup() {
+    server = new LoadServer();
+    client = NetworkTableInstance.create();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    client.close();
+    server.close();
+  }
+
+  @Test
+  public void testClientConnects() throws InterruptedException {
+    assertFalse(server.waitForConnection(client, Duration.ofMillis(50)), "The client has not been connected");
+    server.connect(client, "test");
+    assertTrue(server.waitForConnection(client, CONNECT_TIMEOUT), "The client did not connect");
+  }
+
+  @Test
+  public void testValuesReachClient() throws InterruptedException {
+    server.connect(client, "test");
+    assertTrue(server.waitForConnection(client, CONNECT_TIMEOUT), "The client did not connect");
+    try (IntegerSubscriber subscriber = client.getIntegerTopic("/Value").subscribe(-1);
+         IntegerPublisher publisher = server.getInstance().getIntegerTopic("/Value").publish()) {
+      publisher.set(42);
+      server.getInstance().flush();
+      final long deadline = System.nanoTime() + CONNECT_TIMEOUT.toNanos();
+      while (subscriber.get() != 42 && System.nanoTime() - deadline < 0) {
+        Thread.sleep(10);
+      }
+      assertEquals(42, subscriber.get());
+    }
+  }
+
+}
@@ -0,0 +1,90 @@
+package edu.wpi.first.shuffleboard.nt.testutil;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class WorkloadTest {
+
+  @Test
+  public void testEventDayPreset() {
+    Workload workload = Workload.EVENT_DAY;
+    assertAll(
+        () -> assertEquals(2000, workload.getTopicCount()),
+        () -> assertEquals(50, workload.getUpdateRate()),
+        () -> assertEquals(Duration.ofMillis(20), workload.getUpdatePeriod()),
+        () -> assertEquals(4, workload.getFieldCount()),
+        () -> assertEquals(200, workload.getTrajectoryLength()),
+        () -> assertEquals(Duration.ofMillis(500), workload.getChurnPeriod()),
+        () -> assertEquals(40, workload.getMaxChurnTables())
+    );
+  }
+
+  @Test
+  public void testLightPresetHasNoChurn() {
+    assertEquals(Duration.ZERO, Workload.LIGHT.getChurnPeriod());
+  }
+
+  @Test
+  public void testWithMethodsDoNotModifyOriginal() {
+    Workload derived = Workload.LIGHT
+        .withTopicCount(5)
+        .withUpdateRate(200)
+        .withFieldCount(2)
+        .withTrajectoryLength(3)
+        .withChurn(Duration.ofSeconds(1), 4)
+        .withSeed(123);
+    assertAll(
+        () -> assertEquals(5, derived.getTopicCount()),
+        () -> assertEquals(200, derived.getUpdateRate()),
+        () -> assertEquals(Duration.ofMillis(5), derived.getUpdatePeriod()),
+        () -> assertEquals(2, derived.getFieldCount()),
+        () -> assertEquals(3, derived.getTrajectoryLength()),
+        () -> assertEquals(Duration.ofSeconds(1), derived.getChurnPeriod()),
+        () -> assertEquals(4, derived.getMaxChurnTables()),
+        () -> assertEquals(123, derived.getSeed()),
+        () -> assertEquals(100, Workload.LIGHT.getTopicCount()),
+        () -> assertEquals(10, Workload.LIGHT.getUpdateRate())
+    );
+  }
+
+  @Test
+  public void testEquality() {
+    assertAll(
+        () -> assertEquals(Workload.LIGHT, Workload.LIGHT.withSeed(0)),
+        () -> assertEquals(Workload.LIGHT.hashCode(), Workload.LIGHT.withSeed(0).hashCode()),
+        () -> assertNotEquals(Workload.LIGHT, Workload.LIGHT.withSeed(1)),
+        () -> assertNotEquals(Workload.LIGHT, Workload.EVENT_DAY)
+    );
+  }
+
+  @Test
+  public void testInvalidCounts() {
+    assertAll(
+        () -> assertThrows(IllegalArgumentException.class, () -> Workload.LIGHT.withTopicCount(-1)),
+        () -> assertThrows(IllegalArgumentException.class, () -> Workload.LIGHT.withFieldCount(-1)),
+        () -> assertThrows(IllegalArgumentException.class, () -> Workload.LIGHT.withTrajectoryLength(-1)),
+        () -> assertThrows(IllegalArgumentException.class, () -> Workload.LIGHT.withChurn(Duration.ofSeconds(1), -1))
+    );
+  }
+
+  @Test
+  public void testInvalidUpdateRate() {
+    assertAll(
+        () -> assertThrows(IllegalArgumentException.class, () -> Workload.LIGHT.withUpdateRate(0)),
+        () -> assertThrows(IllegalArgumentException.class, () -> Workload.LIGHT.withUpdateRate(-10)),
+        () -> assertThrows(IllegalArgumentException.class, () -> Workload.LIGHT.withUpdateRate(Double.NaN))
+    );
+  }
+
+  @Test
+  public void testNegativeChurnPeriod() {
+    assertThrows(IllegalArgumentException.class, () -> Workload.LIGHT.withChurn(Duration.ofMillis(-1), 1));
+  }
+
+}
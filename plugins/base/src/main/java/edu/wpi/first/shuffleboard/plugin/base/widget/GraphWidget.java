@@ -1,5 +1,6 @@
 package edu.wpi.first.shuffleboard.plugin.base.widget;
 
+import edu.wpi.first.shuffleboard.api.DashboardMode;
 import edu.wpi.first.shuffleboard.api.components.ActionList;
 import edu.wpi.first.shuffleboard.api.data.IncompatibleSourceException;
 import edu.wpi.first.shuffleboard.api.data.types.NumberArrayType;
@@ -7,9 +8,10 @@ import edu.wpi.first.shuffleboard.api.data.types.NumberType;
 import edu.wpi.first.shuffleboard.api.prefs.Group;
 import edu.wpi.first.shuffleboard.api.prefs.Setting;
 import edu.wpi.first.shuffleboard.api.sources.DataSource;
+import edu.wpi.first.shuffleboard.api.sources.TimestampedValue;
 import edu.wpi.first.shuffleboard.api.util.AlphanumComparator;
 import edu.wpi.first.shuffleboard.api.util.FxUtils;
-import edu.wpi.first.shuffleboard.api.util.ThreadUtils;
+import edu.wpi.first.shuffleboard.api.util.SharedTimer;
 import edu.wpi.first.shuffleboard.api.util.Time;
 import edu.wpi.first.shuffleboard.api.widget.AbstractWidget;
 import edu.wpi.first.shuffleboard.api.widget.AnnotatedWidget;
@@ -23,6 +25,7 @@ import de.gsi.chart.axes.spi.DefaultNumericAxis;
 import de.gsi.dataset.DataSet;
 import de.gsi.dataset.spi.DoubleDataSet;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -33,10 +36,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalDouble;
+import java.util.Set;
 import java.util.WeakHashMap;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -83,15 +85,25 @@ public class GraphWidget extends AbstractWidget implements AnnotatedWidget {
 
   private final Map<DoubleDataSet, BooleanProperty> visibleSeries = new IdentityHashMap<>();
 
-  private final ChangeListener<Number> numberChangeListener = (property, oldNumber, newNumber) -> {
+  // Series whose last point only extends their last sample to the current time. That point is moved by the next
+  // update, or replaced by the next sample, so samples that arrive late are still plotted at their own timestamps.
+  // Only accessed from the JavaFX application thread
+  private final Set<DoubleDataSet> extendedSeries = Collections.newSetFromMap(new IdentityHashMap<>());
+
+  // The timestamped data listened to for each source. Kept so the listeners can be removed from the same observable,
+  // and so it is not garbage collected if it is a binding
+  private final Map<DataSource<?>, ObservableValue<? extends TimestampedValue<?>>> observedData = new HashMap<>();
+
+  private final ChangeListener<TimestampedValue<Number>> numberChangeListener = (property, oldNumber, newNumber) -> {
     final DataSource<Number> source = sourceFor(property);
-    updateFromNumberSource(source);
+    updateFromNumberSource(source, newNumber.getValue(), newNumber.getTimestamp());
   };
 
-  private final ChangeListener<double[]> numberArrayChangeListener = (property, oldArray, newArray) -> {
-    final DataSource<double[]> source = sourceFor(property);
-    updateFromArraySource(source);
-  };
+  private final ChangeListener<TimestampedValue<double[]>> numberArrayChangeListener =
+      (property, oldArray, newArray) -> {
+        final DataSource<double[]> source = sourceFor(property);
+        updateFromArraySource(source, newArray.getValue(), newArray.getTimestamp());
+      };
 
   private final Function<DoubleDataSet, BooleanProperty> createVisibleProperty = s -> {
     SimpleBooleanProperty visible = new SimpleBooleanProperty(this, s.getName(), true);
@@ -118,7 +130,6 @@ public class GraphWidget extends AbstractWidget implements AnnotatedWidget {
   public static class Updater implements AutoCloseable {
 
     private final IntegerProperty graphUpdateRate = new SimpleIntegerProperty(this, "graphUpdateRate", 10);
-    private final ScheduledExecutorService executorService = ThreadUtils.newDaemonScheduledExecutorService();
     private volatile ScheduledFuture<?> currentFuture;
 
     private final ChangeListener<Number> updateCreator = (observable, oldValue, newValue) -> {
@@ -131,8 +142,8 @@ public class GraphWidget extends AbstractWidget implements AnnotatedWidget {
         amount = 1;
       }
 
-      currentFuture = executorService
-              .scheduleAtFixedRate(this::updateAll, 500, amount, TimeUnit.MILLISECONDS);
+      currentFuture = SharedTimer.getDefault()
+              .scheduleAtFixedRate(this::updateAll, Duration.ofMillis(500), Duration.ofMillis(amount));
     };
 
     public Updater() {
@@ -159,7 +170,9 @@ public class GraphWidget extends AbstractWidget implements AnnotatedWidget {
     @Override
     public void close() {
       graphUpdateRate.removeListener(updateCreator);
-      executorService.shutdown();
+      if (currentFuture != null) {
+        currentFuture.cancel(false);
+      }
     }
   }
 
@@ -187,15 +200,18 @@ public class GraphWidget extends AbstractWidget implements AnnotatedWidget {
       while (c.next()) {
         if (c.wasAdded()) {
           c.getAddedSubList().forEach(source -> {
+            final ObservableValue data = source.timestampedDataProperty();
             if (source.getDataType() == NumberType.Instance) {
-              source.dataProperty().addListener(numberChangeListener);
+              observedData.put(source, data);
+              data.addListener(numberChangeListener);
               if (source.isConnected()) {
-                numberChangeListener.changed(source.dataProperty(), null, (Number) source.getData());
+                numberChangeListener.changed(data, null, (TimestampedValue<Number>) data.getValue());
               }
             } else if (source.getDataType() == NumberArrayType.Instance) {
-              source.dataProperty().addListener(numberArrayChangeListener);
+              observedData.put(source, data);
+              data.addListener(numberArrayChangeListener);
               if (source.isConnected()) {
-                numberArrayChangeListener.changed(source.dataProperty(), null, (double[]) source.getData());
+                numberArrayChangeListener.changed(data, null, (TimestampedValue<double[]>) data.getValue());
               }
             } else {
               throw new IncompatibleSourceException(getDataTypes(), source.getDataType());
@@ -203,8 +219,11 @@ public class GraphWidget extends AbstractWidget implements AnnotatedWidget {
           });
         } else if (c.wasRemoved()) {
           c.getRemoved().forEach(source -> {
-            source.dataProperty().removeListener(numberChangeListener);
-            source.dataProperty().removeListener(numberArrayChangeListener);
+            final ObservableValue data = observedData.remove(source);
+            if (data != null) {
+              data.removeListener(numberChangeListener);
+              data.removeListener(numberArrayChangeListener);
+            }
           });
         }
       }
@@ -247,6 +266,7 @@ public class GraphWidget extends AbstractWidget implements AnnotatedWidget {
   private void clear() {
     chart.getDatasets().forEach(s -> {
       var doubleDataSet = (DoubleDataSet) s;
+      extendedSeries.remove(doubleDataSet);
       doubleDataSet.lock().writeLockGuard(
           doubleDataSet::clearData
       );
@@ -254,49 +274,79 @@ public class GraphWidget extends AbstractWidget implements AnnotatedWidget {
   }
 
   @SuppressWarnings("unchecked")
-  private <T> DataSource<T> sourceFor(ObservableValue<? extends T> property) {
-    // Check the bean - if it's a DataSource's data property, the bean should be the source itself
+  private <T> DataSource<T> sourceFor(ObservableValue<? extends TimestampedValue<T>> property) {
+    // Check the bean - if it's a DataSource's own property, the bean should be the source itself
     if (property instanceof Property) {
       Object bean = ((Property) property).getBean();
       if (bean instanceof DataSource) {
         return (DataSource<T>) bean;
       }
     }
-    // Fallback to search the sources for the property
-    return sources.stream()
-        .filter(source -> source.dataProperty() == property)
+    // Fallback to search the observed data for the property
+    return (DataSource<T>) observedData.entrySet().stream()
+        .filter(e -> e.getValue() == property)
+        .map(Map.Entry::getKey)
         .findFirst()
         .orElseThrow(() -> new IllegalArgumentException("No source for " + property));
   }
 
-  private void updateFromNumberSource(DataSource<? extends Number> source) {
-    final long now = Time.now();
+  /**
+   * Adds a value of a number source to its series.
+   *
+   * @param source    the source the value came from
+   * @param value     the value to add
+   * @param timestamp the time to plot the value at, in epoch milliseconds
+   */
+  private void updateFromNumberSource(DataSource<? extends Number> source, Number value, long timestamp) {
     final DoubleDataSet series = getNumberSeries(source);
 
     // The update HAS TO run on the FX thread, otherwise we run the risk of ConcurrentModificationExceptions
     // when the chart goes to lay out the data
-    FxUtils.runOnFxThread(() -> updateSeries(series, now, source.getData().doubleValue()));
+    FxUtils.runOnFxThread(() -> updateSeries(series, timestamp, value.doubleValue()));
   }
 
-  private void updateFromArraySource(DataSource<double[]> source) {
-    final long now = System.currentTimeMillis();
-    final double[] data = source.getData();
-    final List<DoubleDataSet> series = getArraySeries(source);
+  /**
+   * Adds values of a number array source to its series.
+   *
+   * @param source    the source the values came from
+   * @param data      the values to add
+   * @param timestamp the time to plot the values at, in epoch milliseconds
+   */
+  private void updateFromArraySource(DataSource<double[]> source, double[] data, long timestamp) {
+    final List<DoubleDataSet> series = getArraySeries(source, data.length);
 
     // The update HAS TO run on the FX thread, otherwise we run the risk of ConcurrentModificationExceptions
     // when the chart goes to lay out the data
     FxUtils.runOnFxThread(() -> {
       for (int i = 0; i < series.size(); i++) {
-        updateSeries(series.get(i), now, data[i]);
+        updateSeries(series.get(i), timestamp, data[i]);
       }
     });
   }
 
-  private void updateSeries(DoubleDataSet data, long now, double nextValue) {
-    final long elapsed = now - Time.getStartTime();
-
+  private void updateSeries(DoubleDataSet data, long timestamp, double nextValue) {
+    final boolean playback = DashboardMode.inPlayback();
 
     data.lock().writeLockGuard(() -> {
+      removeExtension(data);
+      double elapsed = timestamp - Time.getStartTime();
+      double lastX = Double.NEGATIVE_INFINITY;
+      int count = data.getDataCount(DataSet.DIM_X);
+      if (count > 0) {
+        lastX = data.get(DataSet.DIM_X, count - 1);
+      }
+      if (elapsed < lastX) {
+        if (playback) {
+          // Playback moved back in time, so start the series over from there
+          data.clearData();
+          lastX = Double.NEGATIVE_INFINITY;
+        } else {
+          // A sample published before an earlier sample of the same source. Samples are never plotted before existing
+          // points, since that would make the series double back on itself
+          elapsed = lastX;
+        }
+      }
+
       // So getValues() does not return an array of all the elements, but instead returns the
       // backing array of the ArrayList?? This means it can be followed by trailing zeros,
       // hence the call to getDataCount().
@@ -305,7 +355,7 @@ public class GraphWidget extends AbstractWidget implements AnnotatedWidget {
       // from appearing continuous.
       double[] yValues = data.getValues(DataSet.DIM_Y);
       if (data.getDataCount(DataSet.DIM_Y) > 1 && yValues[yValues.length - 1] != nextValue) {
-        data.add(elapsed - 1, yValues[data.getDataCount(DataSet.DIM_Y) - 1]);
+        data.add(Math.max(elapsed - 1, lastX), yValues[data.getDataCount(DataSet.DIM_Y) - 1]);
       }
 
       data.add(elapsed, nextValue);
@@ -323,6 +373,34 @@ public class GraphWidget extends AbstractWidget implements AnnotatedWidget {
     }
   }
 
+  /**
+   * Extends a series to the given time by repeating its last sample. Only the most recent extension is kept, so a
+   * sample published before the given time can still be plotted at its own timestamp.
+   *
+   * @param data      the series to extend
+   * @param timestamp the time to extend the series to, in epoch milliseconds
+   */
+  private void extendSeries(DoubleDataSet data, long timestamp) {
+    data.lock().writeLockGuard(() -> {
+      removeExtension(data);
+      int count = data.getDataCount(DataSet.DIM_X);
+      if (count == 0) {
+        return;
+      }
+      double elapsed = timestamp - Time.getStartTime();
+      if (elapsed > data.get(DataSet.DIM_X, count - 1)) {
+        data.add(elapsed, data.get(DataSet.DIM_Y, count - 1));
+        extendedSeries.add(data);
+      }
+    });
+  }
+
+  private void removeExtension(DoubleDataSet data) {
+    if (extendedSeries.remove(data)) {
+      data.remove(data.getDataCount(DataSet.DIM_X) - 1);
+    }
+  }
+
   private DoubleDataSet getNumberSeries(DataSource<? extends Number> source) {
     if (!numberSeriesMap.containsKey(source)) {
       DoubleDataSet series = new DoubleDataSet(source.getName());
@@ -332,16 +410,16 @@ public class GraphWidget extends AbstractWidget implements AnnotatedWidget {
     return numberSeriesMap.get(source);
   }
 
-  private List<DoubleDataSet> getArraySeries(DataSource<double[]> source) {
+  private List<DoubleDataSet> getArraySeries(DataSource<double[]> source, int length) {
     List<DoubleDataSet> series = arraySeriesMap.computeIfAbsent(source, __ -> new ArrayList<>());
-    final double[] data = source.getData();
-    if (data.length < series.size()) {
-      while (series.size() != data.length) {
+    if (length < series.size()) {
+      while (series.size() != length) {
         DoubleDataSet removed = series.remove(series.size() - 1);
         visibleSeries.remove(removed);
+        extendedSeries.remove(removed);
       }
-    } else if (data.length > series.size()) {
-      for (int i = series.size(); i < data.length; i++) {
+    } else if (length > series.size()) {
+      for (int i = series.size(); i < length; i++) {
         DoubleDataSet newSeries = new DoubleDataSet(source.getName() + "[" + i + "]");
         series.add(newSeries);
         visibleSeries.computeIfAbsent(newSeries, createVisibleProperty);
@@ -354,18 +432,39 @@ public class GraphWidget extends AbstractWidget implements AnnotatedWidget {
     FxUtils.runOnFxThread(() -> {
       // Data is only pushed to the graph via listeners, so this prevents the graph
       // from staying still during a period of no updates.
-      for (var source : numberSeriesMap.keySet()) {
-        numberChangeListener.changed(source.dataProperty(), null, source.getData());
+      final long now = currentTime();
+      for (DoubleDataSet series : numberSeriesMap.values()) {
+        extendSeries(series, now);
       }
 
-      for (var source : arraySeriesMap.keySet()) {
-        numberArrayChangeListener.changed(source.dataProperty(), null, source.getData());
+      for (List<DoubleDataSet> series : arraySeriesMap.values()) {
+        for (DoubleDataSet s : series) {
+          extendSeries(s, now);
+        }
       }
 
       rerenderGraph();
     });
   }
 
+  /**
+   * Gets the current time on the time base of the plotted data. During playback, this is the time of the most recent
+   * value of any source in this graph, so a paused playback does not keep scrolling.
+   */
+  private long currentTime() {
+    if (!DashboardMode.inPlayback()) {
+      return Time.now();
+    }
+    long latest = Long.MIN_VALUE;
+    for (var source : numberSeriesMap.keySet()) {
+      latest = Math.max(latest, source.getTimestamp());
+    }
+    for (var source : arraySeriesMap.keySet()) {
+      latest = Math.max(latest, source.getTimestamp());
+    }
+    return latest;
+  }
+
   private void rerenderGraph() {
     OptionalDouble globalMax = OptionalDouble.empty();
     for (DataSet s : chart.getDatasets()) {
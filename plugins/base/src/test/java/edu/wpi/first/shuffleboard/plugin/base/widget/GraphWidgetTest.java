@@ -0,0 +1,110 @@
+package edu.wpi.first.shuffleboard.plugin.base.widget;
+
+import edu.wpi.first.shuffleboard.api.data.types.NumberType;
+import edu.wpi.first.shuffleboard.api.sources.DummySource;
+import edu.wpi.first.shuffleboard.api.util.Time;
+import edu.wpi.first.shuffleboard.api.widget.Components;
+
+import de.gsi.chart.XYChart;
+import de.gsi.dataset.DataSet;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testfx.util.WaitForAsyncUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GraphWidgetTest extends AbstractWidgetTest {
+
+  private GraphWidget widget;
+  private DummySource<Number> source;
+
+  @BeforeAll
+  public static void register() {
+    setRequirements(GraphWidget.class, NumberType.Instance);
+  }
+
+  @Override
+  public void start(Stage stage) {
+    source = new DummySource<>(NumberType.Instance, 0.0);
+    widget = (GraphWidget) Components.getDefault().createWidget("Graph", source).get();
+    stage.setScene(new Scene(widget.getView()));
+    stage.show();
+  }
+
+  @Test
+  public void testBurstKeepsTimestamps() throws InterruptedException {
+    final long first = Time.now() + 1000;
+    final long second = first + 1000;
+
+    // Keep the FX thread busy so both values are queued before the graph sees either of them
+    CountDownLatch release = new CountDownLatch(1);
+    Platform.runLater(() -> {
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    source.setData(1.0, first);
+    source.setData(2.0, second);
+    release.countDown();
+    WaitForAsyncUtils.waitForFxEvents();
+
+    XYChart chart = (XYChart) widget.getView().lookup("#chart");
+    DataSet series = chart.getDatasets().get(0);
+    assertAll(
+        () -> assertEquals(2, series.getDataCount(DataSet.DIM_X)),
+        () -> assertEquals(first - Time.getStartTime(), series.get(DataSet.DIM_X, 0)),
+        () -> assertEquals(1.0, series.get(DataSet.DIM_Y, 0)),
+        () -> assertEquals(second - Time.getStartTime(), series.get(DataSet.DIM_X, 1)),
+        () -> assertEquals(2.0, series.get(DataSet.DIM_Y, 1))
+    );
+  }
+
+  @Test
+  public void testLateSampleAfterUpdateKeepsTimestamp() {
+    final long first = Time.now() - 2000;
+    source.setData(1.0, first);
+    WaitForAsyncUtils.waitForFxEvents();
+
+    // Let the graph be extended to the current time before a sample that was published earlier arrives
+    final long late;
+    try (GraphWidget.Updater updater = new GraphWidget.Updater()) {
+      updater.setGraphUpdateRate(100);
+      WaitForAsyncUtils.sleep(700, TimeUnit.MILLISECONDS);
+      WaitForAsyncUtils.waitForFxEvents();
+      late = Time.now() - 100;
+      source.setData(2.0, late);
+      WaitForAsyncUtils.waitForFxEvents();
+    }
+    WaitForAsyncUtils.waitForFxEvents();
+
+    XYChart chart = (XYChart) widget.getView().lookup("#chart");
+    DataSet series = chart.getDatasets().get(0);
+    assertAll(
+        () -> assertEquals(first - Time.getStartTime(), series.get(DataSet.DIM_X, 0)),
+        () -> assertTrue(hasPoint(series, late - Time.getStartTime(), 2.0),
+            "The late sample should be plotted at its own timestamp")
+    );
+  }
+
+  private static boolean hasPoint(DataSet series, double x, double y) {
+    for (int i = 0; i < series.getDataCount(DataSet.DIM_X); i++) {
+      if (series.get(DataSet.DIM_X, i) == x && series.get(DataSet.DIM_Y, i) == y) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+}
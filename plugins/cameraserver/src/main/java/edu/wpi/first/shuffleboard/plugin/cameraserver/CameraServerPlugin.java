@@ -6,14 +6,18 @@ import edu.wpi.first.shuffleboard.api.data.DataType;
 import edu.wpi.first.shuffleboard.api.plugin.Description;
 import edu.wpi.first.shuffleboard.api.plugin.Plugin;
 import edu.wpi.first.shuffleboard.api.plugin.Requires;
+import edu.wpi.first.shuffleboard.api.prefs.Group;
+import edu.wpi.first.shuffleboard.api.prefs.Setting;
 import edu.wpi.first.shuffleboard.api.sources.SourceType;
 import edu.wpi.first.shuffleboard.api.sources.recording.serialization.TypeAdapter;
 import edu.wpi.first.shuffleboard.api.util.OsDetector;
+import edu.wpi.first.shuffleboard.api.util.PreferencesUtils;
 import edu.wpi.first.shuffleboard.api.widget.ComponentType;
 import edu.wpi.first.shuffleboard.api.widget.WidgetType;
 import edu.wpi.first.shuffleboard.plugin.cameraserver.data.type.CameraServerDataType;
 import edu.wpi.first.shuffleboard.plugin.cameraserver.source.CameraServerSourceType;
 import edu.wpi.first.shuffleboard.plugin.cameraserver.source.CameraStreamAdapter;
+import edu.wpi.first.shuffleboard.plugin.cameraserver.source.CameraStreamSaver;
 import edu.wpi.first.shuffleboard.plugin.cameraserver.widget.CameraServerWidget;
 import edu.wpi.first.shuffleboard.plugin.cameraserver.widget.CameraServerWidget.Rotation;
 import edu.wpi.first.util.CombinedRuntimeLoader;
@@ -30,6 +34,11 @@ import java.util.Map;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.prefs.Preferences;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 
 @Description(
     group = "edu.wpi.first.shuffleboard",
@@ -42,6 +51,14 @@ public class CameraServerPlugin extends Plugin {
 
   private static final Logger log = Logger.getLogger(CameraServerPlugin.class.getName());
   private final CameraStreamAdapter streamRecorder = new CameraStreamAdapter();
+  private final Preferences preferences = Preferences.userNodeForPackage(getClass());
+
+  private final IntegerProperty maxKeyframeInterval =
+      new SimpleIntegerProperty(this, "maxKeyframeInterval", CameraStreamSaver.DEFAULT_MAX_KEYFRAME_INTERVAL);
+  private final InvalidationListener keyframeIntervalListener = __ -> {
+    streamRecorder.setMaxKeyframeInterval(Math.max(1, maxKeyframeInterval.get()));
+    PreferencesUtils.save(maxKeyframeInterval, preferences);
+  };
 
   private static final PropertyParser<Rotation> CAMERA_ROTATION = PropertyParser.forEnum(Rotation.class);
 
@@ -63,6 +80,14 @@ public class CameraServerPlugin extends Plugin {
       }
       throw ex;
     }
+    PreferencesUtils.read(maxKeyframeInterval, preferences);
+    streamRecorder.setMaxKeyframeInterval(Math.max(1, maxKeyframeInterval.get()));
+    maxKeyframeInterval.addListener(keyframeIntervalListener);
+  }
+
+  @Override
+  public void onUnload() {
+    maxKeyframeInterval.removeListener(keyframeIntervalListener);
   }
 
   @Override
@@ -91,6 +116,20 @@ public class CameraServerPlugin extends Plugin {
     );
   }
 
+  @Override
+  public List<Group> getSettings() {
+    return ImmutableList.of(
+        Group.of("Recording",
+            Setting.of("Max keyframe interval",
+                "The maximum number of frames between keyframes in recorded camera videos. Smaller values make "
+                    + "seeking in playback faster, but make video files larger",
+                maxKeyframeInterval,
+                Integer.class
+            )
+        )
+    );
+  }
+
   @Override
   public List<TypeAdapter> getTypeAdapters() {
     return ImmutableList.of(
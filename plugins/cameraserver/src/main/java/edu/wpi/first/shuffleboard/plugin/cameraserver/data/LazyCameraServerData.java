@@ -14,11 +14,16 @@ import java.util.function.Supplier;
  *
  * <p>When an instance of this class goes out-of-scope, the image should be released with {@link #clear()} to free up
  * memory. Later image access will re-read the frame from the video file.
+ *
+ * <p>The image supplier used in playback reads from a cache of frames that are decoded ahead of the playhead on a
+ * background thread. When accessed from the JavaFX application thread before the frame has been decoded, the image
+ * may be the previously displayed frame; the camera source is given new data once the real frame is available.
  */
 public final class LazyCameraServerData extends CameraServerData {
 
   private final int fileNum;
   private final int frameNum;
+  private final int recordVersion;
   private final LazyInit<Mat> image;
 
   /**
@@ -31,19 +36,43 @@ public final class LazyCameraServerData extends CameraServerData {
    * @param imageSupplier a callback for reading the frame from disk
    * @param fps           no change
    * @param bandwidth     no change
+   * @param recordVersion the format version of the record this data was read from
    */
   public LazyCameraServerData(String name,
                               int fileNum,
                               int frameNum,
                               Supplier<Mat> imageSupplier,
                               double fps,
-                              double bandwidth) {
+                              double bandwidth,
+                              int recordVersion) {
     super(name, null, fps, bandwidth);
     this.fileNum = fileNum;
     this.frameNum = frameNum;
+    this.recordVersion = recordVersion;
     image = LazyInit.of(imageSupplier::get);
   }
 
+  /**
+   * Gets the number of the video file containing this frame.
+   */
+  public int getFileNum() {
+    return fileNum;
+  }
+
+  /**
+   * Gets the index of this frame in its video file.
+   */
+  public int getFrameNum() {
+    return frameNum;
+  }
+
+  /**
+   * Gets the format version of the frame record this data was read from.
+   */
+  public int getRecordVersion() {
+    return recordVersion;
+  }
+
   @Override
   public Mat getImage() {
     return image.get();
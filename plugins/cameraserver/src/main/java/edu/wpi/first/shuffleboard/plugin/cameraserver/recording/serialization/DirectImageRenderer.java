@@ -0,0 +1,155 @@
+package edu.wpi.first.shuffleboard.plugin.cameraserver.recording.serialization;
+
+import org.opencv.core.CvType;
+import org.opencv.core.Mat;
+import org.opencv.imgproc.Imgproc;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelBuffer;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+import static org.opencv.imgproc.Imgproc.COLOR_BGR2BGRA;
+import static org.opencv.imgproc.Imgproc.COLOR_GRAY2BGRA;
+
+/**
+ * Renders OpenCV images into JavaFX images backed by {@link PixelBuffer PixelBuffers}. Unlike {@link ImageConverter},
+ * which converts every frame pixel by pixel on the JavaFX application thread, this does the color conversion on the
+ * calling thread, into premultiplied BGRA format, which JavaFX can upload without any further conversion. The JavaFX
+ * application thread only has to copy the converted pixels into the native memory of the displayed image.
+ *
+ * <p>Rendering and displaying are decoupled. The thread producing frames calls {@link #render(Mat)}, and the JavaFX
+ * application thread calls {@link #publish()} at whatever rate it displays frames, eg from an
+ * {@link javafx.animation.AnimationTimer AnimationTimer}. Only the latest rendered frame is ever published: if a new
+ * frame is rendered before the previous one was published, the previous one is dropped.
+ *
+ * <p>Frames are rendered into a back buffer that is not shared with any image. The pixel buffer of the displayed image
+ * is only written to inside {@link PixelBuffer#updateBuffer updateBuffer} on the JavaFX application thread, as
+ * required by the pixel buffer contract.
+ */
+public final class DirectImageRenderer {
+
+  private static final PixelFormat<ByteBuffer> FORMAT = PixelFormat.getByteBgraPreInstance();
+
+  private static final int IDLE = 0;
+  private static final int WRITING = 1;
+  private static final int READY = 2;
+  private static final int PUBLISHING = 3;
+
+  private final ReadOnlyObjectWrapper<Image> image = new ReadOnlyObjectWrapper<>(this, "image", null);
+  private final AtomicInteger state = new AtomicInteger(IDLE);
+  private final AtomicLong droppedFrames = new AtomicLong(0);
+  // Only written to by the rendering thread while WRITING, and only read by the JavaFX thread while PUBLISHING
+  private final Mat back = new Mat();
+  private Target target; // only accessed on the JavaFX application thread
+  private volatile long lastPublishNanos = 0;
+
+  /**
+   * Renders an image into the back buffer, replacing any rendered frame that has not been published yet. This should
+   * be called from the thread that produces frames, not from the JavaFX application thread. The image is only read
+   * during this call, and may be modified or released afterward.
+   *
+   * @param mat an 8-bit OpenCV image with either 1 (grayscale) or 3 (BGR) channels
+   *
+   * @return true if the image was rendered, false if it was dropped because the previous frame is being published
+   */
+  public boolean render(Mat mat) {
+    if (mat.empty()) {
+      return false;
+    }
+    final int channels = mat.channels();
+    if (channels != 1 && channels != 3) {
+      throw new UnsupportedOperationException("Only 1 or 3-channel images are supported");
+    }
+    final int previous = state.get();
+    if (previous == PUBLISHING || previous == WRITING || !state.compareAndSet(previous, WRITING)) {
+      droppedFrames.incrementAndGet();
+      return false;
+    }
+    if (previous == READY) {
+      // The last frame was never displayed
+      droppedFrames.incrementAndGet();
+    }
+    Imgproc.cvtColor(mat, back, channels == 1 ? COLOR_GRAY2BGRA : COLOR_BGR2BGRA);
+    state.set(READY);
+    return true;
+  }
+
+  /**
+   * Displays the most recently rendered frame, if it has not already been displayed. This must be called from the
+   * JavaFX application thread.
+   *
+   * @return true if a new frame was displayed, false if no new frame has been rendered since the last call
+   */
+  public boolean publish() {
+    if (!state.compareAndSet(READY, PUBLISHING)) {
+      return false;
+    }
+    final long start = System.nanoTime();
+    if (target == null || target.width != back.cols() || target.height != back.rows()) {
+      target = new Target(back.cols(), back.rows());
+    }
+    final Target current = target;
+    current.pixelBuffer.updateBuffer(__ -> {
+      // The target mat already has the right size and type, so this copies straight into the pixel buffer
+      back.copyTo(current.mat);
+      return null;
+    });
+    image.set(current.image);
+    lastPublishNanos = System.nanoTime() - start;
+    state.set(IDLE);
+    return true;
+  }
+
+  /**
+   * Gets the most recently displayed image, or null if no image has been displayed.
+   */
+  public Image getImage() {
+    return image.get();
+  }
+
+  /**
+   * Gets the number of rendered frames that were dropped before they could be displayed.
+   */
+  public long getDroppedFrameCount() {
+    return droppedFrames.get();
+  }
+
+  /**
+   * Gets the time, in nanoseconds, that the JavaFX application thread spent displaying the most recent frame.
+   */
+  public long getLastPublishNanos() {
+    return lastPublishNanos;
+  }
+
+  public ReadOnlyObjectProperty<Image> imageProperty() {
+    return image.getReadOnlyProperty();
+  }
+
+  /**
+   * A displayable image and an OpenCV image that share the same pixel memory.
+   */
+  private static final class Target {
+    private final int width;
+    private final int height;
+    private final Mat mat;
+    private final PixelBuffer<ByteBuffer> pixelBuffer;
+    private final WritableImage image;
+
+    Target(int width, int height) {
+      this.width = width;
+      this.height = height;
+      ByteBuffer buffer = ByteBuffer.allocateDirect(width * height * 4);
+      this.mat = new Mat(height, width, CvType.CV_8UC4, buffer);
+      this.pixelBuffer = new PixelBuffer<>(width, height, buffer, FORMAT);
+      this.image = new WritableImage(pixelBuffer);
+    }
+  }
+
+}
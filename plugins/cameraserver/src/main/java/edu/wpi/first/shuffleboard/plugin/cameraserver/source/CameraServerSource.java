@@ -1,6 +1,9 @@
 package edu.wpi.first.shuffleboard.plugin.cameraserver.source;
 
 import edu.wpi.first.shuffleboard.api.DashboardMode;
+import edu.wpi.first.shuffleboard.api.metrics.Counter;
+import edu.wpi.first.shuffleboard.api.metrics.Gauge;
+import edu.wpi.first.shuffleboard.api.metrics.Metrics;
 import edu.wpi.first.shuffleboard.api.properties.AsyncValidatingProperty;
 import edu.wpi.first.shuffleboard.api.properties.AtomicIntegerProperty;
 import edu.wpi.first.shuffleboard.api.sources.AbstractDataSource;
@@ -27,9 +30,12 @@ import edu.wpi.first.networktables.NetworkTableInstance;
 import org.opencv.core.Mat;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -50,6 +56,10 @@ public final class CameraServerSource extends AbstractDataSource<CameraServerDat
   private HttpCamera camera;
   private JavaCvSink videoSink; // NOPMD could be final - it can't due to how lambdas handle capturing final fields
   private final Mat image = new Mat();
+  private final FramePool recordingFramePool = new FramePool(FramePool.DEFAULT_CAPACITY);
+  private final List<Consumer<Mat>> frameListeners = new CopyOnWriteArrayList<>();
+  private final Counter grabbedFrameCounter;
+  private final Gauge droppedRecordingFrameGauge;
 
   private final ExecutorService frameGrabberService = Executors.newSingleThreadExecutor(ThreadUtils::makeDaemonThread);
   private final BooleanBinding enabled = active.and(connected);
@@ -108,6 +118,9 @@ public final class CameraServerSource extends AbstractDataSource<CameraServerDat
     super(CameraServerDataType.Instance);
     setName(name);
     setData(new CameraServerData(name, null, 0, 0));
+    grabbedFrameCounter = Metrics.getDefault().counter("CameraServer/Frames grabbed: " + name);
+    droppedRecordingFrameGauge = Metrics.getDefault()
+        .gauge("CameraServer/Recording frames dropped: " + name, this::getDroppedRecordingFrameCount);
     videoSink = new JavaCvSink(name + "-videosink");
     eventListenerId = CameraServerJNI.addListener(e -> {
       if (e.name.equals(name)) {
@@ -251,13 +264,25 @@ public final class CameraServerSource extends AbstractDataSource<CameraServerDat
       log.warning("Error when grabbing frame from camera '" + getName() + "': " + videoSink.getError());
       return false;
     } else {
-      if (getData() == null) {
+      grabbedFrameCounter.increment();
+      for (Consumer<Mat> listener : frameListeners) {
+        listener.accept(image);
+      }
+      // Only publish new data when the image first becomes available. The image is updated in place for every frame,
+      // and live widgets and the recorder pick up new frames through frame listeners and the recording frame pool.
+      // Publishing data for every frame would queue work on the JavaFX application thread for every data listener, so
+      // the data property otherwise only changes when the stream's telemetry does
+      CameraServerData data = getData();
+      if (data == null) {
         setData(new CameraServerData(getName(), image, 0, 0));
-      } else {
-        setData(getData().withImage(image));
+      } else if (data.getImage() != image) {
+        setData(data.withImage(image));
       }
       if (Recorder.getInstance().isRunning()) {
-        Recorder.getInstance().record(getId(), getDataType(), getData().withImage(image.clone()));
+        PooledFrame frame = recordingFramePool.acquire(image);
+        if (frame != null) {
+          Recorder.getInstance().record(getId(), getDataType(), new PooledCameraServerData(getData(), frame));
+        }
       }
     }
     return true;
@@ -272,6 +297,9 @@ public final class CameraServerSource extends AbstractDataSource<CameraServerDat
     CameraServerJNI.removeListener(eventListenerId);
     cancelFrameGrabber();
     videoSink.close();
+    recordingFramePool.close();
+    Metrics.getDefault().remove(grabbedFrameCounter);
+    Metrics.getDefault().remove(droppedRecordingFrameGauge);
     if (camera != null) {
       camera.close();
     }
@@ -279,6 +307,35 @@ public final class CameraServerSource extends AbstractDataSource<CameraServerDat
     Sources.getDefault().unregister(this);
   }
 
+  /**
+   * Adds a listener to be called on the frame grabber thread with every frame grabbed from the stream, before the frame
+   * is set as this source's data. The frame is only valid for the duration of the call and must not be modified or
+   * released; listeners that need it afterward must copy it. Listeners should return quickly to avoid delaying the
+   * next frame.
+   *
+   * @param listener the listener to add
+   */
+  public void addFrameListener(Consumer<Mat> listener) {
+    frameListeners.add(listener);
+  }
+
+  /**
+   * Removes a frame listener.
+   *
+   * @param listener the listener to remove
+   */
+  public void removeFrameListener(Consumer<Mat> listener) {
+    frameListeners.remove(listener);
+  }
+
+  /**
+   * Gets the number of grabbed frames that were dropped instead of being recorded, because the video encoder fell too
+   * far behind the stream.
+   */
+  public long getDroppedRecordingFrameCount() {
+    return recordingFramePool.getDroppedFrameCount();
+  }
+
   private void updateUrls() {
     if (camera != null) {
       setCameraUrls(urlGenerator.generateUrls(streamDiscoverer.getUrls()));
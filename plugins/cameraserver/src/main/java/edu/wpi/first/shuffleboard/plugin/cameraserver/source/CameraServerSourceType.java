@@ -20,6 +20,7 @@ import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -77,6 +78,15 @@ public final class CameraServerSourceType extends SourceType implements AutoClos
     return INSTANCE.sources.computeIfAbsent(name, CameraServerSource::new);
   }
 
+  /**
+   * Gets the source for the camera with the given name, if one has already been created.
+   *
+   * @param name the name of the camera
+   */
+  static Optional<CameraServerSource> getExistingSource(String name) {
+    return Optional.ofNullable(INSTANCE.sources.get(name));
+  }
+
   public static void removeSource(CameraServerSource source) {
     INSTANCE.sources.remove(source.getName());
   }
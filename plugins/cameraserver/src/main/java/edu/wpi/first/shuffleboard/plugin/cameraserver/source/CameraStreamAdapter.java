@@ -9,10 +9,14 @@ import com.google.common.primitives.Bytes;
 
 import org.bytedeco.javacv.FrameGrabber;
 import org.bytedeco.javacv.FrameRecorder;
+import org.opencv.core.Mat;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.logging.Level;
@@ -33,14 +37,61 @@ public final class CameraStreamAdapter extends TypeAdapter<CameraServerData> {
 
   private static final Logger log = Logger.getLogger(CameraStreamReader.class.getName());
 
-  private final Map<String, CameraStreamSaver> savers = new ConcurrentHashMap<>();
+  /**
+   * Marks a frame record as versioned. This is written in place of the file number byte of legacy records. Legacy
+   * recordings never had 255 video files for a single camera, so this can never be mistaken for a legacy record.
+   */
+  static final byte VERSIONED_RECORD_MARKER = (byte) 0xFF;
+
+  /**
+   * The version of unversioned records written by older versions of shuffleboard.
+   */
+  static final int LEGACY_RECORD_VERSION = 0;
+
+  /**
+   * The current version of the frame record format.
+   */
+  static final byte RECORD_VERSION = 1;
+
+  private final Map<String, CameraStreamEncoder> encoders = new ConcurrentHashMap<>();
   private final Map<String, CameraStreamReader> readers = new ConcurrentHashMap<>();
-  private final Function<String, CameraStreamSaver> newSaver = name -> new CameraStreamSaver(name, getCurrentFile());
+  private final Map<String, FramePrefetcher> prefetchers = new ConcurrentHashMap<>();
+  private volatile int maxKeyframeInterval = CameraStreamSaver.DEFAULT_MAX_KEYFRAME_INTERVAL;
+  private CameraStreamClipper clipper;
+  private final Function<String, CameraStreamEncoder> newEncoder = name -> new CameraStreamEncoder(
+      name,
+      new CameraStreamSaver(name, getCurrentFile(), maxKeyframeInterval),
+      CameraStreamEncoder.DEFAULT_QUEUE_CAPACITY
+  );
 
   public CameraStreamAdapter() {
     super(CameraServerDataType.Instance);
   }
 
+  /**
+   * Sets the maximum number of frames between keyframes in video files for camera streams that start being recorded
+   * after this is called. Streams that are already being recorded are unaffected.
+   *
+   * @param maxKeyframeInterval the maximum number of frames between keyframes
+   */
+  public void setMaxKeyframeInterval(int maxKeyframeInterval) {
+    if (maxKeyframeInterval < 1) {
+      throw new IllegalArgumentException("Keyframe interval must be positive, but was " + maxKeyframeInterval);
+    }
+    this.maxKeyframeInterval = maxKeyframeInterval;
+  }
+
+  /**
+   * Gets the encoder for a camera stream that is currently being recorded.
+   *
+   * @param cameraName the name of the camera stream
+   *
+   * @return the encoder for the stream, or an empty optional if the stream is not being recorded
+   */
+  public Optional<CameraStreamEncoder> getEncoder(String cameraName) {
+    return Optional.ofNullable(encoders.get(cameraName));
+  }
+
   @Override
   public void flush() {
     // TODO make this able to update existing video files (not sure if possible with FFmpeg)
@@ -48,14 +99,16 @@ public final class CameraStreamAdapter extends TypeAdapter<CameraServerData> {
 
   @Override
   public void cleanUp() {
-    savers.forEach((name, saver) -> {
+    encoders.forEach((name, encoder) -> {
       try {
-        saver.finish();
+        encoder.finish();
       } catch (FrameRecorder.Exception e) {
         log.log(Level.WARNING, "Could not finish saver for '" + name + "'", e);
       }
     });
-    savers.clear();
+    encoders.clear();
+    prefetchers.values().forEach(FramePrefetcher::close);
+    prefetchers.clear();
     readers.forEach((name, reader) -> {
       try {
         reader.finish();
@@ -71,54 +124,180 @@ public final class CameraStreamAdapter extends TypeAdapter<CameraServerData> {
     int cursor = bufferPosition;
     final String name = readString(buffer, cursor);
     cursor += name.length() + SIZE_OF_INT;
-    final byte fileNum = buffer[cursor];
-    cursor++;
-    final short frameNum = readShort(buffer, cursor);
-    cursor += SIZE_OF_SHORT;
-    final int bandwidth = readInt(buffer, cursor);
-    cursor += SIZE_OF_INT;
-    final double fps = readShort(buffer, cursor) / 100.0;
+    final int recordVersion;
+    final int fileNum;
+    final int frameNum;
+    final int bandwidth;
+    final double fps;
+    if (buffer[cursor] == VERSIONED_RECORD_MARKER) {
+      cursor++;
+      recordVersion = buffer[cursor];
+      cursor++;
+      if (recordVersion != RECORD_VERSION) {
+        throw new IllegalStateException(
+            "Cannot read camera frame record version " + recordVersion + ". The current version is " + RECORD_VERSION);
+      }
+      fileNum = readInt(buffer, cursor);
+      cursor += SIZE_OF_INT;
+      frameNum = readInt(buffer, cursor);
+      cursor += SIZE_OF_INT;
+      bandwidth = readInt(buffer, cursor);
+      cursor += SIZE_OF_INT;
+      fps = readInt(buffer, cursor) / 100.0;
+    } else {
+      // Legacy record from before versioning. The file and frame numbers were written as signed values, but negative
+      // values were never valid, so reading them as unsigned recovers frames past the old wraparound points
+      recordVersion = LEGACY_RECORD_VERSION;
+      fileNum = buffer[cursor] & 0xFF;
+      cursor++;
+      frameNum = readShort(buffer, cursor) & 0xFFFF;
+      cursor += SIZE_OF_SHORT;
+      bandwidth = readInt(buffer, cursor);
+      cursor += SIZE_OF_INT;
+      fps = readShort(buffer, cursor) / 100.0;
+    }
 
-    CameraStreamReader reader = readers.computeIfAbsent(name, __ -> new CameraStreamReader(__, getCurrentFile()));
+    return lazyData(name, fileNum, frameNum, fps, bandwidth, recordVersion);
+  }
 
-    return new LazyCameraServerData(name, fileNum, frameNum, () -> {
-      try {
-        reader.setFileNumber(fileNum);
-        return reader.readFrame(frameNum);
-      } catch (IOException e) {
-        log.log(Level.WARNING, "Could not read frame " + frameNum, e);
-        return null;
+  private LazyCameraServerData lazyData(String name,
+                                        int fileNum,
+                                        int frameNum,
+                                        double fps,
+                                        double bandwidth,
+                                        int recordVersion) {
+    FramePrefetcher prefetcher = prefetchers.computeIfAbsent(name, __ -> {
+      CameraStreamReader reader = readers.computeIfAbsent(name, n -> new CameraStreamReader(n, getCurrentFile()));
+      return new FramePrefetcher(reader, (file, frame) -> frameReady(name, file, frame));
+    });
+    return new LazyCameraServerData(
+        name,
+        fileNum,
+        frameNum,
+        () -> prefetcher.getFrame(fileNum, frameNum),
+        fps,
+        bandwidth,
+        recordVersion
+    );
+  }
+
+  /**
+   * Called when a frame that the UI asked for, but that had not been decoded yet, has finished decoding. If the camera
+   * source is still showing that frame, it is given a fresh copy of the data so that widgets pick up the decoded image
+   * instead of the placeholder they were given.
+   */
+  private void frameReady(String name, int fileNum, int frameNum) {
+    CameraServerSourceType.getExistingSource(name).ifPresent(source -> {
+      CameraServerData current = source.getData();
+      if (current instanceof LazyCameraServerData) {
+        LazyCameraServerData lazy = (LazyCameraServerData) current;
+        if (lazy.getFileNum() == fileNum && lazy.getFrameNum() == frameNum) {
+          source.setData(
+              lazyData(name, fileNum, frameNum, lazy.getFps(), lazy.getBandwidth(), lazy.getRecordVersion()));
+        }
       }
-    }, fps, bandwidth);
+    });
   }
 
   @Override
   public int getSerializedSize(CameraServerData value) {
+    if (value instanceof LazyCameraServerData
+        && ((LazyCameraServerData) value).getRecordVersion() == LEGACY_RECORD_VERSION) {
+      return value.getName().length() + SIZE_OF_INT // name
+          + SIZE_OF_BYTE   // video file number
+          + SIZE_OF_SHORT  // frame number
+          + SIZE_OF_INT    // bandwidth
+          + SIZE_OF_SHORT; // FPS
+    }
     return value.getName().length() + SIZE_OF_INT // name
-        + SIZE_OF_BYTE   // video file number
-        + SIZE_OF_SHORT  // frame number
-        + SIZE_OF_INT    // bandwidth
-        + SIZE_OF_SHORT; // FPS
+        + SIZE_OF_BYTE  // versioned record marker
+        + SIZE_OF_BYTE  // record version
+        + SIZE_OF_INT   // video file number
+        + SIZE_OF_INT   // frame number
+        + SIZE_OF_INT   // bandwidth
+        + SIZE_OF_INT;  // FPS
   }
 
   @Override
   public byte[] serialize(CameraServerData data) {
-    // Save:
-    //  - Camera name as String
-    //  - File number (0, 1, ...) as int8 (255 files will never be reached; typical count is 1)
-    //  - Frame number (1, 2, 3, ...) as int16 (limits to ~9 hours)
-    //  - Current bandwidth use as int32
-    //  - Current FPS as int16
     // Camera URI (camera_server://CameraName) is saved by the Serializer and placed in the constant pool,
     // but we don't have access to it here
-    CameraStreamSaver saver = savers.computeIfAbsent(data.getName(), newSaver);
-    saver.serializeFrame(data);
+    CameraStreamEncoder encoder = encoders.computeIfAbsent(data.getName(), newEncoder);
+    if (data instanceof PooledCameraServerData) {
+      PooledFrame frame = ((PooledCameraServerData) data).getFrame();
+      if (frame.retain()) {
+        // Release our reference and the one handed to the recorder once the frame has been encoded
+        encoder.submit(data, () -> {
+          frame.release();
+          frame.release();
+        });
+      } else {
+        // The frame was dropped before it could be encoded; point this record at the last frame that was queued
+        log.fine(() -> "Dropped a frame from '" + data.getName() + "' before it could be saved");
+      }
+    } else {
+      Mat image = data.getImage();
+      encoder.submit(data, () -> {
+        if (image != null) {
+          image.release();
+        }
+      });
+    }
+    return encodeRecord(
+        data.getName(), encoder.getFileNum(), encoder.getLastFrameNum(), data.getBandwidth(), data.getFps());
+  }
+
+  @Override
+  public boolean readsSeparateFiles() {
+    return true;
+  }
+
+  @Override
+  public byte[] serializeForClip(CameraServerData data, File clipFile) {
+    if (!(data instanceof LazyCameraServerData)) {
+      // Only frames loaded from a recording have video files to copy from
+      return super.serializeForClip(data, clipFile);
+    }
+    if (clipper == null || !clipper.getClipFile().equals(clipFile)) {
+      clipper = new CameraStreamClipper(getCurrentFile(), clipFile);
+    }
+    return clipper.clipRecord((LazyCameraServerData) data);
+  }
+
+  @Override
+  public void finishClip(File clipFile) throws IOException {
+    CameraStreamClipper finished = clipper;
+    clipper = null;
+    if (finished != null && finished.getClipFile().equals(clipFile)) {
+      finished.finish();
+    }
+  }
+
+  /**
+   * Encodes the metadata for a single recorded frame. The frame itself is saved in a separate video file. Records
+   * contain:
+   * <ul>
+   * <li>The camera name as a String</li>
+   * <li>The versioned record marker (0xFF) as an int8. This is used to tell versioned records apart from legacy
+   * records, which stored the video file number as an int8 in the same position</li>
+   * <li>The record version as an int8</li>
+   * <li>The video file number (0, 1, ...) as an int32</li>
+   * <li>The frame number in the video file (0, 1, 2, ...) as an int32</li>
+   * <li>The current bandwidth use in bytes per second as an int32</li>
+   * <li>The current FPS, in hundredths of a frame per second, as an int32</li>
+   * </ul>
+   *
+   * <p>Legacy records used an int16 for the frame number and FPS and an int8 for the file number, which limited
+   * recordings to roughly 9 hours and 327 FPS.
+   */
+  static byte[] encodeRecord(String name, int fileNum, int frameNum, double bandwidth, double fps) {
     return Bytes.concat(
-        toByteArray(data.getName()),
-        new byte[]{(byte) saver.getFileNum()},
-        toByteArray((short) saver.getLastFrameNum()),
-        toByteArray((int) data.getBandwidth()),
-        toByteArray((short) (data.getFps() * 100)) // limits to 327.68 max input FPS - should be enough :)
+        toByteArray(name),
+        new byte[]{VERSIONED_RECORD_MARKER, RECORD_VERSION},
+        toByteArray(fileNum),
+        toByteArray(frameNum),
+        toByteArray((int) bandwidth),
+        toByteArray((int) (fps * 100))
     );
   }
 
@@ -133,4 +312,16 @@ public final class CameraStreamAdapter extends TypeAdapter<CameraServerData> {
     return rootRecordingFile.getAbsolutePath().replace(".sbr", "-" + cameraName + "." + fileIndex + ".mp4");
   }
 
+  /**
+   * Generates the path to the keyframe index file for a video file of a recorded camera stream. The index file is
+   * placed next to the video file.
+   *
+   * @param rootRecordingFile the root recording file
+   * @param cameraName        the name of the recorded stream
+   * @param fileIndex         the video file index
+   */
+  public static Path keyframeIndexPath(File rootRecordingFile, String cameraName, int fileIndex) {
+    return Paths.get(videoFilePath(rootRecordingFile, cameraName, fileIndex) + ".idx");
+  }
+
 }
@@ -0,0 +1,180 @@
+package edu.wpi.first.shuffleboard.plugin.cameraserver.source;
+
+import edu.wpi.first.shuffleboard.plugin.cameraserver.data.LazyCameraServerData;
+
+import org.bytedeco.ffmpeg.avcodec.AVPacket;
+import org.bytedeco.javacv.FFmpegFrameGrabber;
+import org.bytedeco.javacv.FFmpegFrameRecorder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Copies the parts of recorded camera video files that are used by a clip of a recording. Video is copied packet by
+ * packet, without decoding or re-encoding it. Each copy starts at the keyframe at or before the first frame the clip
+ * uses from that video file, so it can be decoded on its own, and ends at the last frame the clip uses.
+ *
+ * <p>Frame records in the clip are rewritten to point at the copied video files. Copies are numbered from zero for each
+ * camera, in the order the clip first uses them.
+ */
+final class CameraStreamClipper {
+
+  private static final Logger log = Logger.getLogger(CameraStreamClipper.class.getName());
+
+  private final File recordingFile;
+  private final File clipFile;
+  // Camera name -> source video file number -> the part of that file used by the clip
+  private final Map<String, Map<Integer, Segment>> segments = new LinkedHashMap<>();
+
+  /**
+   * Creates a new clipper.
+   *
+   * @param recordingFile the recording file the clip is being taken from
+   * @param clipFile      the recording file the clip is being saved to
+   */
+  CameraStreamClipper(File recordingFile, File clipFile) {
+    this.recordingFile = recordingFile;
+    this.clipFile = clipFile;
+  }
+
+  File getClipFile() {
+    return clipFile;
+  }
+
+  /**
+   * Encodes the record for a frame in the clip. Frames must be given in the order they were recorded.
+   *
+   * @param data the frame from the recording being clipped
+   */
+  byte[] clipRecord(LazyCameraServerData data) {
+    final String name = data.getName();
+    Map<Integer, Segment> cameraSegments = segments.computeIfAbsent(name, __ -> new LinkedHashMap<>());
+    Segment segment = cameraSegments.get(data.getFileNum());
+    if (segment == null) {
+      int firstFrame = readKeyframeIndex(name, data.getFileNum())
+          .map(index -> index.keyframeAtOrBefore(data.getFrameNum()))
+          .orElse(0); // Without an index, the only frame known to be a keyframe is the first one
+      segment = new Segment(data.getFileNum(), cameraSegments.size(), firstFrame);
+      cameraSegments.put(data.getFileNum(), segment);
+    }
+    segment.lastFrame = Math.max(segment.lastFrame, data.getFrameNum());
+    return CameraStreamAdapter.encodeRecord(
+        name,
+        segment.clipFileNum,
+        Math.max(0, data.getFrameNum() - segment.firstFrame),
+        data.getBandwidth(),
+        data.getFps()
+    );
+  }
+
+  /**
+   * Copies the parts of the video files used by the clip.
+   *
+   * @throws IOException if a video file could not be read or written
+   */
+  void finish() throws IOException {
+    for (Map.Entry<String, Map<Integer, Segment>> camera : segments.entrySet()) {
+      for (Segment segment : camera.getValue().values()) {
+        copySegment(camera.getKey(), segment);
+      }
+    }
+  }
+
+  private void copySegment(String cameraName, Segment segment) throws IOException {
+    String source = CameraStreamAdapter.videoFilePath(recordingFile, cameraName, segment.sourceFileNum);
+    String destination = CameraStreamAdapter.videoFilePath(clipFile, cameraName, segment.clipFileNum);
+    FFmpegFrameGrabber grabber = new FFmpegFrameGrabber(source);
+    FFmpegFrameRecorder recorder = null;
+    try {
+      grabber.setFormat("mp4");
+      grabber.start();
+      recorder = new FFmpegFrameRecorder(destination, grabber.getImageWidth(), grabber.getImageHeight(), 0);
+      recorder.setFormat("mp4");
+      recorder.setVideoCodec(grabber.getVideoCodec());
+      recorder.setVideoBitrate(grabber.getVideoBitrate());
+      recorder.start(grabber.getFormatContext());
+
+      // Recorded video files only contain a video stream, so every packet is exactly one frame. Packets before the
+      // segment are read from the container but never decoded
+      long firstPts = 0;
+      long firstDts = 0;
+      AVPacket packet;
+      for (int frame = 0; frame <= segment.lastFrame && (packet = grabber.grabPacket()) != null; frame++) {
+        if (frame < segment.firstFrame) {
+          continue;
+        }
+        if (frame == segment.firstFrame) {
+          firstPts = packet.pts();
+          firstDts = packet.dts();
+        }
+        // Shift timestamps so the copy starts at zero, which keeps frame numbers and timestamps in step for seeking
+        packet.pts(packet.pts() - firstPts);
+        packet.dts(packet.dts() - firstDts);
+        recorder.recordPacket(packet);
+      }
+    } finally {
+      if (recorder != null) {
+        recorder.stop();
+        recorder.release();
+      }
+      grabber.stop();
+      grabber.release();
+    }
+    writeKeyframeIndex(cameraName, segment);
+  }
+
+  private void writeKeyframeIndex(String cameraName, Segment segment) {
+    Optional<KeyframeIndex> sourceIndex = readKeyframeIndex(cameraName, segment.sourceFileNum);
+    if (sourceIndex.isEmpty()) {
+      return;
+    }
+    // The copy starts on a keyframe and keyframes are evenly spaced, so the copy has the same keyframe layout
+    KeyframeIndex.Builder builder = new KeyframeIndex.Builder(sourceIndex.get().getMaxKeyframeInterval());
+    for (int frame = 0; frame <= segment.lastFrame - segment.firstFrame; frame++) {
+      builder.addFrame(frame);
+    }
+    Path file = CameraStreamAdapter.keyframeIndexPath(clipFile, cameraName, segment.clipFileNum);
+    try {
+      builder.build().write(file);
+    } catch (IOException e) {
+      // The clip can still be played back without the index
+      log.log(Level.WARNING, "Could not write keyframe index " + file, e);
+    }
+  }
+
+  private Optional<KeyframeIndex> readKeyframeIndex(String cameraName, int fileNum) {
+    Path file = CameraStreamAdapter.keyframeIndexPath(recordingFile, cameraName, fileNum);
+    try {
+      return KeyframeIndex.read(file);
+    } catch (IOException e) {
+      log.log(Level.WARNING, "Could not read keyframe index " + file + ", copying from the start of the video", e);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * The range of frames in a single video file that is used by a clip.
+   */
+  private static final class Segment {
+
+    final int sourceFileNum;
+    final int clipFileNum;
+    final int firstFrame;
+    int lastFrame;
+
+    Segment(int sourceFileNum, int clipFileNum, int firstFrame) {
+      this.sourceFileNum = sourceFileNum;
+      this.clipFileNum = clipFileNum;
+      this.firstFrame = firstFrame;
+      this.lastFrame = firstFrame;
+    }
+
+  }
+
+}
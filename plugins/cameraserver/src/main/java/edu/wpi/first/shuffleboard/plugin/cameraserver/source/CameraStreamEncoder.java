@@ -0,0 +1,209 @@
+package edu.wpi.first.shuffleboard.plugin.cameraserver.source;
+
+import edu.wpi.first.shuffleboard.api.util.ThreadUtils;
+import edu.wpi.first.shuffleboard.plugin.cameraserver.data.CameraServerData;
+import edu.wpi.first.shuffleboard.plugin.cameraserver.source.CameraStreamSaver.FrameLocation;
+
+import org.bytedeco.javacv.FrameRecorder;
+import org.opencv.core.Mat;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Encodes the frames of a single recorded camera stream on a dedicated thread. Frames are submitted to a bounded queue
+ * when the main recording file is saved, and the video file number and frame index that each frame will be written to
+ * are reserved from the saver immediately. This lets the main recording file be written without waiting for FFmpeg,
+ * so a slow encode can never delay saving the rest of the recorded data.
+ *
+ * <p>If the queue is full, the submitted frame is dropped instead of blocking the caller. Dropped frames are not given
+ * a frame index, so recording entries for dropped frames refer to the last frame that was queued.
+ */
+public final class CameraStreamEncoder {
+
+  private static final Logger log = Logger.getLogger(CameraStreamEncoder.class.getName());
+
+  /**
+   * The default maximum number of frames waiting to be encoded. This is two seconds of video at 30 FPS.
+   */
+  static final int DEFAULT_QUEUE_CAPACITY = 60;
+
+  private static final EncodeTask STOP = new EncodeTask(null, null, () -> {}, 0);
+
+  private final String cameraName;
+  private final CameraStreamSaver saver;
+  private final BlockingQueue<EncodeTask> queue;
+  private final Thread encoderThread;
+
+  private final AtomicLong droppedFrames = new AtomicLong(0);
+  private final AtomicLong encodedFrames = new AtomicLong(0);
+  private final AtomicLong totalLatencyNanos = new AtomicLong(0);
+  private volatile long lastLatencyNanos = 0;
+
+  // Guarded by this
+  private FrameLocation lastQueued = null;
+  private boolean finished = false;
+
+  /**
+   * Creates a new encoder and starts its encoder thread.
+   *
+   * @param cameraName    the name of the camera stream being encoded
+   * @param saver         the saver to encode frames with. This should not be used by anything else
+   * @param queueCapacity the maximum number of frames waiting to be encoded
+   */
+  CameraStreamEncoder(String cameraName, CameraStreamSaver saver, int queueCapacity) {
+    this.cameraName = cameraName;
+    this.saver = saver;
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    encoderThread = ThreadUtils.makeDaemonThread(this::encodeForever);
+    encoderThread.setName("Camera Encoder - " + cameraName);
+    encoderThread.start();
+  }
+
+  /**
+   * Submits a frame to be encoded. This never blocks.
+   *
+   * @param data       the frame to encode
+   * @param onFinished called once the frame has been encoded or dropped, to free the image
+   *
+   * @return true if the frame was queued, false if it was dropped
+   */
+  synchronized boolean submit(CameraServerData data, Runnable onFinished) {
+    Mat image = data.getImage();
+    if (finished || image == null || image.getNativeObjAddr() == 0) {
+      // Nothing will be written for this frame
+      onFinished.run();
+      return false;
+    }
+    // Only this method adds frames to the queue, so it cannot fill up between this check and the offer below. This
+    // keeps dropped frames from reserving a location in the video files
+    if (queue.remainingCapacity() == 0) {
+      droppedFrames.incrementAndGet();
+      onFinished.run();
+      return false;
+    }
+    FrameLocation location = saver.reserveFrame(image);
+    queue.add(new EncodeTask(data, location, onFinished, System.nanoTime()));
+    lastQueued = location;
+    return true;
+  }
+
+  /**
+   * Gets the number of the video file that the most recently queued frame will be written to.
+   */
+  synchronized int getFileNum() {
+    return lastQueued == null ? 0 : lastQueued.getFileNum();
+  }
+
+  /**
+   * Gets the index in its video file of the most recently queued frame.
+   */
+  synchronized int getLastFrameNum() {
+    return lastQueued == null ? 0 : lastQueued.getFrameNum();
+  }
+
+  /**
+   * Gets the number of frames waiting to be encoded.
+   */
+  public int getQueueDepth() {
+    return queue.size();
+  }
+
+  /**
+   * Gets the number of frames that were dropped because the queue was full.
+   */
+  public long getDroppedFrameCount() {
+    return droppedFrames.get();
+  }
+
+  /**
+   * Gets the number of frames that have been encoded.
+   */
+  public long getEncodedFrameCount() {
+    return encodedFrames.get();
+  }
+
+  /**
+   * Gets the time between the most recently encoded frame being queued and it finishing encoding, in nanoseconds.
+   */
+  public long getLastLatencyNanos() {
+    return lastLatencyNanos;
+  }
+
+  /**
+   * Gets the average time between frames being queued and finishing encoding, in nanoseconds.
+   */
+  public double getAverageLatencyNanos() {
+    long encoded = encodedFrames.get();
+    return encoded == 0 ? 0 : (double) totalLatencyNanos.get() / encoded;
+  }
+
+  /**
+   * Encodes every queued frame, stops the encoder thread, and finishes writing the current video file. Frames submitted
+   * after this is called are dropped.
+   *
+   * @throws FrameRecorder.Exception if the video file could not be written
+   */
+  void finish() throws FrameRecorder.Exception {
+    synchronized (this) {
+      if (finished) {
+        return;
+      }
+      finished = true;
+    }
+    try {
+      queue.put(STOP);
+      encoderThread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warning("Interrupted while waiting for queued frames from '" + cameraName + "' to be encoded");
+    }
+    saver.finish();
+  }
+
+  private void encodeForever() {
+    while (true) {
+      EncodeTask task;
+      try {
+        task = queue.take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      if (task == STOP) {
+        return;
+      }
+      try {
+        if (saver.serializeFrame(task.data, task.location) == null) {
+          log.warning("Could not encode frame " + task.location.getFrameNum() + " from '" + cameraName + "'");
+        }
+      } catch (RuntimeException | AssertionError e) {
+        log.log(Level.WARNING, "Could not encode frame from '" + cameraName + "'", e);
+      } finally {
+        task.onFinished.run();
+      }
+      long latency = System.nanoTime() - task.queuedAt;
+      lastLatencyNanos = latency;
+      totalLatencyNanos.addAndGet(latency);
+      encodedFrames.incrementAndGet();
+    }
+  }
+
+  private static final class EncodeTask {
+    private final CameraServerData data;
+    private final FrameLocation location;
+    private final Runnable onFinished;
+    private final long queuedAt;
+
+    EncodeTask(CameraServerData data, FrameLocation location, Runnable onFinished, long queuedAt) {
+      this.data = data;
+      this.location = location;
+      this.onFinished = onFinished;
+      this.queuedAt = queuedAt;
+    }
+  }
+
+}
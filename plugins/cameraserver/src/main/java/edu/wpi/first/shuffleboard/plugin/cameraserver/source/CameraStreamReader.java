@@ -1,7 +1,6 @@
 package edu.wpi.first.shuffleboard.plugin.cameraserver.source;
 
 import org.bytedeco.ffmpeg.global.avcodec;
-import org.bytedeco.javacpp.indexer.UByteIndexer;
 import org.bytedeco.javacv.FFmpegFrameGrabber;
 import org.bytedeco.javacv.Frame;
 import org.bytedeco.javacv.FrameGrabber;
@@ -9,6 +8,7 @@ import org.opencv.core.Mat;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
@@ -16,8 +16,6 @@ import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import static org.opencv.core.CvType.CV_8UC3;
-
 /**
  * Reads images from saved video files for a single camera stream in playback.
  */
@@ -28,14 +26,12 @@ public final class CameraStreamReader {
   private final String cameraName;
   private final File rootRecordingFile;
   private FFmpegFrameGrabber grabber;
+  private KeyframeIndex keyframeIndex;
   private final AtomicBoolean started = new AtomicBoolean(false);
-  private int[] buffer;
-  private byte[] narrowBuffer;
+  private byte[] buffer;
 
   private final Lock lock = new ReentrantLock();
 
-  private Mat mat;
-
   private final AtomicInteger fileNumber = new AtomicInteger(0);
   private final AtomicInteger lastFrameIndex = new AtomicInteger(-1);
 
@@ -49,6 +45,7 @@ public final class CameraStreamReader {
     this.cameraName = cameraName;
     this.rootRecordingFile = rootRecordingFile;
     grabber = createGrabber(0);
+    keyframeIndex = readKeyframeIndex(0);
   }
 
   /**
@@ -68,6 +65,7 @@ public final class CameraStreamReader {
         }
         this.fileNumber.set(fileNumber);
         grabber = createGrabber(fileNumber);
+        keyframeIndex = readKeyframeIndex(fileNumber);
       }
     } finally {
       lock.unlock();
@@ -82,8 +80,20 @@ public final class CameraStreamReader {
     return grabber;
   }
 
+  private KeyframeIndex readKeyframeIndex(int fileNumber) {
+    Path file = CameraStreamAdapter.keyframeIndexPath(rootRecordingFile, cameraName, fileNumber);
+    try {
+      return KeyframeIndex.read(file).orElse(null);
+    } catch (IOException e) {
+      log.log(Level.WARNING, "Could not read keyframe index " + file + ", falling back to unindexed seeks", e);
+      return null;
+    }
+  }
+
   /**
-   * Reads a single frame from the current video file.
+   * Reads a single frame from the current video file. If the video file has a keyframe index, frames a short distance
+   * ahead of the previously read frame are reached by decoding forward instead of seeking, since a seek would have to
+   * decode forward from the same or an earlier keyframe anyway.
    *
    * @param frameNum the frame number to read
    *
@@ -98,8 +108,15 @@ public final class CameraStreamReader {
         grabber.start();
         started.set(true);
       }
-      if (lastFrameIndex.get() != frameNum - 1) {
-        grabber.setFrameNumber(frameNum);
+      int lastFrame = lastFrameIndex.get();
+      if (lastFrame != frameNum - 1) {
+        if (keyframeIndex != null && keyframeIndex.shouldDecodeForward(lastFrame, frameNum)) {
+          for (int i = lastFrame + 1; i < frameNum; i++) {
+            grabber.grabImage();
+          }
+        } else {
+          grabber.setFrameNumber(frameNum);
+        }
       }
       lastFrameIndex.set(frameNum);
       Frame frame = grabber.grabImage();
@@ -108,27 +125,16 @@ public final class CameraStreamReader {
         log.warning("No frame at index " + frameNum + " in video " + fileNumber);
         return null;
       }
-      UByteIndexer indexer = frame.createIndexer();
-      if (mat == null) {
-        mat = new Mat((int) indexer.height(), (int) indexer.width(), CV_8UC3);
-        long size = indexer.width() * indexer.height() * indexer.channels();
+      if (buffer == null) {
+        long size = FramePixels.byteSize(frame);
         if (size > Integer.MAX_VALUE) {
           log.warning(String.format("Frame too large: %.2fGB", size / 1e9));
           return null;
         }
-        buffer = new int[(int) size];
-        narrowBuffer = new byte[(int) size];
-      }
-      indexer.get(0, buffer)
-          .release();
-
-      for (int i = 0; i < buffer.length; i++) {
-        narrowBuffer[i] = (byte) buffer[i];
+        buffer = new byte[(int) size];
       }
-
-      mat.put(0, 0, narrowBuffer);
-
-      return mat.clone();
+      // Copy directly into a new mat; the frame's memory is reused by the grabber for the next frame
+      return FramePixels.toMat(frame, buffer);
     } catch (FrameGrabber.Exception e) {
       throw new IOException("Could not read frame " + frameNum + " from video file #" + fileNumber, e);
     } finally {
@@ -147,10 +153,7 @@ public final class CameraStreamReader {
       fileNumber.set(-1);
       started.set(false);
       lastFrameIndex.set(-1);
-      if (mat != null) {
-        mat.release();
-      }
-      mat = null;
+      buffer = null;
       grabber.stop();
     } finally {
       lock.unlock();
@@ -5,7 +5,6 @@ import edu.wpi.first.shuffleboard.plugin.cameraserver.data.Resolution;
 
 import org.bytedeco.ffmpeg.global.avcodec;
 import org.bytedeco.ffmpeg.global.avutil;
-import org.bytedeco.javacpp.indexer.UByteBufferIndexer;
 import org.bytedeco.javacv.FFmpegFrameRecorder;
 import org.bytedeco.javacv.Frame;
 import org.bytedeco.javacv.FrameRecorder;
@@ -15,9 +14,9 @@ import org.opencv.core.Mat;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Level;
@@ -28,21 +27,35 @@ import java.util.logging.Logger;
  * the video file; otherwise, it will be unreadable. Additionally, if the stream changes resolution then a new video
  * file will be created (the previous one will be completed automatically). These video files have an index number
  * embedded in their name: the first video file will be 0, the second video file will be 1, the third 2, and so on.
+ *
+ * <p>The location of a frame (its video file and its index in that file) can be {@link #reserveFrame(Mat) reserved}
+ * before the frame is saved, so the location can be recorded without waiting for the frame to be encoded. A reserved
+ * frame that is never saved leaves a gap in its video file, but does not move any other frame.
  */
 public final class CameraStreamSaver {
 
   private static final Logger log = Logger.getLogger(CameraStreamSaver.class.getName());
 
+  /**
+   * The default maximum number of frames between keyframes in saved video files. This is one second of video at 30 FPS.
+   */
+  public static final int DEFAULT_MAX_KEYFRAME_INTERVAL = 30;
+
   private final String cameraName;
   private final File rootRecordingFile;
+  private final int maxKeyframeInterval;
   private FFmpegFrameRecorder recorder;
+  private KeyframeIndex.Builder keyframes;
   private Frame frame;
   private final AtomicBoolean running = new AtomicBoolean(false);
-  private final AtomicInteger frameNum = new AtomicInteger(0);
-  private final AtomicInteger fileNum = new AtomicInteger(0);
   private Resolution resolution = null;
   private byte[] buffer = null;
-  private int[] wideBuffer = null;
+  private int recorderFileNum = 0;
+
+  // Guarded by lock. These track the locations handed out by reserveFrame()
+  private Resolution reservedResolution = null;
+  private int fileNum = 0;
+  private int frameNum = 0;
 
   private final Lock lock = new ReentrantLock();
 
@@ -53,70 +66,122 @@ public final class CameraStreamSaver {
    * @param rootRecordingFile the the root recording file being recorded to
    */
   public CameraStreamSaver(String cameraName, File rootRecordingFile) {
+    this(cameraName, rootRecordingFile, DEFAULT_MAX_KEYFRAME_INTERVAL);
+  }
+
+  /**
+   * Creates a new stream saver.
+   *
+   * @param cameraName          the name of the camera stream
+   * @param rootRecordingFile   the the root recording file being recorded to
+   * @param maxKeyframeInterval the maximum number of frames between keyframes in the saved video files. Smaller values
+   *                            make seeking in playback faster at the cost of larger video files
+   */
+  public CameraStreamSaver(String cameraName, File rootRecordingFile, int maxKeyframeInterval) {
     this.cameraName = cameraName;
     this.rootRecordingFile = rootRecordingFile;
+    this.maxKeyframeInterval = maxKeyframeInterval;
     recorder = createRecorder(0);
+    keyframes = new KeyframeIndex.Builder(maxKeyframeInterval);
   }
 
   /**
-   * Saves a single frame to a video file. If the image resolution changes, the current video file will be closed and
-   * cleaned up before creating a new file that the given frame will be written to. This avoids issues with changing
-   * resolutions or aspect ratios causing issues with codecs or video players. The video file name is formatted as:
+   * Reserves the location of the next frame of the stream. If the image resolution differs from the last reserved
+   * frame, the frame is placed at the start of a new video file. This avoids issues with changing resolutions or aspect
+   * ratios causing issues with codecs or video players. The video file name is formatted as:
    * {@code recording-<timestamp>-<camera name>.<file number>.mp4}, eg {@code recording-15.03.11-Camera.0.mp4},
    * {@code recording-15.03.11-Camera.1.mp4}, {@code recording-15.03.11-Camera.2.mp4}, etc.
    *
+   * @param image the image of the frame that will be saved
+   *
+   * @return the location the frame will be saved to
+   */
+  public FrameLocation reserveFrame(Mat image) {
+    try {
+      lock.lock();
+      if (reservedResolution == null) {
+        reservedResolution = new Resolution(image.width(), image.height());
+      } else if (reservedResolution.isNotEqual(image.width(), image.height())) {
+        reservedResolution = new Resolution(image.width(), image.height());
+        fileNum++;
+        frameNum = 0;
+      }
+      return new FrameLocation(fileNum, frameNum++);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Saves a single frame to the next location in the stream's video files.
+   *
+   * <p>The image is not released by this method; callers own the image and are responsible for releasing it.
+   *
    * @param data the camera data to save
+   *
+   * @return the location the frame was saved to, or null if it was not saved
+   */
+  public FrameLocation serializeFrame(CameraServerData data) {
+    Mat image = data.getImage();
+    if (image == null || image.getNativeObjAddr() == 0 || image.empty()) {
+      return null;
+    }
+    return serializeFrame(data, reserveFrame(image));
+  }
+
+  /**
+   * Saves a single frame to a location reserved by {@link #reserveFrame(Mat)}. If the location is in a new video file,
+   * the current video file will be closed and cleaned up before creating the new file.
+   *
+   * <p>The image is not released by this method; callers own the image and are responsible for releasing it.
+   *
+   * @param data     the camera data to save
+   * @param location the location reserved for the frame
+   *
+   * @return the location the frame was saved to, or null if it was not saved
    */
-  public void serializeFrame(CameraServerData data) {
+  public FrameLocation serializeFrame(CameraServerData data, FrameLocation location) {
     try {
       lock.lock();
       if (recorder == null) {
         log.warning("Attempting to write frame after saver has finished");
-        return;
+        return null;
       }
       Mat image = data.getImage();
-      if (image == null || image.getNativeObjAddr() == 0) {
+      if (image == null || image.getNativeObjAddr() == 0 || image.empty()) {
         // No image to save, bail
-        return;
+        return null;
       }
-      if (frame == null) {
-        frame = newFrameFromMat(image);
-        resolution = new Resolution(image.width(), image.height());
-        buffer = new byte[(int) (image.total() * image.channels())];
-        wideBuffer = new int[buffer.length];
-      } else if (resolution.isNotEqual(image.width(), image.height())) {
+      if (location.getFileNum() != recorderFileNum) {
         // Stream resolution changed. Video files don't like frames with different resolutions, so finish writing the
         // current file and move on to writing to a new file instead
         try {
           finish();
         } catch (FrameRecorder.Exception e) {
-          log.log(Level.WARNING, "Could not finish writing video file " + fileNum, e);
+          log.log(Level.WARNING, "Could not finish writing video file " + recorderFileNum, e);
         }
+        recorderFileNum = location.getFileNum();
+        recorder = createRecorder(recorderFileNum);
+        keyframes = new KeyframeIndex.Builder(maxKeyframeInterval);
+        frame = null;
+      }
+      if (frame == null) {
         frame = newFrameFromMat(image);
         resolution = new Resolution(image.width(), image.height());
-        recorder = createRecorder(fileNum.incrementAndGet());
-        setupAndStartRecorder(data);
         buffer = new byte[(int) (image.total() * image.channels())];
-        wideBuffer = new int[buffer.length];
       }
-      image.get(0, 0, buffer);
-      for (int i = 0; i < buffer.length; i++) {
-        wideBuffer[i] = buffer[i] & 0xFF;
-      }
-      frame.<UByteBufferIndexer>createIndexer()
-          .put(0, wideBuffer)
-          .release();
+      FramePixels.copyToFrame(image, frame, buffer);
       try {
         if (!running.get()) {
           setupAndStartRecorder(data);
         }
-        recorder.setFrameNumber(frameNum.getAndIncrement());
+        recorder.setFrameNumber(location.getFrameNum());
         recorder.record(frame);
+        keyframes.addFrame(location.getFrameNum());
       } catch (FrameRecorder.Exception e) {
         throw new AssertionError("Could not save frame", e);
-      } finally {
-        image.release();
       }
+      return location;
     } finally {
       lock.unlock();
     }
@@ -148,10 +213,15 @@ public final class CameraStreamSaver {
   }
 
   /**
-   * Gets the index of the most recent frame that was saved to the current video file.
+   * Gets the index in its video file of the next frame to be reserved.
    */
   public int getFrameNum() {
-    return frameNum.get();
+    try {
+      lock.lock();
+      return frameNum;
+    } finally {
+      lock.unlock();
+    }
   }
 
   public int getLastFrameNum() {
@@ -159,10 +229,16 @@ public final class CameraStreamSaver {
   }
 
   /**
-   * Gets the video file number. The first video file written is number 0, the second is 1, and so on.
+   * Gets the number of the video file of the most recently reserved frame. The first video file written is number 0,
+   * the second is 1, and so on.
    */
   public int getFileNum() {
-    return fileNum.get();
+    try {
+      lock.lock();
+      return fileNum;
+    } finally {
+      lock.unlock();
+    }
   }
 
   /**
@@ -176,7 +252,7 @@ public final class CameraStreamSaver {
       if (running.get()) {
         recorder.stop();
         running.set(false);
-        frameNum.set(0);
+        writeKeyframeIndex();
         recorder = null;
       }
     } finally {
@@ -184,6 +260,16 @@ public final class CameraStreamSaver {
     }
   }
 
+  private void writeKeyframeIndex() {
+    Path file = CameraStreamAdapter.keyframeIndexPath(rootRecordingFile, cameraName, recorderFileNum);
+    try {
+      keyframes.build().write(file);
+    } catch (IOException e) {
+      // Playback still works without the index, it just has to rely on FFmpeg seeks
+      log.log(Level.WARNING, "Could not write keyframe index " + file, e);
+    }
+  }
+
   private FFmpegFrameRecorder createRecorder(int fileIndex) {
     String file = CameraStreamAdapter.videoFilePath(rootRecordingFile, cameraName, fileIndex);
     try {
@@ -199,7 +285,33 @@ public final class CameraStreamSaver {
     recorder.setVideoCodec(avcodec.AV_CODEC_ID_MPEG4);
     recorder.setFormat("mp4");
     recorder.setPixelFormat(avutil.AV_PIX_FMT_YUV420P);
+    // Place keyframes at a fixed interval, and only there, so the keyframe index is exact and seeks are bounded
+    recorder.setGopSize(maxKeyframeInterval);
+    recorder.setVideoOption("sc_threshold", "1000000000");
     return recorder;
   }
 
+  /**
+   * The location of a saved frame: the number of its video file, and its index in that file.
+   */
+  public static final class FrameLocation {
+
+    private final int fileNum;
+    private final int frameNum;
+
+    FrameLocation(int fileNum, int frameNum) {
+      this.fileNum = fileNum;
+      this.frameNum = frameNum;
+    }
+
+    public int getFileNum() {
+      return fileNum;
+    }
+
+    public int getFrameNum() {
+      return frameNum;
+    }
+
+  }
+
 }
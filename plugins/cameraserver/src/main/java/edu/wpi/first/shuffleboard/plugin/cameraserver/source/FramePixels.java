@@ -0,0 +1,77 @@
+package edu.wpi.first.shuffleboard.plugin.cameraserver.source;
+
+import org.bytedeco.javacv.Frame;
+import org.opencv.core.CvType;
+import org.opencv.core.Mat;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Utilities for moving 8-bit pixel data between OpenCV {@link Mat Mats} and JavaCV {@link Frame Frames}. Pixels are
+ * moved with bulk buffer operations, one row at a time if the frame has padding at the end of each row, instead of
+ * being copied one element at a time.
+ */
+final class FramePixels {
+
+  private FramePixels() {
+    throw new UnsupportedOperationException("This is a utility class!");
+  }
+
+  /**
+   * Gets the number of bytes of pixel data in a frame, excluding any row padding.
+   *
+   * @param frame the frame to get the size of
+   */
+  static long byteSize(Frame frame) {
+    return (long) frame.imageWidth * frame.imageHeight * frame.imageChannels;
+  }
+
+  /**
+   * Copies the pixels in a frame into a new mat.
+   *
+   * @param frame   the frame to copy
+   * @param scratch a scratch buffer to copy pixels through. This must be at least {@link #byteSize(Frame)} bytes long
+   *
+   * @return a new mat containing a copy of the pixels in the frame
+   */
+  static Mat toMat(Frame frame, byte[] scratch) {
+    int rowBytes = frame.imageWidth * frame.imageChannels;
+    ByteBuffer data = ((ByteBuffer) frame.image[0]).duplicate();
+    if (frame.imageStride == rowBytes) {
+      data.position(0);
+      data.get(scratch, 0, rowBytes * frame.imageHeight);
+    } else {
+      for (int row = 0; row < frame.imageHeight; row++) {
+        data.position(row * frame.imageStride);
+        data.get(scratch, row * rowBytes, rowBytes);
+      }
+    }
+    Mat mat = new Mat(frame.imageHeight, frame.imageWidth, CvType.CV_8UC(frame.imageChannels));
+    mat.put(0, 0, scratch);
+    return mat;
+  }
+
+  /**
+   * Copies the pixels in a mat into an existing frame. The frame must have the same dimensions and number of channels
+   * as the mat.
+   *
+   * @param mat     the mat to copy
+   * @param frame   the frame to copy the pixels into
+   * @param scratch a scratch buffer to copy pixels through. This must be at least {@link #byteSize(Frame)} bytes long
+   */
+  static void copyToFrame(Mat mat, Frame frame, byte[] scratch) {
+    int rowBytes = frame.imageWidth * frame.imageChannels;
+    mat.get(0, 0, scratch);
+    ByteBuffer data = ((ByteBuffer) frame.image[0]).duplicate();
+    if (frame.imageStride == rowBytes) {
+      data.position(0);
+      data.put(scratch, 0, rowBytes * frame.imageHeight);
+    } else {
+      for (int row = 0; row < frame.imageHeight; row++) {
+        data.position(row * frame.imageStride);
+        data.put(scratch, row * rowBytes, rowBytes);
+      }
+    }
+  }
+
+}
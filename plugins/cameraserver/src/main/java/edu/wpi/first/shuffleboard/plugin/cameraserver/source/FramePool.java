@@ -0,0 +1,130 @@
+package edu.wpi.first.shuffleboard.plugin.cameraserver.source;
+
+import org.opencv.core.Mat;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded pool of image buffers for frames that are waiting to be recorded. Frames are copied into reused buffers
+ * instead of being cloned into a newly allocated native image for every grabbed frame, which keeps native memory use
+ * constant no matter how far behind the video encoder gets.
+ *
+ * <p>When every buffer is in use, the pool drops the oldest frame that is only referenced by its original owner and
+ * reuses its buffer for the new frame. Frames that are currently being read (ie have been {@link PooledFrame#retain()
+ * retained}) are never dropped; if every frame is being read, the new frame is dropped instead. Each drop increments
+ * the {@link #getDroppedFrameCount() dropped frame counter}.
+ */
+final class FramePool {
+
+  /**
+   * The default number of buffers in a pool. This is enough to hold three seconds of video at 30 FPS, which covers the
+   * two-second interval between recording saves.
+   */
+  static final int DEFAULT_CAPACITY = 90;
+
+  private final int capacity;
+  private final Deque<Mat> free = new ArrayDeque<>();
+  private final Deque<PooledFrame> inUse = new ArrayDeque<>();
+  private final AtomicLong droppedFrames = new AtomicLong(0);
+  private int allocated = 0;
+  private boolean closed = false;
+
+  /**
+   * Creates a new frame pool.
+   *
+   * @param capacity the maximum number of buffers in the pool
+   */
+  FramePool(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity must be positive, but was " + capacity);
+    }
+    this.capacity = capacity;
+  }
+
+  /**
+   * Copies an image into a buffer from this pool.
+   *
+   * @param source the image to copy
+   *
+   * @return a frame holding a copy of the image, or null if there was no room for the image in the pool
+   */
+  PooledFrame acquire(Mat source) {
+    Mat buffer;
+    synchronized (this) {
+      if (closed) {
+        return null;
+      }
+      buffer = takeBuffer();
+      if (buffer == null) {
+        droppedFrames.incrementAndGet();
+        return null;
+      }
+    }
+    // Reuses the buffer's memory if the image has the same size and type
+    source.copyTo(buffer);
+    PooledFrame frame = new PooledFrame(this, buffer);
+    synchronized (this) {
+      inUse.addLast(frame);
+    }
+    return frame;
+  }
+
+  private Mat takeBuffer() {
+    if (!free.isEmpty()) {
+      return free.pollFirst();
+    }
+    if (allocated < capacity) {
+      allocated++;
+      return new Mat();
+    }
+    for (Iterator<PooledFrame> iterator = inUse.iterator(); iterator.hasNext(); ) {
+      PooledFrame oldest = iterator.next();
+      if (oldest.tryDrop()) {
+        iterator.remove();
+        droppedFrames.incrementAndGet();
+        return oldest.getImage();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns the buffer of a fully released frame to this pool.
+   */
+  synchronized void recycle(PooledFrame frame) {
+    inUse.remove(frame);
+    if (closed) {
+      frame.getImage().release();
+    } else {
+      free.addLast(frame.getImage());
+    }
+  }
+
+  /**
+   * Gets the number of frames that have been dropped because the pool was full.
+   */
+  long getDroppedFrameCount() {
+    return droppedFrames.get();
+  }
+
+  /**
+   * Gets the number of frames currently held in this pool.
+   */
+  synchronized int getInUseCount() {
+    return inUse.size();
+  }
+
+  /**
+   * Closes this pool and frees the memory of all unused buffers. Buffers that are still in use are freed when they are
+   * released.
+   */
+  synchronized void close() {
+    closed = true;
+    free.forEach(Mat::release);
+    free.clear();
+  }
+
+}
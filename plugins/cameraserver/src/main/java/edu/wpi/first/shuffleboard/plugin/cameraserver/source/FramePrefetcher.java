@@ -0,0 +1,324 @@
+package edu.wpi.first.shuffleboard.plugin.cameraserver.source;
+
+import edu.wpi.first.shuffleboard.api.util.ThreadUtils;
+
+import org.opencv.core.Mat;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+
+/**
+ * Decodes frames of a recorded camera stream ahead of the playhead on a background thread. Decoded frames are kept in a
+ * bounded least-recently-used cache that holds the frames ahead of the playhead and a small number of frames behind
+ * it, so normal playback and short backward scrubs do not need to touch the video file at all.
+ *
+ * <p>Requests from the JavaFX application thread never block on a decode. If the requested frame is not cached, the
+ * most recently delivered frame is returned in its place, the decoder is pointed at the new playhead, and the
+ * {@link FrameReadyListener} is notified once the requested frame is available. Any decode-ahead work for the old
+ * playhead is abandoned. Requests from any other thread wait for the frame to be decoded.
+ */
+final class FramePrefetcher implements AutoCloseable {
+
+  private static final Logger log = Logger.getLogger(FramePrefetcher.class.getName());
+
+  /**
+   * The default number of frames to decode ahead of the playhead. This is one second of video at 30 FPS.
+   */
+  static final int DEFAULT_FRAMES_AHEAD = 30;
+
+  /**
+   * The default number of frames behind the playhead to keep decoded.
+   */
+  static final int DEFAULT_FRAMES_BEHIND = 10;
+
+  /**
+   * Decodes a single frame from a video file.
+   */
+  @FunctionalInterface
+  interface FrameDecoder {
+    /**
+     * Decodes a frame.
+     *
+     * @param fileNum  the number of the video file containing the frame
+     * @param frameNum the index of the frame in the video file
+     *
+     * @return the decoded frame, or null if there is no frame at that index
+     *
+     * @throws IOException if the frame could not be decoded
+     */
+    Mat decode(int fileNum, int frameNum) throws IOException;
+  }
+
+  /**
+   * Listens for frames that were requested but not yet decoded at the time of the request.
+   */
+  @FunctionalInterface
+  interface FrameReadyListener {
+    /**
+     * Called from the decoder thread when a previously missing frame has been decoded and cached.
+     *
+     * @param fileNum  the number of the video file containing the frame
+     * @param frameNum the index of the frame in the video file
+     */
+    void frameReady(int fileNum, int frameNum);
+  }
+
+  private static final long NO_FRAME = -1;
+
+  private final FrameDecoder decoder;
+  private final FrameReadyListener listener;
+  private final int framesAhead;
+  private final int framesBehind;
+  private final Map<Long, Mat> cache;
+  private final ExecutorService decoderThread = Executors.newSingleThreadExecutor(ThreadUtils::makeDaemonThread);
+  private final Lock decodeLock = new ReentrantLock();
+  private final AtomicInteger generation = new AtomicInteger();
+  private final AtomicBoolean decoding = new AtomicBoolean(false);
+
+  private volatile long playhead = NO_FRAME;
+  private volatile boolean closed = false;
+  private long pending = NO_FRAME; // guarded by this
+  private long lastDelivered = NO_FRAME; // guarded by this
+
+  /**
+   * Creates a new prefetcher that decodes frames with a camera stream reader.
+   *
+   * @param reader   the reader to decode frames with. This should not be used by anything else while the prefetcher
+   *                 is open
+   * @param listener the listener to notify when a missing frame has been decoded
+   */
+  FramePrefetcher(CameraStreamReader reader, FrameReadyListener listener) {
+    this((fileNum, frameNum) -> {
+      reader.setFileNumber(fileNum);
+      return reader.readFrame(frameNum);
+    }, listener, DEFAULT_FRAMES_AHEAD, DEFAULT_FRAMES_BEHIND);
+  }
+
+  /**
+   * Creates a new prefetcher.
+   *
+   * @param decoder      the function to use to decode frames
+   * @param listener     the listener to notify when a missing frame has been decoded
+   * @param framesAhead  the number of frames to decode ahead of the playhead
+   * @param framesBehind the number of frames behind the playhead to keep decoded
+   */
+  FramePrefetcher(FrameDecoder decoder, FrameReadyListener listener, int framesAhead, int framesBehind) {
+    this.decoder = decoder;
+    this.listener = listener;
+    this.framesAhead = framesAhead;
+    this.framesBehind = framesBehind;
+    int capacity = framesAhead + framesBehind + 1;
+    this.cache = new LinkedHashMap<Long, Mat>(capacity * 2, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, Mat> eldest) {
+        if (size() > capacity) {
+          eldest.getValue().release();
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  /**
+   * Gets a frame and moves the playhead to it. The returned mat is a copy owned by the caller, who is responsible for
+   * releasing it.
+   *
+   * <p>When called from the JavaFX application thread and the frame has not been decoded yet, this returns a copy of
+   * the most recently delivered frame (or null if no frame has been delivered yet) instead of waiting for the decode.
+   *
+   * @param fileNum  the number of the video file containing the frame
+   * @param frameNum the index of the frame in the video file
+   */
+  Mat getFrame(int fileNum, int frameNum) {
+    if (closed) {
+      // Data objects can outlive the prefetcher; read the frame directly without caching it
+      return decodeUncached(fileNum, frameNum);
+    }
+    long key = key(fileNum, frameNum);
+    boolean fxThread = Platform.isFxApplicationThread();
+    synchronized (this) {
+      playhead = key;
+      Mat cached = cache.get(key);
+      if (cached != null) {
+        lastDelivered = key;
+        scheduleDecode();
+        return cached.clone();
+      }
+      if (fxThread) {
+        // Mark the frame as pending under the same lock as the cache check, so a decode that finishes in between
+        // cannot miss it
+        pending = key;
+        // The user has jumped somewhere new; stop decoding ahead of the old playhead
+        generation.incrementAndGet();
+        Mat previous = lastDelivered == NO_FRAME ? null : cache.get(lastDelivered);
+        Mat placeholder = previous == null ? null : previous.clone();
+        scheduleDecode();
+        return placeholder;
+      }
+    }
+    generation.incrementAndGet();
+    decodeIfAbsent(fileNum, frameNum);
+    synchronized (this) {
+      Mat decoded = cache.get(key);
+      if (decoded == null) {
+        return null;
+      }
+      lastDelivered = key;
+      scheduleDecode();
+      return decoded.clone();
+    }
+  }
+
+  /**
+   * Stops decoding and releases all cached frames. Frames requested after this is called are read directly from the
+   * decoder without being cached.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    generation.incrementAndGet();
+    decoderThread.shutdownNow();
+    synchronized (this) {
+      cache.values().forEach(Mat::release);
+      cache.clear();
+      lastDelivered = NO_FRAME;
+    }
+  }
+
+  private void scheduleDecode() {
+    if (!closed && decoding.compareAndSet(false, true)) {
+      decoderThread.submit(this::decodeLoop);
+    }
+  }
+
+  private void decodeLoop() {
+    int gen;
+    try {
+      do {
+        gen = generation.get();
+        decodeWindow(gen);
+      } while (gen != generation.get() && !closed);
+    } finally {
+      decoding.set(false);
+    }
+    // The playhead may have jumped after the last check, but before the flag was cleared
+    if (gen != generation.get()) {
+      scheduleDecode();
+    }
+  }
+
+  private void decodeWindow(int gen) {
+    long start = playhead;
+    if (start == NO_FRAME) {
+      return;
+    }
+    int fileNum = fileNum(start);
+    int frameNum = frameNum(start);
+
+    // Decode the playhead and the frames after it in order, so the reader can read them sequentially without seeking
+    for (int i = 0; i <= framesAhead; i++) {
+      if (gen != generation.get() || closed) {
+        return;
+      }
+      if (!decodeIfAbsent(fileNum, frameNum + i)) {
+        // End of the video file
+        break;
+      }
+    }
+
+    // Then fill in the frames behind the playhead, oldest first, so scrubbing backward only needs a single seek
+    for (int n = Math.max(0, frameNum - framesBehind); n < frameNum; n++) {
+      if (gen != generation.get() || closed) {
+        return;
+      }
+      decodeIfAbsent(fileNum, n);
+    }
+  }
+
+  /**
+   * Decodes a frame and caches it, if it is not already cached.
+   *
+   * @return true if the frame is in the cache, false if there is no such frame or it could not be decoded
+   */
+  private boolean decodeIfAbsent(int fileNum, int frameNum) {
+    long key = key(fileNum, frameNum);
+    decodeLock.lock();
+    try {
+      boolean cached;
+      synchronized (this) {
+        cached = cache.containsKey(key);
+      }
+      if (!cached) {
+        Mat mat;
+        try {
+          mat = decoder.decode(fileNum, frameNum);
+        } catch (IOException e) {
+          log.log(Level.WARNING, "Could not read frame " + frameNum + " from video file #" + fileNum, e);
+          return false;
+        }
+        if (mat == null) {
+          return false;
+        }
+        synchronized (this) {
+          if (closed) {
+            mat.release();
+            return false;
+          }
+          cache.put(key, mat);
+        }
+      }
+    } finally {
+      decodeLock.unlock();
+    }
+    // Notify even if the frame was already cached, since it may have been requested while another decode was in flight
+    notifyIfPending(key);
+    return true;
+  }
+
+  private void notifyIfPending(long key) {
+    synchronized (this) {
+      if (pending != key) {
+        return;
+      }
+      pending = NO_FRAME;
+    }
+    listener.frameReady(fileNum(key), frameNum(key));
+  }
+
+  private Mat decodeUncached(int fileNum, int frameNum) {
+    decodeLock.lock();
+    try {
+      return decoder.decode(fileNum, frameNum);
+    } catch (IOException e) {
+      log.log(Level.WARNING, "Could not read frame " + frameNum + " from video file #" + fileNum, e);
+      return null;
+    } finally {
+      decodeLock.unlock();
+    }
+  }
+
+  private static long key(int fileNum, int frameNum) {
+    return ((long) fileNum << 32) | (frameNum & 0xFFFFFFFFL);
+  }
+
+  private static int fileNum(long key) {
+    return (int) (key >>> 32);
+  }
+
+  private static int frameNum(long key) {
+    return (int) key;
+  }
+
+}
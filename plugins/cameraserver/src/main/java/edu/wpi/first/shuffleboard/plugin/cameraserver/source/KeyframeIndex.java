@@ -0,0 +1,184 @@
+package edu.wpi.first.shuffleboard.plugin.cameraserver.source;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * An index of the keyframes in a recorded camera video file. The index is written by {@link CameraStreamSaver} to a
+ * small sidecar file next to each video file, and is used by {@link CameraStreamReader} to decide if a frame should be
+ * reached by decoding forward from the current position or by seeking to the nearest preceding keyframe. Since the
+ * saver caps the number of frames between keyframes, the number of frames decoded to reach any frame is bounded.
+ *
+ * <p>The sidecar file contains:
+ * <ul>
+ * <li>The magic number {@code 0x53424B49} ("SBKI") as an int32</li>
+ * <li>The index format version as an int8</li>
+ * <li>The maximum number of frames between keyframes as an int32</li>
+ * <li>The total number of frames in the video file as an int32</li>
+ * <li>The number of keyframes as an int32</li>
+ * <li>The frame number of each keyframe, in ascending order, as int32s</li>
+ * </ul>
+ */
+final class KeyframeIndex {
+
+  private static final int MAGIC = 0x53424B49;
+  private static final byte VERSION = 1;
+
+  private final int maxKeyframeInterval;
+  private final int frameCount;
+  private final int[] keyframes;
+
+  private KeyframeIndex(int maxKeyframeInterval, int frameCount, int[] keyframes) {
+    this.maxKeyframeInterval = maxKeyframeInterval;
+    this.frameCount = frameCount;
+    this.keyframes = keyframes;
+  }
+
+  /**
+   * Gets the maximum number of frames between keyframes in the indexed video file.
+   */
+  int getMaxKeyframeInterval() {
+    return maxKeyframeInterval;
+  }
+
+  /**
+   * Gets the total number of frames in the indexed video file.
+   */
+  int getFrameCount() {
+    return frameCount;
+  }
+
+  /**
+   * Gets the frame number of the last keyframe at or before the given frame.
+   *
+   * @param frameNum the frame number to find the keyframe for
+   */
+  int keyframeAtOrBefore(int frameNum) {
+    int index = Arrays.binarySearch(keyframes, frameNum);
+    if (index >= 0) {
+      return keyframes[index];
+    }
+    int insertionPoint = -index - 1;
+    return insertionPoint == 0 ? 0 : keyframes[insertionPoint - 1];
+  }
+
+  /**
+   * Checks if it is cheaper to reach a frame by decoding forward from the most recently decoded frame than by seeking
+   * to the keyframe preceding it. This is the case when the target frame is ahead of the last decoded frame and no
+   * keyframe lies between them.
+   *
+   * @param lastFrame the most recently decoded frame, or -1 if no frame has been decoded
+   * @param target    the frame to read
+   */
+  boolean shouldDecodeForward(int lastFrame, int target) {
+    return lastFrame >= 0 && target > lastFrame && keyframeAtOrBefore(target) <= lastFrame;
+  }
+
+  /**
+   * Writes this index to a file, replacing its contents.
+   *
+   * @param file the file to write to
+   *
+   * @throws IOException if the file could not be written
+   */
+  void write(Path file) throws IOException {
+    try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+      out.writeInt(MAGIC);
+      out.writeByte(VERSION);
+      out.writeInt(maxKeyframeInterval);
+      out.writeInt(frameCount);
+      out.writeInt(keyframes.length);
+      for (int keyframe : keyframes) {
+        out.writeInt(keyframe);
+      }
+    }
+  }
+
+  /**
+   * Reads an index from a file. Video files recorded before keyframe indices were added will not have an index file.
+   *
+   * @param file the file to read
+   *
+   * @return the index, or an empty optional if the file does not exist
+   *
+   * @throws IOException if the file exists, but could not be read or is not a valid index file
+   */
+  static Optional<KeyframeIndex> read(Path file) throws IOException {
+    if (Files.notExists(file)) {
+      return Optional.empty();
+    }
+    try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+      if (in.readInt() != MAGIC) {
+        throw new IOException("Not a keyframe index file: " + file);
+      }
+      byte version = in.readByte();
+      if (version != VERSION) {
+        throw new IOException("Unsupported keyframe index version " + version + " in " + file);
+      }
+      int maxKeyframeInterval = in.readInt();
+      int frameCount = in.readInt();
+      int[] keyframes = new int[in.readInt()];
+      for (int i = 0; i < keyframes.length; i++) {
+        keyframes[i] = in.readInt();
+      }
+      return Optional.of(new KeyframeIndex(maxKeyframeInterval, frameCount, keyframes));
+    }
+  }
+
+  /**
+   * Builds a keyframe index as frames are written to a video file.
+   */
+  static final class Builder {
+
+    private final int maxKeyframeInterval;
+    private int frameCount = 0;
+    private int[] keyframes = new int[16];
+    private int keyframeCount = 0;
+
+    /**
+     * Creates a new builder.
+     *
+     * @param maxKeyframeInterval the maximum number of frames between keyframes
+     */
+    Builder(int maxKeyframeInterval) {
+      if (maxKeyframeInterval < 1) {
+        throw new IllegalArgumentException("Keyframe interval must be positive, but was " + maxKeyframeInterval);
+      }
+      this.maxKeyframeInterval = maxKeyframeInterval;
+    }
+
+    /**
+     * Records that a frame was written, and returns true if that frame is a keyframe. Keyframes are placed exactly
+     * every {@code maxKeyframeInterval} frames, starting with the first frame.
+     *
+     * @param frameNum the number of the written frame
+     */
+    boolean addFrame(int frameNum) {
+      frameCount = Math.max(frameCount, frameNum + 1);
+      if (frameNum % maxKeyframeInterval != 0) {
+        return false;
+      }
+      if (keyframeCount == keyframes.length) {
+        keyframes = Arrays.copyOf(keyframes, keyframes.length * 2);
+      }
+      keyframes[keyframeCount++] = frameNum;
+      return true;
+    }
+
+    /**
+     * Creates an index from the frames added so far.
+     */
+    KeyframeIndex build() {
+      return new KeyframeIndex(maxKeyframeInterval, frameCount, Arrays.copyOf(keyframes, keyframeCount));
+    }
+
+  }
+
+}
@@ -0,0 +1,26 @@
+package edu.wpi.first.shuffleboard.plugin.cameraserver.source;
+
+import edu.wpi.first.shuffleboard.plugin.cameraserver.data.CameraServerData;
+
+/**
+ * Camera data for a recorded frame whose image is held in a {@link FramePool}. The recorder owns the frame's original
+ * reference until the frame is written to disk; the image may be dropped by the pool before then if the video encoder
+ * falls behind.
+ */
+final class PooledCameraServerData extends CameraServerData {
+
+  private final PooledFrame frame;
+
+  PooledCameraServerData(CameraServerData data, PooledFrame frame) {
+    super(data.getName(), frame.getImage(), data.getFps(), data.getBandwidth());
+    this.frame = frame;
+  }
+
+  /**
+   * Gets the pooled frame holding the image.
+   */
+  PooledFrame getFrame() {
+    return frame;
+  }
+
+}
@@ -0,0 +1,89 @@
+package edu.wpi.first.shuffleboard.plugin.cameraserver.source;
+
+import org.opencv.core.Mat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A reference-counted handle to an image buffer borrowed from a {@link FramePool}. A new handle has a single
+ * reference, owned by whoever acquired it. Other users must {@link #retain()} the frame before reading its image, and
+ * every reference must be {@link #release() released} when it is no longer needed. The buffer is returned to the pool
+ * when the last reference is released.
+ *
+ * <p>If the pool runs out of buffers, it may take the buffer back from a frame that only has its original reference.
+ * That frame is then {@link #isDropped() dropped}: it can no longer be retained, and releasing it has no effect.
+ */
+final class PooledFrame {
+
+  private static final int DROPPED = -1;
+
+  private final FramePool pool;
+  private final Mat image;
+  private final AtomicInteger refs = new AtomicInteger(1);
+
+  PooledFrame(FramePool pool, Mat image) {
+    this.pool = pool;
+    this.image = image;
+  }
+
+  /**
+   * Gets the image in this frame. The image may only be read while holding a reference to this frame, and must not be
+   * released or modified.
+   */
+  Mat getImage() {
+    return image;
+  }
+
+  /**
+   * Adds a reference to this frame.
+   *
+   * @return true if a reference was added, false if this frame has been dropped or fully released
+   */
+  boolean retain() {
+    while (true) {
+      int count = refs.get();
+      if (count <= 0) {
+        return false;
+      }
+      if (refs.compareAndSet(count, count + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Releases a reference to this frame. The image buffer is returned to the pool when the last reference is released.
+   */
+  void release() {
+    while (true) {
+      int count = refs.get();
+      if (count <= 0) {
+        // Dropped or already fully released
+        return;
+      }
+      if (refs.compareAndSet(count, count - 1)) {
+        if (count == 1) {
+          pool.recycle(this);
+        }
+        return;
+      }
+    }
+  }
+
+  /**
+   * Checks if this frame was dropped by its pool to make room for a newer frame.
+   */
+  boolean isDropped() {
+    return refs.get() == DROPPED;
+  }
+
+  /**
+   * Drops this frame if nothing but the original reference is held on it. Only the pool may call this.
+   *
+   * @return true if this frame was dropped, false if it is in use
+   */
+  boolean tryDrop() {
+    return refs.compareAndSet(1, DROPPED);
+  }
+
+}
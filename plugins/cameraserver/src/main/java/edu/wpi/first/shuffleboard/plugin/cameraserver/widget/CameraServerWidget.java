@@ -1,14 +1,19 @@
 package edu.wpi.first.shuffleboard.plugin.cameraserver.widget;
 
 import edu.wpi.first.shuffleboard.api.components.IntegerField;
+import edu.wpi.first.shuffleboard.api.metrics.Counter;
+import edu.wpi.first.shuffleboard.api.metrics.Metrics;
 import edu.wpi.first.shuffleboard.api.prefs.Group;
 import edu.wpi.first.shuffleboard.api.prefs.Setting;
 import edu.wpi.first.shuffleboard.api.properties.SavePropertyFrom;
+import edu.wpi.first.shuffleboard.api.util.FxUtils;
 import edu.wpi.first.shuffleboard.api.widget.Description;
 import edu.wpi.first.shuffleboard.api.widget.ParametrizedController;
 import edu.wpi.first.shuffleboard.api.widget.SimpleAnnotatedWidget;
 import edu.wpi.first.shuffleboard.plugin.cameraserver.data.CameraServerData;
+import edu.wpi.first.shuffleboard.plugin.cameraserver.data.LazyCameraServerData;
 import edu.wpi.first.shuffleboard.plugin.cameraserver.data.Resolution;
+import edu.wpi.first.shuffleboard.plugin.cameraserver.recording.serialization.DirectImageRenderer;
 import edu.wpi.first.shuffleboard.plugin.cameraserver.recording.serialization.ImageConverter;
 import edu.wpi.first.shuffleboard.plugin.cameraserver.source.CameraServerSource;
 
@@ -18,9 +23,13 @@ import com.jfoenix.controls.JFXSlider;
 import org.fxmisc.easybind.EasyBind;
 import org.opencv.core.Core;
 import org.opencv.core.Mat;
+import org.opencv.core.Size;
+import org.opencv.imgproc.Imgproc;
 
 import java.util.List;
+import java.util.function.Consumer;
 
+import javafx.animation.AnimationTimer;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.Property;
 import javafx.beans.property.SimpleBooleanProperty;
@@ -28,6 +37,7 @@ import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ChangeListener;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
+import javafx.scene.Scene;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -68,9 +78,33 @@ public class CameraServerWidget extends SimpleAnnotatedWidget<CameraServerData>
   @FXML
   private Node crosshairs;
 
+  private static final Counter renderedFrameCounter = Metrics.getDefault().counter("CameraServer/Frames rendered");
+  private static final Counter displayedFrameCounter = Metrics.getDefault().counter("CameraServer/Frames displayed");
+  private static final Counter droppedFrameCounter = Metrics.getDefault().counter("CameraServer/Frames dropped");
+
   private final Mat displayMat = new Mat();
   private final ImageConverter converter = new ImageConverter();
 
+  // Live frames are scaled, rotated, and converted on the source's frame grabber thread, straight into the displayed
+  // image. The FX thread only picks up the latest rendered frame once per pulse; older frames are dropped
+  private final Mat liveMat = new Mat();
+  private final DirectImageRenderer liveRenderer = new DirectImageRenderer();
+  private volatile Rotation liveRotation = Rotation.NONE;
+  private volatile boolean showing = false;
+  private volatile int displayWidth = 0;
+  private volatile int displayHeight = 0;
+  private final Consumer<Mat> liveFrameListener = this::renderLiveFrame;
+  private final AnimationTimer livePublisher = new AnimationTimer() {
+    @Override
+    public void handle(long now) {
+      // The widget stays in the scene when its tab is deselected or its window is minimized, so check every pulse
+      showing = FxUtils.isShowing(imageContainer);
+      if (showing && liveRenderer.publish()) {
+        displayedFrameCounter.increment();
+      }
+    }
+  };
+
   private final BooleanProperty showControls = new SimpleBooleanProperty(this, "showControls", true);
   private final BooleanProperty showCrosshair = new SimpleBooleanProperty(this, "showCrosshair", true);
   private final Property<Color> crosshairColor = new SimpleObjectProperty<>(this, "crosshairColor", Color.WHITE);
@@ -87,15 +121,20 @@ public class CameraServerWidget extends SimpleAnnotatedWidget<CameraServerData>
 
   @FXML
   private void initialize() {
-    imageView.imageProperty().bind(EasyBind.combine(dataOrDefault, rotation, (data, rotation) -> {
-      if (data.getImage() == null) {
-        return emptyImage;
+    rotation.addListener((__, old, rotation) -> liveRotation = rotation);
+    imageContainer.widthProperty().addListener(__ -> updateDisplaySize());
+    imageContainer.heightProperty().addListener(__ -> updateDisplaySize());
+    imageContainer.sceneProperty().addListener((__, old, scene) -> {
+      if (scene != null) {
+        updateDisplaySize();
+        livePublisher.start();
       } else {
-        data.getImage().copyTo(displayMat);
-        rotation.rotate(displayMat);
-        return converter.convert(displayMat);
+        showing = false;
+        livePublisher.stop();
       }
-    }));
+    });
+    imageView.imageProperty().bind(
+        EasyBind.combine(dataOrDefault, rotation, liveRenderer.imageProperty(), this::displayImage));
     fpsLabel.textProperty().bind(dataOrDefault.map(CameraServerData::getFps).map(fps -> {
       if (fps < 0) {
         return "--- FPS";
@@ -125,12 +164,14 @@ public class CameraServerWidget extends SimpleAnnotatedWidget<CameraServerData>
         } else {
           applySettings();
         }
+        newSource.addFrameListener(liveFrameListener);
         newSource.targetCompressionProperty().addListener(sourceCompressionListener);
         newSource.targetFpsProperty().addListener(numberChangeListener);
         newSource.targetResolutionProperty().addListener(resolutionChangeListener);
       }
       if (old instanceof CameraServerSource) {
         CameraServerSource oldSource = (CameraServerSource) old;
+        oldSource.removeFrameListener(liveFrameListener);
         oldSource.targetCompressionProperty().removeListener(sourceCompressionListener);
         oldSource.targetFpsProperty().removeListener(numberChangeListener);
         oldSource.targetResolutionProperty().removeListener(resolutionChangeListener);
@@ -138,6 +179,72 @@ public class CameraServerWidget extends SimpleAnnotatedWidget<CameraServerData>
     });
   }
 
+  private void updateDisplaySize() {
+    double scale = 1;
+    Scene scene = imageContainer.getScene();
+    if (scene != null && scene.getWindow() != null) {
+      // Account for HiDPI screens
+      scale = scene.getWindow().getOutputScaleX();
+    }
+    displayWidth = (int) Math.ceil(imageContainer.getWidth() * scale);
+    displayHeight = (int) Math.ceil(imageContainer.getHeight() * scale);
+  }
+
+  /**
+   * Renders a frame from a live stream. This is called from the source's frame grabber thread. Frames are scaled down
+   * to the size the image is actually displayed at before being rotated and converted, so small widgets do not pay for
+   * full-resolution frames.
+   */
+  private void renderLiveFrame(Mat frame) {
+    if (!showing || frame.empty()) {
+      return;
+    }
+    final Rotation rotation = liveRotation;
+    // Scale before rotating; quarter turns swap the width and height of the displayed image
+    final int maxWidth = rotation.swapsDimensions() ? displayHeight : displayWidth;
+    final int maxHeight = rotation.swapsDimensions() ? displayWidth : displayHeight;
+    final double scale = Math.min((double) maxWidth / frame.cols(), (double) maxHeight / frame.rows());
+    if (scale > 0 && scale < 1) {
+      Imgproc.resize(frame, liveMat, new Size(), scale, scale, Imgproc.INTER_AREA);
+    } else {
+      frame.copyTo(liveMat);
+    }
+    rotation.rotate(liveMat);
+    // Only this thread renders frames, so the change in the drop count is due to this frame alone
+    final long droppedBefore = liveRenderer.getDroppedFrameCount();
+    if (liveRenderer.render(liveMat)) {
+      renderedFrameCounter.increment();
+    }
+    droppedFrameCounter.add(liveRenderer.getDroppedFrameCount() - droppedBefore);
+  }
+
+  /**
+   * Gets the number of live frames that were dropped because a newer frame arrived before they could be displayed.
+   */
+  public long getDroppedFrameCount() {
+    return liveRenderer.getDroppedFrameCount();
+  }
+
+  private Image displayImage(CameraServerData data, Rotation rotation, Image liveImage) {
+    if (data.getImage() == null) {
+      return emptyImage;
+    } else if (isLive(data)) {
+      // Live frames are rendered by the frame grabber thread and published by the pulse timer, never converted here
+      return liveImage == null ? emptyImage : liveImage;
+    } else {
+      data.getImage().copyTo(displayMat);
+      rotation.rotate(displayMat);
+      return converter.convert(displayMat);
+    }
+  }
+
+  /**
+   * Checks if the data came from a live stream, rather than from a recording being played back.
+   */
+  private static boolean isLive(CameraServerData data) {
+    return !(data instanceof LazyCameraServerData);
+  }
+
   @Override
   public List<Group> getSettings() {
     return ImmutableList.of(
@@ -185,19 +292,29 @@ public class CameraServerWidget extends SimpleAnnotatedWidget<CameraServerData>
   }
 
   public enum Rotation {
-    NONE("None", image -> {}),
-    QUARTER_CW("90 degrees clockwise", image -> Core.rotate(image, image, Core.ROTATE_90_CLOCKWISE)),
-    QUARTER_CCW("90 degrees counter-clockwise", image -> Core.rotate(image, image, Core.ROTATE_90_COUNTERCLOCKWISE)),
-    HALF("180 degrees", image -> Core.rotate(image, image, Core.ROTATE_180));
+    NONE("None", false, image -> {}),
+    QUARTER_CW("90 degrees clockwise", true, image -> Core.rotate(image, image, Core.ROTATE_90_CLOCKWISE)),
+    QUARTER_CCW("90 degrees counter-clockwise", true,
+        image -> Core.rotate(image, image, Core.ROTATE_90_COUNTERCLOCKWISE)),
+    HALF("180 degrees", false, image -> Core.rotate(image, image, Core.ROTATE_180));
 
     private final String humanReadable;
+    private final boolean swapsDimensions;
     private final RotationStrategy rotationStrategy;
 
-    Rotation(String humanReadable, RotationStrategy rotationStrategy) {
+    Rotation(String humanReadable, boolean swapsDimensions, RotationStrategy rotationStrategy) {
       this.humanReadable = humanReadable;
+      this.swapsDimensions = swapsDimensions;
       this.rotationStrategy = rotationStrategy;
     }
 
+    /**
+     * Checks if this rotation swaps the width and height of an image.
+     */
+    boolean swapsDimensions() {
+      return swapsDimensions;
+    }
+
     @Override
     public String toString() {
       return humanReadable;
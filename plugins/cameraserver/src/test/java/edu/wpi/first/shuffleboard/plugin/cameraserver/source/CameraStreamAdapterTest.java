@@ -1,9 +1,13 @@
 package edu.wpi.first.shuffleboard.plugin.cameraserver.source;
 
+import edu.wpi.first.shuffleboard.api.sources.recording.Serialization;
 import edu.wpi.first.shuffleboard.plugin.cameraserver.data.CameraServerData;
+import edu.wpi.first.shuffleboard.plugin.cameraserver.data.LazyCameraServerData;
 
 import edu.wpi.first.cscore.CameraServerJNI;
 
+import com.google.common.primitives.Bytes;
+
 import org.bytedeco.javacpp.Loader;
 import org.bytedeco.opencv.opencv_java;
 import org.junit.jupiter.api.AfterEach;
@@ -16,10 +20,12 @@ import org.opencv.core.Scalar;
 import org.opencv.imgproc.Imgproc;
 
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.util.logging.Logger;
 
+import static edu.wpi.first.shuffleboard.plugin.cameraserver.source.CameraStreamAdapter.keyframeIndexPath;
 import static edu.wpi.first.shuffleboard.plugin.cameraserver.source.CameraStreamAdapter.videoFilePath;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -43,7 +49,7 @@ public class CameraStreamAdapterTest {
   @Test
   public void testSerializedSize() {
     CameraServerData data = new CameraServerData("name", null, 0, 0);
-    assertEquals(4 + 4 + 1 + 2 + 4 + 2, adapter.getSerializedSize(data));
+    assertEquals(4 + 4 + 1 + 1 + 4 + 4 + 4 + 4, adapter.getSerializedSize(data));
   }
 
   @Test
@@ -54,7 +60,7 @@ public class CameraStreamAdapterTest {
     final byte[] raw = adapter.serialize(data);
     adapter.cleanUp();
     deleteTempFiles(file);
-    assertEquals(17, raw.length);
+    assertEquals(26, raw.length);
   }
 
   @Test
@@ -74,6 +80,64 @@ public class CameraStreamAdapterTest {
     );
   }
 
+  @Test
+  public void testDeserializeLegacyRecord() throws IOException {
+    File file = File.createTempFile("test-recording", ".sbr");
+    adapter.setCurrentFile(file);
+    byte[] bytes = Bytes.concat(
+        Serialization.toByteArray("name"),
+        new byte[]{3},                                // file number
+        Serialization.toByteArray((short) 40_000),    // frame number, past the signed int16 wraparound
+        Serialization.toByteArray(1234),              // bandwidth
+        Serialization.toByteArray((short) 3000)       // FPS * 100
+    );
+    LazyCameraServerData deserialize = (LazyCameraServerData) adapter.deserialize(bytes, 0);
+    adapter.cleanUp();
+    file.delete();
+    assertAll(
+        () -> assertEquals("name", deserialize.getName(), "Wrong name"),
+        () -> assertEquals(3, deserialize.getFileNum(), "Wrong file number"),
+        () -> assertEquals(40_000, deserialize.getFrameNum(), "Wrong frame number"),
+        () -> assertEquals(1234, deserialize.getBandwidth(), "Wrong bandwidth"),
+        () -> assertEquals(30.0, deserialize.getFps(), "Wrong FPS"),
+        () -> assertEquals(bytes.length, adapter.getSerializedSize(deserialize), "Wrong legacy record size")
+    );
+  }
+
+  @Test
+  public void testReplayPastLegacyLimits() throws IOException {
+    File file = File.createTempFile("test-recording", ".sbr");
+    adapter.setCurrentFile(file);
+
+    // Synthetic stream of records from a 24 hour recording at 60 FPS, split across 400 video files
+    final int frameCount = 24 * 60 * 60 * 60;
+    final int fileCount = 400;
+    final int step = 997;
+    final double fps = 500.25;
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    int recordCount = 0;
+    for (int frame = 0; frame < frameCount; frame += step) {
+      out.writeBytes(CameraStreamAdapter.encodeRecord("name", frame % fileCount, frame, 5_000_000, fps));
+      recordCount++;
+    }
+    byte[] stream = out.toByteArray();
+
+    int cursor = 0;
+    int frame = 0;
+    while (cursor < stream.length) {
+      LazyCameraServerData data = (LazyCameraServerData) adapter.deserialize(stream, cursor);
+      assertEquals(frame % fileCount, data.getFileNum(), "Wrong file number");
+      assertEquals(frame, data.getFrameNum(), "Wrong frame number");
+      assertEquals(fps, data.getFps(), 0.01, "Wrong FPS");
+      cursor += adapter.getSerializedSize(data);
+      frame += step;
+    }
+    adapter.cleanUp();
+    file.delete();
+    assertEquals(stream.length, cursor, "Records were not read back to back");
+    assertEquals(recordCount * step, frame, "Wrong number of records read");
+  }
+
   @Test
   public void testEncodeRecodeReal() throws IOException {
     File file = File.createTempFile("test-recording", ".sbr");
@@ -140,6 +204,7 @@ public class CameraStreamAdapterTest {
     }
     boolean delete = file.delete();
     delete &= new File(videoFilePath(file, "name", 0)).delete();
+    keyframeIndexPath(file, "name", 0).toFile().delete(); // only written if frames were saved
     if (!delete) {
       Logger.getLogger(getClass().getName()).warning("Could not delete temporary recording files");
     }
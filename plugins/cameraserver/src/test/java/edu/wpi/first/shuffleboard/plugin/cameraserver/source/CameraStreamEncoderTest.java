@@ -0,0 +1,130 @@
+package edu.wpi.first.shuffleboard.plugin.cameraserver.source;
+
+import edu.wpi.first.shuffleboard.plugin.cameraserver.data.CameraServerData;
+
+import org.bytedeco.javacpp.Loader;
+import org.bytedeco.opencv.opencv_java;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.junitpioneer.jupiter.TempDirectory.TempDir;
+import org.opencv.core.CvType;
+import org.opencv.core.Mat;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CameraStreamEncoderTest {
+
+  @BeforeAll
+  public static void loadOpenCv() {
+    Loader.load(opencv_java.class);
+  }
+
+  @Test
+  @ExtendWith(TempDirectory.class)
+  public void testAssignsFrameNumbersWhenQueued(@TempDir Path dir) throws Exception {
+    CameraStreamEncoder encoder = newEncoder(dir);
+    AtomicInteger finished = new AtomicInteger();
+
+    for (int i = 0; i < 3; i++) {
+      assertTrue(encoder.submit(frame(64, 48), finished::incrementAndGet));
+    }
+    int fileAfterFirstResolution = encoder.getFileNum();
+    int lastFrameAfterFirstResolution = encoder.getLastFrameNum();
+
+    // Changing resolution moves on to a new video file
+    assertTrue(encoder.submit(frame(32, 24), finished::incrementAndGet));
+    int fileAfterResize = encoder.getFileNum();
+    int lastFrameAfterResize = encoder.getLastFrameNum();
+
+    encoder.finish();
+
+    assertAll(
+        () -> assertEquals(0, fileAfterFirstResolution),
+        () -> assertEquals(2, lastFrameAfterFirstResolution),
+        () -> assertEquals(1, fileAfterResize),
+        () -> assertEquals(0, lastFrameAfterResize),
+        () -> assertEquals(4, finished.get(), "Every frame should be freed after encoding"),
+        () -> assertEquals(4, encoder.getEncodedFrameCount()),
+        () -> assertEquals(0, encoder.getQueueDepth()),
+        () -> assertEquals(0, encoder.getDroppedFrameCount())
+    );
+  }
+
+  @Test
+  @ExtendWith(TempDirectory.class)
+  public void testUnsavedFrameDoesNotMoveLaterFrames(@TempDir Path dir) throws Exception {
+    File recordingFile = dir.resolve("recording.sbr").toFile();
+    CameraStreamSaver saver = new CameraStreamSaver("Camera", recordingFile, 1);
+    CameraStreamEncoder encoder = new CameraStreamEncoder("Camera", saver, CameraStreamEncoder.DEFAULT_QUEUE_CAPACITY);
+
+    // Hold the encoder thread after the first frame, so the second frame can be freed before it is encoded
+    CountDownLatch release = new CountDownLatch(1);
+    assertTrue(encoder.submit(frame(64, 48), () -> awaitUninterruptibly(release)));
+    CameraServerData unsaved = frame(64, 48);
+    assertTrue(encoder.submit(unsaved, () -> {}));
+    unsaved.getImage().release();
+    assertTrue(encoder.submit(frame(64, 48), () -> {}));
+    int lastFrame = encoder.getLastFrameNum();
+    release.countDown();
+    encoder.finish();
+
+    KeyframeIndex index = KeyframeIndex.read(CameraStreamAdapter.keyframeIndexPath(recordingFile, "Camera", 0))
+        .orElseThrow();
+    assertAll(
+        () -> assertEquals(2, lastFrame),
+        () -> assertEquals(3, index.getFrameCount(), "The last frame should be saved where it was recorded to be"),
+        () -> assertEquals(0, index.keyframeAtOrBefore(1), "The unsaved frame should not be indexed"),
+        () -> assertEquals(2, index.keyframeAtOrBefore(2))
+    );
+  }
+
+  @Test
+  @ExtendWith(TempDirectory.class)
+  public void testFramesWithoutImagesAreNotNumbered(@TempDir Path dir) throws Exception {
+    CameraStreamEncoder encoder = newEncoder(dir);
+    AtomicInteger finished = new AtomicInteger();
+    assertTrue(encoder.submit(frame(64, 48), finished::incrementAndGet));
+    assertFalse(encoder.submit(new CameraServerData("Camera", null, 0, 0), finished::incrementAndGet));
+    assertEquals(0, encoder.getLastFrameNum());
+    encoder.finish();
+    assertEquals(2, finished.get());
+  }
+
+  @Test
+  @ExtendWith(TempDirectory.class)
+  public void testSubmitAfterFinishIsDropped(@TempDir Path dir) throws Exception {
+    CameraStreamEncoder encoder = newEncoder(dir);
+    encoder.finish();
+    AtomicInteger finished = new AtomicInteger();
+    assertFalse(encoder.submit(frame(64, 48), finished::incrementAndGet));
+    assertEquals(1, finished.get());
+  }
+
+  private static CameraStreamEncoder newEncoder(Path dir) {
+    CameraStreamSaver saver = new CameraStreamSaver("Camera", dir.resolve("recording.sbr").toFile());
+    return new CameraStreamEncoder("Camera", saver, CameraStreamEncoder.DEFAULT_QUEUE_CAPACITY);
+  }
+
+  private static void awaitUninterruptibly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static CameraServerData frame(int width, int height) {
+    return new CameraServerData("Camera", new Mat(height, width, CvType.CV_8UC3), 30, 1000);
+  }
+
+}
@@ -0,0 +1,120 @@
+package edu.wpi.first.shuffleboard.plugin.cameraserver.source;
+
+import org.bytedeco.javacpp.Loader;
+import org.bytedeco.javacpp.indexer.UByteIndexer;
+import org.bytedeco.javacv.Frame;
+import org.bytedeco.opencv.opencv_java;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.opencv.core.Core;
+import org.opencv.core.CvType;
+import org.opencv.core.Mat;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class FramePixelsTest {
+
+  private static final int WIDTH = 64;
+  private static final int HEIGHT = 48;
+
+  @BeforeAll
+  public static void loadOpenCv() {
+    Loader.load(opencv_java.class);
+  }
+
+  @Test
+  public void testCopyToFrameMatchesIndexerCopy() {
+    Mat image = randomImage(WIDTH, HEIGHT);
+    byte[] pixels = new byte[(int) (image.total() * image.channels())];
+    image.get(0, 0, pixels);
+
+    Frame expected = newFrame(WIDTH, HEIGHT);
+    legacyCopyToFrame(pixels, expected);
+
+    Frame actual = newFrame(WIDTH, HEIGHT);
+    FramePixels.copyToFrame(image, actual, new byte[pixels.length]);
+
+    assertArrayEquals(frameBytes(expected), frameBytes(actual));
+  }
+
+  @Test
+  public void testToMatMatchesIndexerCopy() {
+    Frame frame = newFrame(WIDTH, HEIGHT);
+    Mat source = randomImage(WIDTH, HEIGHT);
+    FramePixels.copyToFrame(source, frame, new byte[(int) FramePixels.byteSize(frame)]);
+
+    byte[] expected = legacyToBytes(frame);
+    Mat mat = FramePixels.toMat(frame, new byte[(int) FramePixels.byteSize(frame)]);
+    byte[] actual = new byte[expected.length];
+    mat.get(0, 0, actual);
+
+    assertEquals(HEIGHT, mat.rows());
+    assertEquals(WIDTH, mat.cols());
+    assertArrayEquals(expected, actual);
+  }
+
+  @Test
+  public void testRoundTripWithRowPadding() {
+    // 3-channel rows with an odd width are padded to a multiple of 8 bytes
+    final int width = 37;
+    Mat image = randomImage(width, HEIGHT);
+    Frame frame = newFrame(width, HEIGHT);
+    byte[] scratch = new byte[(int) FramePixels.byteSize(frame)];
+
+    FramePixels.copyToFrame(image, frame, scratch);
+    Mat copy = FramePixels.toMat(frame, scratch);
+
+    byte[] expected = new byte[scratch.length];
+    byte[] actual = new byte[scratch.length];
+    image.get(0, 0, expected);
+    copy.get(0, 0, actual);
+    assertArrayEquals(expected, actual);
+  }
+
+  private static Mat randomImage(int width, int height) {
+    Mat image = new Mat(height, width, CvType.CV_8UC3);
+    Core.randu(image, 0, 256);
+    return image;
+  }
+
+  private static Frame newFrame(int width, int height) {
+    return new Frame(width, height, Frame.DEPTH_UBYTE, 3);
+  }
+
+  private static byte[] frameBytes(Frame frame) {
+    byte[] bytes = new byte[frame.imageStride * frame.imageHeight];
+    ((ByteBuffer) frame.image[0]).duplicate().get(bytes);
+    return bytes;
+  }
+
+  /**
+   * The element-by-element copy previously used by {@link CameraStreamSaver}.
+   */
+  private static void legacyCopyToFrame(byte[] pixels, Frame frame) {
+    int[] wide = new int[pixels.length];
+    for (int i = 0; i < pixels.length; i++) {
+      wide[i] = pixels[i] & 0xFF;
+    }
+    frame.<UByteIndexer>createIndexer()
+        .put(0, wide)
+        .release();
+  }
+
+  /**
+   * The element-by-element copy previously used by {@link CameraStreamReader}.
+   */
+  private static byte[] legacyToBytes(Frame frame) {
+    UByteIndexer indexer = frame.createIndexer();
+    int[] wide = new int[(int) (indexer.width() * indexer.height() * indexer.channels())];
+    indexer.get(0, wide).release();
+    byte[] narrow = new byte[wide.length];
+    for (int i = 0; i < wide.length; i++) {
+      narrow[i] = (byte) wide[i];
+    }
+    return narrow;
+  }
+
+}
@@ -0,0 +1,99 @@
+package edu.wpi.first.shuffleboard.plugin.cameraserver.source;
+
+import org.bytedeco.javacpp.Loader;
+import org.bytedeco.opencv.opencv_java;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.opencv.core.CvType;
+import org.opencv.core.Mat;
+import org.opencv.core.Scalar;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FramePoolTest {
+
+  @BeforeAll
+  public static void loadOpenCv() {
+    Loader.load(opencv_java.class);
+  }
+
+  @Test
+  public void testCopiesImage() {
+    FramePool pool = new FramePool(2);
+    PooledFrame frame = pool.acquire(image(42));
+    assertNotNull(frame);
+    assertEquals(42, (int) frame.getImage().get(0, 0)[0]);
+  }
+
+  @Test
+  public void testReusesReleasedBuffers() {
+    FramePool pool = new FramePool(1);
+    PooledFrame first = pool.acquire(image(1));
+    Mat buffer = first.getImage();
+    first.release();
+    PooledFrame second = pool.acquire(image(2));
+    assertSame(buffer, second.getImage());
+    assertEquals(0, pool.getDroppedFrameCount());
+  }
+
+  @Test
+  public void testDropsOldestWhenFull() {
+    FramePool pool = new FramePool(2);
+    PooledFrame first = pool.acquire(image(1));
+    PooledFrame second = pool.acquire(image(2));
+    PooledFrame third = pool.acquire(image(3));
+    assertAll(
+        () -> assertTrue(first.isDropped(), "Oldest frame should have been dropped"),
+        () -> assertFalse(first.retain(), "Dropped frames cannot be retained"),
+        () -> assertFalse(second.isDropped()),
+        () -> assertNotNull(third),
+        () -> assertEquals(3, (int) third.getImage().get(0, 0)[0]),
+        () -> assertEquals(1, pool.getDroppedFrameCount())
+    );
+  }
+
+  @Test
+  public void testRetainedFramesAreNotDropped() {
+    FramePool pool = new FramePool(2);
+    PooledFrame first = pool.acquire(image(1));
+    PooledFrame second = pool.acquire(image(2));
+    assertTrue(first.retain());
+    pool.acquire(image(3));
+    assertAll(
+        () -> assertFalse(first.isDropped(), "Frame being read should not be dropped"),
+        () -> assertTrue(second.isDropped())
+    );
+  }
+
+  @Test
+  public void testNewFrameDroppedWhenAllRetained() {
+    FramePool pool = new FramePool(1);
+    PooledFrame first = pool.acquire(image(1));
+    first.retain();
+    assertNull(pool.acquire(image(2)));
+    assertEquals(1, pool.getDroppedFrameCount());
+  }
+
+  @Test
+  public void testReleasingDroppedFrameHasNoEffect() {
+    FramePool pool = new FramePool(1);
+    PooledFrame first = pool.acquire(image(1));
+    PooledFrame second = pool.acquire(image(2));
+    first.release();
+    assertAll(
+        () -> assertEquals(1, pool.getInUseCount()),
+        () -> assertTrue(second.retain(), "Releasing a dropped frame should not recycle the new frame's buffer")
+    );
+  }
+
+  private static Mat image(int value) {
+    return new Mat(4, 4, CvType.CV_8UC1, new Scalar(value));
+  }
+
+}
@@ -0,0 +1,152 @@
+package edu.wpi.first.shuffleboard.plugin.cameraserver.source;
+
+import org.bytedeco.javacpp.Loader;
+import org.bytedeco.opencv.opencv_java;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.opencv.core.CvType;
+import org.opencv.core.Mat;
+import org.opencv.core.Scalar;
+import org.testfx.api.FxToolkit;
+import org.testfx.util.WaitForAsyncUtils;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FramePrefetcherTest {
+
+  private static final int FRAMES_IN_FILE = 100;
+
+  private final List<Integer> decoded = new CopyOnWriteArrayList<>();
+  private FramePrefetcher prefetcher;
+
+  @BeforeAll
+  public static void loadOpenCv() {
+    Loader.load(opencv_java.class);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    if (prefetcher != null) {
+      prefetcher.close();
+    }
+  }
+
+  @Test
+  public void testReturnsRequestedFrame() {
+    prefetcher = new FramePrefetcher(this::decode, (file, frame) -> {}, 4, 2);
+    Mat mat = prefetcher.getFrame(0, 7);
+    assertNotNull(mat);
+    assertEquals(7, (int) mat.get(0, 0)[0]);
+  }
+
+  @Test
+  public void testDecodesAhead() throws InterruptedException {
+    prefetcher = new FramePrefetcher(this::decode, (file, frame) -> {}, 4, 2);
+    prefetcher.getFrame(0, 10);
+    awaitDecoded(15);
+    for (int i = 11; i <= 14; i++) {
+      assertTrue(decoded.contains(i), "Frame " + i + " should have been decoded ahead of the playhead");
+    }
+    int decodeCount = decoded.size();
+    for (int i = 11; i <= 14; i++) {
+      assertEquals(i, (int) prefetcher.getFrame(0, i).get(0, 0)[0]);
+    }
+    assertTrue(decoded.subList(decodeCount, decoded.size()).stream().noneMatch(n -> n <= 14),
+        "Prefetched frames should not be decoded again");
+  }
+
+  @Test
+  public void testKeepsFramesBehind() throws InterruptedException {
+    prefetcher = new FramePrefetcher(this::decode, (file, frame) -> {}, 4, 2);
+    prefetcher.getFrame(0, 20);
+    awaitDecoded(19);
+    int decodeCount = decoded.size();
+    assertEquals(19, (int) prefetcher.getFrame(0, 19).get(0, 0)[0]);
+    assertEquals(18, (int) prefetcher.getFrame(0, 18).get(0, 0)[0]);
+    assertTrue(decoded.subList(decodeCount, decoded.size()).stream().noneMatch(n -> n == 18 || n == 19));
+  }
+
+  @Test
+  public void testStopsAtEndOfFile() {
+    prefetcher = new FramePrefetcher(this::decode, (file, frame) -> {}, 4, 0);
+    prefetcher.getFrame(0, FRAMES_IN_FILE - 2);
+    assertNull(prefetcher.getFrame(0, FRAMES_IN_FILE));
+  }
+
+  @Test
+  public void testReadsDirectlyAfterClose() {
+    prefetcher = new FramePrefetcher(this::decode, (file, frame) -> {}, 4, 2);
+    prefetcher.close();
+    Mat mat = prefetcher.getFrame(0, 3);
+    assertNotNull(mat);
+    assertEquals(3, (int) mat.get(0, 0)[0]);
+  }
+
+  @Test
+  @Tag("UI")
+  public void testMissDuringInFlightDecodeIsNotified() throws Exception {
+    FxToolkit.registerPrimaryStage();
+    CountDownLatch decodeStarted = new CountDownLatch(1);
+    CountDownLatch finishDecode = new CountDownLatch(1);
+    List<Integer> ready = new CopyOnWriteArrayList<>();
+    prefetcher = new FramePrefetcher((file, frame) -> {
+      if (frame == 5) {
+        // Hold the decode of frame 5 until it has been requested
+        decodeStarted.countDown();
+        awaitLatch(finishDecode);
+      }
+      return decode(file, frame);
+    }, (file, frame) -> ready.add(frame), 8, 0);
+
+    prefetcher.getFrame(0, 0);
+    assertTrue(decodeStarted.await(5, TimeUnit.SECONDS), "Frame 5 was never decoded ahead of the playhead");
+
+    // Request the frame from the FX thread while it is being decoded
+    Mat placeholder = WaitForAsyncUtils.asyncFx(() -> prefetcher.getFrame(0, 5)).get(5, TimeUnit.SECONDS);
+    assertEquals(0, (int) placeholder.get(0, 0)[0], "The last delivered frame should be shown while waiting");
+    finishDecode.countDown();
+
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (ready.isEmpty() && System.nanoTime() < deadline) {
+      Thread.sleep(5);
+    }
+    assertEquals(List.of(5), ready, "The listener should be notified exactly once for the pending frame");
+  }
+
+  private Mat decode(int fileNum, int frameNum) {
+    if (frameNum >= FRAMES_IN_FILE) {
+      return null;
+    }
+    decoded.add(frameNum);
+    return new Mat(2, 2, CvType.CV_8UC1, new Scalar(frameNum));
+  }
+
+  private static void awaitLatch(CountDownLatch latch) throws IOException {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(e);
+    }
+  }
+
+  private void awaitDecoded(int frameNum) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!decoded.contains(frameNum) && System.nanoTime() < deadline) {
+      Thread.sleep(5);
+    }
+    assertTrue(decoded.contains(frameNum), "Frame " + frameNum + " was never decoded");
+  }
+
+}
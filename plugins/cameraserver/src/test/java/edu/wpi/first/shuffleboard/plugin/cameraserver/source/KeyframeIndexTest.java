@@ -0,0 +1,78 @@
+package edu.wpi.first.shuffleboard.plugin.cameraserver.source;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.junitpioneer.jupiter.TempDirectory.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class KeyframeIndexTest {
+
+  @Test
+  public void testKeyframesAtFixedInterval() {
+    KeyframeIndex index = build(10, 35);
+    assertAll(
+        () -> assertEquals(35, index.getFrameCount()),
+        () -> assertEquals(0, index.keyframeAtOrBefore(0)),
+        () -> assertEquals(0, index.keyframeAtOrBefore(9)),
+        () -> assertEquals(10, index.keyframeAtOrBefore(10)),
+        () -> assertEquals(30, index.keyframeAtOrBefore(34))
+    );
+  }
+
+  @Test
+  public void testShouldDecodeForward() {
+    KeyframeIndex index = build(10, 50);
+    assertAll(
+        () -> assertTrue(index.shouldDecodeForward(12, 15), "Same GOP, ahead"),
+        () -> assertFalse(index.shouldDecodeForward(15, 12), "Same GOP, behind"),
+        () -> assertFalse(index.shouldDecodeForward(8, 15), "Keyframe between"),
+        () -> assertFalse(index.shouldDecodeForward(-1, 5), "Nothing decoded yet")
+    );
+  }
+
+  @Test
+  @ExtendWith(TempDirectory.class)
+  public void testRoundTrip(@TempDir Path tempDir) throws IOException {
+    Path file = tempDir.resolve("video.mp4.idx");
+    build(7, 100).write(file);
+    KeyframeIndex read = KeyframeIndex.read(file).orElseThrow();
+    assertAll(
+        () -> assertEquals(7, read.getMaxKeyframeInterval()),
+        () -> assertEquals(100, read.getFrameCount()),
+        () -> assertEquals(98, read.keyframeAtOrBefore(99))
+    );
+  }
+
+  @Test
+  @ExtendWith(TempDirectory.class)
+  public void testMissingFile(@TempDir Path tempDir) throws IOException {
+    assertFalse(KeyframeIndex.read(tempDir.resolve("missing.idx")).isPresent());
+  }
+
+  @Test
+  @ExtendWith(TempDirectory.class)
+  public void testInvalidFile(@TempDir Path tempDir) throws IOException {
+    Path file = tempDir.resolve("garbage.idx");
+    Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+    assertThrows(IOException.class, () -> KeyframeIndex.read(file));
+  }
+
+  private static KeyframeIndex build(int interval, int frames) {
+    KeyframeIndex.Builder builder = new KeyframeIndex.Builder(interval);
+    for (int i = 0; i < frames; i++) {
+      builder.addFrame(i);
+    }
+    return builder.build();
+  }
+
+}
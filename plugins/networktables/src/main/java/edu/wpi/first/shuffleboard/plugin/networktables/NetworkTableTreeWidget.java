@@ -33,18 +33,18 @@ public class NetworkTableTreeWidget extends SimpleAnnotatedWidget<MapData> {
     tree.setRoot(root);
     tree.setShowRoot(false);
     dataOrDefault.addListener((__, oldData, newData) -> {
-      final Map<String, Object> newMap = newData.asMap();
+      final Map<String, Object> newMap = newData.asPersistentMap();
       // Remove deleted keys
       if (oldData != null) {
-        oldData.asMap().entrySet().stream()
+        oldData.asPersistentMap().entrySet().stream()
             .filter(e -> !newMap.containsKey(e.getKey()))
-            .forEach(e -> tree.removeEntry(new NetworkTableSourceEntry(e.getKey(), e.getValue())));
+            .forEach(e -> tree.queueRemoval(new NetworkTableSourceEntry(e.getKey(), e.getValue())));
       }
 
       newData.changesFrom(oldData)
           .forEach((key, value) -> {
             if (DataSourceUtils.isNotMetadata(key)) {
-              tree.updateEntry(new NetworkTableSourceEntry(NetworkTable.normalizeKey(key), value));
+              tree.queueUpdate(new NetworkTableSourceEntry(NetworkTable.normalizeKey(key), value));
             }
           });
     });
@@ -219,4 +219,15 @@ public class NetworkTablesPlugin extends Plugin {
     this.serverId.set(serverId);
   }
 
+  /**
+   * Connects to a server for the rest of the session without saving it as the preferred server. This must be called
+   * after the plugin has been loaded, and is intended for servers given on the command line.
+   *
+   * @param serverId the team number, IP address, or mDNS URL of the server to connect to
+   */
+  public void overrideServerId(String serverId) {
+    this.serverId.removeListener(serverSaver);
+    this.serverId.set(serverId);
+  }
+
 }
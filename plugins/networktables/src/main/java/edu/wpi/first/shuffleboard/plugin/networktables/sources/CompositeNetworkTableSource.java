@@ -4,6 +4,7 @@ import edu.wpi.first.shuffleboard.api.data.ComplexData;
 import edu.wpi.first.shuffleboard.api.data.ComplexDataType;
 import edu.wpi.first.shuffleboard.api.data.IncompleteDataException;
 import edu.wpi.first.shuffleboard.api.sources.Sources;
+import edu.wpi.first.shuffleboard.api.util.PersistentMap;
 import edu.wpi.first.shuffleboard.plugin.networktables.util.NetworkTableUtils;
 
 import edu.wpi.first.networktables.NetworkTable;
@@ -11,7 +12,6 @@ import edu.wpi.first.networktables.NetworkTableEntry;
 import edu.wpi.first.networktables.NetworkTableEvent;
 import edu.wpi.first.networktables.NetworkTableInstance;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Level;
@@ -28,7 +28,9 @@ public class CompositeNetworkTableSource<D extends ComplexData<D>> extends Netwo
 
   private static final Logger log = Logger.getLogger(CompositeNetworkTableSource.class.getName());
 
-  private final Map<String, Object> backingMap = new HashMap<>();
+  // Persistent so each update only copies the path to the changed entry, and data objects that keep the whole map
+  // (like MapData) can share it instead of copying it
+  private volatile PersistentMap<String, Object> backingMap = PersistentMap.empty();
   private final ComplexDataType<D> dataType;
 
   /**
@@ -49,13 +51,13 @@ public class CompositeNetworkTableSource<D extends ComplexData<D>> extends Netwo
     setTableListener((key, event) -> {
       String relativeKey = NetworkTable.normalizeKey(key.substring(path.length() + 1), false);
       if (event.is(NetworkTableEvent.Kind.kUnpublish)) {
-        backingMap.remove(relativeKey);
+        backingMap = backingMap.minus(relativeKey);
       } else if (event.valueData != null) {
-        backingMap.put(relativeKey, event.valueData.value.getValue());
+        backingMap = backingMap.plus(relativeKey, event.valueData.value.getValue());
       }
       setActive(Objects.equals(NetworkTableUtils.dataTypeForEntry(fullTableKey), dataType));
       try {
-        setData(dataType.fromMap(backingMap));
+        setData(dataType.fromMap(backingMap), timestampOf(key, event));
       } catch (IncompleteDataException e) {
         log.log(Level.WARNING, "Incomplete data for type " + dataType.getName(), e);
       }
@@ -67,7 +69,7 @@ public class CompositeNetworkTableSource<D extends ComplexData<D>> extends Netwo
         return;
       }
       Map<String, Object> diff = newData.changesFrom(oldData);
-      backingMap.putAll(diff);
+      backingMap = backingMap.plusAll(diff);
       if (isConnected()) {
         for (Map.Entry<String, Object> elem : diff.entrySet()) {
           NetworkTableEntry entry = table.getEntry(elem.getKey());
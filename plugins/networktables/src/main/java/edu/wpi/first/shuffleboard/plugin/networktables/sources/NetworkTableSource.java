@@ -1,12 +1,16 @@
 package edu.wpi.first.shuffleboard.plugin.networktables.sources;
 
+import edu.wpi.first.shuffleboard.api.DashboardMode;
 import edu.wpi.first.shuffleboard.api.data.ComplexDataType;
 import edu.wpi.first.shuffleboard.api.data.DataType;
+import edu.wpi.first.shuffleboard.api.metrics.Counter;
+import edu.wpi.first.shuffleboard.api.metrics.Metrics;
 import edu.wpi.first.shuffleboard.api.sources.AbstractDataSource;
 import edu.wpi.first.shuffleboard.api.sources.DataSource;
 import edu.wpi.first.shuffleboard.api.sources.SourceType;
 import edu.wpi.first.shuffleboard.api.sources.Sources;
 import edu.wpi.first.shuffleboard.api.util.AsyncUtils;
+import edu.wpi.first.shuffleboard.api.util.Time;
 import edu.wpi.first.shuffleboard.plugin.networktables.util.NetworkTableUtils;
 import edu.wpi.first.networktables.GenericSubscriber;
 import edu.wpi.first.networktables.MultiSubscriber;
@@ -18,6 +22,7 @@ import edu.wpi.first.networktables.PubSubOption;
 import java.util.EnumSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -33,6 +38,7 @@ public abstract class NetworkTableSource<T> extends AbstractDataSource<T> {
   private static final Map<String, NetworkTableSource> sources = new ConcurrentHashMap<>();
 
   protected final String fullTableKey;
+  private final Counter updateCounter;
   private MultiSubscriber multiSub;
   private GenericSubscriber singleSub;
   private int listenerUid = -1;
@@ -52,6 +58,7 @@ public abstract class NetworkTableSource<T> extends AbstractDataSource<T> {
   protected NetworkTableSource(String fullTableKey, DataType<T> dataType) {
     super(dataType);
     this.fullTableKey = NetworkTable.normalizeKey(fullTableKey, true);
+    this.updateCounter = Metrics.getDefault().counter("NetworkTables/Updates: " + this.fullTableKey);
     setName(fullTableKey);
   }
 
@@ -80,6 +87,7 @@ public abstract class NetworkTableSource<T> extends AbstractDataSource<T> {
           NetworkTableEvent.Kind.kValueAll),
         event -> {
           if (isConnected()) {
+            updateCounter.increment();
             AsyncUtils.runAsync(() -> {
               try {
                 ntUpdate = true;
@@ -101,6 +109,7 @@ public abstract class NetworkTableSource<T> extends AbstractDataSource<T> {
         event -> {
           String name = NetworkTableUtils.topicNameForEvent(event);
           if (isConnected()) {
+            updateCounter.increment();
             AsyncUtils.runAsync(() -> {
               try {
                 ntUpdate = true;
@@ -121,6 +130,26 @@ public abstract class NetworkTableSource<T> extends AbstractDataSource<T> {
    */
   protected abstract boolean isSingular();
 
+  /**
+   * Gets the time the value in a NetworkTables event was produced, in epoch milliseconds. During playback this is the
+   * time the value was recorded; otherwise, it is the time the value was published.
+   *
+   * @param key   the full key of the entry the event is for
+   * @param event the event to get the time of
+   */
+  protected static long timestampOf(String key, NetworkTableEvent event) {
+    NetworkTableSourceType type = NetworkTableSourceType.getInstance();
+    if (DashboardMode.inPlayback() && type != null) {
+      OptionalLong recorded = type.getPlaybackTimestamp(key);
+      if (recorded.isPresent()) {
+        return recorded.getAsLong();
+      }
+    }
+    return event.valueData == null
+        ? Time.now()
+        : NetworkTableUtils.toEpochMillis(event.valueData.value.getTime());
+  }
+
   protected boolean isUpdateFromNetworkTables() {
     return ntUpdate;
   }
@@ -152,6 +181,7 @@ public abstract class NetworkTableSource<T> extends AbstractDataSource<T> {
     }
     Sources.getDefault().unregister(this);
     sources.remove(getId());
+    Metrics.getDefault().remove(updateCounter);
   }
 
   @FunctionalInterface
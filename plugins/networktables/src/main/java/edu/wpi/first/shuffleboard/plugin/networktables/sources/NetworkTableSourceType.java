@@ -8,6 +8,7 @@ import edu.wpi.first.shuffleboard.api.sources.SourceType;
 import edu.wpi.first.shuffleboard.api.sources.Sources;
 import edu.wpi.first.shuffleboard.api.sources.recording.TimestampedData;
 import edu.wpi.first.shuffleboard.api.util.AsyncUtils;
+import edu.wpi.first.shuffleboard.api.util.Time;
 import edu.wpi.first.shuffleboard.plugin.networktables.NetworkTablesPlugin;
 import edu.wpi.first.shuffleboard.plugin.networktables.util.NetworkTableUtils;
 import edu.wpi.first.networktables.MultiSubscriber;
@@ -19,8 +20,10 @@ import edu.wpi.first.networktables.PubSubOption;
 
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
 
-import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
@@ -34,6 +37,8 @@ public final class NetworkTableSourceType extends SourceType implements AutoClos
   private final NetworkTablesPlugin plugin;
   private final MultiSubscriber subscriber;
   private final int listener;
+  // Full key -> the recorded time of the value most recently played back for that key
+  private final Map<String, Long> playbackTimestamps = new ConcurrentHashMap<>();
 
   @SuppressWarnings("JavadocMethod")
   public NetworkTableSourceType(NetworkTablesPlugin plugin) {
@@ -85,7 +90,7 @@ public final class NetworkTableSourceType extends SourceType implements AutoClos
   }
 
   private void setConnectionStatus(String serverId, boolean connected) {
-    Platform.runLater(() -> {
+    AsyncUtils.runAsync(() -> {
       String host;
       if (serverId.isEmpty()) {
         // empty server ID is treated as localhost by the plugin, so display it accordingly
@@ -112,6 +117,9 @@ public final class NetworkTableSourceType extends SourceType implements AutoClos
   public void read(TimestampedData recordedData) {
     super.read(recordedData);
     final String fullKey = removeProtocol(recordedData.getSourceId());
+    // Played back values are published locally, so NetworkTables stamps them with the current time. Keep the recorded
+    // time so sources can report when the value was originally produced
+    playbackTimestamps.put(fullKey, Time.fromRecordingTime(recordedData.getTimestamp()));
     NetworkTableEntry entry = NetworkTableInstance.getDefault().getEntry(fullKey);
     entry.setValue(recordedData.getData());
     if (!entry.getTopic().isRetained()) {
@@ -119,8 +127,19 @@ public final class NetworkTableSourceType extends SourceType implements AutoClos
     }
   }
 
+  /**
+   * Gets the recorded time of the value most recently played back for a key, in epoch milliseconds.
+   *
+   * @param fullKey the full key of the entry
+   */
+  OptionalLong getPlaybackTimestamp(String fullKey) {
+    Long timestamp = playbackTimestamps.get(fullKey);
+    return timestamp == null ? OptionalLong.empty() : OptionalLong.of(timestamp);
+  }
+
   @Override
   public void connect() {
+    playbackTimestamps.clear();
     // force reconnect
     // This is ugly and I hate it, but it works
     String id = plugin.getServerId();
@@ -47,7 +47,7 @@ public class SingleKeyNetworkTableSource<T> extends NetworkTableSource<T> {
 
 
         if (isActive()) {
-          setData((T) value);
+          setData((T) value, timestampOf(fullTableKey, event));
         }
       }
     });
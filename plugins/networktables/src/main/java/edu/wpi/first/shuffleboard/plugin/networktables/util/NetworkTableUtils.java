@@ -2,10 +2,12 @@ package edu.wpi.first.shuffleboard.plugin.networktables.util;
 
 import edu.wpi.first.shuffleboard.api.data.DataType;
 import edu.wpi.first.shuffleboard.api.data.DataTypes;
+import edu.wpi.first.shuffleboard.api.util.Time;
 
 import edu.wpi.first.networktables.NetworkTable;
 import edu.wpi.first.networktables.NetworkTableEvent;
 import edu.wpi.first.networktables.NetworkTableInstance;
+import edu.wpi.first.networktables.NetworkTablesJNI;
 
 /**
  * Utility class for working with network tables.
@@ -39,6 +41,20 @@ public final class NetworkTableUtils {
     }
   }
 
+  /**
+   * Converts a NetworkTables value timestamp to epoch milliseconds. Value timestamps are in microseconds on the local
+   * NetworkTables clock; values received from a server are stamped with the time the server published them, adjusted
+   * to the local clock.
+   *
+   * @param time the value timestamp. A timestamp of zero means the value has no timestamp, and is treated as now
+   */
+  public static long toEpochMillis(long time) {
+    if (time == 0) {
+      return Time.now();
+    }
+    return Time.now() - (NetworkTablesJNI.now() - time) / 1000;
+  }
+
   /**
    * Gets the data type associated with the given network table type string.
    *
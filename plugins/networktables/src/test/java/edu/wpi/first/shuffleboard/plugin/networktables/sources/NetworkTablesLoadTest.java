@@ -0,0 +1,181 @@
+package edu.wpi.first.shuffleboard.plugin.networktables.sources;
+
+import edu.wpi.first.shuffleboard.api.data.DataTypes;
+import edu.wpi.first.shuffleboard.api.util.AsyncUtils;
+import edu.wpi.first.shuffleboard.api.util.FxUtils;
+import edu.wpi.first.shuffleboard.api.widget.Description;
+import edu.wpi.first.shuffleboard.api.widget.SimpleAnnotatedWidget;
+import edu.wpi.first.shuffleboard.nt.testutil.LoadGenerator;
+import edu.wpi.first.shuffleboard.nt.testutil.LoadServer;
+import edu.wpi.first.shuffleboard.nt.testutil.Workload;
+import edu.wpi.first.shuffleboard.plugin.networktables.NetworkTablesPlugin;
+import edu.wpi.first.shuffleboard.plugin.networktables.util.NetworkTableUtils;
+
+import edu.wpi.first.networktables.NetworkTableInstance;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testfx.framework.junit5.ApplicationTest;
+import org.testfx.util.WaitForAsyncUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs an event-day workload against an in-process NetworkTables server, with the default instance connected to it as
+ * a client the same way shuffleboard connects to a robot, and a widget showing the generator's sequence number.
+ *
+ * <p>These tests take about a minute, so they are tagged {@code Load} and excluded from the normal test run. Run them
+ * with {@code ./gradlew :plugins:networktables:loadTest}.
+ */
+@Tag("UI")
+@Tag("Load")
+public class NetworkTablesLoadTest extends ApplicationTest {
+
+  private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+  private static final Duration MAX_P99_LATENCY = Duration.ofMillis(100);
+  private static final long MAX_HEAP_GROWTH = 64_000_000;
+
+  @Description(name = "Sequence", dataTypes = Number.class)
+  private static final class SequenceWidget extends SimpleAnnotatedWidget<Number> {
+
+    private final Label label = new Label();
+    private final Pane view = new StackPane(label);
+
+    SequenceWidget() {
+      label.textProperty().bind(dataOrDefault.map(sequence -> String.valueOf(sequence.longValue())));
+    }
+
+    @Override
+    public Pane getView() {
+      return view;
+    }
+
+    Label getLabel() {
+      return label;
+    }
+  }
+
+  private final NetworkTableInstance client = NetworkTableInstance.getDefault();
+  private SequenceWidget widget;
+  private LoadServer server;
+  private LoadGenerator generator;
+  private SingleKeyNetworkTableSource<Number> source;
+
+  @Override
+  public void start(Stage stage) {
+    widget = new SequenceWidget();
+    stage.setScene(new Scene(widget.getView()));
+    stage.show();
+  }
+
+  @BeforeEach
+  public void setup() throws InterruptedException {
+    // Measure the same path as the application: source updates are delivered to widgets on the FX thread
+    AsyncUtils.setAsyncRunner(FxUtils::runOnFxThread);
+    server = new LoadServer();
+    NetworkTableSourceType.setInstance(new NetworkTableSourceType(new NetworkTablesPlugin(client)));
+    server.connect(client, "shuffleboard");
+    assertTrue(server.waitForConnection(client, CONNECT_TIMEOUT), "Client did not connect to the load server");
+    generator = new LoadGenerator(server.getInstance(), Workload.EVENT_DAY);
+    source = new SingleKeyNetworkTableSource<>(
+        NetworkTableUtils.rootTable, LoadGenerator.SEQUENCE_TOPIC.substring(1), DataTypes.Number);
+    FxUtils.runOnFxThread(() -> widget.typedSourceProperty().setValue(source));
+    WaitForAsyncUtils.waitForFxEvents();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    generator.close();
+    FxUtils.runOnFxThread(() -> widget.typedSourceProperty().setValue(null));
+    WaitForAsyncUtils.waitForFxEvents();
+    source.close();
+    NetworkTableSourceType.getInstance().close();
+    NetworkTableUtils.shutdown(client);
+    server.close();
+  }
+
+  @Test
+  public void testPublishToWidgetUpdateLatency() throws InterruptedException {
+    // Added to on the FX thread, read on the test thread
+    List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+    widget.getLabel().textProperty().addListener((__, old, text) -> {
+      long publishTime = generator.getPublishTimeNanos(Long.parseLong(text));
+      if (publishTime >= 0) {
+        latencies.add(System.nanoTime() - publishTime);
+      }
+    });
+
+    generator.start();
+    Thread.sleep(10_000);
+    generator.stop();
+    waitForWidget();
+
+    assertFalse(latencies.isEmpty(), "The widget was never updated");
+    List<Long> sorted = new ArrayList<>(latencies);
+    Collections.sort(sorted);
+    final long p99 = percentile(sorted, 0.99);
+    System.out.printf("Publish to widget update latency over %d of %d ticks: p50 %.2f ms, p99 %.2f ms, max %.2f ms%n",
+        sorted.size(), generator.getSequence() + 1,
+        percentile(sorted, 0.5) / 1e6, p99 / 1e6, sorted.get(sorted.size() - 1) / 1e6);
+    assertTrue(p99 <= MAX_P99_LATENCY.toNanos(),
+        String.format("p99 latency of %.2f ms is over %d ms", p99 / 1e6, MAX_P99_LATENCY.toMillis()));
+  }
+
+  @Test
+  public void testSustainedMemoryGrowth() throws InterruptedException {
+    generator.start();
+    // Let the set of topics and the churn tables reach a steady state
+    Thread.sleep(5_000);
+    long before = usedHeapAfterGc();
+    Thread.sleep(30_000);
+    long after = usedHeapAfterGc();
+    generator.stop();
+    waitForWidget();
+
+    System.out.printf("Heap growth over 30 s: %.1f MB (%.1f MB -> %.1f MB), %,d values published%n",
+        (after - before) / 1e6, before / 1e6, after / 1e6, generator.getUpdateCount());
+    assertEquals(String.valueOf(generator.getSequence()), widget.getLabel().getText(),
+        "The widget should show the last tick");
+    assertTrue(after - before < MAX_HEAP_GROWTH,
+        String.format("Heap grew by %.1f MB, more than %d MB", (after - before) / 1e6, MAX_HEAP_GROWTH / 1_000_000));
+  }
+
+  /**
+   * Waits for every tick that has been published to reach the widget.
+   */
+  private void waitForWidget() throws InterruptedException {
+    // Let a tick that was already running finish
+    Thread.sleep(100);
+    client.waitForListenerQueue(1.0);
+    WaitForAsyncUtils.waitForFxEvents();
+  }
+
+  private static long percentile(List<Long> sorted, double percentile) {
+    return sorted.get((int) Math.min(sorted.size() - 1, Math.round(percentile * (sorted.size() - 1))));
+  }
+
+  private static long usedHeapAfterGc() throws InterruptedException {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+      Thread.sleep(100);
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+}